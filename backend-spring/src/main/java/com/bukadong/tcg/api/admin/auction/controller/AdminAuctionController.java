@@ -2,6 +2,10 @@ package com.bukadong.tcg.api.admin.auction.controller;
 
 import com.bukadong.tcg.api.auction.dto.response.AuctionCancelResponse;
 import com.bukadong.tcg.api.auction.service.AuctionCancelService;
+import com.bukadong.tcg.api.bid.dto.response.AuctionNearCacheStatsResponse;
+import com.bukadong.tcg.api.bid.dto.response.BidApplyLaneStatusResponse;
+import com.bukadong.tcg.api.bid.service.AuctionSnapshotNearCache;
+import com.bukadong.tcg.api.bid.service.BidApplyLanes;
 import com.bukadong.tcg.global.common.base.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 경매 강제 종료(관리자)
  * <P>
@@ -25,6 +31,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminAuctionController {
 
     private final AuctionCancelService auctionCancelService;
+    private final BidApplyLanes bidApplyLanes;
+    private final AuctionSnapshotNearCache auctionSnapshotNearCache;
 
     /**
      * 관리자 강제 종료
@@ -42,4 +50,32 @@ public class AdminAuctionController {
         AuctionCancelResponse res = auctionCancelService.cancelByAdmin(auctionId);
         return BaseResponse.onSuccess(res);
     }
+
+    /**
+     * 입찰 반영 레인 상태
+     * <P>
+     * 레인별 대기 건수/처리 건수/큐 대기 지연을 조회한다.
+     * </P>
+     * 
+     * @RETURN BaseResponse<List<BidApplyLaneStatusResponse>>
+     */
+    @Operation(summary = "입찰 반영 레인 상태(관리자)", description = "경매 단위 순서 보장 레인의 대기 건수와 지연을 조회합니다.")
+    @GetMapping("/bid-lanes")
+    public BaseResponse<List<BidApplyLaneStatusResponse>> bidLanes() {
+        return BaseResponse.onSuccess(bidApplyLanes.snapshot());
+    }
+
+    /**
+     * 경매 스냅샷 니어캐시 통계
+     * <P>
+     * 이 노드의 적중/미스/무효화 카운터를 조회한다.
+     * </P>
+     * 
+     * @RETURN BaseResponse<AuctionNearCacheStatsResponse>
+     */
+    @Operation(summary = "경매 니어캐시 통계(관리자)", description = "노드 로컬 경매 스냅샷 캐시의 적중/미스/무효화 카운터를 조회합니다.")
+    @GetMapping("/near-cache")
+    public BaseResponse<AuctionNearCacheStatsResponse> nearCacheStats() {
+        return BaseResponse.onSuccess(auctionSnapshotNearCache.stats());
+    }
 }
@@ -0,0 +1,40 @@
+package com.bukadong.tcg.api.admin.cluster.controller;
+
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import com.bukadong.tcg.global.cluster.dto.response.ClusterStatusResponse;
+import com.bukadong.tcg.global.common.base.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 클러스터 조정 상태(관리자)
+ * <P>
+ * 살아 있는 노드와 스케줄 작업별 리더/마지막 실행 지연을 조회한다.
+ * </P>
+ */
+@Tag(name = "Admin")
+@RestController
+@RequestMapping("/v1/admin/cluster")
+@RequiredArgsConstructor
+public class AdminClusterController {
+
+    private final ClusterJobLeases clusterJobLeases;
+
+    /**
+     * 스케줄 작업 상태
+     * <P>
+     * 작업별 리스 소유 노드, 남은 리스, 마지막 실행 시각과 경과 시간을 반환한다.
+     * </P>
+     * 
+     * @RETURN BaseResponse<ClusterStatusResponse>
+     */
+    @Operation(summary = "클러스터 작업 상태(관리자)", description = "노드 목록과 스케줄 작업별 리더/지연을 조회합니다.")
+    @GetMapping("/jobs")
+    public BaseResponse<ClusterStatusResponse> jobs() {
+        return BaseResponse.onSuccess(clusterJobLeases.status());
+    }
+}
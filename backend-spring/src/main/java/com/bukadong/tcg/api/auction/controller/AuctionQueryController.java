@@ -11,6 +11,7 @@ import com.bukadong.tcg.api.auction.service.AuctionResultService;
 import com.bukadong.tcg.api.member.service.MemberQueryService;
 import com.bukadong.tcg.api.popularity.aop.AutoPopularityView;
 import com.bukadong.tcg.global.common.base.BaseResponse;
+import com.bukadong.tcg.global.common.dto.CursorPageResponse;
 import com.bukadong.tcg.global.common.dto.PageResponse;
 import com.bukadong.tcg.global.security.dto.CustomUserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -78,7 +79,7 @@ public class AuctionQueryController {
             @Parameter(description = "현재가 최대(원)") @RequestParam(name = "currentPriceMax", required = false) BigDecimal currentPriceMax,
             @Parameter(description = "등급 CSV(쉼표 구분). 예: \"PS,NM\"") @RequestParam(name = "grades", required = false) String grades,
             @Parameter(description = "정렬 기준: ENDTIME_ASC | ENDTIME_DESC | BIDCOUNT_DESC | BIDCOUNT_ASC (기본: ID_DESC)") @RequestParam(name = "sort", required = false) AuctionSort sort,
-            @Parameter(description = "종료된 경매 포함 여부 (기본: 포함하지 않음)") @RequestParam(name = "isEnded", required = false, defaultValue = "true") boolean isEnded,
+            @Parameter(description = "종료된 경매 포함 여부 (기본: 포함)") @RequestParam(name = "isEnded", required = false, defaultValue = "true") boolean isEnded,
             @AuthenticationPrincipal CustomUserDetails user) {
         Set<String> gradeSet = (grades == null || grades.isBlank()) ? null
                 : Arrays.stream(grades.split(",")).map(String::trim).filter(s -> !s.isEmpty())
@@ -91,6 +92,41 @@ public class AuctionQueryController {
         return BaseResponse.onSuccess(pageData);
     }
 
+    /**
+     * 경매 목록 커서 조회
+     * <p>
+     * 필터/정렬은 목록 조회와 같다. 페이지 번호 대신 직전 응답의 nextCursor를 보내며, 깊은 페이지도 같은 비용으로 조회된다.
+     * 페이지 당 20개로 고정되고, 전체 개수는 짧게 캐시된 값이다.
+     * </P>
+     *
+     * @param cursor 직전 응답의 nextCursor(첫 페이지는 생략)
+     * @return BaseResponse로 감싼 CursorPageResponse
+     */
+    @Operation(summary = "경매 목록 커서 조회", description = "목록 조회와 같은 조건으로 커서(키셋) 페이지네이션된 경매 목록을 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 보내 조회합니다. totalElements는 최대 30초 캐시된 값입니다.")
+    @GetMapping("/cursor")
+    public BaseResponse<CursorPageResponse<AuctionListItemResponse>> getListByCursor(
+            @Parameter(description = "직전 응답의 nextCursor(첫 페이지는 생략, 같은 sort로만 유효)") @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "대분류 ID") @RequestParam(name = "categoryMajorId", required = false) Long categoryMajorId,
+            @Parameter(description = "중분류 ID") @RequestParam(name = "categoryMediumId", required = false) Long categoryMediumId,
+            @Parameter(description = "타이틀 부분검색(키워드)") @RequestParam(name = "title", required = false) String title,
+            @Parameter(description = "카드 ID") @RequestParam(name = "cardId", required = false) Long cardId,
+            @Parameter(description = "현재가 최소(원)") @RequestParam(name = "currentPriceMin", required = false) BigDecimal currentPriceMin,
+            @Parameter(description = "현재가 최대(원)") @RequestParam(name = "currentPriceMax", required = false) BigDecimal currentPriceMax,
+            @Parameter(description = "등급 CSV(쉼표 구분). 예: \"PS,NM\"") @RequestParam(name = "grades", required = false) String grades,
+            @Parameter(description = "정렬 기준: ENDTIME_ASC | ENDTIME_DESC | BIDCOUNT_DESC | BIDCOUNT_ASC (기본: ID_DESC)") @RequestParam(name = "sort", required = false) AuctionSort sort,
+            @Parameter(description = "종료된 경매 포함 여부 (기본: 포함)") @RequestParam(name = "isEnded", required = false, defaultValue = "true") boolean isEnded,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        Set<String> gradeSet = (grades == null || grades.isBlank()) ? null
+                : Arrays.stream(grades.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                        .collect(Collectors.toSet());
+        Long memberId = (user == null) ? null : memberQueryService.getByUuid(user.getUuid()).getId();
+
+        var pageData = auctionQueryService.getAuctionListByCursor(categoryMajorId, categoryMediumId, title, cardId,
+                currentPriceMin, currentPriceMax, gradeSet, sort, isEnded, cursor, memberId);
+
+        return BaseResponse.onSuccess(pageData);
+    }
+
     /**
      * 경매 상세 조회
      * <p>
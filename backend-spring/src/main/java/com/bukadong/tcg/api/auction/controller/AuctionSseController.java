@@ -18,10 +18,10 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.Map;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Tag(name = "Auctions")
 @RestController
@@ -40,11 +40,8 @@ public class AuctionSseController {
     @Operation(summary = "경매 상세 화면 SSE 구독 (특정 경매)", description = "특정 경매의 실시간 업데이트를 구독합니다.")
     @GetMapping(path = "/{auctionId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribeAuction(@Parameter(description = "경매 ID") @PathVariable("auctionId") long auctionId) {
-        // 상세는 최초 1회 Redis 스냅샷을 전송하기 위해 ensureLoaded 이후 해시 조회
-        auctionCacheService.ensureLoaded(auctionId);
-        Map<Object, Object> raw = sseService.readSnapshot(auctionId);
-        Map<String, String> snapshot = raw.entrySet().stream()
-                .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue())));
+        // 상세는 최초 1회 Redis 스냅샷을 전송: 불완전하면 채운 뒤 반환(Lua 1회 왕복)
+        Map<String, String> snapshot = auctionCacheService.loadSnapshot(auctionId);
         return sseService.subscribeAuction(auctionId, snapshot);
     }
 
@@ -73,16 +70,17 @@ public class AuctionSseController {
                     org.springframework.http.HttpStatus.BAD_REQUEST, "Query param 'ids' must contain at least one id");
         }
 
-        // 스냅샷 수집 (필요 시 ensureLoaded)
+        // 스냅샷 수집: 파이프라인 HMGET 1회로 일괄 조회, 불완전한 경매만 개별 보정
+        Map<Long, Map<String, String>> bulk = auctionCacheService.getSnapshots(ids);
         List<Map<String, String>> snapshots = new ArrayList<>();
         for (Long id : ids) {
             try {
-                auctionCacheService.ensureLoaded(id);
-                Map<Object, Object> raw = sseService.readSnapshot(id);
-                Map<String, String> snap = raw.entrySet().stream()
-                        .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue())));
+                Map<String, String> snap = bulk.get(id);
+                if (!AuctionCacheService.isComplete(snap)) {
+                    snap = auctionCacheService.loadSnapshot(id);
+                }
                 // 클라이언트 편의를 위해 auctionId를 명시적으로 포함
-                snap = new java.util.HashMap<>(snap);
+                snap = new HashMap<>(snap);
                 snap.put("auctionId", String.valueOf(id));
                 snapshots.add(snap);
             } catch (Exception ignore) {
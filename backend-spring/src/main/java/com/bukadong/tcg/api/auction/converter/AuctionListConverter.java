@@ -2,11 +2,14 @@ package com.bukadong.tcg.api.auction.converter;
 
 import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
 import com.bukadong.tcg.api.auction.dto.response.AuctionListItemResponse;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.service.MediaUrlService;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 
 /**
  * 경매 목록 행 → 외부 응답 DTO 컨버터
@@ -44,15 +47,68 @@ public final class AuctionListConverter {
      */
     public static AuctionListItemResponse toItem(AuctionListProjection row, MediaUrlService mediaUrlService,
             Duration ttl, boolean wished) {
+        return toItem(row, mediaUrlService, ttl, wished, null);
+    }
+
+    /**
+     * 경매 목록 행 → 응답 DTO 변환(실시간 현재가 반영)
+     * <P>
+     * livePrice가 DB 현재가보다 크면 응답 현재가로 사용한다(비동기 DB 반영 지연 보정).
+     * </P>
+     * 
+     * @PARAM row 프로젝션
+     * @PARAM mediaUrlService presign 서비스
+     * @PARAM ttl presign TTL
+     * @PARAM wished 로그인 회원의 위시 여부
+     * @PARAM livePrice Redis 현재가(null이면 DB 값 사용)
+     * @RETURN AuctionListItemResponse
+     */
+    public static AuctionListItemResponse toItem(AuctionListProjection row, MediaUrlService mediaUrlService,
+            Duration ttl, boolean wished, BigDecimal livePrice) {
         String primaryUrl = null;
-        if (row.primaryImageKey() != null && !row.primaryImageKey().isBlank()) {
-            primaryUrl = mediaUrlService.getPresignedUrl(row.primaryImageKey(), ttl);
+        String key = listImageKey(row);
+        if (key != null && !key.isBlank()) {
+            primaryUrl = mediaUrlService.getPresignedUrl(key, ttl);
         }
+        return build(row, primaryUrl, wished, livePrice);
+    }
+
+    /**
+     * 경매 목록 행 → 응답 DTO 변환(페이지 단위로 미리 presign한 URL 사용)
+     * 
+     * @PARAM row 프로젝션
+     * @PARAM presignedUrls 목록용 이미지 key({@link #listImageKey}) → presign URL(MediaUrlService.presignAll 결과)
+     * @PARAM wished 로그인 회원의 위시 여부
+     * @PARAM livePrice Redis 현재가(null이면 DB 값 사용)
+     * @RETURN AuctionListItemResponse
+     */
+    public static AuctionListItemResponse toItem(AuctionListProjection row, Map<String, String> presignedUrls,
+            boolean wished, BigDecimal livePrice) {
+        String key = listImageKey(row);
+        return build(row, key == null ? null : presignedUrls.get(key), wished, livePrice);
+    }
+
+    /**
+     * 목록 카드에 쓸 대표 이미지 key(SMALL 파생본, 없으면 원본)
+     * 
+     * @PARAM row 프로젝션
+     * @RETURN S3 key(이미지 없으면 null)
+     */
+    public static String listImageKey(AuctionListProjection row) {
+        return MediaVariant.resolveKey(row.primaryImageKey(), row.primaryImageVariants(), MediaVariant.SMALL);
+    }
+
+    private static AuctionListItemResponse build(AuctionListProjection row, String primaryUrl, boolean wished,
+            BigDecimal livePrice) {
         long remainingSeconds = Duration.between(LocalDateTime.now(ZoneOffset.UTC), row.endDatetime()).getSeconds();
         if (remainingSeconds < 0)
             remainingSeconds = 0;
 
-        return new AuctionListItemResponse(row.id(), row.grade(), row.title(), row.currentPrice(), row.bidCount(),
+        BigDecimal currentPrice = row.currentPrice();
+        if (livePrice != null && (currentPrice == null || livePrice.compareTo(currentPrice) > 0))
+            currentPrice = livePrice;
+
+        return new AuctionListItemResponse(row.id(), row.grade(), row.title(), currentPrice, row.bidCount(),
                 remainingSeconds, primaryUrl, wished, row.tokenId(), row.startDatetime());
     }
 }
@@ -19,8 +19,10 @@ import java.time.LocalDateTime;
  * @PARAM endDatetime 마감 일시
  * @PARAM startDatetime 시작 일시
  * @PARAM primaryImageKey 대표 이미지 S3 key(후처리에서 presign)
+ * @PARAM primaryImageVariants 대표 이미지 파생본 목록(Media.variants, null이면 없음)
  * @RETURN 내부 프로젝션 DTO
  */
 public record AuctionListProjection(Long id, String grade, String title, BigDecimal currentPrice, long bidCount,
-        LocalDateTime endDatetime, String primaryImageKey, BigInteger tokenId, LocalDateTime startDatetime) {
+        LocalDateTime endDatetime, String primaryImageKey, String primaryImageVariants, BigInteger tokenId,
+        LocalDateTime startDatetime) {
 }
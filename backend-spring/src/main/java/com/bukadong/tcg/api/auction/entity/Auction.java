@@ -41,7 +41,13 @@ import org.slf4j.Logger;
                 @Index(name = "idx_auc_card", columnList = "card_id"),
                 @Index(name = "idx_auc_cat_major", columnList = "category_major_id"),
                 @Index(name = "idx_auc_cat_medium", columnList = "category_medium_id"),
-                @Index(name = "idx_auc_start_end", columnList = "start_datetime,end_datetime") })
+                @Index(name = "idx_auc_start_end", columnList = "start_datetime,end_datetime"),
+                // 목록 정렬(AuctionSort)별 인덱스: 진행중 필터(is_end) 유무 각각, id는 정렬 방향을 따르는 타이브레이커
+                @Index(name = "idx_auc_live_id", columnList = "is_end,id"),
+                @Index(name = "idx_auc_live_end", columnList = "is_end,end_datetime,id"),
+                @Index(name = "idx_auc_live_bids", columnList = "is_end,bid_count,id"),
+                @Index(name = "idx_auc_end_id", columnList = "end_datetime,id"),
+                @Index(name = "idx_auc_bids_id", columnList = "bid_count,id") })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -185,6 +191,11 @@ public class Auction extends BaseEntity {
     @Column(name = "winning_amount", precision = 20, scale = 8)
     private BigDecimal winningAmount;
 
+    /** 유효(VALID) 입찰 수 (입찰 반영 트랜잭션에서 함께 증가, 목록 정렬/표시용 비정규화) */
+    @Builder.Default
+    @Column(name = "bid_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long bidCount = 0L;
+
     /* ==============================[ Hooks ]============================== */
 
     /**
@@ -259,6 +270,20 @@ public class Auction extends BaseEntity {
         return (when != null && this.endDatetime != null && when.isAfter(this.endDatetime));
     }
 
+    /**
+     * 유효 입찰 수 증가
+     * <P>
+     * 경매 행락을 잡은 입찰 반영 트랜잭션에서만 호출한다.
+     * </P>
+     * 
+     * @PARAM count 이번에 반영된 VALID 입찰 수
+     * @RETURN 없음
+     */
+    public void increaseBidCount(int count) {
+        if (count > 0)
+            this.bidCount += count;
+    }
+
     /**
      * 현재 가격 변경
      * <P>
@@ -0,0 +1,12 @@
+package com.bukadong.tcg.api.auction.event;
+
+/**
+ * 경매 목록 구성 변경 이벤트(생성/취소)
+ * <P>
+ * 목록 결과 캐시 무효화용. 낙찰/유찰은 {@link AuctionSoldEvent}/{@link AuctionUnsoldEvent}로 처리한다.
+ * </P>
+ *
+ * @PARAM auctionId 경매 ID
+ */
+public record AuctionListChangedEvent(long auctionId) {
+}
@@ -0,0 +1,42 @@
+package com.bukadong.tcg.api.auction.listener;
+
+import com.bukadong.tcg.api.auction.event.AuctionListChangedEvent;
+import com.bukadong.tcg.api.auction.event.AuctionSoldEvent;
+import com.bukadong.tcg.api.auction.event.AuctionUnsoldEvent;
+import com.bukadong.tcg.api.auction.service.AuctionListCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경매 목록 결과 캐시 무효화 리스너
+ * <P>
+ * 목록 구성이 바뀌는 생성/취소/낙찰/유찰 커밋 후 캐시를 비운다. 커밋 전에 비우면 다른 요청이 변경 전 행을 다시 적재할 수
+ * 있기 때문이다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionListCacheListener {
+
+    private final AuctionListCache auctionListCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChanged(AuctionListChangedEvent e) {
+        auctionListCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSold(AuctionSoldEvent e) {
+        auctionListCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnsold(AuctionUnsoldEvent e) {
+        auctionListCache.invalidateAll();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,18 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     @Query("select a.categoryMajor.id from Auction a where a.id = :auctionId")
     Optional<Long> findCategoryMajorIdByAuctionId(@Param("auctionId") Long auctionId);
 
+    /**
+     * 인기 집계용 (cardId, categoryMajorId) 단일 조회
+     * <P>
+     * 두 번의 단일 컬럼 조회 대신 한 번에 투영한다. 경매 생성 후 바뀌지 않으므로 호출 측에서 캐시한다.
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @RETURN [cardId, categoryMajorId] 행 목록(0 또는 1건)
+     */
+    @Query("select a.card.id, a.categoryMajor.id from Auction a where a.id = :auctionId")
+    List<Object[]> findPopularityRefByAuctionId(@Param("auctionId") Long auctionId);
+
     /**
      * 상세 조회용 fetch join 대체(@EntityGraph)
      * <P>
@@ -179,6 +192,19 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     @Query("select a from Auction a where a.id = :id")
     Optional<Auction> findByIdForUpdate(@Param("id") Long id);
 
+    /**
+     * 다건 종료 처리용 락 조회
+     * <P>
+     * SELECT ... FOR UPDATE. 노드 간 교착을 피하려고 항상 ID 순으로 잠근다.
+     * </P>
+     * 
+     * @PARAM ids 경매 ID 목록
+     * @RETURN 잠근 경매 목록(ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Auction a where a.id in :ids order by a.id asc")
+    List<Auction> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
     /**
      * 회원이 입찰한 진행중 경매 목록 조회 (페이지네이션)
      */
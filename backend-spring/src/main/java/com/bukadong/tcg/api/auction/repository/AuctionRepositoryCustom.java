@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -39,6 +40,32 @@ public interface AuctionRepositoryCustom {
             Long cardId, BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, AuctionSort sort,
             boolean includeEnded, Pageable pageable);
 
+    /**
+     * 경매 목록 키셋 검색
+     * <p>
+     * 필터/정렬은 {@link #searchAuctions}와 같고, 커서 행 뒤부터 limit개를 읽는다.
+     * </P>
+     *
+     * @param sort         정렬 기준(옵션, null이면 id DESC)
+     * @param includeEnded 종료된 경매 포함 여부
+     * @param cursor       직전 페이지 커서(null이면 첫 페이지)
+     * @param limit        최대 행 수
+     * @return 내부 행 DTO 목록
+     */
+    @SuppressWarnings("java:S107")
+    List<AuctionListProjection> searchAuctionsAfter(Long categoryMajorId, Long categoryMediumId, String titlePart,
+            Long cardId, BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, AuctionSort sort,
+            boolean includeEnded, AuctionSearchCursor cursor, int limit);
+
+    /**
+     * 필터 조건에 맞는 경매 수
+     *
+     * @return 전체 건수
+     */
+    @SuppressWarnings("java:S107")
+    Long countAuctions(Long categoryMajorId, Long categoryMediumId, String titlePart, Long cardId,
+            BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, boolean includeEnded);
+
     boolean isDuplicatedTokenId(Long tokenId);
 
     /**
@@ -1,18 +1,17 @@
 package com.bukadong.tcg.api.auction.repository;
 
 import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
-import com.bukadong.tcg.api.bid.entity.AuctionBidStatus;
 import com.bukadong.tcg.api.card.entity.QPhysicalCard;
 import com.bukadong.tcg.api.media.entity.MediaType;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
-import com.querydsl.core.types.Order;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -27,7 +26,7 @@ import static com.bukadong.tcg.api.auction.entity.QAuctionResult.auctionResult;
 /**
  * 경매 목록 QueryDSL 검색 리포지토리 구현
  * <p>
- * 동적 필터/정렬/페이지네이션을 처리한다. 성능을 위해 입찰수는 LEFT JOIN + GROUP BY로 집계하여 행당 서브쿼리를 제거한다.
+ * 동적 필터/정렬/페이지네이션(OFFSET, 키셋)을 처리한다. 입찰수는 비정규화 컬럼(bid_count)을 읽는다.
  * </P>
  */
 @Repository
@@ -39,8 +38,8 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
     /**
      * 경매 목록 검색
      * <p>
-     * 대표이미지는 (type=AUCTION_ITEM, seq_no=1)만 LEFT JOIN하여 1:1을 보장한다. 입찰수는 VALID 상태만
-     * 조인 후 COUNT로 집계한다.
+     * 대표이미지는 (type=AUCTION_ITEM, seq_no=1)만 LEFT JOIN하여 1:1을 보장한다. 입찰수는 비정규화된 auction.bid_count를
+     * 그대로 읽어 입찰 조인/GROUP BY 없이 정렬 인덱스를 탄다.
      * </P>
      *
      * @PARAM categoryMajorId 카테고리 대분류 ID
@@ -65,31 +64,86 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
             where.and(auction.isEnd.isFalse());
         }
 
-        // 입찰수: VALID만 LEFT JOIN 후 COUNT
-        NumberExpression<Long> bidCountExpr = auctionBid.id.count();
+        // 콘텐츠 쿼리
+        List<AuctionListProjection> content = selectRows(where, sort).offset(pageable.getOffset())
+                .limit(pageable.getPageSize()).fetch();
 
-        OrderSpecifier<?>[] orderSpecifiers = buildOrder(sort, bidCountExpr);
+        // 카운트 쿼리(조인/그룹 없이 where만)
+        Long total = countAuctions(categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin,
+                currentPriceMax, grades, includeEnded);
 
-        QPhysicalCard physicalCard = QPhysicalCard.physicalCard;
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
 
-        // 콘텐츠 쿼리
-        List<AuctionListProjection> content = queryFactory
+    /**
+     * 경매 목록 키셋 검색
+     * <p>
+     * OFFSET 대신 직전 페이지 마지막 행의 (정렬 값, id) 뒤부터 읽어 페이지 깊이와 무관하게 인덱스 범위 스캔으로 끝난다. 다음
+     * 페이지 존재 여부 판단을 위해 호출자가 size+1을 요청한다.
+     * </P>
+     *
+     * @PARAM sort 정렬 기준
+     * @PARAM cursor 직전 페이지 커서(null이면 첫 페이지)
+     * @PARAM limit 최대 행 수
+     * @RETURN 내부 행 DTO 목록
+     */
+    @Override
+    public List<AuctionListProjection> searchAuctionsAfter(Long categoryMajorId, Long categoryMediumId,
+            String titlePart, Long cardId, BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades,
+            AuctionSort sort, boolean includeEnded, AuctionSearchCursor cursor, int limit) {
+
+        BooleanBuilder where = buildWhere(categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin,
+                currentPriceMax, grades);
+        if (!includeEnded) {
+            where.and(auction.isEnd.isFalse());
+        }
+        if (cursor != null) {
+            where.and(after(sort, cursor));
+        }
+        return selectRows(where, sort).limit(limit).fetch();
+    }
+
+    @Override
+    public Long countAuctions(Long categoryMajorId, Long categoryMediumId, String titlePart, Long cardId,
+            BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, boolean includeEnded) {
+        BooleanBuilder where = buildWhere(categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin,
+                currentPriceMax, grades);
+        if (!includeEnded) {
+            where.and(auction.isEnd.isFalse());
+        }
+        return queryFactory.select(auction.count()).from(auction).where(where).fetchOne();
+    }
+
+    private JPAQuery<AuctionListProjection> selectRows(BooleanBuilder where, AuctionSort sort) {
+        QPhysicalCard physicalCard = QPhysicalCard.physicalCard;
+        return queryFactory
                 .select(Projections.constructor(AuctionListProjection.class, auction.id, auction.grade.gradeCode,
-                        auction.title, auction.currentPrice, bidCountExpr, // 집계된 입찰수
+                        auction.title, auction.currentPrice, auction.bidCount, // 비정규화 입찰수
                         auction.endDatetime, media.s3keyOrUrl, // 대표 이미지 key (seq_no=1)
+                        media.variants, // 대표 이미지 파생본 목록
                         physicalCard.tokenId, auction.startDatetime))
-                .from(auction).leftJoin(auction.physicalCard, physicalCard).leftJoin(auctionBid)
-                .on(auctionBid.auction.eq(auction).and(auctionBid.status.eq(AuctionBidStatus.VALID))).leftJoin(media)
+                .from(auction).leftJoin(auction.physicalCard, physicalCard).leftJoin(media)
                 .on(media.ownerId.eq(auction.id).and(media.type.eq(MediaType.AUCTION_ITEM)).and(media.seqNo.eq(1)))
-                .where(where)
-                .groupBy(auction.id, auction.grade.gradeCode, auction.title, auction.currentPrice, auction.endDatetime,
-                        media.s3keyOrUrl, physicalCard.tokenId, auction.startDatetime)
-                .orderBy(orderSpecifiers).offset(pageable.getOffset()).limit(pageable.getPageSize()).fetch();
-
-        // 카운트 쿼리(조인/그룹 없이 where만)
-        Long total = queryFactory.select(auction.count()).from(auction).where(where).fetchOne();
+                .where(where).orderBy(buildOrder(sort));
+    }
 
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    /**
+     * 키셋 조건: 정렬 순서상 커서 행 뒤에 오는 행
+     */
+    private BooleanExpression after(AuctionSort sort, AuctionSearchCursor c) {
+        if (sort == null) {
+            return auction.id.lt(c.id());
+        }
+        return switch (sort) {
+        case ENDTIME_ASC -> auction.endDatetime.gt(c.valueAsDateTime())
+                .or(auction.endDatetime.eq(c.valueAsDateTime()).and(auction.id.gt(c.id())));
+        case ENDTIME_DESC -> auction.endDatetime.lt(c.valueAsDateTime())
+                .or(auction.endDatetime.eq(c.valueAsDateTime()).and(auction.id.lt(c.id())));
+        case BIDCOUNT_DESC -> auction.bidCount.lt(c.value())
+                .or(auction.bidCount.eq(c.value()).and(auction.id.lt(c.id())));
+        case BIDCOUNT_ASC -> auction.bidCount.gt(c.value())
+                .or(auction.bidCount.eq(c.value()).and(auction.id.gt(c.id())));
+        };
     }
 
     /**
@@ -125,19 +179,21 @@ public class AuctionRepositoryImpl implements AuctionRepositoryCustom {
     }
 
     /**
-     * 정렬 스펙 빌더(타이브레이커: id DESC)
+     * 정렬 스펙 빌더
+     * <P>
+     * 타이브레이커 id는 주 정렬과 같은 방향으로 둬서 (정렬 컬럼, id) 인덱스 하나를 정/역방향으로 모두 탈 수 있게 한다.
+     * </P>
      */
-    private OrderSpecifier<?>[] buildOrder(AuctionSort sort, NumberExpression<Long> bidCountExpr) {
-        OrderSpecifier<?> tieBreaker = auction.id.desc();
+    private OrderSpecifier<?>[] buildOrder(AuctionSort sort) {
         if (sort == null) {
             // 기본 정렬: id DESC
-            return new OrderSpecifier<?>[] { tieBreaker };
+            return new OrderSpecifier<?>[] { auction.id.desc() };
         }
         return switch (sort) {
-        case ENDTIME_ASC -> new OrderSpecifier<?>[] { auction.endDatetime.asc(), tieBreaker };
-        case ENDTIME_DESC -> new OrderSpecifier<?>[] { auction.endDatetime.desc(), tieBreaker };
-        case BIDCOUNT_DESC -> new OrderSpecifier<?>[] { new OrderSpecifier<>(Order.DESC, bidCountExpr), tieBreaker };
-        case BIDCOUNT_ASC -> new OrderSpecifier<?>[] { new OrderSpecifier<>(Order.ASC, bidCountExpr), tieBreaker };
+        case ENDTIME_ASC -> new OrderSpecifier<?>[] { auction.endDatetime.asc(), auction.id.asc() };
+        case ENDTIME_DESC -> new OrderSpecifier<?>[] { auction.endDatetime.desc(), auction.id.desc() };
+        case BIDCOUNT_DESC -> new OrderSpecifier<?>[] { auction.bidCount.desc(), auction.id.desc() };
+        case BIDCOUNT_ASC -> new OrderSpecifier<?>[] { auction.bidCount.asc(), auction.id.asc() };
         };
     }
 
@@ -0,0 +1,92 @@
+package com.bukadong.tcg.api.auction.repository;
+
+import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
+import com.bukadong.tcg.global.common.base.BaseResponseStatus;
+import com.bukadong.tcg.global.common.exception.BaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 경매 목록 키셋 커서
+ * <P>
+ * 마지막 행의 정렬 값(마감시각은 UTC epoch 마이크로초, 입찰수는 그대로, 기본 정렬은 0)과 id를 담는다. 클라이언트에는
+ * "{sort}:{value}:{id}"를 URL-safe Base64로 인코딩한 불투명 문자열로 내려준다. 정렬 값이 바뀌는 입찰수 정렬은 페이지
+ * 사이에 순서가 바뀐 행이 중복/누락될 수 있다.
+ * </P>
+ * <P>
+ * 커서는 만든 정렬에서만 유효하다(마감시각 마이크로초를 입찰수로 비교하는 식의 엉뚱한 키셋 조건을 막음). 다른 정렬로 보낸
+ * 커서는 INVALID_PARAMETER로 거절한다.
+ * </P>
+ *
+ * @PARAM sort 커서를 만든 정렬 기준(null이면 id DESC)
+ * @PARAM value 마지막 행의 정렬 값
+ * @PARAM id 마지막 행의 경매 ID
+ */
+public record AuctionSearchCursor(AuctionSort sort, long value, long id) {
+
+    /** 정렬 미지정(id DESC) 표기 */
+    private static final String DEFAULT_SORT = "ID_DESC";
+
+    /**
+     * 행 → 다음 페이지 커서
+     *
+     * @PARAM sort 정렬 기준(null이면 id DESC)
+     * @PARAM row 페이지 마지막 행
+     * @RETURN 커서
+     */
+    public static AuctionSearchCursor of(AuctionSort sort, AuctionListProjection row) {
+        if (sort == null)
+            return new AuctionSearchCursor(null, 0L, row.id());
+        return switch (sort) {
+        case ENDTIME_ASC, ENDTIME_DESC -> new AuctionSearchCursor(sort, toMicros(row.endDatetime()), row.id());
+        case BIDCOUNT_DESC, BIDCOUNT_ASC -> new AuctionSearchCursor(sort, row.bidCount(), row.id());
+        };
+    }
+
+    public String encode() {
+        String raw = sortName(sort) + ":" + value + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @PARAM encoded 클라이언트가 보낸 커서(null/빈값이면 첫 페이지)
+     * @PARAM sort 이번 요청의 정렬 기준(null이면 id DESC)
+     * @RETURN 커서, 첫 페이지면 null
+     * @throws BaseException 형식이 잘못됐거나 다른 정렬로 만든 커서면 INVALID_PARAMETER
+     */
+    public static AuctionSearchCursor decode(String encoded, AuctionSort sort) {
+        if (encoded == null || encoded.isBlank())
+            return null;
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split(":", -1);
+        } catch (RuntimeException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_PARAMETER);
+        }
+        if (parts.length != 3 || !sortName(sort).equals(parts[0]))
+            throw new BaseException(BaseResponseStatus.INVALID_PARAMETER);
+        try {
+            return new AuctionSearchCursor(sort, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_PARAMETER);
+        }
+    }
+
+    public LocalDateTime valueAsDateTime() {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, 1_000_000L),
+                (int) Math.floorMod(value, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    private static String sortName(AuctionSort sort) {
+        return sort == null ? DEFAULT_SORT : sort.name();
+    }
+
+    private static long toMicros(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + t.getNano() / 1000;
+    }
+}
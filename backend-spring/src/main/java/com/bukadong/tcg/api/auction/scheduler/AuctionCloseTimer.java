@@ -0,0 +1,134 @@
+package com.bukadong.tcg.api.auction.scheduler;
+
+import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 경매 마감 정밀 타이머
+ * <P>
+ * AUCTION:DEADLINES 중 horizon-ms 이내에 마감되는 경매를 노드 로컬 해시드 타이밍 휠에 올려 두고, 마감 시각이 되면
+ * {@link AuctionDeadlineWorker#drainDue()}로 즉시 점유/종료한다(1초 tick + 조회 지연 대신 수십 ms 이내). 입찰 연장 등
+ * {@link AuctionDeadlineIndex#upsert}는 리스너로 즉시 재스케줄되고, 다른 노드의 변경은 주기적 재적재로 반영된다. 늦게
+ * 울리거나 놓친 항목은 기존 1초 tick이 그대로 처리하므로 정확성은 ZSET 점유에 맡긴다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.finalize.wheel.enabled", havingValue = "true", matchIfMissing = true)
+public class AuctionCloseTimer implements AuctionDeadlineIndex.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionCloseTimer.class);
+
+    private final AuctionDeadlineIndex deadlineIndex;
+    private final AuctionDeadlineWorker deadlineWorker;
+
+    @Value("${auction.finalize.wheel.tick-ms:10}")
+    private long tickMs;
+
+    @Value("${auction.finalize.wheel.size:512}")
+    private int wheelSize;
+
+    /** 휠에 올릴 마감 범위(지금부터) */
+    @Value("${auction.finalize.wheel.horizon-ms:300000}")
+    private long horizonMs;
+
+    /** 한 번에 적재할 최대 개수 */
+    @Value("${auction.finalize.wheel.load-limit:100000}")
+    private int loadLimit;
+
+    private HashedTimingWheel wheel;
+    private ExecutorService fireExecutor;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        fireExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "auction-close-fire");
+            t.setDaemon(true);
+            return t;
+        });
+        wheel = new HashedTimingWheel("auction-close-wheel", tickMs, wheelSize, id -> fire());
+        wheel.start();
+        deadlineIndex.addListener(this);
+        reload();
+        log.info("Auction close timer started. tickMs={}, horizonMs={}, scheduled={}", tickMs, horizonMs,
+                wheel.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wheel != null)
+            wheel.stop();
+        if (fireExecutor != null)
+            fireExecutor.shutdownNow();
+    }
+
+    /**
+     * 마감 범위 재적재
+     * <P>
+     * 다른 노드에서 생성/연장된 경매와 범위 안으로 들어온 경매를 휠에 올린다. 같은 마감으로 이미 올라간 항목은 건너뛴다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${auction.finalize.wheel.reload-ms:30000}", initialDelayString = "${auction.finalize.wheel.reload-ms:30000}")
+    public void reload() {
+        if (wheel == null)
+            return;
+        try {
+            Map<Long, Long> due = deadlineIndex.findUntil(System.currentTimeMillis() + horizonMs, loadLimit);
+            due.forEach((id, at) -> {
+                if (!wheel.isScheduled(id, at))
+                    wheel.schedule(id, at);
+            });
+        } catch (Exception e) {
+            log.warn("Auction close timer reload failed: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void onUpsert(long auctionId, long epochMillis) {
+        if (wheel == null)
+            return;
+        if (epochMillis <= System.currentTimeMillis() + horizonMs) {
+            wheel.schedule(auctionId, epochMillis);
+        } else {
+            wheel.cancel(auctionId);
+        }
+    }
+
+    @Override
+    public void onRemove(long auctionId) {
+        if (wheel != null)
+            wheel.cancel(auctionId);
+    }
+
+    /** 휠 스레드에서 호출: 드레인 1회 예약(이미 예약돼 있으면 합침) */
+    private void fire() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            fireExecutor.execute(() -> {
+                drainScheduled.set(false);
+                try {
+                    deadlineWorker.drainDue();
+                } catch (Exception e) {
+                    log.warn("Auction close timer drain failed: {}", e.toString());
+                }
+            });
+        }
+    }
+}
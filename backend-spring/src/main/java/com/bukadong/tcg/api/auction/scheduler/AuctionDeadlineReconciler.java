@@ -2,6 +2,7 @@ package com.bukadong.tcg.api.auction.scheduler;
 
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,7 @@ public class AuctionDeadlineReconciler {
 
     private final AuctionRepository auctionRepository;
     private final AuctionDeadlineIndex deadlineIndex;
+    private final ClusterJobLeases clusterJobLeases;
 
     @Value("${auction.deadline.bootstrap.days:14}")
     private int horizonDays;
@@ -30,6 +32,8 @@ public class AuctionDeadlineReconciler {
     // 기본 5분마다 롤링 스캔
     @Scheduled(cron = "${auction.deadline.reconcile.cron:0 */5 * * * *}")
     public void reconcile() {
+        if (!clusterJobLeases.tryLead("auction-deadline-reconcile"))
+            return;
         Instant now = Instant.now();
         Instant horizon = now.plus(horizonDays, ChronoUnit.DAYS);
 
@@ -39,6 +43,7 @@ public class AuctionDeadlineReconciler {
             Long endAtMillis = (Long) row[1];
             deadlineIndex.upsert(auctionId, endAtMillis); // 중복 안전
         }
+        clusterJobLeases.recordRun("auction-deadline-reconcile");
         log.debug("Reconciled deadlines up to {}", horizon);
     }
 }
@@ -2,24 +2,47 @@ package com.bukadong.tcg.api.auction.scheduler;
 
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import com.bukadong.tcg.api.auction.service.AuctionFinalizeService;
 import com.bukadong.tcg.api.auction.service.AuctionQueryService;
+import com.bukadong.tcg.api.auction.service.dto.FinalizeOutcome;
+import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import com.bukadong.tcg.global.common.exception.BaseException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * 경매 마감 워커
+ * <P>
+ * 기본(source=zset)은 AUCTION:DEADLINES ZSET을 마감 큐로 사용한다. 도래 멤버를 Lua로 리스와 함께 점유해 종료 처리 후
+ * ack하고, 리스가 만료된 멤버(처리 중 장애)는 마감 큐로 되돌린다. 여러 노드가 동시에 돌아도 한 경매는 한 워커만 처리한다. DB
+ * 마감 조회는 인덱스 누락 보정용으로 db-fallback-ms 간격으로만 수행한다(source=db면 매 tick DB 조회). 점유는 모든
+ * 노드가 나눠 하고, 만료 리스 재적재와 DB 조회는 작업 리더 노드만 수행한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
 @Component
 @RequiredArgsConstructor
 public class AuctionDeadlineWorker {
 
     private static final Logger log = LoggerFactory.getLogger(AuctionDeadlineWorker.class);
 
+    /** 재적재/DB 보정 조회 리더 작업 이름 */
+    private static final String LEADER_JOB = "auction-deadline-leader";
+
     private final AuctionQueryService auctionQueryService;
     private final AuctionFinalizeService auctionFinalizeService;
+    private final AuctionDeadlineIndex deadlineIndex;
+    private final ClusterJobLeases clusterJobLeases;
 
     @Value("${auction.finalize.batch-size:100}")
     private int batchSize;
@@ -30,6 +53,23 @@ public class AuctionDeadlineWorker {
     @Value("${auction.finalize.parallelism:1}")
     private int parallelism;
 
+    /** 마감 큐 소스: zset(기본) | db */
+    @Value("${auction.finalize.source:zset}")
+    private String source;
+
+    @Value("${auction.finalize.lease-ms:30000}")
+    private long leaseMs;
+
+    /** zset 모드에서 DB 보정 조회 간격 */
+    @Value("${auction.finalize.db-fallback-ms:60000}")
+    private long dbFallbackMs;
+
+    /** 배치 단위 일괄 종료(한 트랜잭션/낙찰 조회 1회) 사용 여부 */
+    @Value("${auction.finalize.bulk.enabled:true}")
+    private boolean bulkEnabled;
+
+    private volatile long lastDbScanMs;
+
     // 병렬 처리가 필요하면 간단한 풀 사용(1이면 순차 처리)
     private ExecutorService pool;
 
@@ -50,50 +90,76 @@ public class AuctionDeadlineWorker {
     @Scheduled(fixedDelayString = "${auction.finalize.tick-ms:1000}")
     public void tick() {
         final long startMs = System.currentTimeMillis();
+        boolean zset = !"db".equalsIgnoreCase(source);
+        boolean leader = clusterJobLeases.tryLead(LEADER_JOB);
+
+        if (zset) {
+            if (leader) {
+                try {
+                    long requeued = deadlineIndex.requeueExpired(startMs, batchSize);
+                    if (requeued > 0)
+                        log.warn("Requeued expired finalize leases. count={}", requeued);
+                } catch (Exception e) {
+                    log.warn("Deadline lease requeue failed: {}", e.toString());
+                }
+            }
+            drain("zset", startMs, true,
+                    () -> deadlineIndex.claimDue(System.currentTimeMillis(), batchSize, leaseMs));
+        }
+
+        if (leader && (!zset || startMs - lastDbScanMs >= dbFallbackMs)) {
+            lastDbScanMs = startMs;
+            drain("db", startMs, false, () -> auctionQueryService.findDueAuctionIds(batchSize));
+        }
+        if (zset)
+            clusterJobLeases.recordRun("auction-deadline");
+        if (leader)
+            clusterJobLeases.recordRun(LEADER_JOB);
+    }
+
+    /**
+     * 도래분 즉시 드레인(마감 타이머 트리거)
+     * <P>
+     * ZSET 점유 경로만 수행한다. 모든 노드의 타이머가 동시에 울려도 점유는 원자적이므로 한 노드만 처리한다.
+     * </P>
+     */
+    public void drainDue() {
+        if ("db".equalsIgnoreCase(source))
+            return;
+        drain("timer", System.currentTimeMillis(), true,
+                () -> deadlineIndex.claimDue(System.currentTimeMillis(), batchSize, leaseMs));
+    }
+
+    /**
+     * 배치 드레인
+     * <P>
+     * 시간 예산(max-tick-ms) 안에서 배치를 반복 처리한다.
+     * </P>
+     *
+     * @PARAM label 로그용 소스 이름
+     * @PARAM startMs tick 시작 시각
+     * @PARAM ack 처리 후 마감 큐 ack 여부(zset 점유분)
+     * @PARAM fetch 배치 조회 함수
+     * @RETURN 없음
+     */
+    private void drain(String label, long startMs, boolean ack, Supplier<List<Long>> fetch) {
         int processed = 0;
         int loops = 0;
 
         while (true) {
             // 1) 한 배치 조회
-            List<Long> dueIds = auctionQueryService.findDueAuctionIds(batchSize);
+            List<Long> dueIds;
+            try {
+                dueIds = fetch.get();
+            } catch (Exception e) {
+                log.warn("Finalize fetch failed. source={}, err={}", label, e.toString());
+                break;
+            }
             if (dueIds.isEmpty())
                 break;
 
             // 2) 처리 (순차 또는 병렬)
-            if (parallelism <= 1) {
-                for (Long id : dueIds) {
-                    try {
-                        auctionFinalizeService.finalizeIfDue(id);
-                        processed++;
-                    } catch (BaseException e) {
-                        log.warn("Finalize skipped by domain rule. auctionId={}, err={}", id, e.getStatus());
-                    } catch (Exception e) {
-                        log.error("Finalize failed by unexpected error. auctionId={}", id, e);
-                    }
-                }
-            } else {
-                ExecutorService exec = pool();
-                CountDownLatch latch = new CountDownLatch(dueIds.size());
-                for (Long id : dueIds) {
-                    exec.execute(() -> {
-                        try {
-                            auctionFinalizeService.finalizeIfDue(id);
-                        } catch (BaseException e) {
-                            log.warn("Finalize skipped by domain rule. auctionId={}, err={}", id, e.getStatus());
-                        } catch (Exception e) {
-                            log.error("Finalize failed by unexpected error. auctionId={}", id, e);
-                        } finally {
-                            latch.countDown();
-                        }
-                    });
-                }
-                try {
-                    latch.await(Math.max(1000, maxTickMs), TimeUnit.MILLISECONDS);
-                } catch (InterruptedException ignored) {
-                }
-                processed += dueIds.size();
-            }
-
+            processed += process(dueIds, ack);
             loops++;
 
             // 3) 더 가져올 게 없으면 종료
@@ -103,17 +169,143 @@ public class AuctionDeadlineWorker {
             // 4) 시간 예산 소진 시 다음 tick으로 넘김(스케줄러 독점 방지)
             long elapsed = System.currentTimeMillis() - startMs;
             if (elapsed >= maxTickMs) {
-                log.info("Finalize tick time budget reached. processed={}, loops={}, elapsedMs={}", processed, loops,
-                        elapsed);
+                log.info("Finalize tick time budget reached. source={}, processed={}, loops={}, elapsedMs={}", label,
+                        processed, loops, elapsed);
                 break;
             }
         }
 
         long elapsed = System.currentTimeMillis() - startMs;
         if (processed > 0) {
-            log.info("Finalize tick done. processed={}, loops={}, elapsedMs={}", processed, loops, elapsed);
+            log.info("Finalize tick done. source={}, processed={}, loops={}, elapsedMs={}", label, processed, loops,
+                    elapsed);
         } else {
-            log.debug("Finalize tick done. processed=0, elapsedMs={}", elapsed);
+            log.debug("Finalize tick done. source={}, processed=0, elapsedMs={}", label, elapsed);
+        }
+    }
+
+    private int process(List<Long> dueIds, boolean ack) {
+        if (bulkEnabled && dueIds.size() > 1) {
+            Integer processed = finalizeBatch(dueIds, ack);
+            if (processed != null)
+                return processed;
+        }
+        if (parallelism <= 1) {
+            int processed = 0;
+            for (Long id : dueIds) {
+                if (finalizeOne(id, ack))
+                    processed++;
+            }
+            return processed;
+        }
+        ExecutorService exec = pool();
+        AtomicInteger processed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(dueIds.size());
+        for (Long id : dueIds) {
+            exec.execute(() -> {
+                try {
+                    if (finalizeOne(id, ack))
+                        processed.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            latch.await(Math.max(1000, maxTickMs), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        return processed.get();
+    }
+
+    /**
+     * 일괄 종료 처리
+     * <P>
+     * 배치 전체를 한 트랜잭션으로 종료한다. 경매별 결과로 단건 경로와 같은 기준으로 마감 큐를 정리한다(종료/이미 종료만 ack,
+     * 미도래는 재예약, 재시도는 리스 만료까지 유지). 실패하면 null을 반환해 단건 경로로 재처리하게 한다(문제 경매만 격리).
+     * </P>
+     *
+     * @PARAM dueIds 경매 ID 목록
+     * @PARAM ack ack 여부
+     * @RETURN 종료 건수(실패 시 null)
+     */
+    private Integer finalizeBatch(List<Long> dueIds, boolean ack) {
+        List<FinalizeOutcome> outcomes;
+        try {
+            outcomes = auctionFinalizeService.finalizeDueBatch(dueIds);
+        } catch (Exception e) {
+            log.warn("Bulk finalize failed, falling back to single. size={}, err={}", dueIds.size(), e.toString());
+            return null;
+        }
+        int closed = 0;
+        for (FinalizeOutcome outcome : outcomes) {
+            if (outcome.status() == FinalizeOutcome.Status.CLOSED)
+                closed++;
+            if (ack) {
+                try {
+                    settle(outcome);
+                } catch (Exception e) {
+                    // 정리 실패분은 리스 만료 후 재적재되어 다시 판정됨
+                    log.warn("Deadline settle failed. auctionId={}, err={}", outcome.auctionId(), e.toString());
+                }
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 단건 종료 처리
+     * <P>
+     * 종료를 확인했거나(CLOSED) 이미 종료된 경우에만 ack한다. 미도래면 DB 마감 시각으로 다시 넣고, 재시도 대상(RETRY)이나
+     * 예외는 ack하지 않아 리스 만료 후 마감 큐로 돌아와 다시 처리된다.
+     * </P>
+     *
+     * @PARAM id 경매 ID
+     * @PARAM ack ack 여부
+     * @RETURN 종료 여부
+     */
+    private boolean finalizeOne(Long id, boolean ack) {
+        try {
+            FinalizeOutcome outcome = auctionFinalizeService.finalizeIfDue(id);
+            if (ack)
+                settle(outcome);
+            return outcome.status() == FinalizeOutcome.Status.CLOSED;
+        } catch (BaseException e) {
+            log.warn("Finalize skipped by domain rule, retry after lease. auctionId={}, err={}", id, e.getStatus());
+        } catch (IllegalStateException e) {
+            log.warn("Finalize skipped by invalid state, retry after lease. auctionId={}, err={}", id,
+                    e.getMessage());
+        } catch (Exception e) {
+            log.error("Finalize failed by unexpected error. auctionId={}", id, e);
+        }
+        return false;
+    }
+
+    /**
+     * 점유분 마감 큐 정리
+     * <P>
+     * 종료 확인/이미 종료만 ack한다. 마감 큐 시각이 DB 마감 시각보다 일렀으면(다른 노드의 연장, 시계 차이, 같은 ms 경계)
+     * DB 마감 시각으로 다시 넣어 타이머가 제시간에 다시 울리게 한다. ack해 버리면 DB 보정 조회(db-fallback-ms)까지 종료가
+     * 늦어진다. RETRY는 그대로 두어 리스 만료 후 재적재되게 한다.
+     * </P>
+     *
+     * @PARAM outcome 종료 시도 결과
+     * @RETURN 없음
+     */
+    private void settle(FinalizeOutcome outcome) {
+        long id = outcome.auctionId();
+        switch (outcome.status()) {
+            case CLOSED, ALREADY_ENDED -> deadlineIndex.ack(id);
+            case NOT_DUE -> {
+                if (outcome.endEpochMillis() != null) {
+                    // 종료 판정이 end_datetime 초과(strict)이므로 1ms 뒤로 예약
+                    deadlineIndex.reschedule(id, outcome.endEpochMillis() + 1);
+                } else {
+                    deadlineIndex.ack(id); // 마감 시각 없음: 예약할 수 없음
+                }
+            }
+            case RETRY -> log.debug("Finalize deferred until lease expiry. auctionId={}", id);
         }
     }
 }
@@ -0,0 +1,161 @@
+package com.bukadong.tcg.api.auction.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * 해시드 타이밍 휠(키 단위 단일 타이머)
+ * <P>
+ * tickMs 간격으로 도는 슬롯 배열에 마감 항목을 해시해 두고, 한 바퀴보다 먼 항목은 남은 바퀴 수(rounds)로 구분한다. 등록/취소는
+ * O(1)이며 같은 키를 다시 등록하면 이전 타이머는 취소된다. 만료 콜백은 휠 스레드에서 호출되므로 가볍게 유지해야 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+final class HashedTimingWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickMs;
+    private final int mask;
+    private final Queue<Entry>[] buckets;
+    private final Queue<Entry> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Entry> byKey = new ConcurrentHashMap<>();
+    private final LongConsumer onExpire;
+    private final Thread worker;
+    private volatile boolean running;
+    private long startMillis;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(String name, long tickMs, int wheelSize, LongConsumer onExpire) {
+        this.tickMs = Math.max(1, tickMs);
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.onExpire = onExpire;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * 등록(재등록 시 이전 타이머 취소)
+     *
+     * @PARAM key 키(경매 ID)
+     * @PARAM deadlineMillis 만료 epochMillis
+     * @RETURN 없음
+     */
+    void schedule(long key, long deadlineMillis) {
+        Entry e = new Entry(key, deadlineMillis);
+        Entry old = byKey.put(key, e);
+        if (old != null)
+            old.cancelled = true;
+        pendingAdds.add(e);
+    }
+
+    void cancel(long key) {
+        Entry old = byKey.remove(key);
+        if (old != null)
+            old.cancelled = true;
+    }
+
+    /** 같은 마감으로 이미 등록돼 있는지 */
+    boolean isScheduled(long key, long deadlineMillis) {
+        Entry e = byKey.get(key);
+        return e != null && e.deadlineMillis == deadlineMillis;
+    }
+
+    int size() {
+        return byKey.size();
+    }
+
+    private void run() {
+        startMillis = System.currentTimeMillis();
+        while (running) {
+            long target = startMillis + (tick + 1) * tickMs;
+            long sleep = target - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            try {
+                transferPending();
+                expire(buckets[(int) (tick & mask)]);
+            } catch (Exception e) {
+                log.error("Timing wheel tick error: {}", e.toString());
+            }
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Entry e;
+        while ((e = pendingAdds.poll()) != null) {
+            if (e.cancelled)
+                continue;
+            // 현재 tick 기준 상대 위치(이미 지난 마감은 이번 tick 슬롯에서 즉시 만료)
+            long due = (e.deadlineMillis - startMillis + tickMs - 1) / tickMs - 1;
+            long at = Math.max(due, tick);
+            e.rounds = (at - tick) / buckets.length;
+            buckets[(int) (at & mask)].add(e);
+        }
+    }
+
+    private void expire(Queue<Entry> bucket) {
+        for (Iterator<Entry> it = bucket.iterator(); it.hasNext();) {
+            Entry e = it.next();
+            if (e.cancelled) {
+                it.remove();
+            } else if (e.rounds <= 0) {
+                it.remove();
+                if (byKey.remove(e.key, e)) {
+                    try {
+                        onExpire.accept(e.key);
+                    } catch (Exception ex) {
+                        log.warn("Timing wheel callback error key={}: {}", e.key, ex.toString());
+                    }
+                }
+            } else {
+                e.rounds--;
+            }
+        }
+    }
+
+    private static final class Entry {
+        final long key;
+        final long deadlineMillis;
+        long rounds;
+        volatile boolean cancelled;
+
+        Entry(long key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
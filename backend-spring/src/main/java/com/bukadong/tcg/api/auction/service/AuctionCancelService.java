@@ -4,6 +4,7 @@ import com.bukadong.tcg.api.auction.dto.response.AuctionCancelCheckResponse;
 import com.bukadong.tcg.api.auction.dto.response.AuctionCancelResponse;
 import com.bukadong.tcg.api.auction.entity.Auction;
 import com.bukadong.tcg.api.auction.entity.AuctionCloseReason;
+import com.bukadong.tcg.api.auction.event.AuctionListChangedEvent;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import com.bukadong.tcg.api.bid.repository.AuctionBidRepository;
 import com.bukadong.tcg.api.bid.repository.AuctionLockRepository;
@@ -12,6 +13,7 @@ import com.bukadong.tcg.api.notification.service.NotificationCommandService;
 import com.bukadong.tcg.global.common.base.BaseResponseStatus;
 import com.bukadong.tcg.global.common.exception.BaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -39,6 +41,7 @@ public class AuctionCancelService {
     private final AuctionBidRepository auctionBidRepository;
     private final AuctionCacheService auctionCacheService; // Redis is_end 갱신 재사용
     private final NotificationCommandService notificationCommandService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final ZoneOffset UTC = ZoneOffset.UTC;
 
     /**
@@ -121,8 +124,9 @@ public class AuctionCancelService {
         return AuctionCancelResponse.builder().auctionId(auctionId).cancelledBy("ADMIN").cancelledAt(now).build();
     }
 
-    /** 커밋 후 Redis is_end=1 동기화 */
+    /** 커밋 후 Redis is_end=1 동기화 + 목록 캐시 무효화 */
     private void afterCommitMarkRedisEnded(Long auctionId) {
+        eventPublisher.publishEvent(new AuctionListChangedEvent(auctionId));
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
@@ -3,6 +3,7 @@ package com.bukadong.tcg.api.auction.service;
 import com.bukadong.tcg.api.auction.dto.request.AuctionCreateRequest;
 import com.bukadong.tcg.api.auction.dto.response.AuctionCreateResponse;
 import com.bukadong.tcg.api.auction.entity.Auction;
+import com.bukadong.tcg.api.auction.event.AuctionListChangedEvent;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import com.bukadong.tcg.api.auction.repository.AuctionRepositoryCustom;
 import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
@@ -27,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -72,6 +74,7 @@ public class AuctionCommandService {
     private final PhysicalCardRepository physicalCardRepository;
     private final TakoNftContractService takoNftContractService;
     private final AuctionRepositoryCustom auctionRepositoryCustom;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 경매 생성 가능 여부 조회, 사용자 계정에 지갑 주소가 등록되어 있어야 한다.
@@ -166,6 +169,8 @@ public class AuctionCommandService {
         // 모든 시간 처리를 UTC 기준으로 일관화
         Instant endAt = auction.getEndDatetime().atOffset(ZoneOffset.UTC).toInstant();
         deadlineIndex.upsert(saved.getId(), endAt.toEpochMilli());
+        // 커밋 후 목록 결과 캐시 무효화
+        eventPublisher.publishEvent(new AuctionListChangedEvent(saved.getId()));
         logger.info(
                 "Auction created (UTC): id={}, startKST={}, endKST={}, startUTC(LocalDateTime)={}, endUTC(LocalDateTime)={}, endAtInstantUTC={}, epochMillisUTC={}",
                 saved.getId(), requestDto.getStartDatetime(), requestDto.getEndDatetime(), startUtc, endUtc, endAt,
@@ -2,9 +2,17 @@ package com.bukadong.tcg.api.auction.service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.time.ZoneOffset;
 
+import com.bukadong.tcg.api.card.repository.PhysicalCardRepository;
 import com.bukadong.tcg.api.member.entity.Member;
 import com.bukadong.tcg.api.member.repository.MemberRepository;
 import org.springframework.stereotype.Service;
@@ -14,6 +22,7 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import com.bukadong.tcg.api.auction.entity.Auction;
 import com.bukadong.tcg.api.auction.entity.AuctionCloseReason;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
+import com.bukadong.tcg.api.auction.service.dto.FinalizeOutcome;
 import com.bukadong.tcg.api.auction.service.dto.WinnerSnapshot;
 import com.bukadong.tcg.api.auction.sse.AuctionLiveSseService;
 import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
@@ -46,24 +55,30 @@ public class AuctionFinalizeService {
     private final AuctionDeadlineIndex deadlineIndex;
     private final AuctionCacheService auctionCacheService;
     private final AuctionLiveSseService auctionLiveSseService;
+    private final PhysicalCardRepository physicalCardRepository;
 
     /**
      * 경매 종료 처리 (마감 도달 시에만)
      * <p>
-     * 입찰 0건이면 UNSOLD(유찰)로 정상 종료한다.
+     * 입찰 0건이면 UNSOLD(유찰)로 정상 종료한다. 마감 큐 시각과 DB 마감 시각이 어긋나(다른 노드의 연장, 시계 차이) 아직
+     * 종료할 수 없으면 NOT_DUE와 DB 마감 시각을 돌려줘 호출자가 마감 큐를 다시 맞추게 한다.
      * </P>
      *
      * @PARAM auctionId 경매 ID
-     * @RETURN 없음
+     * @RETURN 종료 시도 결과
      */
     @Transactional
-    public void finalizeIfDue(Long auctionId) {
+    public FinalizeOutcome finalizeIfDue(Long auctionId) {
         log.debug("[FinalizeIfDue] start: auctionId={}", auctionId);
-        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
-                .orElseThrow(() -> new IllegalStateException("Auction is not found"));
-
+        Auction auction = auctionRepository.findByIdForUpdate(auctionId).orElse(null);
+        if (auction == null) {
+            log.warn("Finalize target auction is not found. auctionId={}", auctionId);
+            return FinalizeOutcome.alreadyEnded(auctionId); // 삭제된 경매: 종료할 대상 없음
+        }
+        if (auction.isEnd())
+            return FinalizeOutcome.alreadyEnded(auctionId);
         if (!auction.isClosableNow()) {
-            return; // 아직 마감 시간이 아님
+            return FinalizeOutcome.notDue(auctionId, auction.getEndDatetime()); // 아직 마감 시간이 아님
         }
 
         log.debug("Auction is closed. auctionId={}", auctionId);
@@ -77,18 +92,21 @@ public class AuctionFinalizeService {
             afterCommitMarkEndedAndNotify(auctionId);
             afterCommitRemoveIndex(auctionId); // 트랜잭션 커밋 후에 제거
             log.info("Auction closed as UNSOLD (no bids). auctionId={}", auctionId);
-            return;
+            return FinalizeOutcome.closed(auctionId);
         }
 
-        // 낙찰 처리
+        // 낙찰 처리(낙찰 회원을 먼저 확인해 누락 시 아무것도 바꾸지 않고 재시도)
         WinnerSnapshot winner = winnerOpt.get();
+        Optional<Member> buyerOpt = memberRepository.findById(winner.memberId());
+        if (buyerOpt.isEmpty()) {
+            log.warn("Winner member is not found. auctionId={}, memberId={}", auctionId, winner.memberId());
+            return FinalizeOutcome.retry(auctionId);
+        }
+        Member buyer = buyerOpt.get();
         auction.setWinner(winner.memberId(), winner.bidId(), winner.amount());
         auction.markClosed(AuctionCloseReason.SOLD, LocalDateTime.now(UTC));
 
         Member seller = auction.getMember();
-        Member buyer = memberRepository.findById(winner.memberId())
-                .orElseThrow(() -> new IllegalStateException("Winner member is not found"));
-
         Instant closedAt = auction.getClosedAt().atZone(UTC).toInstant();
         eventPublisher.publishAuctionSold(auctionId, winner.bidId(), winner.amount(), closedAt, seller, buyer,
                 auction.getPhysicalCard());
@@ -96,6 +114,110 @@ public class AuctionFinalizeService {
         afterCommitRemoveIndex(auctionId); // 커밋 성공 후에 제거
         log.info("Auction closed as SOLD. auctionId={}, winner={}, amount={}", auctionId, winner.memberId(),
                 winner.amount());
+        return FinalizeOutcome.closed(auctionId);
+    }
+
+    /**
+     * 다건 경매 종료 처리 (마감 도래분만)
+     * <p>
+     * 같은 시각에 대량 마감되는 경우 경매마다 트랜잭션/낙찰 조회를 반복하지 않도록 한 트랜잭션에서 ID 순으로 일괄 잠그고, 낙찰
+     * 입찰은 윈도 함수 쿼리 한 번으로 구한다. 낙찰 경매는 엔티티로 낙찰 정보를 기록하고, 유찰 경매는
+     * {@link AuctionRepository#closeIfDueIn}으로 한 번에 종료한다. 커밋 후 Redis 종료 마킹/SSE/인덱스 제거를 일괄
+     * 수행한다.
+     * </p>
+     * <p>
+     * 요청한 모든 ID에 대해 결과를 돌려준다(단건 {@link #finalizeIfDue}와 같은 판정). 마감 워커는 이를 보고 종료/이미 종료분만
+     * ack하고, 미도래분은 DB 마감 시각으로 다시 넣고, 재시도분은 리스 만료까지 둔다.
+     * </p>
+     *
+     * @PARAM auctionIds 경매 ID 목록
+     * @RETURN 요청 순서대로 경매별 종료 시도 결과
+     */
+    @Transactional
+    public List<FinalizeOutcome> finalizeDueBatch(Collection<Long> auctionIds) {
+        if (auctionIds == null || auctionIds.isEmpty())
+            return List.of();
+        Map<Long, FinalizeOutcome> outcomes = new HashMap<>();
+        List<Auction> due = new ArrayList<>();
+        for (Auction a : auctionRepository.findAllByIdInForUpdate(auctionIds)) {
+            if (a.isEnd())
+                outcomes.put(a.getId(), FinalizeOutcome.alreadyEnded(a.getId()));
+            else if (!a.isClosableNow())
+                outcomes.put(a.getId(), FinalizeOutcome.notDue(a.getId(), a.getEndDatetime()));
+            else
+                due.add(a);
+        }
+        if (due.isEmpty())
+            return collect(auctionIds, outcomes);
+
+        Map<Long, WinnerSnapshot> winners = auctionWinnerQuery
+                .findWinnerSnapshots(due.stream().map(Auction::getId).toList());
+
+        // 이벤트로 넘길 연관 엔티티를 일괄 로딩(유찰 벌크 UPDATE가 영속성 컨텍스트를 비우기 전에 초기화)
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> physicalCardIds = new HashSet<>();
+        for (Auction a : due) {
+            if (a.getMember() != null)
+                memberIds.add(a.getMember().getId());
+            if (a.getPhysicalCard() != null)
+                physicalCardIds.add(a.getPhysicalCard().getId());
+        }
+        winners.values().forEach(w -> memberIds.add(w.memberId()));
+        Map<Long, Member> members = new HashMap<>();
+        memberRepository.findAllById(memberIds).forEach(m -> members.put(m.getId(), m));
+        if (!physicalCardIds.isEmpty())
+            physicalCardRepository.findAllById(physicalCardIds);
+
+        LocalDateTime now = LocalDateTime.now(UTC);
+        Instant closedAt = now.atZone(UTC).toInstant();
+        List<Long> closed = new ArrayList<>();
+        List<Long> unsold = new ArrayList<>();
+        for (Auction a : due) {
+            WinnerSnapshot winner = winners.get(a.getId());
+            if (winner == null) {
+                unsold.add(a.getId());
+                continue;
+            }
+            Member buyer = members.get(winner.memberId());
+            if (buyer == null) {
+                // 단건 경로와 동일하게 종료하지 않음(리스 만료 후 재시도)
+                log.warn("Winner member is not found. auctionId={}, memberId={}", a.getId(), winner.memberId());
+                outcomes.put(a.getId(), FinalizeOutcome.retry(a.getId()));
+                continue;
+            }
+            Member seller = a.getMember() != null ? members.getOrDefault(a.getMember().getId(), a.getMember())
+                    : null;
+            a.setWinner(winner.memberId(), winner.bidId(), winner.amount());
+            a.markClosed(AuctionCloseReason.SOLD, now);
+            eventPublisher.publishAuctionSold(a.getId(), winner.bidId(), winner.amount(), closedAt, seller, buyer,
+                    a.getPhysicalCard());
+            closed.add(a.getId());
+        }
+
+        if (!unsold.isEmpty()) {
+            // 낙찰 변경분은 벌크 UPDATE 직전에 자동 flush된다
+            auctionRepository.closeIfDueIn(unsold, AuctionCloseReason.NO_BIDS, now);
+            unsold.forEach(eventPublisher::publishAuctionUnsold);
+            closed.addAll(unsold);
+        }
+
+        for (Long auctionId : closed) {
+            afterCommitMarkEndedAndNotify(auctionId);
+            afterCommitRemoveIndex(auctionId);
+            outcomes.put(auctionId, FinalizeOutcome.closed(auctionId));
+        }
+        log.info("Auctions closed in batch. requested={}, sold={}, unsold={}", auctionIds.size(),
+                closed.size() - unsold.size(), unsold.size());
+        return collect(auctionIds, outcomes);
+    }
+
+    /* 요청 순서대로 결과 정렬(행이 없는 ID는 삭제된 경매로 보고 이미 종료 처리) */
+    private static List<FinalizeOutcome> collect(Collection<Long> auctionIds, Map<Long, FinalizeOutcome> outcomes) {
+        List<FinalizeOutcome> out = new ArrayList<>(auctionIds.size());
+        for (Long id : auctionIds) {
+            out.add(outcomes.getOrDefault(id, FinalizeOutcome.alreadyEnded(id)));
+        }
+        return out;
     }
 
     /* DB 트랜잭션이 성공적으로 커밋된 후에 Redis 인덱스를 제거 */
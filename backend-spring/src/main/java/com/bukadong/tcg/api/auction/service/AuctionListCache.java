@@ -0,0 +1,196 @@
+package com.bukadong.tcg.api.auction.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 경매 목록 결과 캐시(노드 로컬)
+ * <P>
+ * 정규화한 필터 조합(카테고리/등급/가격/정렬/페이지) 키로 회원별 값(위시 여부)이 빠진 프로젝션 행만 짧은 TTL 동안
+ * 보관한다. 현재가는 응답 시 Redis 해시로 덮어쓰므로 TTL 동안에도 최신이고, 입찰수는 TTL만큼 늦을 수 있다. 경매
+ * 생성/취소/낙찰/유찰 시 전체를 비우고 Redis Pub/Sub로 다른 노드에도 전파한다. 같은 키의 동시 미스는 한 번만 조회하고,
+ * 조회 중에 무효화가 일어난 결과는 저장하지 않는다.
+ * </P>
+ * <P>
+ * 로컬 비우기는 즉시 하고, 다른 노드로의 발행은 invalidate-coalesce-ms 창마다 최대 한 번으로 합친다(일괄 마감처럼 한
+ * 커밋에서 이벤트가 수백 건 나와도 PUBLISH와 원격 비우기는 한 번). 원격 노드는 그 창만큼 늦게 비워진다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionListCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionListCache.class);
+    public static final String INVALIDATE_CHANNEL = "cache:auction:list:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${auction.list-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.list-cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${auction.list-cache.ttl-ms:5000}")
+    private long ttlMs;
+
+    /** 이 페이지 미만(0-base)만 캐시 */
+    @Value("${auction.list-cache.max-page:3}")
+    private int maxPage;
+
+    /** 원격 무효화 발행 병합 창(0 이하=매번 즉시 발행) */
+    @Value("${auction.list-cache.invalidate-coalesce-ms:200}")
+    private long invalidateCoalesceMs;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean publishPending = new AtomicBoolean();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private Map<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > Math.max(1, maxSize);
+            }
+        };
+        listenerContainer.addMessageListener((message, pattern) -> clearLocal(), new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시 대상 페이지 여부
+     *
+     * @PARAM page 0-base 페이지
+     * @RETURN 캐시하면 true
+     */
+    public boolean cacheable(int page) {
+        return enabled && page < maxPage;
+    }
+
+    /**
+     * 조회(미스면 loader로 적재)
+     *
+     * @PARAM key 정규화한 필터 키
+     * @PARAM loader DB 조회(불변 결과를 반환해야 함)
+     * @RETURN 캐시 또는 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        if (!enabled)
+            return loader.get();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && e.expiresAt() >= now) {
+                hits.incrementAndGet();
+                return (T) e.value();
+            }
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException re)
+                    throw re;
+                throw ex;
+            }
+        }
+        long gen = generation.get();
+        try {
+            T value = loader.get();
+            synchronized (this) {
+                if (generation.get() == gen)
+                    entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMs));
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 클러스터 전체 무효화
+     * <P>
+     * 로컬을 즉시 비우고 다른 노드로의 브로드캐스트는 표시만 해 두었다가 {@link #flushInvalidation()}에서 한 번 발행한다.
+     * </P>
+     *
+     * @PARAM 없음
+     * @RETURN 없음
+     */
+    public void invalidateAll() {
+        if (!enabled)
+            return;
+        clearLocal();
+        if (invalidateCoalesceMs <= 0) {
+            publishInvalidation();
+        } else {
+            publishPending.set(true);
+        }
+    }
+
+    /**
+     * 병합된 원격 무효화 발행
+     * <P>
+     * 창 동안 무효화가 한 번이라도 있었으면 한 번만 발행한다. 발행 실패는 TTL로 회복되므로 로그만 남긴다. 병합이 꺼져 있으면
+     * 스케줄러가 0 이하 주기를 허용하지 않으므로 1초 주기로만 돌며 할 일이 없다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "#{${auction.list-cache.invalidate-coalesce-ms:200} > 0 ? ${auction.list-cache.invalidate-coalesce-ms:200} : 1000}")
+    public void flushInvalidation() {
+        if (publishPending.getAndSet(false))
+            publishInvalidation();
+    }
+
+    private void publishInvalidation() {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, "*");
+        } catch (Exception e) {
+            log.warn("Auction list cache invalidation publish failed: {}", e.toString());
+        }
+    }
+
+    private void clearLocal() {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+        if (log.isDebugEnabled())
+            log.debug("Auction list cache cleared. hits={}, misses={}", hits.get(), misses.get());
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
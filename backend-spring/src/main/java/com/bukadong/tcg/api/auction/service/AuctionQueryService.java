@@ -1,6 +1,8 @@
 package com.bukadong.tcg.api.auction.service;
 
 import com.bukadong.tcg.api.auction.converter.AuctionListConverter;
+import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
+import com.bukadong.tcg.api.auction.entity.Auction;
 import com.bukadong.tcg.api.auction.dto.response.AuctionDetailResponse;
 import com.bukadong.tcg.api.auction.dto.response.AuctionListItemResponse;
 import com.bukadong.tcg.api.auction.repository.AuctionDetailRepository;
@@ -8,25 +10,39 @@ import com.bukadong.tcg.api.auction.dto.response.MyAuctionListItemResponse;
 import com.bukadong.tcg.api.auction.dto.response.MyBidAuctionListItemResponse;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import com.bukadong.tcg.api.auction.repository.AuctionRepositoryCustom;
+import com.bukadong.tcg.api.auction.repository.AuctionSearchCursor;
 import com.bukadong.tcg.api.auction.repository.AuctionSort;
+import com.bukadong.tcg.api.bid.service.AuctionCacheService;
 import com.bukadong.tcg.api.card.entity.PhysicalCard;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.service.MediaUrlService;
 import com.bukadong.tcg.api.wish.repository.auction.WishAuctionRepository;
 import com.bukadong.tcg.global.common.base.BaseResponseStatus;
+import com.bukadong.tcg.global.common.dto.CursorPageResponse;
 import com.bukadong.tcg.global.common.dto.PageResponse;
 import com.bukadong.tcg.global.common.exception.BaseException;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
@@ -43,6 +59,7 @@ import static com.bukadong.tcg.api.auction.entity.QAuction.auction;
 @Transactional(readOnly = true)
 public class AuctionQueryService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuctionQueryService.class);
     private static final ZoneOffset UTC = ZoneOffset.UTC;
 
     private final AuctionRepositoryCustom auctionRepositoryCustom;
@@ -53,6 +70,17 @@ public class AuctionQueryService {
     private final JPAQueryFactory queryFactory;
     private final com.bukadong.tcg.api.auction.repository.AuctionRepository auctionRepo;
     private final com.bukadong.tcg.api.bid.repository.AuctionBidRepository auctionBidRepo;
+    private final AuctionCacheService auctionCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuctionListCache auctionListCache;
+
+    /** 목록 페이지 크기(고정) */
+    private static final int LIST_PAGE_SIZE = 20;
+    private static final String TOTAL_CACHE_PREFIX = "AUCTION:SEARCH:TOTAL:";
+
+    /** 키셋 목록 전체 개수 캐시 TTL */
+    @Value("${auction.search.total-cache-ttl-ms:30000}")
+    private long totalCacheTtlMs;
 
     /**
      * 경매 목록 조회 서비스(컨트롤러 편의 오버로드)
@@ -77,24 +105,150 @@ public class AuctionQueryService {
     public PageResponse<AuctionListItemResponse> getAuctionList(Long categoryMajorId, Long categoryMediumId,
                                                                 String titlePart, Long cardId, BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades,
                                                                 AuctionSort sort, boolean isEnded, int page, Long memberId) {
-        Pageable pageable = PageRequest.of(page, 20);
-        var rows = auctionRepositoryCustom.searchAuctions(categoryMajorId, categoryMediumId, titlePart, cardId,
-                currentPriceMin, currentPriceMax, grades, sort, isEnded, pageable);
+        Pageable pageable = PageRequest.of(page, LIST_PAGE_SIZE);
+        Supplier<Page<AuctionListProjection>> query = () -> {
+            Page<AuctionListProjection> found = auctionRepositoryCustom.searchAuctions(categoryMajorId,
+                    categoryMediumId, titlePart, cardId, currentPriceMin, currentPriceMax, grades, sort, isEnded,
+                    pageable);
+            return new PageImpl<>(List.copyOf(found.getContent()), pageable, found.getTotalElements());
+        };
+        // 앞쪽 페이지는 회원 무관 프로젝션 행을 짧게 캐시(위시/현재가는 아래에서 요청마다 덧씌움)
+        String cacheKey = "p:" + page + "|" + sort + "|" + filterKey(categoryMajorId, categoryMediumId, titlePart,
+                cardId, currentPriceMin, currentPriceMax, grades, isEnded);
+        Page<AuctionListProjection> rows = auctionListCache.cacheable(page) ? auctionListCache.get(cacheKey, query)
+                : query.get();
+
+        List<AuctionListItemResponse> items = toListItems(rows.getContent(), memberId);
+        Page<AuctionListItemResponse> p = new PageImpl<>(items, pageable, rows.getTotalElements());
+        return PageResponse.from(p);
+    }
 
+    /**
+     * 경매 목록 키셋 조회
+     * <p>
+     * 필터/정렬은 {@link #getAuctionList}와 같고, OFFSET 대신 커서 뒤 20개를 읽는다. 전체 개수는 필터 조합별로 짧게
+     * 캐시한 값을 내려 매 페이지 count(*)를 피한다.
+     * </P>
+     *
+     * @PARAM sort 정렬 기준 (null이면 id DESC)
+     * @PARAM cursor 직전 응답의 nextCursor(첫 페이지면 null, 다른 정렬의 커서면 INVALID_PARAMETER)
+     * @PARAM memberId 로그인 회원 ID(없으면 null)
+     * @RETURN CursorPageResponse<AuctionListItemResponse>
+     */
+    @SuppressWarnings("java:S107")
+    public CursorPageResponse<AuctionListItemResponse> getAuctionListByCursor(Long categoryMajorId,
+            Long categoryMediumId, String titlePart, Long cardId, BigDecimal currentPriceMin,
+            BigDecimal currentPriceMax, Set<String> grades, AuctionSort sort, boolean isEnded, String cursor,
+            Long memberId) {
+        AuctionSearchCursor after = AuctionSearchCursor.decode(cursor, sort);
+        Supplier<List<AuctionListProjection>> query = () -> List.copyOf(auctionRepositoryCustom.searchAuctionsAfter(
+                categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin, currentPriceMax, grades, sort,
+                isEnded, after, LIST_PAGE_SIZE + 1));
+        // 첫 페이지만 캐시(이후 페이지는 커서마다 키가 달라 적중률이 낮음)
+        String cacheKey = "c|" + sort + "|" + filterKey(categoryMajorId, categoryMediumId, titlePart, cardId,
+                currentPriceMin, currentPriceMax, grades, isEnded);
+        List<AuctionListProjection> rows = (after == null && auctionListCache.cacheable(0))
+                ? auctionListCache.get(cacheKey, query)
+                : query.get();
+
+        boolean hasNext = rows.size() > LIST_PAGE_SIZE;
+        if (hasNext)
+            rows = rows.subList(0, LIST_PAGE_SIZE);
+        String nextCursor = hasNext ? AuctionSearchCursor.of(sort, rows.get(rows.size() - 1)).encode() : null;
+
+        long total = cachedTotal(categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin,
+                currentPriceMax, grades, isEnded);
+        return new CursorPageResponse<>(toListItems(rows, memberId), LIST_PAGE_SIZE, nextCursor, hasNext,
+                total);
+    }
+
+    /**
+     * 목록 행 → 응답 변환(위시/라이브 현재가/대표 이미지 presign을 페이지 단위로 일괄 처리)
+     */
+    private List<AuctionListItemResponse> toListItems(List<AuctionListProjection> rows, Long memberId) {
         // 현재 페이지의 경매 ID들
-        List<Long> ids = rows.getContent().stream().map(r -> r.id()).toList();
+        List<Long> ids = rows.stream().map(r -> r.id()).toList();
 
         // 로그인 회원의 위시된 경매 ID 집합(없으면 비어있는 셋)
         Set<Long> wishedIds = (memberId == null || ids.isEmpty()) ? Set.of()
                 : Set.copyOf(wishAuctionRepository.findWishedAuctionIds(memberId, ids));
 
-        Duration ttl = Duration.ofMinutes(30);
-        List<AuctionListItemResponse> items = rows.getContent().stream()
-                .map(row -> AuctionListConverter.toItem(row, mediaUrlService, ttl, wishedIds.contains(row.id())))
-                .toList();
+        // Redis 현재가(입찰 즉시 반영)를 파이프라인 HMGET 1회로 일괄 조회해 덮어씀(캐시된 행도 최신 가격으로 응답)
+        Map<Long, BigDecimal> livePrices = readLivePrices(ids);
 
-        Page<AuctionListItemResponse> p = new PageImpl<>(items, pageable, rows.getTotalElements());
-        return PageResponse.from(p);
+        // 대표 이미지 presign은 페이지 단위 일괄 처리(로컬 캐시 → MGET 1회 → 파이프라인 SET 1회)
+        List<String> imageKeys = rows.stream().map(AuctionListConverter::listImageKey).toList();
+        Map<String, String> presigned = mediaUrlService.presignAll(imageKeys, Duration.ofMinutes(30));
+        return rows.stream().map(row -> AuctionListConverter.toItem(row, presigned, wishedIds.contains(row.id()),
+                livePrices.get(row.id()))).toList();
+    }
+
+    /**
+     * 필터 조합별 전체 개수(짧은 TTL 캐시)
+     * <P>
+     * 키는 필터 값을 정규화한 문자열의 MD5다. Redis 장애 시 바로 count 한다.
+     * </P>
+     */
+    @SuppressWarnings("java:S107")
+    private long cachedTotal(Long categoryMajorId, Long categoryMediumId, String titlePart, Long cardId,
+            BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, boolean isEnded) {
+        String filter = filterKey(categoryMajorId, categoryMediumId, titlePart, cardId, currentPriceMin,
+                currentPriceMax, grades, isEnded);
+        String key = TOTAL_CACHE_PREFIX + DigestUtils.md5DigestAsHex(filter.getBytes(StandardCharsets.UTF_8));
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null)
+                return Long.parseLong(cached);
+        } catch (Exception e) {
+            log.debug("Search total cache read failed: {}", e.toString());
+        }
+        Long counted = auctionRepositoryCustom.countAuctions(categoryMajorId, categoryMediumId, titlePart, cardId,
+                currentPriceMin, currentPriceMax, grades, isEnded);
+        long total = counted == null ? 0L : counted;
+        try {
+            stringRedisTemplate.opsForValue().set(key, String.valueOf(total), Duration.ofMillis(totalCacheTtlMs));
+        } catch (Exception e) {
+            log.debug("Search total cache write failed: {}", e.toString());
+        }
+        return total;
+    }
+
+    /**
+     * 필터 조합 정규화 키(가격은 스케일 제거, 등급은 정렬)
+     */
+    @SuppressWarnings("java:S107")
+    private static String filterKey(Long categoryMajorId, Long categoryMediumId, String titlePart, Long cardId,
+            BigDecimal currentPriceMin, BigDecimal currentPriceMax, Set<String> grades, boolean isEnded) {
+        return categoryMajorId + "|" + categoryMediumId + "|" + titlePart + "|" + cardId + "|"
+                + (currentPriceMin == null ? null : currentPriceMin.stripTrailingZeros().toPlainString()) + "|"
+                + (currentPriceMax == null ? null : currentPriceMax.stripTrailingZeros().toPlainString()) + "|"
+                + (grades == null ? null : new TreeSet<>(grades)) + "|" + isEnded;
+    }
+
+    /**
+     * 목록 경매들의 Redis 현재가 일괄 조회
+     * <P>
+     * 캐시 미적재 경매는 제외(DB 값 사용). Redis 장애 시 빈 맵으로 폴백한다.
+     * </P>
+     *
+     * @PARAM ids 경매 ID 목록
+     * @RETURN 경매 ID → 현재가
+     */
+    private Map<Long, BigDecimal> readLivePrices(List<Long> ids) {
+        Map<Long, BigDecimal> out = new HashMap<>();
+        if (ids.isEmpty())
+            return out;
+        try {
+            auctionCacheService.getSnapshots(ids).forEach((id, snap) -> {
+                String price = snap.get("current_price");
+                if (price != null && !price.isBlank()) {
+                    out.put(id, new BigDecimal(price));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Live price lookup failed, using DB prices: {}", e.toString());
+        }
+        return out;
     }
 
     // 오버로드 제거: 컨트롤러는 위 메서드를 직접 호출
@@ -162,6 +316,9 @@ public class AuctionQueryService {
                                                                  int recentBidCount) {
         var pageable = PageRequest.of(page, size);
         var pageAuc = auctionRepo.findByMember_IdOrderByIdDesc(memberId, pageable);
+        Map<Long, String> imageUrls = mediaUrlService.getPrimaryImageUrls(MediaType.AUCTION_ITEM,
+                pageAuc.getContent().stream().map(Auction::getId).toList(), Duration.ofMinutes(5),
+                MediaVariant.SMALL);
 
         var items = pageAuc.getContent().stream().map(a -> {
             var bidPage = PageRequest.of(0, Math.max(0, recentBidCount));
@@ -169,8 +326,7 @@ public class AuctionQueryService {
                     .map(b -> new MyAuctionListItemResponse.BidItem(b.getCreatedAt(),
                             b.getMember() != null ? b.getMember().getNickname() : null, b.getAmount()))
                     .toList();
-            var primaryImageUrl = mediaUrlService
-                    .getPrimaryImageUrl(MediaType.AUCTION_ITEM, a.getId(), Duration.ofMinutes(5)).orElse(null);
+            var primaryImageUrl = imageUrls.get(a.getId());
             MyAuctionListItemResponse.DeliverySummary deliverySummary = null;
             var delivery = a.getDelivery();
             if (delivery != null) {
@@ -203,6 +359,9 @@ public class AuctionQueryService {
         var pageable = PageRequest.of(page, size);
         var pageAuc = ended ? auctionRepo.findEndedByMemberBids(memberId, pageable)
                 : auctionRepo.findOngoingByMemberBids(memberId, pageable);
+        Map<Long, String> imageUrls = mediaUrlService.getPrimaryImageUrls(MediaType.AUCTION_ITEM,
+                pageAuc.getContent().stream().map(Auction::getId).toList(), Duration.ofMinutes(5),
+                MediaVariant.SMALL);
 
         var items = pageAuc.getContent().stream().map(a -> {
             var bidPage = PageRequest.of(0, Math.max(0, recentBidCount));
@@ -210,8 +369,7 @@ public class AuctionQueryService {
                     .map(b -> new MyBidAuctionListItemResponse.BidItem(b.getCreatedAt(),
                             b.getMember() != null ? b.getMember().getNickname() : null, b.getAmount()))
                     .toList();
-            var primaryImageUrl = mediaUrlService
-                    .getPrimaryImageUrl(MediaType.AUCTION_ITEM, a.getId(), Duration.ofMinutes(5)).orElse(null);
+            var primaryImageUrl = imageUrls.get(a.getId());
             var myTop = auctionBidRepo
                     .findTopByAuction_IdAndMember_IdOrderByAmountDescCreatedAtDesc(a.getId(), memberId).orElse(null);
             var myTopAmount = myTop != null ? myTop.getAmount() : null;
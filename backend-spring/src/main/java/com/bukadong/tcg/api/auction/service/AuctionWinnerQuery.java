@@ -1,5 +1,7 @@
 package com.bukadong.tcg.api.auction.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import com.bukadong.tcg.api.auction.service.dto.WinnerSnapshot;
@@ -25,4 +27,15 @@ public interface AuctionWinnerQuery {
      * @RETURN Optional<WinnerSnapshot>
      */
     Optional<WinnerSnapshot> tryGetWinnerSnapshot(Long auctionId);
+
+    /**
+     * 다건 최고가 유효 입찰 스냅샷 조회
+     * <P>
+     * 한 번의 쿼리로 경매별 1위 입찰을 구한다. 입찰이 없는 경매는 결과에 없다.
+     * </P>
+     * 
+     * @PARAM auctionIds 경매 ID 목록
+     * @RETURN 경매 ID → WinnerSnapshot
+     */
+    Map<Long, WinnerSnapshot> findWinnerSnapshots(Collection<Long> auctionIds);
 }
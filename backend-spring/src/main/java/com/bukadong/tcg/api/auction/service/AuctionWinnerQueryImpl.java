@@ -2,8 +2,15 @@ package com.bukadong.tcg.api.auction.service;
 
 import static com.bukadong.tcg.api.bid.entity.QAuctionBid.auctionBid;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +35,13 @@ import lombok.RequiredArgsConstructor;
 public class AuctionWinnerQueryImpl implements AuctionWinnerQuery {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 경매별 1위(금액 내림차순, 먼저 들어온 입찰 우선) 유효 입찰 - 윈도 함수 */
+    private static final String WINNERS_SQL = "SELECT t.auction_id, t.id, t.member_id, t.amount, t.created_at FROM ("
+            + " SELECT b.auction_id, b.id, b.member_id, b.amount, b.created_at,"
+            + "  ROW_NUMBER() OVER (PARTITION BY b.auction_id ORDER BY b.amount DESC, b.id ASC) AS rn"
+            + " FROM auction_bid b WHERE b.status = ? AND b.auction_id IN (%s)) t WHERE t.rn = 1";
 
     @Override
     @Transactional(readOnly = true)
@@ -39,4 +53,24 @@ public class AuctionWinnerQueryImpl implements AuctionWinnerQuery {
                 .where(auctionBid.auction.id.eq(auctionId), auctionBid.status.eq(AuctionBidStatus.VALID))
                 .orderBy(auctionBid.amount.desc(), auctionBid.id.asc()).limit(1).fetch().stream().findFirst();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, WinnerSnapshot> findWinnerSnapshots(Collection<Long> auctionIds) {
+        Map<Long, WinnerSnapshot> out = new HashMap<>();
+        if (auctionIds == null || auctionIds.isEmpty())
+            return out;
+        String sql = String.format(WINNERS_SQL, String.join(",", Collections.nCopies(auctionIds.size(), "?")));
+        Object[] args = new Object[auctionIds.size() + 1];
+        args[0] = AuctionBidStatus.VALID.name();
+        int i = 1;
+        for (Long id : auctionIds) {
+            args[i++] = id;
+        }
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            out.put(rs.getLong("auction_id"), new WinnerSnapshot(rs.getLong("id"), rs.getLong("member_id"),
+                    rs.getBigDecimal("amount"), rs.getObject("created_at", LocalDateTime.class)));
+        }, args);
+        return out;
+    }
 }
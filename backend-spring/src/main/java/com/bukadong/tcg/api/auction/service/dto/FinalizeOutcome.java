@@ -0,0 +1,54 @@
+package com.bukadong.tcg.api.auction.service.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 경매 종료 시도 결과 DTO
+ * <P>
+ * 마감 워커가 마감 큐 멤버를 ack할지, DB 마감 시각으로 다시 넣을지, 리스 만료 후 재시도할지 판단하는 데 쓴다.
+ * </P>
+ * 
+ * @PARAM auctionId 경매 ID
+ * @PARAM status 결과 상태
+ * @PARAM endDatetime DB 마감 시각(UTC, NOT_DUE일 때만 의미 있음)
+ * @RETURN 없음
+ */
+public record FinalizeOutcome(Long auctionId, Status status, LocalDateTime endDatetime) {
+
+    public enum Status {
+        /** 이번 호출로 종료됨 */
+        CLOSED,
+        /** 이미 종료됐거나 경매가 없음(할 일 없음) */
+        ALREADY_ENDED,
+        /** DB 마감 시각 전(연장/시계 차이) */
+        NOT_DUE,
+        /** 일시적으로 종료할 수 없음(낙찰 회원 누락 등, 재시도) */
+        RETRY
+    }
+
+    public static FinalizeOutcome closed(Long auctionId) {
+        return new FinalizeOutcome(auctionId, Status.CLOSED, null);
+    }
+
+    public static FinalizeOutcome alreadyEnded(Long auctionId) {
+        return new FinalizeOutcome(auctionId, Status.ALREADY_ENDED, null);
+    }
+
+    public static FinalizeOutcome notDue(Long auctionId, LocalDateTime endDatetime) {
+        return new FinalizeOutcome(auctionId, Status.NOT_DUE, endDatetime);
+    }
+
+    public static FinalizeOutcome retry(Long auctionId) {
+        return new FinalizeOutcome(auctionId, Status.RETRY, null);
+    }
+
+    /**
+     * DB 마감 시각(epochMillis)
+     * 
+     * @RETURN 마감 epochMillis 또는 null
+     */
+    public Long endEpochMillis() {
+        return endDatetime == null ? null : endDatetime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,160 @@
+package com.bukadong.tcg.api.auction.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 경매 라이브 이벤트 클러스터 브로드캐스터
+ * <P>
+ * 노드가 발행한 SSE 이벤트를 샤딩된 Redis 채널(auction:live:{auctionId % shards})로 전파하고, 모든 노드는 전 샤드를
+ * 구독해 자신의 emitter에 로컬 팬아웃한다. 발행 노드는 이미 로컬 전송을 마쳤으므로 자신이 보낸 메시지(origin=nodeId)는
+ * 건너뛴다. 수신은 전용 리스너 컨테이너의 단일 스레드에서 도착 순서대로 처리하므로 한 노드가 발행한 같은 경매 이벤트의 순서가
+ * 유지된다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionLiveBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionLiveBroadcaster.class);
+    public static final String CHANNEL_PREFIX = "auction:live:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auction.sse.broadcast.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.sse.broadcast.shards:16}")
+    private int shards;
+
+    /** 이 노드의 식별자(자기 발행 메시지 중복 전송 방지) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer container;
+    private ExecutorService dispatcher;
+
+    /**
+     * 원격 이벤트 로컬 팬아웃 핸들러
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void deliver(long auctionId, String event, boolean detailOnly, Map<String, Object> payload);
+    }
+
+    /**
+     * 브로드캐스트 메시지
+     *
+     * @PARAM origin 발행 노드 ID
+     * @PARAM auctionId 경매 ID
+     * @PARAM event SSE 이벤트 이름
+     * @PARAM detailOnly 상세 구독자 전용 여부
+     * @PARAM payload 이벤트 데이터
+     */
+    record LiveMessage(String origin, long auctionId, String event, boolean detailOnly, Map<String, Object> payload) {
+    }
+
+    /**
+     * 구독 시작
+     * <P>
+     * 전 샤드 채널을 구독한다. 리스너 실행기는 단일 스레드로 고정해 수신 순서를 보존한다.
+     * </P>
+     *
+     * @PARAM handler 로컬 팬아웃 핸들러
+     * @RETURN 없음
+     */
+    public synchronized void subscribe(Handler handler) {
+        if (!enabled || container != null)
+            return;
+        dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "auction-live-fanout");
+            t.setDaemon(true);
+            return t;
+        });
+        List<Topic> topics = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, shards); i++) {
+            topics.add(new ChannelTopic(CHANNEL_PREFIX + i));
+        }
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                LiveMessage m = objectMapper.readValue(message.getBody(), LiveMessage.class);
+                if (nodeId.equals(m.origin()))
+                    return; // 로컬 발행분은 이미 전송됨
+                handler.deliver(m.auctionId(), m.event(), m.detailOnly(), m.payload());
+            } catch (Exception e) {
+                log.warn("[SSE] bad live broadcast message: {}", e.toString());
+            }
+        }, topics);
+        container.afterPropertiesSet();
+        container.start();
+        log.info("[SSE] live broadcast subscribed. shards={}, nodeId={}", topics.size(), nodeId);
+    }
+
+    /**
+     * 이벤트 발행
+     * <P>
+     * 발행 실패 시 다른 노드 구독자만 이번 이벤트를 놓치므로(다음 가격 이벤트/하트비트로 회복) 로그만 남긴다.
+     * </P>
+     *
+     * @PARAM auctionId 경매 ID
+     * @PARAM event SSE 이벤트 이름
+     * @PARAM detailOnly 상세 구독자 전용 여부
+     * @PARAM payload 이벤트 데이터
+     * @RETURN 없음
+     */
+    public void publish(long auctionId, String event, boolean detailOnly, Map<String, Object> payload) {
+        if (!enabled)
+            return;
+        try {
+            String body = objectMapper
+                    .writeValueAsString(new LiveMessage(nodeId, auctionId, event, detailOnly, payload));
+            redisTemplate.convertAndSend(channelOf(auctionId), body);
+        } catch (Exception e) {
+            log.warn("[SSE] live broadcast publish failed auctionId={} event={}: {}", auctionId, event,
+                    e.toString());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.debug("[SSE] listener container destroy error: {}", e.toString());
+            }
+            container = null;
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private String channelOf(long auctionId) {
+        return CHANNEL_PREFIX + Math.floorMod(auctionId, Math.max(1, shards));
+    }
+}
@@ -1,5 +1,8 @@
 package com.bukadong.tcg.api.auction.sse;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,19 +12,22 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.data.redis.core.RedisTemplate;
 
 /**
  * 경매 라이브 SSE 서비스 - 목록: 선택 구독(ids) → price만 - 상세: 단일 경매 구독 → price, end_ts, end,
- * bid(닉네임/시간)
+ * bid(닉네임/시간). 발행 이벤트는 {@link AuctionLiveBroadcaster}로 다른 노드 구독자에게도 전파된다.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +36,8 @@ public class AuctionLiveSseService {
     private static final Logger log = LoggerFactory.getLogger(AuctionLiveSseService.class);
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final AuctionLiveBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
     private static final String FIELD_AUCTION_ID = "auctionId";
     private static final String FIELD_CURRENT_PRICE = "currentPrice";
     private static final String FIELD_END_TS = "endTs";
@@ -52,16 +60,64 @@ public class AuctionLiveSseService {
     // 끊긴 emitter 감지용 (옵션적) 최근 실패 카운트
     private final Map<SseEmitter, Integer> failureCounts = new ConcurrentHashMap<>();
 
+    @Value("${auction.sse.send.queue-capacity:64}")
+    private int outboxCapacity;
+
+    // emitter별 송신 큐(발행 스레드와 네트워크 전송 분리)
+    private final Map<SseEmitter, SseOutbox> outboxes = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor sendExecutor;
+
+    // 송신 스레드 상한(필요할 때만 생성, 유휴 시 회수). emitter당 드레인은 한 번에 하나라 느린 연결은 스레드 1개만 점유
+    @Value("${auction.sse.send.threads:64}")
+    private int sendThreads;
+
+    // 한 프레임 전송 제한 시간(초과 시 느린 소비자로 보고 연결 정리, 0 이하=감시 안 함)
+    @Value("${auction.sse.send.timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    // 목록 구독자용 경매별 대기 가격(틱마다 최신값만 전송, 0이면 병합 비활성)
+    @Value("${auction.sse.list-conflate-ms:250}")
+    private long listConflateMs;
+    private final Map<Long, Map<String, Object>> pendingListPrices = new ConcurrentHashMap<>();
+
+    /**
+     * 송신 실행기 기동 + 다른 노드가 발행한 이벤트 수신 → 로컬 팬아웃
+     * <P>
+     * 송신 실행기는 이 서비스 전용이며 core=max=threads에 코어 스레드 유휴 회수를 켜 두어, 부하가 있을 때만 상한까지 늘고 평소엔
+     * 줄어든다. 막힌 send가 스레드를 잡고 있어도 나머지 emitter는 남은 스레드로 계속 전송된다.
+     * </P>
+     */
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, sendThreads);
+        sendExecutor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "sse-send-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        sendExecutor.allowCoreThreadTimeOut(true);
+        broadcaster.subscribe(this::deliverLocal);
+    }
+
+    @PreDestroy
+    void shutdownSender() {
+        sendExecutor.shutdownNow();
+    }
+
     /** 상세: 단일 경매 구독 */
     public SseEmitter subscribeAuction(long auctionId, Map<String, String> snapshot) {
         SseEmitter emitter = new SseEmitter(defaultTimeoutMs);
         attachLifecycle(emitter, auctionId);
+        // 스냅샷을 먼저 적재한 뒤 등록해야 이후 가격 이벤트가 스냅샷보다 앞서지 않는다
+        openOutbox(emitter,
+                frame("snapshot", null,
+                        Map.of(FIELD_AUCTION_ID, auctionId, FIELD_CURRENT_PRICE,
+                                snapshot.getOrDefault("current_price", "0"), FIELD_END_TS,
+                                snapshot.getOrDefault("end_ts", "0"), FIELD_IS_END,
+                                snapshot.getOrDefault("is_end", "0"))));
         perAuctionDetailEmitters.computeIfAbsent(auctionId, k -> new CopyOnWriteArraySet<>()).add(emitter);
-        // 스냅샷 1회 전송
-        sendEvent(emitter, "snapshot",
-                Map.of(FIELD_AUCTION_ID, auctionId, FIELD_CURRENT_PRICE, snapshot.getOrDefault("current_price", "0"),
-                        FIELD_END_TS, snapshot.getOrDefault("end_ts", "0"), FIELD_IS_END,
-                        snapshot.getOrDefault("is_end", "0")));
         return emitter;
     }
 
@@ -69,11 +125,11 @@ public class AuctionLiveSseService {
     public SseEmitter subscribeSelected(Set<Long> auctionIds, List<Map<String, String>> snapshots) {
         SseEmitter emitter = new SseEmitter(defaultTimeoutMs);
         attachLifecycle(emitter, null);
+        openOutbox(emitter, frame("snapshot_many", null, snapshots));
         emitterToAuctionIds.put(emitter, new CopyOnWriteArraySet<>(auctionIds));
         for (Long id : auctionIds) {
             perAuctionListEmitters.computeIfAbsent(id, k -> new CopyOnWriteArraySet<>()).add(emitter);
         }
-        sendEvent(emitter, "snapshot_many", snapshots);
         return emitter;
     }
 
@@ -84,34 +140,17 @@ public class AuctionLiveSseService {
         payload.put(FIELD_CURRENT_PRICE, currentPrice);
         if (endTsEpochSec != null)
             payload.put(FIELD_END_TS, endTsEpochSec);
-        // 목록 전파
-        Set<SseEmitter> lset = perAuctionListEmitters.get(auctionId);
-        if (lset != null)
-            for (SseEmitter e : lset)
-                sendEvent(e, "price", payload);
-        // 상세 전파
-        Set<SseEmitter> dset = perAuctionDetailEmitters.get(auctionId);
-        if (dset != null)
-            for (SseEmitter e : dset)
-                sendEvent(e, "price", payload);
+        publish(auctionId, "price", false, payload);
     }
 
     /** 마감시간 변경 (상세 전용) */
     public void publishEndTsUpdate(long auctionId, long endTsEpochSec) {
-        Map<String, Object> payload = Map.of(FIELD_AUCTION_ID, auctionId, FIELD_END_TS, endTsEpochSec);
-        Set<SseEmitter> dset = perAuctionDetailEmitters.get(auctionId);
-        if (dset != null)
-            for (SseEmitter e : dset)
-                sendEvent(e, "end_ts", payload);
+        publish(auctionId, "end_ts", true, Map.of(FIELD_AUCTION_ID, auctionId, FIELD_END_TS, endTsEpochSec));
     }
 
     /** 종료 알림 (상세 전용) */
     public void publishEnded(long auctionId) {
-        Map<String, Object> payload = Map.of(FIELD_AUCTION_ID, auctionId, FIELD_IS_END, 1);
-        Set<SseEmitter> dset = perAuctionDetailEmitters.get(auctionId);
-        if (dset != null)
-            for (SseEmitter e : dset)
-                sendEvent(e, "end", payload);
+        publish(auctionId, "end", true, Map.of(FIELD_AUCTION_ID, auctionId, FIELD_IS_END, 1));
     }
 
     /** 입찰 수락 (상세 전용) - 닉네임/시간 문자열 */
@@ -123,23 +162,67 @@ public class AuctionLiveSseService {
 
         Map<String, Object> payload = Map.of(FIELD_AUCTION_ID, auctionId, "nickname", nickname, "amount", amount,
                 "time", timeIso);
+        publish(auctionId, "bid", true, payload);
+    }
+
+    /**
+     * 로컬 팬아웃 + 클러스터 브로드캐스트
+     * <P>
+     * 이 노드의 구독자에게 먼저 전송하고, 다른 노드 구독자를 위해 Redis 채널로 발행한다(자기 발행분은 수신 시 무시).
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM event SSE 이벤트 이름
+     * @PARAM detailOnly 상세 구독자 전용 여부
+     * @PARAM payload 이벤트 데이터
+     * @RETURN 없음
+     */
+    private void publish(long auctionId, String event, boolean detailOnly, Map<String, Object> payload) {
+        deliverLocal(auctionId, event, detailOnly, payload);
+        broadcaster.publish(auctionId, event, detailOnly, payload);
+    }
+
+    /**
+     * 이 노드의 구독자에게 전송 (원격 수신 경로 공용)
+     * <P>
+     * 페이로드는 한 번만 직렬화해 모든 구독자가 같은 프레임을 공유하고, 실제 전송은 송신 실행기가 수행하므로 호출 스레드(입찰
+     * afterCommit 등)는 느린 클라이언트에 묶이지 않는다. 가격 프레임은 경매 단위로 병합된다.
+     * </P>
+     */
+    private void deliverLocal(long auctionId, String event, boolean detailOnly, Map<String, Object> payload) {
+        Set<SseEmitter> lset = detailOnly ? null : perAuctionListEmitters.get(auctionId);
+        if (lset != null && listConflateMs > 0 && "price".equals(event)) {
+            // 목록 구독자는 최신가만 필요: 경매별 1건만 보관했다가 틱마다 전송(상세는 즉시 전송)
+            if (!lset.isEmpty())
+                pendingListPrices.put(auctionId, payload);
+            lset = null;
+        }
         Set<SseEmitter> dset = perAuctionDetailEmitters.get(auctionId);
+        if ((lset == null || lset.isEmpty()) && (dset == null || dset.isEmpty()))
+            return;
+        SseOutbox.Frame f = frame(event, "price".equals(event) ? "price:" + auctionId : null, payload);
+        if (f == null)
+            return;
+        if (lset != null)
+            for (SseEmitter e : lset)
+                enqueue(e, f);
         if (dset != null)
             for (SseEmitter e : dset)
-                sendEvent(e, "bid", payload);
+                enqueue(e, f);
     }
 
     /** Dead bid 여부 판단: 종료되었거나 current_price >= incoming */
     private boolean isDeadBid(long auctionId, String amount) {
         try {
             String key = "auction:" + auctionId;
-            Map<Object, Object> snap = redisTemplate.opsForHash().entries(key);
+            // 필요한 두 필드만 HMGET(전체 해시 HGETALL 대신)
+            List<Object> snap = redisTemplate.opsForHash().multiGet(key, List.of("is_end", "current_price"));
             if (snap == null || snap.isEmpty())
                 return false; // 캐시 없으면 판단 불가 → 전파
-            Object endFlag = snap.get("is_end");
+            Object endFlag = snap.get(0);
             if ("1".equals(endFlag))
                 return true; // 종료된 경매
-            Object curObj = snap.get("current_price");
+            Object curObj = snap.get(1);
             if (curObj == null)
                 return false; // 현재가 없으면 비교 불가 → 전파
             return isPriceStale(curObj.toString(), amount);
@@ -164,26 +247,70 @@ public class AuctionLiveSseService {
     public void publishBuyNow(long auctionId, String nickname, String amount, String timeIso) {
         Map<String, Object> payload = Map.of(FIELD_AUCTION_ID, auctionId, "nickname", nickname, "amount", amount,
                 "time", timeIso);
-        Set<SseEmitter> dset = perAuctionDetailEmitters.get(auctionId);
-        if (dset != null)
-            for (SseEmitter e : dset)
-                sendEvent(e, "buy_now", payload);
+        publish(auctionId, "buy_now", true, payload);
+    }
+
+    /**
+     * 목록 구독자 가격 병합 전송
+     * <P>
+     * 틱 동안 쌓인 경매별 최신 가격만 한 번 직렬화해 목록 구독자에게 보낸다. 입찰 경쟁 중 중간 가격 프레임을 생략해 송신량과
+     * 직렬화 비용을 줄이고, 최종 표시 가격은 동일하다.
+     * </P>
+     * <P>
+     * list-conflate-ms가 0 이하면 병합하지 않고 발행 시 바로 보내므로(deliverLocal) 이 틱은 할 일이 없다. 스케줄러는 0 이하
+     * 주기를 허용하지 않으므로 그때는 1초 주기로만 돈다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "#{${auction.sse.list-conflate-ms:250} > 0 ? ${auction.sse.list-conflate-ms:250} : 1000}")
+    public void flushListPrices() {
+        if (listConflateMs <= 0 || pendingListPrices.isEmpty())
+            return;
+        for (Long auctionId : pendingListPrices.keySet()) {
+            Map<String, Object> payload = pendingListPrices.remove(auctionId);
+            Set<SseEmitter> lset = perAuctionListEmitters.get(auctionId);
+            if (payload == null || lset == null || lset.isEmpty())
+                continue;
+            SseOutbox.Frame f = frame("price", "price:" + auctionId, payload);
+            if (f == null)
+                continue;
+            for (SseEmitter e : lset)
+                enqueue(e, f);
+        }
     }
 
     /** 주기적 하트비트 */
     @Scheduled(fixedRateString = "${auction.sse.heartbeat-ms:15000}")
     public void heartbeat() {
-        for (Set<SseEmitter> set : perAuctionListEmitters.values()) {
-            for (SseEmitter e : set)
-                sendEvent(e, "heartbeat", Map.of("ts", Instant.now().toEpochMilli()));
-        }
-        for (Set<SseEmitter> set : perAuctionDetailEmitters.values()) {
-            for (SseEmitter e : set)
-                sendEvent(e, "heartbeat", Map.of("ts", Instant.now().toEpochMilli()));
+        SseOutbox.Frame f = frame("heartbeat", "heartbeat", Map.of("ts", Instant.now().toEpochMilli()));
+        if (f != null) {
+            for (SseEmitter e : outboxes.keySet())
+                enqueue(e, f);
         }
         cleanupStale();
     }
 
+    /**
+     * 전송이 멈춘 연결 정리
+     * <P>
+     * 한 프레임 전송이 send.timeout-ms를 넘긴 emitter는 구독에서 빼고 새 프레임을 받지 않게 한다. 막힌 send는 컨테이너 쓰기
+     * 타임아웃에 풀리며, 그때 송신 스레드가 emitter를 닫는다. 클라이언트는 재연결 후 스냅샷으로 회복한다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${auction.sse.send.watchdog-ms:1000}")
+    public void evictStalledSenders() {
+        if (sendTimeoutMs <= 0 || outboxes.isEmpty())
+            return;
+        long now = System.nanoTime();
+        long limit = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        outboxes.forEach((emitter, outbox) -> {
+            if (outbox.isStalled(now, limit)) {
+                log.debug("[SSE] stalled send evicted pending={}", outbox.pending());
+                outbox.abortStalled();
+                removeEmitter(emitter, null);
+            }
+        });
+    }
+
     private void attachLifecycle(SseEmitter emitter, Long auctionIdOrNull) {
         emitter.onCompletion(() -> removeEmitter(emitter, auctionIdOrNull));
         emitter.onTimeout(() -> removeEmitter(emitter, auctionIdOrNull));
@@ -213,6 +340,9 @@ public class AuctionLiveSseService {
         }
 
         failureCounts.remove(emitter); // 실패 카운트도 정리
+        SseOutbox outbox = outboxes.remove(emitter);
+        if (outbox != null)
+            outbox.close();
     }
 
     private void removeFromSetMap(Map<Long, Set<SseEmitter>> map, Long key, SseEmitter emitter) {
@@ -227,29 +357,64 @@ public class AuctionLiveSseService {
         }
     }
 
-    private void sendEvent(SseEmitter emitter, String name, Object data) {
+    /** emitter 송신 큐 생성 + 첫 프레임 적재 */
+    private void openOutbox(SseEmitter emitter, SseOutbox.Frame first) {
+        SseOutbox outbox = new SseOutbox(emitter, outboxCapacity, sendExecutor, this::handleSendFailure);
+        outboxes.put(emitter, outbox);
+        if (first != null)
+            outbox.offer(first);
+    }
+
+    /** 프레임 적재: 큐 포화(느린 소비자)면 연결을 끊어 재연결 시 스냅샷으로 회복시킨다 */
+    private void enqueue(SseEmitter emitter, SseOutbox.Frame frame) {
+        SseOutbox outbox = outboxes.get(emitter);
+        if (outbox == null || outbox.offer(frame))
+            return;
+        log.debug("[SSE] slow consumer dropped event={} pending={}", frame.name(), outbox.pending());
+        removeEmitter(emitter, null);
         try {
-            SseEmitter.SseEventBuilder evt = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
-            emitter.send(evt);
-            failureCounts.remove(emitter); // 성공 시 실패 카운트 초기화
-        } catch (IOException | IllegalStateException e) {
-            String msg = e.getMessage();
-            boolean clientAbort = msg != null && (msg.contains("Broken pipe") || msg.contains("Connection reset")
-                    || msg.contains("호스트 시스템") || msg.contains("forcibly closed")
-                    || msg.contains("An existing connection was forcibly closed"));
-            if (clientAbort) {
-                log.debug("[SSE] client disconnected ({}): {}", name, msg);
-            } else {
-                log.warn("[SSE] send failed event={} msg={}", name, msg);
-            }
-            failureCounts.merge(emitter, 1, Integer::sum);
-            removeEmitter(emitter, null);
-            // 연결이 이미 끊겼을 수 있으므로 complete 시도 (에러 로그 빈도 완화)
-            try {
-                emitter.complete();
-            } catch (Exception ignore) {
-                // no-op
-            }
+            emitter.complete();
+        } catch (Exception ignore) {
+            // no-op
+        }
+    }
+
+    /**
+     * SSE 프레임 생성(1회 직렬화)
+     * 
+     * @PARAM name 이벤트 이름
+     * @PARAM coalesceKey 병합 키(null이면 병합하지 않음)
+     * @PARAM data 페이로드
+     * @RETURN 프레임(직렬화 실패 시 null)
+     */
+    private SseOutbox.Frame frame(String name, String coalesceKey, Object data) {
+        try {
+            String json = objectMapper.writeValueAsString(data);
+            return new SseOutbox.Frame(name, coalesceKey,
+                    SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON).build());
+        } catch (Exception e) {
+            log.warn("[SSE] serialize failed event={} msg={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void handleSendFailure(SseEmitter emitter, String name, Exception e) {
+        String msg = e.getMessage();
+        boolean clientAbort = msg != null && (msg.contains("Broken pipe") || msg.contains("Connection reset")
+                || msg.contains("호스트 시스템") || msg.contains("forcibly closed")
+                || msg.contains("An existing connection was forcibly closed"));
+        if (clientAbort) {
+            log.debug("[SSE] client disconnected ({}): {}", name, msg);
+        } else {
+            log.warn("[SSE] send failed event={} msg={}", name, msg);
+        }
+        failureCounts.merge(emitter, 1, Integer::sum);
+        removeEmitter(emitter, null);
+        // 연결이 이미 끊겼을 수 있으므로 complete 시도 (에러 로그 빈도 완화)
+        try {
+            emitter.complete();
+        } catch (Exception ignore) {
+            // no-op
         }
     }
 
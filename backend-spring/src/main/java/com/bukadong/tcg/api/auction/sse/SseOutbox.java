@@ -0,0 +1,170 @@
+package com.bukadong.tcg.api.auction.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * emitter별 제한 송신 큐
+ * <P>
+ * 발행 스레드는 프레임을 큐에 넣기만 하고, 실제 전송은 공용 송신 실행기에서 emitter당 한 번에 하나의 드레인 작업으로 수행한다
+ * (emitter 내 순서 보장). 같은 병합 키(예: price:{auctionId})의 대기 프레임은 최신 것으로 교체한다. 교체로 흡수되지 않는
+ * 프레임이 가득 찬 큐에 들어오면 느린 소비자로 보고 false를 반환한다(호출자가 연결 종료). 대기 중인 프레임은 모두 자기 키의
+ * 최신값이므로 버리지 않는다(다른 경매의 유일한 가격을 버리면 클라이언트가 낡은 최종가를 유지하게 됨).
+ * </P>
+ * <P>
+ * 전송 중인 프레임의 시작 시각을 기록해 두어 호출자가 한 프레임 전송이 너무 오래 걸리는 연결을 찾아 끊을 수 있게 한다. 막힌
+ * send 자체는 컨테이너 쓰기 타임아웃에 풀리며, 그 뒤 송신 스레드에서 실패 콜백으로 마무리한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+final class SseOutbox {
+
+    /**
+     * 직렬화가 끝난 SSE 프레임(모든 구독자가 같은 인스턴스를 공유)
+     *
+     * @PARAM name 이벤트 이름
+     * @PARAM coalesceKey 병합 키(null이면 병합/폐기 대상 아님)
+     * @PARAM parts 미리 렌더링된 SSE 본문
+     */
+    record Frame(String name, String coalesceKey, Set<ResponseBodyEmitter.DataWithMediaType> parts) {
+    }
+
+    /** 전송 실패 콜백 */
+    @FunctionalInterface
+    interface FailureHandler {
+        void onFailure(SseEmitter emitter, String eventName, Exception e);
+    }
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor executor;
+    private final FailureHandler failureHandler;
+    private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    // 진행 중인 send 시작 시각(nanoTime, 0=전송 중 아님)
+    private volatile long sendStartedNanos;
+    private volatile boolean stalled;
+
+    SseOutbox(SseEmitter emitter, int capacity, Executor executor, FailureHandler failureHandler) {
+        this.emitter = emitter;
+        this.capacity = Math.max(1, capacity);
+        this.executor = executor;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * 프레임 적재
+     *
+     * @PARAM frame 전송할 프레임
+     * @RETURN 적재(또는 병합) 성공 여부. false면 큐 포화(느린 소비자)
+     */
+    boolean offer(Frame frame) {
+        if (closed)
+            return true;
+        synchronized (queue) {
+            if (frame.coalesceKey() != null && replacePending(frame))
+                return true;
+            if (queue.size() >= capacity)
+                return false;
+            queue.addLast(frame);
+        }
+        schedule();
+        return true;
+    }
+
+    int pending() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 한 프레임 전송이 제한 시간을 넘겼는지
+     *
+     * @PARAM nowNanos 현재 nanoTime
+     * @PARAM timeoutNanos 제한 시간
+     * @RETURN 전송이 멈춘 것으로 보이면 true
+     */
+    boolean isStalled(long nowNanos, long timeoutNanos) {
+        long started = sendStartedNanos;
+        return started != 0 && nowNanos - started > timeoutNanos;
+    }
+
+    /**
+     * 전송이 멈춘 연결 정리
+     * <P>
+     * 더 이상 프레임을 받지 않는다. 진행 중인 send가 끝나면 송신 스레드에서 실패 콜백을 호출한다(emitter 잠금을 잡고 있는 send와
+     * 경합하지 않도록 호출 스레드에서 emitter를 직접 닫지 않음).
+     * </P>
+     */
+    void abortStalled() {
+        stalled = true;
+        close();
+    }
+
+    void close() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private boolean replacePending(Frame frame) {
+        for (Iterator<Frame> it = queue.iterator(); it.hasNext();) {
+            Frame f = it.next();
+            if (frame.coalesceKey().equals(f.coalesceKey())) {
+                // 대기 중인 낡은 프레임 제거 후 최신 프레임을 뒤에 추가(다른 이벤트와의 상대 순서 유지)
+                it.remove();
+                queue.addLast(frame);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Frame f;
+            synchronized (queue) {
+                f = queue.pollFirst();
+                if (f == null) {
+                    // 적재와 같은 락 안에서 해제하므로 이후 적재분은 새 드레인 작업을 예약한다
+                    scheduled.set(false);
+                    return;
+                }
+            }
+            if (closed)
+                return;
+            try {
+                sendStartedNanos = System.nanoTime();
+                emitter.send(f.parts());
+            } catch (Exception e) {
+                close();
+                failureHandler.onFailure(emitter, f.name(), e);
+                return;
+            } finally {
+                sendStartedNanos = 0;
+            }
+            if (stalled) {
+                failureHandler.onFailure(emitter, f.name(), new TimeoutException("SSE send stalled"));
+                return;
+            }
+        }
+    }
+}
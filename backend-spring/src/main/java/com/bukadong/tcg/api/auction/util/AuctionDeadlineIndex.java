@@ -1,21 +1,144 @@
 package com.bukadong.tcg.api.auction.util;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 @Component
 @RequiredArgsConstructor
 public class AuctionDeadlineIndex {
     private final StringRedisTemplate redis;
+    private final DefaultRedisScript<List> deadlineClaimScript;
+    private final DefaultRedisScript<Long> deadlineRequeueScript;
     public static final String DEADLINES_ZSET = "AUCTION:DEADLINES";
+    /** 점유된(처리 중) 마감 멤버, score=리스 만료 epochMillis */
+    public static final String PROCESSING_ZSET = "AUCTION:DEADLINES:PROCESSING";
+
+    /** 마감 변경 리스너(노드 로컬 타이머 재스케줄용) */
+    public interface Listener {
+        void onUpsert(long auctionId, long epochMillis);
+
+        void onRemove(long auctionId);
+    }
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
 
     public void upsert(long auctionId, long epochMillis) {
         redis.opsForZSet().add(DEADLINES_ZSET, String.valueOf(auctionId), epochMillis);
+        for (Listener l : listeners)
+            l.onUpsert(auctionId, epochMillis);
     }
 
     public void remove(long auctionId) {
         redis.opsForZSet().remove(DEADLINES_ZSET, String.valueOf(auctionId));
+        redis.opsForZSet().remove(PROCESSING_ZSET, String.valueOf(auctionId));
+        for (Listener l : listeners)
+            l.onRemove(auctionId);
+    }
+
+    /**
+     * 지정 시각까지 마감되는 경매 조회
+     *
+     * @PARAM maxMillis 상한 epochMillis(포함)
+     * @PARAM limit 최대 개수
+     * @RETURN 경매 ID → 마감 epochMillis(마감 순)
+     */
+    public Map<Long, Long> findUntil(long maxMillis, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> rows = redis.opsForZSet().rangeByScoreWithScores(DEADLINES_ZSET,
+                Double.NEGATIVE_INFINITY, maxMillis, 0, limit);
+        Map<Long, Long> out = new LinkedHashMap<>();
+        if (rows == null)
+            return out;
+        for (ZSetOperations.TypedTuple<String> t : rows) {
+            if (t.getValue() == null || t.getScore() == null)
+                continue;
+            try {
+                out.put(Long.parseLong(t.getValue()), t.getScore().longValue());
+            } catch (NumberFormatException ignore) {
+                // 잘못된 멤버는 건너뜀
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 마감 도래 경매 점유
+     * <P>
+     * 도래한 멤버를 처리 중 ZSET으로 원자 이동한다. 여러 노드가 동시에 호출해도 한 멤버는 한 워커만 받는다.
+     * </P>
+     *
+     * @PARAM nowMillis 현재 epochMillis
+     * @PARAM limit 최대 점유 개수
+     * @PARAM leaseMillis 리스 길이(이 시간 내 ack 없으면 재적재)
+     * @RETURN 점유한 경매 ID 목록(마감 시각 순)
+     */
+    public List<Long> claimDue(long nowMillis, int limit, long leaseMillis) {
+        List<?> raw = redis.execute(deadlineClaimScript, List.of(DEADLINES_ZSET, PROCESSING_ZSET),
+                String.valueOf(nowMillis), String.valueOf(limit), String.valueOf(leaseMillis));
+        List<Long> ids = new ArrayList<>();
+        if (raw == null)
+            return ids;
+        for (Object o : raw) {
+            try {
+                ids.add(Long.parseLong(String.valueOf(o)));
+            } catch (NumberFormatException ignore) {
+                // 잘못된 멤버는 건너뜀(리스 만료 후 재적재 → 재시도)
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 처리 완료 확인
+     *
+     * @PARAM auctionId 경매 ID
+     * @RETURN 없음
+     */
+    public void ack(long auctionId) {
+        redis.opsForZSet().remove(PROCESSING_ZSET, String.valueOf(auctionId));
+    }
+
+    /**
+     * 미도래 점유분 재예약
+     * <P>
+     * 마감 큐 시각이 DB 마감 시각보다 일렀던(다른 노드의 연장, 시계 차이) 멤버를 DB 마감 시각으로 마감 큐에 되돌리고 처리
+     * 중에서 뺀다. 마감 큐에 먼저 넣으므로 둘 사이에 장애가 나도 멤버가 사라지지 않는다. 리스너(노드 로컬 타이머)도 새 시각으로
+     * 다시 건다.
+     * </P>
+     *
+     * @PARAM auctionId 경매 ID
+     * @PARAM epochMillis DB 마감 epochMillis
+     * @RETURN 없음
+     */
+    public void reschedule(long auctionId, long epochMillis) {
+        upsert(auctionId, epochMillis);
+        ack(auctionId);
+    }
+
+    /**
+     * 만료 리스 재적재
+     *
+     * @PARAM nowMillis 현재 epochMillis
+     * @PARAM limit 최대 처리 개수
+     * @RETURN 재적재 건수
+     */
+    public long requeueExpired(long nowMillis, int limit) {
+        Long n = redis.execute(deadlineRequeueScript, List.of(PROCESSING_ZSET, DEADLINES_ZSET),
+                String.valueOf(nowMillis), String.valueOf(limit));
+        return n == null ? 0L : n;
     }
 }
@@ -0,0 +1,49 @@
+package com.bukadong.tcg.api.auction.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 경매 마감 큐 Lua 스크립트
+ * <P>
+ * AUCTION:DEADLINES ZSET(score=마감 epochMillis)을 마감 큐로 사용한다. 워커는 도래한 멤버를 처리 중 ZSET(score=리스
+ * 만료 epochMillis)으로 원자 이동해 점유하고, 처리 후 ack(ZREM)한다. 리스가 만료된 멤버는 마감 큐로 되돌린다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@UtilityClass
+public class AuctionDeadlineLuaScripts {
+
+    /**
+     * 도래 멤버 점유
+     *
+     * @PARAM KEYS[1] deadlinesZset
+     * @PARAM KEYS[2] processingZset
+     * @PARAM ARGV[1] nowEpochMillis
+     * @PARAM ARGV[2] limit
+     * @PARAM ARGV[3] leaseMillis
+     * @RETURN 점유한 auctionId 목록
+     */
+    public static final String CLAIM_DUE = "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) "
+            + "local exp = tonumber(ARGV[1]) + tonumber(ARGV[3]) " + "for _, id in ipairs(ids) do "
+            + "  redis.call('ZREM', KEYS[1], id) " + "  redis.call('ZADD', KEYS[2], exp, id) " + "end "
+            + "return ids ";
+
+    /**
+     * 만료 리스 재적재
+     * <P>
+     * 처리 중 워커가 죽어 ack되지 않은 멤버를 마감 큐에 즉시 도래 상태로 되돌린다. 그 사이 연장 등으로 마감 큐에 다시
+     * 등록됐다면(NX) 그 마감 시각을 유지한다.
+     * </P>
+     *
+     * @PARAM KEYS[1] processingZset
+     * @PARAM KEYS[2] deadlinesZset
+     * @PARAM ARGV[1] nowEpochMillis
+     * @PARAM ARGV[2] limit
+     * @RETURN 재적재 건수
+     */
+    public static final String REQUEUE_EXPIRED = "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) "
+            + "for _, id in ipairs(ids) do " + "  redis.call('ZREM', KEYS[1], id) "
+            + "  redis.call('ZADD', KEYS[2], 'NX', ARGV[1], id) " + "end " + "return #ids ";
+}
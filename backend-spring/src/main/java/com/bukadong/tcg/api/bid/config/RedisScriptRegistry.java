@@ -0,0 +1,155 @@
+package com.bukadong.tcg.api.bid.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis Lua 스크립트 레지스트리
+ * <P>
+ * 기동 시 등록된 스크립트를 SCRIPT LOAD로 미리 적재해 첫 요청부터 EVALSHA만 전송되도록 한다. 파이프라인 실행 시
+ * NOSCRIPT(서버 재시작/SCRIPT FLUSH)가 나오면 스크립트를 다시 적재한 뒤 처음 실패한 항목부터 끝까지 순서대로 재실행한다.
+ * 그 밖의 항목별 오류는 예외로 던지지 않고 해당 항목의 결과로 남긴다(다른 항목은 이미 Redis에 반영됨).
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisScriptRegistry.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<RedisScript<?>> scripts;
+
+    /**
+     * 스크립트 선적재
+     * <P>
+     * 실패해도 기동은 계속한다(EVALSHA 실패 시 EVAL 폴백).
+     * </P>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (RedisScript<?> script : scripts) {
+            try {
+                String sha = load(script);
+                if (!script.getSha1().equals(sha)) {
+                    log.warn("Script SHA mismatch. expected={}, loaded={}", script.getSha1(), sha);
+                }
+            } catch (Exception e) {
+                log.warn("Script preload failed sha={}: {}", script.getSha1(), e.toString());
+            }
+        }
+        log.info("Redis scripts preloaded. count={}", scripts.size());
+    }
+
+    /**
+     * 파이프라인 EVALSHA
+     * <P>
+     * 호출 목록을 한 번의 왕복으로 전송한다. 결과는 호출 순서와 같으며, 개별 실패 항목은 예외 객체로 남는다(파이프라인 전체를
+     * 실패시키지 않음).
+     * </P>
+     * <P>
+     * NOSCRIPT가 있으면 스크립트를 적재하고 처음 NOSCRIPT가 난 위치부터 끝까지 실행되지 않은 항목을 원래 순서대로 하나의
+     * 파이프라인으로 다시 실행한다. 항목마다 따로 EVAL하지 않으므로 같은 경매 입찰의 상대 순서가 유지된다. 스크립트는 캐시가
+     * 비면 이후 EVALSHA가 모두 실패하므로 보통 처음 실패 지점 이후 전부가 재실행 대상이다.
+     * </P>
+     *
+     * @PARAM script 실행할 스크립트
+     * @PARAM returnType 반환 타입
+     * @PARAM numKeys 키 개수
+     * @PARAM calls 호출별 keysAndArgs(키 다음 인자)
+     * @RETURN 호출별 결과(원시 값 또는 예외)
+     */
+    public List<Object> evalShaPipelined(RedisScript<?> script, ReturnType returnType, int numKeys,
+            List<byte[][]> calls) {
+        if (calls.isEmpty())
+            return List.of();
+        List<Object> results = pipelineEvalSha(script.getSha1(), returnType, numKeys, calls);
+        int first = firstNoScript(results);
+        if (first < 0)
+            return results;
+
+        // 스크립트 캐시 유실: 다시 적재하고 처음 실패 지점 이후 실행되지 않은 항목을 원래 순서대로 한 번에 재실행
+        log.warn("NOSCRIPT in pipeline, reloading and replaying from index {}. sha={}", first, script.getSha1());
+        loadQuietly(script);
+        List<Integer> indexes = new ArrayList<>();
+        List<byte[][]> replayCalls = new ArrayList<>();
+        for (int i = first; i < results.size(); i++) {
+            if (isNoScript(results.get(i))) {
+                indexes.add(i);
+                replayCalls.add(calls.get(i));
+            }
+        }
+        List<Object> replay = pipelineEvalSha(script.getSha1(), returnType, numKeys, replayCalls);
+        for (int k = 0; k < indexes.size(); k++) {
+            results.set(indexes.get(k), replay.get(k));
+        }
+        return results;
+    }
+
+    private List<Object> pipelineEvalSha(String sha, ReturnType returnType, int numKeys, List<byte[][]> calls) {
+        List<Object> results;
+        try {
+            results = new ArrayList<>(redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (byte[][] keysAndArgs : calls) {
+                    connection.scriptingCommands().evalSha(sha, returnType, numKeys, keysAndArgs);
+                }
+                return null;
+            }));
+        } catch (RedisPipelineException e) {
+            // 항목별 결과/예외가 담겨 있음: 실패 항목만 예외로 남기고 나머지 결과는 그대로 돌려준다
+            results = new ArrayList<>(e.getPipelineResult());
+        }
+        while (results.size() < calls.size()) {
+            results.add(new RedisPipelineException("Missing pipeline result"));
+        }
+        return results;
+    }
+
+    private static int firstNoScript(List<Object> results) {
+        for (int i = 0; i < results.size(); i++) {
+            if (isNoScript(results.get(i)))
+                return i;
+        }
+        return -1;
+    }
+
+    private String load(RedisScript<?> script) {
+        byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        return redisTemplate
+                .execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(body));
+    }
+
+    private void loadQuietly(RedisScript<?> script) {
+        try {
+            load(script);
+        } catch (Exception e) {
+            log.warn("Script reload failed sha={}: {}", script.getSha1(), e.toString());
+        }
+    }
+
+    private static boolean isNoScript(Object result) {
+        Throwable t = (result instanceof Throwable th) ? th : null;
+        while (t != null) {
+            if (t.getMessage() != null && t.getMessage().contains("NOSCRIPT"))
+                return true;
+            t = t.getCause();
+        }
+        return false;
+    }
+}
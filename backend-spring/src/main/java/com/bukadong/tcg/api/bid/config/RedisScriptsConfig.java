@@ -4,14 +4,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
+import com.bukadong.tcg.api.auction.util.AuctionDeadlineLuaScripts;
 import com.bukadong.tcg.api.bid.util.AuctionBidLuaScripts;
+import com.bukadong.tcg.api.popularity.util.PopularityLuaScripts;
+import com.bukadong.tcg.global.cluster.ClusterLuaScripts;
 
 import java.util.List;
 
 /**
  * Redis Lua 스크립트 설정
  * <P>
- * 애플리케이션 시작 시 스크립트를 빈으로 등록하여 재사용(EVAL 파싱/전송 오버헤드 감소).
+ * 애플리케이션 시작 시 스크립트를 빈으로 등록하여 재사용(EVAL 파싱/전송 오버헤드 감소). 등록된 스크립트는
+ * {@link RedisScriptRegistry}가 기동 시 SHA1로 선적재한다.
  * </P>
  * 
  * @PARAM 없음
@@ -35,4 +39,180 @@ public class RedisScriptsConfig {
         script.setResultType(List.class);
         return script;
     }
+
+    /**
+     * 활성 큐 해제 스크립트
+     * <P>
+     * 반환 형식: 1(해제) | 0(잔여 이벤트 있음)
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> bidQueueReleaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionBidLuaScripts.RELEASE_IF_IDLE);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 처리 중 리스트로 배치 이동 스크립트
+     * <P>
+     * 반환 형식: [event, ...]
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<List>
+     */
+    @Bean
+    public DefaultRedisScript<List> bidQueueTakeScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionBidLuaScripts.TAKE_TO_INFLIGHT);
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 처리 중 리스트 확인 스크립트
+     * <P>
+     * 반환 형식: 제거 건수
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> bidQueueAckScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionBidLuaScripts.ACK_INFLIGHT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 처리 중 이벤트 큐 복귀 스크립트
+     * <P>
+     * 반환 형식: 되돌린 건수
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> bidQueueRequeueScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionBidLuaScripts.REQUEUE_INFLIGHT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 스냅샷 로드(불완전 시 채움) 스크립트
+     * <P>
+     * 반환 형식: [is_end, start_ts, end_ts, current_price, bid_unit, owner_id, buy_now_flag, buy_now_price] | []
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<List>
+     */
+    @Bean
+    public DefaultRedisScript<List> auctionEnsureLoadedScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionBidLuaScripts.ENSURE_LOADED);
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 경매 마감 큐 점유 스크립트
+     * <P>
+     * 반환 형식: [auctionId, ...]
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<List>
+     */
+    @Bean
+    public DefaultRedisScript<List> deadlineClaimScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionDeadlineLuaScripts.CLAIM_DUE);
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 경매 마감 큐 만료 리스 재적재 스크립트
+     * <P>
+     * 반환 형식: 재적재 건수
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> deadlineRequeueScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(AuctionDeadlineLuaScripts.REQUEUE_EXPIRED);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 클러스터 작업 리스 획득/연장 스크립트
+     * <P>
+     * 반환 형식: 1(리더) | 0(다른 노드 소유)
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> clusterLeaseAcquireScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(ClusterLuaScripts.ACQUIRE_OR_RENEW);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 클러스터 작업 리스 해제 스크립트
+     * <P>
+     * 반환 형식: 1(해제) | 0(미소유)
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> clusterLeaseReleaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(ClusterLuaScripts.RELEASE);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 인기 60분 집계 만료 버킷 차감 스크립트
+     * <P>
+     * 반환 형식: 1(차감) | 0(이미 처리됨)
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> popularityRollOffScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(PopularityLuaScripts.ROLL_OFF);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 인기 60분 집계 재구성 스크립트
+     * <P>
+     * 반환 형식: 1
+     * </P>
+     * 
+     * @RETURN DefaultRedisScript<Long>
+     */
+    @Bean
+    public DefaultRedisScript<Long> popularityRebuildScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(PopularityLuaScripts.REBUILD);
+        script.setResultType(Long.class);
+        return script;
+    }
 }
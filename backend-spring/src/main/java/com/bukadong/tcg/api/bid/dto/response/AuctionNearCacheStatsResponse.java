@@ -0,0 +1,38 @@
+package com.bukadong.tcg.api.bid.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경매 스냅샷 니어캐시 통계 응답
+ * <P>
+ * 노드 로컬 캐시의 적중/미스/무효화 누적 카운터를 반환한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 캐시 통계
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionNearCacheStatsResponse {
+
+    @Schema(description = "현재 적재 건수", example = "812")
+    private int size;
+
+    @Schema(description = "누적 적중", example = "120345")
+    private long hits;
+
+    @Schema(description = "누적 미스", example = "2310")
+    private long misses;
+
+    @Schema(description = "누적 무효화(로컬+원격)", example = "410")
+    private long invalidations;
+
+    @Schema(description = "누적 용량/TTL 축출", example = "55")
+    private long evictions;
+}
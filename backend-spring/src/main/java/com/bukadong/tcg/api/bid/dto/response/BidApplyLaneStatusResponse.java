@@ -0,0 +1,44 @@
+package com.bukadong.tcg.api.bid.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입찰 반영 레인 상태 응답
+ * <P>
+ * 레인별 대기 건수/처리 건수/대기 지연을 반환한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 레인 상태 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BidApplyLaneStatusResponse {
+
+    @Schema(description = "레인 번호", example = "0")
+    private int lane;
+
+    @Schema(description = "대기 중인 이벤트 수", example = "3")
+    private int depth;
+
+    @Schema(description = "누적 제출 건수", example = "1200")
+    private long submitted;
+
+    @Schema(description = "누적 처리 건수", example = "1197")
+    private long processed;
+
+    @Schema(description = "처리 중 여부", example = "true")
+    private boolean busy;
+
+    @Schema(description = "최근 처리 이벤트의 큐 대기 시간(ms)", example = "12")
+    private long lastLagMs;
+
+    @Schema(description = "직전 조회 이후 최대 큐 대기 시간(ms)", example = "85")
+    private long maxLagMs;
+}
@@ -0,0 +1,55 @@
+package com.bukadong.tcg.api.bid.repository;
+
+import com.bukadong.tcg.api.bid.entity.AuctionBidStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 입찰 일괄 적재 JDBC 리포지토리
+ * <P>
+ * IDENTITY 전략에서는 JPA 배치 insert가 동작하지 않으므로 JDBC batchUpdate로 한 번에 적재한다. 현재 트랜잭션의 커넥션을
+ * 공유한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionBidBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO auction_bid "
+            + "(auction_id, member_id, amount, status, event_id, reason_code, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 입찰 행 일괄 삽입
+     * 
+     * @PARAM rows 삽입할 행
+     * @RETURN 없음
+     */
+    public void insertAll(List<BidRow> rows) {
+        if (rows.isEmpty())
+            return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, r) -> {
+            ps.setLong(1, r.auctionId());
+            ps.setLong(2, r.memberId());
+            ps.setBigDecimal(3, r.amount());
+            ps.setString(4, r.status().name());
+            ps.setString(5, r.eventId());
+            ps.setString(6, r.reasonCode());
+            ps.setObject(7, r.createdAt());
+        });
+    }
+
+    /** 일괄 삽입용 입찰 행 */
+    public record BidRow(long auctionId, long memberId, BigDecimal amount, AuctionBidStatus status, String eventId,
+            String reasonCode, LocalDateTime createdAt) {
+    }
+}
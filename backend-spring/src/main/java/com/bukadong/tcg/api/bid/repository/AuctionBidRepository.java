@@ -3,6 +3,8 @@ package com.bukadong.tcg.api.bid.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +24,10 @@ public interface AuctionBidRepository extends JpaRepository<AuctionBid, Long> {
     // eventId로 입찰 존재 여부 확인
     boolean existsByEventId(String eventId);
 
+    // 배치 멱등 검사: 이미 반영된 eventId 일괄 조회
+    @Query("select b.eventId from AuctionBid b where b.eventId in :eventIds")
+    java.util.List<String> findExistingEventIds(@Param("eventIds") java.util.Collection<String> eventIds);
+
     // 경매에 입찰이 1건이라도 있는지 확인
     boolean existsByAuction_Id(Long auctionId);
 
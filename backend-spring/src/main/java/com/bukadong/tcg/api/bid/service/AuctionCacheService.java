@@ -4,11 +4,19 @@ import com.bukadong.tcg.api.auction.entity.Auction;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -16,7 +24,8 @@ import java.util.HashMap;
 /**
  * 경매 캐시 서비스
  * <P>
- * DB → Redis 해시 초기화/보정. Lua 스크립트가 참조하는 필드를 채운다.
+ * DB → Redis 해시 초기화/보정. Lua 스크립트가 참조하는 필드를 채운다. 해시를 변경하는 메서드는 노드 로컬
+ * 니어캐시({@link AuctionSnapshotNearCache})를 클러스터 단위로 무효화한다.
  * </P>
  * 
  * @PARAM auctionId 경매 ID
@@ -29,6 +38,8 @@ public class AuctionCacheService {
 
     private final AuctionRepository auctionRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final AuctionSnapshotNearCache nearCache;
+    private final DefaultRedisScript<List> auctionEnsureLoadedScript;
     private static final String AUCTION_KEY_PREFIX = "auction:";
     // Redis Hash field constants
     private static final String F_IS_END = "is_end";
@@ -39,37 +50,56 @@ public class AuctionCacheService {
     private static final String F_OWNER_ID = "owner_id";
     private static final String F_BUY_NOW_FLAG = "buy_now_flag";
     private static final String F_BUY_NOW_PRICE = "buy_now_price";
+    /** HMGET/Lua 반환 순서와 동일한 필드 목록 */
+    private static final List<String> FIELDS = List.of(F_IS_END, F_START_TS, F_END_TS, F_CURRENT_PRICE, F_BID_UNIT,
+            F_OWNER_ID, F_BUY_NOW_FLAG, F_BUY_NOW_PRICE);
+    private static final List<String> REQUIRED_FIELDS = List.of(F_START_TS, F_END_TS, F_CURRENT_PRICE, F_BID_UNIT,
+            F_OWNER_ID, F_BUY_NOW_FLAG);
 
     /**
      * 경매 메타 캐시 보정/워밍
      * <P>
-     * 필수 필드가 없으면 DB 스냅샷으로 채운다.
+     * 필수 필드가 없으면 DB 스냅샷으로 채운다. 니어캐시 적중 시 왕복 없이 종료한다.
      * </P>
      * 
      * @PARAM auctionId 경매 ID
      * @RETURN 없음
      */
     public void ensureLoaded(Long auctionId) {
-        Auction a = auctionRepository.findById(auctionId).orElse(null);
-        if (a == null)
+        // 니어캐시 적중: 최근 완전성이 확인된 해시 → DB/Redis 왕복 없이 종료
+        if (nearCache.get(auctionId) != null)
             return;
+        loadSnapshot(auctionId);
+    }
 
-        String key = AUCTION_KEY_PREFIX + auctionId;
-        HashOperations<String, String, String> h = redisTemplate.opsForHash();
-
-        if (Boolean.FALSE.equals(redisTemplate.hasKey(key)) || h.entries(key).isEmpty()
-                || h.get(key, F_CURRENT_PRICE) == null || h.get(key, F_BID_UNIT) == null
-                || h.get(key, F_START_TS) == null || h.get(key, F_END_TS) == null || h.get(key, F_OWNER_ID) == null
-                || h.get(key, F_BUY_NOW_FLAG) == null) {
-            String buyNowFlag = a.isBuyNowFlag() ? "1" : "0";
-            String buyNowPrice = (a.getBuyNowPrice() != null) ? a.getBuyNowPrice().toPlainString() : "";
-            h.putAll(key, Map.of(F_IS_END, a.isEnd() ? "1" : "0", F_START_TS,
-                    String.valueOf(a.getStartDatetime().toEpochSecond(ZoneOffset.UTC)), F_END_TS,
-                    String.valueOf(a.getEndDatetime().toEpochSecond(ZoneOffset.UTC)), F_CURRENT_PRICE,
-                    a.getCurrentPrice().toPlainString(), F_BID_UNIT, a.getBidUnit().toBigDecimal().toPlainString(),
-                    F_OWNER_ID, String.valueOf(a.getMember() != null ? a.getMember().getId() : 0L), F_BUY_NOW_FLAG,
-                    buyNowFlag, F_BUY_NOW_PRICE, buyNowPrice));
+    /**
+     * 최신 스냅샷 로드(불완전 시 DB로 채움)
+     * <P>
+     * Lua 한 번으로 해시를 읽고 완전하면 그대로 반환한다(Redis 1회 왕복). 불완전할 때만 DB를 조회해 같은 스크립트로 채운 뒤
+     * 반환한다. 현재가가 필요한 경로(SSE 초기 스냅샷 등)용으로 니어캐시는 읽지 않고 채우기만 한다.
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @RETURN 필드→값 맵(값이 없는 필드는 제외, 경매가 없으면 빈 맵)
+     */
+    public Map<String, String> loadSnapshot(Long auctionId) {
+        List<String> key = List.of(AUCTION_KEY_PREFIX + auctionId);
+        Map<String, String> snap = toSnapshot(redisTemplate.execute(auctionEnsureLoadedScript, key));
+        if (!isComplete(snap)) {
+            Auction a = auctionRepository.findById(auctionId).orElse(null);
+            if (a == null)
+                return Map.of();
+            List<String> args = new ArrayList<>();
+            snapshotFields(a).forEach((f, v) -> {
+                args.add(f);
+                args.add(v);
+            });
+            snap = toSnapshot(redisTemplate.execute(auctionEnsureLoadedScript, key, args.toArray()));
         }
+        if (isComplete(snap)) {
+            nearCache.put(auctionId, snap);
+        }
+        return snap;
     }
 
     /**
@@ -82,41 +112,78 @@ public class AuctionCacheService {
         Auction a = auctionRepository.findById(auctionId).orElse(null);
         if (a == null)
             return;
-        String key = AUCTION_KEY_PREFIX + auctionId;
-        HashOperations<String, String, String> h = redisTemplate.opsForHash();
-        String buyNowFlag = a.isBuyNowFlag() ? "1" : "0";
-        String buyNowPrice = (a.getBuyNowPrice() != null) ? a.getBuyNowPrice().toPlainString() : "";
-        h.putAll(key,
-                Map.of(F_IS_END, a.isEnd() ? "1" : "0", F_START_TS,
-                        String.valueOf(a.getStartDatetime().toEpochSecond(ZoneOffset.UTC)), F_END_TS,
-                        String.valueOf(a.getEndDatetime().toEpochSecond(ZoneOffset.UTC)), F_CURRENT_PRICE,
-                        a.getCurrentPrice().toPlainString(), F_BID_UNIT, a.getBidUnit().toBigDecimal().toPlainString(),
-                        F_OWNER_ID, String.valueOf(a.getMember() != null ? a.getMember().getId() : 0L), F_BUY_NOW_FLAG,
-                        buyNowFlag, F_BUY_NOW_PRICE, buyNowPrice));
+        redisTemplate.opsForHash().putAll(AUCTION_KEY_PREFIX + auctionId, snapshotFields(a));
+        nearCache.invalidate(auctionId);
     }
 
     /**
      * 디버그용: Redis 해시 스냅샷을 반환한다(존재하지 않는 필드는 null).
      */
     public Map<String, String> getSnapshot(Long auctionId) {
-        String key = AUCTION_KEY_PREFIX + auctionId;
         HashOperations<String, String, String> h = redisTemplate.opsForHash();
+        List<String> values = h.multiGet(AUCTION_KEY_PREFIX + auctionId, FIELDS);
         Map<String, String> snap = new HashMap<>();
-        snap.put(F_IS_END, h.get(key, F_IS_END));
-        snap.put(F_START_TS, h.get(key, F_START_TS));
-        snap.put(F_END_TS, h.get(key, F_END_TS));
-        snap.put(F_CURRENT_PRICE, h.get(key, F_CURRENT_PRICE));
-        snap.put(F_BID_UNIT, h.get(key, F_BID_UNIT));
-        snap.put(F_OWNER_ID, h.get(key, F_OWNER_ID));
-        snap.put(F_BUY_NOW_FLAG, h.get(key, F_BUY_NOW_FLAG));
-        snap.put(F_BUY_NOW_PRICE, h.get(key, F_BUY_NOW_PRICE));
+        for (int i = 0; i < FIELDS.size(); i++) {
+            snap.put(FIELDS.get(i), values != null ? values.get(i) : null);
+        }
         return snap;
     }
 
+    /**
+     * 다건 스냅샷 일괄 조회
+     * <P>
+     * 경매별 HMGET을 파이프라인으로 묶어 한 번의 왕복으로 조회한다. 캐시를 채우지는 않으므로 불완전한 항목은
+     * {@link #isComplete(Map)}로 걸러 {@link #loadSnapshot(Long)}으로 보정한다.
+     * </P>
+     * 
+     * @PARAM auctionIds 경매 ID 목록
+     * @RETURN 경매 ID → 필드 맵(입력 순서 유지, 값이 없는 필드 제외, 해시가 없으면 항목 제외)
+     */
+    public Map<Long, Map<String, String>> getSnapshots(Collection<Long> auctionIds) {
+        Map<Long, Map<String, String>> out = new LinkedHashMap<>();
+        if (auctionIds == null || auctionIds.isEmpty())
+            return out;
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(auctionIds));
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                HashOperations<String, String, String> ph = (HashOperations<String, String, String>) operations
+                        .opsForHash();
+                for (Long id : ids) {
+                    ph.multiGet(AUCTION_KEY_PREFIX + id, FIELDS);
+                }
+                return null;
+            }
+        });
+        for (int i = 0; i < ids.size() && i < results.size(); i++) {
+            Map<String, String> snap = toSnapshot(results.get(i) instanceof List<?> l ? l : null);
+            if (!snap.isEmpty()) {
+                out.put(ids.get(i), snap);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 스냅샷 완전성 검사
+     * <P>
+     * 입찰 Lua가 참조하는 필수 필드가 모두 있는지 확인한다.
+     * </P>
+     * 
+     * @PARAM snapshot 필드 맵(null 허용)
+     * @RETURN 완전하면 true
+     */
+    public static boolean isComplete(Map<String, String> snapshot) {
+        return snapshot != null && REQUIRED_FIELDS.stream().allMatch(snapshot::containsKey);
+    }
+
     /**
      * 현재가 보정
      * <P>
-     * 새 값이 더 크면 갱신. 파싱 실패 시 보수적으로 갱신하지 않는다(다운데이트 방지).
+     * 새 값이 더 크면 갱신. 파싱 실패 시 보수적으로 갱신하지 않는다(다운데이트 방지). 현재가 변경은 해시 완전성에 영향이 없으므로
+     * 니어캐시는 건드리지 않는다(입찰마다 무효화/잠금 없음). 현재가 필드가 없던 경우는 해시가 불완전했던
+     * 것이므로(또는 키가 새로 생김) 무효화한다.
      * </P>
      * 
      * @PARAM auctionId 경매 ID
@@ -129,6 +196,7 @@ public class AuctionCacheService {
         try {
             if (cur == null) {
                 redisTemplate.opsForHash().put(key, F_CURRENT_PRICE, currentPriceStr);
+                nearCache.invalidate(auctionId);
                 return;
             }
             BigDecimal newV = new BigDecimal(currentPriceStr);
@@ -155,6 +223,7 @@ public class AuctionCacheService {
         String key = AUCTION_KEY_PREFIX + auctionId;
         try {
             redisTemplate.opsForHash().put(key, F_CURRENT_PRICE, a.getCurrentPrice().toPlainString());
+            nearCache.invalidate(auctionId);
         } catch (Exception ignore) {
             // 보수적으로 무시
         }
@@ -172,6 +241,7 @@ public class AuctionCacheService {
     public void markEnded(Long auctionId) {
         String key = AUCTION_KEY_PREFIX + auctionId;
         redisTemplate.opsForHash().put(key, F_IS_END, "1");
+        nearCache.invalidate(auctionId);
     }
 
     /**
@@ -187,6 +257,7 @@ public class AuctionCacheService {
     public void reopenUntil(Long auctionId, long newEndTsEpoch) {
         String key = AUCTION_KEY_PREFIX + auctionId;
         redisTemplate.opsForHash().putAll(key, Map.of(F_END_TS, String.valueOf(newEndTsEpoch), F_IS_END, "0"));
+        nearCache.invalidate(auctionId);
     }
 
     /**
@@ -204,5 +275,32 @@ public class AuctionCacheService {
         String key = AUCTION_KEY_PREFIX + auctionId;
         redisTemplate.opsForHash().putAll(key,
                 Map.of(F_IS_END, isEnd ? "1" : "0", F_END_TS, String.valueOf(endTsEpoch)));
+        nearCache.invalidate(auctionId);
+    }
+
+    /** DB 엔티티 → 해시 필드 맵 */
+    private static Map<String, String> snapshotFields(Auction a) {
+        String buyNowFlag = a.isBuyNowFlag() ? "1" : "0";
+        String buyNowPrice = (a.getBuyNowPrice() != null) ? a.getBuyNowPrice().toPlainString() : "";
+        return Map.of(F_IS_END, a.isEnd() ? "1" : "0", F_START_TS,
+                String.valueOf(a.getStartDatetime().toEpochSecond(ZoneOffset.UTC)), F_END_TS,
+                String.valueOf(a.getEndDatetime().toEpochSecond(ZoneOffset.UTC)), F_CURRENT_PRICE,
+                a.getCurrentPrice().toPlainString(), F_BID_UNIT, a.getBidUnit().toBigDecimal().toPlainString(),
+                F_OWNER_ID, String.valueOf(a.getMember() != null ? a.getMember().getId() : 0L), F_BUY_NOW_FLAG,
+                buyNowFlag, F_BUY_NOW_PRICE, buyNowPrice);
+    }
+
+    /** FIELDS 순서의 값 목록 → 필드 맵(null 값 제외) */
+    private static Map<String, String> toSnapshot(List<?> values) {
+        Map<String, String> snap = new HashMap<>();
+        if (values == null)
+            return snap;
+        for (int i = 0; i < FIELDS.size() && i < values.size(); i++) {
+            Object v = values.get(i);
+            if (v != null) {
+                snap.put(FIELDS.get(i), v.toString());
+            }
+        }
+        return snap;
     }
 }
@@ -0,0 +1,176 @@
+package com.bukadong.tcg.api.bid.service;
+
+import com.bukadong.tcg.api.bid.dto.response.AuctionNearCacheStatsResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 해시 스냅샷 니어캐시(노드 로컬)
+ * <P>
+ * auction:{id} 해시가 Lua 스크립트가 요구하는 필드를 모두 갖췄음을 확인한 스냅샷을 auctionId 기준으로 보관한다. 용량 초과
+ * 시 가장 오래 사용하지 않은 항목부터, TTL 경과 시 조회 시점에 축출한다. 해시를 변경하는 경로는 Redis Pub/Sub로 무효화를
+ * 브로드캐스트하여 모든 노드의 항목을 제거한다. 현재가는 Lua가 직접 갱신하므로 이 캐시는 적재 여부 판정 용도로만 쓴다.
+ * </P>
+ * <P>
+ * 입찰 반영에 따른 현재가 변경은 완전성에 영향이 없으므로 손대지 않는다(스냅샷의 현재가는 적재 시점 값이며 읽지 않는다). 입찰
+ * Lua가 MISSING을 돌려주면 해시가 사라진 것이므로 해당 노드의 항목을 버려 다음 요청에서 다시 적재하게 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionSnapshotNearCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionSnapshotNearCache.class);
+    public static final String INVALIDATE_CHANNEL = "cache:auction:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${auction.cache.near.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auction.cache.near.max-size:10000}")
+    private int maxSize;
+
+    @Value("${auction.cache.near.ttl-ms:30000}")
+    private long ttlMs;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Map<Long, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                evictLocal(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("Bad auction cache invalidation message: {}", e.toString());
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 스냅샷 조회
+     * 
+     * @PARAM auctionId 경매 ID
+     * @RETURN 스냅샷(없거나 만료면 null)
+     */
+    public Map<String, String> get(Long auctionId) {
+        if (!enabled)
+            return null;
+        Entry e;
+        synchronized (this) {
+            e = entries.get(auctionId);
+            if (e != null && e.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(auctionId);
+                evictions.incrementAndGet();
+                e = null;
+            }
+        }
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return e.snapshot();
+    }
+
+    /**
+     * 스냅샷 적재
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM snapshot 완전한 해시 스냅샷
+     * @RETURN 없음
+     */
+    public void put(Long auctionId, Map<String, String> snapshot) {
+        if (!enabled)
+            return;
+        Entry e = new Entry(Map.copyOf(snapshot), System.currentTimeMillis() + ttlMs);
+        synchronized (this) {
+            entries.put(auctionId, e);
+        }
+    }
+
+    /**
+     * 로컬 항목 제거(발행 없음)
+     * <P>
+     * 입찰 Lua가 MISSING을 돌려준 경우처럼 이 노드의 항목이 틀렸다는 것을 알았을 때 사용한다. 다른 노드는 자기 입찰에서 같은
+     * 결과를 받아 각자 버린다.
+     * </P>
+     *
+     * @PARAM auctionId 경매 ID
+     * @RETURN 없음
+     */
+    public void drop(Long auctionId) {
+        if (enabled)
+            evictLocal(auctionId);
+    }
+
+    /**
+     * 클러스터 무효화
+     * <P>
+     * 로컬 항목을 즉시 제거하고 다른 노드에 브로드캐스트한다. 발행 실패는 TTL로 회복되므로 로그만 남긴다.
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @RETURN 없음
+     */
+    public void invalidate(Long auctionId) {
+        if (!enabled)
+            return;
+        evictLocal(auctionId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(auctionId));
+        } catch (Exception e) {
+            log.warn("Auction cache invalidation publish failed auctionId={}: {}", auctionId, e.toString());
+        }
+    }
+
+    public AuctionNearCacheStatsResponse stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return AuctionNearCacheStatsResponse.builder().size(size).hits(hits.get()).misses(misses.get())
+                .invalidations(invalidations.get()).evictions(evictions.get()).build();
+    }
+
+    private void evictLocal(Long auctionId) {
+        synchronized (this) {
+            entries.remove(auctionId);
+        }
+        invalidations.incrementAndGet();
+    }
+
+    private record Entry(Map<String, String> snapshot, long expiresAt) {
+    }
+}
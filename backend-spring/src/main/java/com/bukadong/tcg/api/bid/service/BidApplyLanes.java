@@ -0,0 +1,240 @@
+package com.bukadong.tcg.api.bid.service;
+
+import com.bukadong.tcg.api.bid.dto.response.BidApplyLaneStatusResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 단위 순서 보장 입찰 반영 레인
+ * <P>
+ * auctionId를 해시해 N개 레인 중 하나에 배정한다. 레인마다 단일 스레드가 FIFO로 처리하므로 같은 경매의 이벤트 순서는
+ * 유지되고, 서로 다른 경매는 병렬로 커밋된다(핫 경매의 행락이 다른 경매를 막지 않음). 레인 큐가 가득 차면 제출 스레드를
+ * 대기시켜 역압을 건다. lanes=0이면 비활성(호출 스레드에서 즉시 처리).
+ * </P>
+ * <P>
+ * 제출은 반영 완료 시점의 Future를 돌려주므로 호출자는 반영이 끝날 때까지 큐 리스를 유지할 수 있다. 종료 시 대기 시간 안에
+ * 처리하지 못한 작업은 실행하지 않고 제출 시 받은 복귀 콜백(큐로 되돌리기)을 최신 작업부터 호출한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+public class BidApplyLanes {
+
+    private static final Logger log = LoggerFactory.getLogger(BidApplyLanes.class);
+
+    @Value("${auction.bid.apply.lanes:0}")
+    private int laneCount;
+
+    @Value("${auction.bid.apply.lane-capacity:1000}")
+    private int laneCapacity;
+
+    @Value("${auction.bid.apply.shutdown-wait-ms:5000}")
+    private long shutdownWaitMs;
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(i, Math.max(1, laneCapacity));
+            lanes.add(lane);
+            lane.thread.start();
+        }
+        if (laneCount > 0) {
+            log.info("Bid apply lanes started. lanes={}, capacity={}", laneCount, laneCapacity);
+        }
+    }
+
+    /**
+     * 레인 종료
+     * <P>
+     * 대기 시간 동안 남은 작업을 처리한 뒤 레인을 멈춘다. 실행 중인 작업은 끝까지 수행하고(인터럽트하지 않음), 아직 시작하지 않은
+     * 작업은 복귀 콜백으로 큐에 되돌린다. Redis 연결이 닫히기 전에 호출되도록 소비자 쪽 종료 훅에서도 호출하며, 두 번째 호출은
+     * 무시된다.
+     * </P>
+     *
+     * @PARAM 없음
+     * @RETURN 없음
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!stopped.compareAndSet(false, true))
+            return;
+        long deadline = System.currentTimeMillis() + shutdownWaitMs;
+        for (Lane lane : lanes) {
+            while ((!lane.queue.isEmpty() || lane.busy) && System.currentTimeMillis() < deadline) {
+                sleepQuietly(20);
+            }
+        }
+        for (Lane lane : lanes) {
+            lane.stopping = true;
+        }
+        int abandoned = 0;
+        for (Lane lane : lanes) {
+            List<LaneTask> rest = new ArrayList<>();
+            lane.queue.drainTo(rest);
+            // 같은 큐의 이벤트가 원래 순서로 큐 앞에 놓이도록 최신 작업부터 되돌림
+            Collections.reverse(rest);
+            for (LaneTask t : rest) {
+                abandon(t);
+            }
+            abandoned += rest.size();
+        }
+        if (abandoned > 0) {
+            log.warn("Bid apply lanes stopped with {} pending tasks returned to their queues", abandoned);
+        }
+    }
+
+    public boolean isEnabled() {
+        return !lanes.isEmpty();
+    }
+
+    /**
+     * 작업 제출
+     * <P>
+     * 같은 auctionId는 항상 같은 레인으로 간다. 비활성 상태면 호출 스레드에서 바로 실행한다. 종료 중이면 실행하지 않고
+     * onAbandon을 호출한다.
+     * </P>
+     *
+     * @PARAM auctionId 경매 ID(null이면 0번 레인)
+     * @PARAM task 반영 작업
+     * @PARAM onAbandon 실행하지 못한 작업의 복귀 콜백(큐로 되돌리기)
+     * @RETURN 작업이 끝나면 완료되는 Future(복귀된 경우 CancellationException으로 완료)
+     */
+    public CompletableFuture<Void> submit(Long auctionId, Runnable task, Runnable onAbandon) {
+        if (lanes.isEmpty()) {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }
+        LaneTask t = new LaneTask(task, onAbandon, System.nanoTime(), new CompletableFuture<>());
+        if (stopped.get()) {
+            abandon(t);
+            return t.done();
+        }
+        Lane lane = lanes.get(laneOf(auctionId));
+        try {
+            lane.queue.put(t);
+            lane.submitted.incrementAndGet();
+            // 종료와 경합해 정리 이후에 들어간 작업은 실행될 스레드가 없으므로 즉시 되돌림
+            if (stopped.get() && lane.queue.remove(t)) {
+                abandon(t);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            abandon(t);
+        }
+        return t.done();
+    }
+
+    /**
+     * 레인별 상태 스냅샷
+     * <P>
+     * maxLagMs는 조회 시 초기화된다.
+     * </P>
+     *
+     * @RETURN 레인 상태 목록
+     */
+    public List<BidApplyLaneStatusResponse> snapshot() {
+        List<BidApplyLaneStatusResponse> out = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes) {
+            out.add(BidApplyLaneStatusResponse.builder().lane(lane.index).depth(lane.queue.size())
+                    .submitted(lane.submitted.get()).processed(lane.processed.get()).busy(lane.busy)
+                    .lastLagMs(lane.lastLagMs.get()).maxLagMs(lane.maxLagMs.getAndSet(0)).build());
+        }
+        return out;
+    }
+
+    private int laneOf(Long auctionId) {
+        if (auctionId == null)
+            return 0;
+        return Math.floorMod(Long.hashCode(auctionId), lanes.size());
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void abandon(LaneTask t) {
+        try {
+            if (t.onAbandon() != null) {
+                t.onAbandon().run();
+            }
+        } catch (Exception e) {
+            log.error("Bid apply lane abandon callback error: {}", e.toString());
+        } finally {
+            t.done().completeExceptionally(new CancellationException("bid apply lanes stopped"));
+        }
+    }
+
+    private record LaneTask(Runnable task, Runnable onAbandon, long enqueuedNanos, CompletableFuture<Void> done) {
+    }
+
+    private static final class Lane {
+        final int index;
+        final BlockingQueue<LaneTask> queue;
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong lastLagMs = new AtomicLong();
+        final AtomicLong maxLagMs = new AtomicLong();
+        final Thread thread;
+        volatile boolean busy;
+        volatile boolean stopping;
+
+        Lane(int index, int capacity) {
+            this.index = index;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+            this.thread = new Thread(this::run, "bid-apply-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void run() {
+            while (!stopping) {
+                LaneTask t;
+                try {
+                    t = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (t == null)
+                    continue;
+                long lag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t.enqueuedNanos());
+                lastLagMs.set(lag);
+                maxLagMs.accumulateAndGet(lag, Math::max);
+                busy = true;
+                try {
+                    t.task().run();
+                } catch (Exception e) {
+                    // 작업 내부에서 재시도/사망 큐 라우팅을 하므로 여기까지 오는 예외는 로그만 남김
+                    log.error("Bid apply lane {} task error: {}", index, e.toString());
+                } finally {
+                    busy = false;
+                    processed.incrementAndGet();
+                    t.done().complete(null);
+                }
+            }
+        }
+    }
+}
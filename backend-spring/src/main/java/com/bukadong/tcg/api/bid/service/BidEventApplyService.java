@@ -7,12 +7,15 @@ import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
 import com.bukadong.tcg.api.bid.entity.AuctionBid;
 import com.bukadong.tcg.api.bid.entity.AuctionBidReason;
 import com.bukadong.tcg.api.bid.entity.AuctionBidStatus;
+import com.bukadong.tcg.api.bid.repository.AuctionBidBatchRepository;
+import com.bukadong.tcg.api.bid.repository.AuctionBidBatchRepository.BidRow;
 import com.bukadong.tcg.api.bid.repository.AuctionBidRepository;
 import com.bukadong.tcg.api.notification.service.NotificationCommandService;
 import com.bukadong.tcg.api.bid.repository.AuctionLockRepository;
+import com.bukadong.tcg.api.bid.service.dto.BidEvent;
+import com.bukadong.tcg.api.bid.util.BidEventCodec;
 import com.bukadong.tcg.api.member.entity.Member;
 import com.bukadong.tcg.api.member.repository.MemberRepository;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -35,6 +38,12 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 입찰 이벤트 DB 반영 서비스
@@ -55,6 +64,7 @@ public class BidEventApplyService {
 
     private final AuctionLockRepository auctionLockRepository;
     private final AuctionBidRepository auctionBidRepository;
+    private final AuctionBidBatchRepository auctionBidBatchRepository;
     private final AuctionCacheService auctionCacheService;
     private final ObjectMapper om;
     private final AuctionLiveSseService auctionLiveSseService;
@@ -84,33 +94,26 @@ public class BidEventApplyService {
      * 행락으로 원자성 보장. 일시 실패는 RetryableException으로 전파.
      * </P>
      * 
-     * @PARAM json 이벤트 JSON
+     * @PARAM json 이벤트 원문(v1 고정 필드 또는 레거시 JSON)
      * @RETURN 없음
      */
     @Transactional
     public void applyEvent(String json) {
-        JsonNode n;
+        BidEvent ev;
         try {
-            n = om.readTree(json);
+            ev = BidEventCodec.decode(json, om);
         } catch (Exception e) {
-            // 포맷 오류는 영구 실패 → 버림(사망 큐로 보낼 필요 없음)
-            throw new NonRetryableException("BAD_JSON", e);
-        }
-
-        // 필수 필드 검증
-        if (!n.hasNonNull("auctionId") || !n.hasNonNull("memberId") || !n.hasNonNull("amount")
-                || !n.hasNonNull("eventId")) {
-            throw new NonRetryableException("BAD_PAYLOAD_FIELDS");
+            // 포맷 오류/필수 필드 누락은 영구 실패
+            throw new NonRetryableException("BAD_PAYLOAD", e);
         }
 
-        Long auctionId = n.get("auctionId").asLong();
-        Long memberId = n.get("memberId").asLong();
-        String bidStr = n.get("amount").asText();
-        String eventId = n.get("eventId").asText();
-        String intended = n.hasNonNull("intended") ? n.get("intended").asText() : "ACCEPT";
-        String reasonIn = n.hasNonNull("reason") ? n.get("reason").asText() : null;
-        boolean buyNowEvent = (n.hasNonNull("buyNow") && n.get("buyNow").asBoolean())
-                || ("BUY_NOW".equalsIgnoreCase(reasonIn));
+        Long auctionId = ev.auctionId();
+        Long memberId = ev.memberId();
+        String bidStr = ev.amount();
+        String eventId = ev.eventId();
+        String intended = ev.intended();
+        String reasonIn = ev.reason();
+        boolean buyNowEvent = ev.buyNow();
 
         // 멱등 처리: 동일 eventId 재실행 방지
         if (auctionBidRepository.existsByEventId(eventId)) {
@@ -169,6 +172,7 @@ public class BidEventApplyService {
             AuctionBid ab = AuctionBid.builder().auction(auction).member(em.getReference(Member.class, memberId))
                     .amount(finalBid).status(AuctionBidStatus.VALID).eventId(eventId).build();
             ab = auctionBidRepository.save(ab);
+            auction.increaseBidCount(1);
 
             // 이전 최고 입찰자/금액 캡처(일반 입찰일 때만 사용)
             Long prevTopBidderId = null;
@@ -384,6 +388,208 @@ public class BidEventApplyService {
         }
     }
 
+    /**
+     * 같은 경매의 이벤트 묶음 처리 (트랜잭션)
+     * <P>
+     * 스나이핑 버스트 대응 경로. 행락 1회, eventId 멱등 검사 1회(IN), 입찰 행 JDBC 일괄 삽입, 현재가/연장 1회 갱신으로
+     * 처리한다. 상위 입찰(OUTBID) 대상은 배치 시작 시점의 최고 입찰과 배치 내 누적 최고로 도출한다. 커밋 후 부작용(SSE/알림)은
+     * 기존과 같이 이벤트 단위로 순서대로 수행한다.
+     * </P>
+     * <P>
+     * 즉시구매/포맷 오류/경매 부재/가격 역전 등 배치에 맞지 않는 묶음은 아무것도 기록하지 않고 false를 반환하며, 호출자는
+     * 이벤트 단위 {@link #applyEvent(String)}로 처리한다.
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM jsons 같은 경매 큐에서 순서대로 꺼낸 이벤트 JSON
+     * @RETURN 배치 처리 여부
+     */
+    @Transactional
+    public boolean applyBatch(Long auctionId, List<String> jsons) {
+        List<ParsedBid> parsed = new ArrayList<>(jsons.size());
+        for (String json : jsons) {
+            ParsedBid p = parse(json);
+            if (p == null || p.buyNow() || !p.auctionId().equals(auctionId))
+                return false;
+            parsed.add(p);
+        }
+
+        // 멱등 처리: 이미 반영된 eventId + 배치 내 중복 제거
+        Set<String> seen = new HashSet<>(
+                auctionBidRepository.findExistingEventIds(parsed.stream().map(ParsedBid::eventId).toList()));
+        List<ParsedBid> fresh = new ArrayList<>(parsed.size());
+        for (ParsedBid p : parsed) {
+            if (!seen.add(p.eventId())) {
+                log.warn("Skip duplicate bid event: eventId={}, auctionId={}, memberId={}, amount={}", p.eventId(),
+                        auctionId, p.memberId(), p.amount());
+                continue;
+            }
+            fresh.add(p);
+        }
+        if (fresh.isEmpty())
+            return true;
+
+        // 1) 행락 1회
+        Auction auction = auctionLockRepository.findByIdForUpdate(auctionId).orElse(null);
+        if (auction == null)
+            return false;
+
+        // 2) 검증: ACCEPT 금액은 현재가 이상이며 비감소여야 한다(단건 경로의 changeCurrentPrice 규칙과 동일)
+        BigDecimal price = auction.getCurrentPrice();
+        for (ParsedBid p : fresh) {
+            if (p.accept()) {
+                if (price.compareTo(p.amount()) > 0)
+                    return false;
+                price = p.amount();
+            }
+        }
+
+        // 3) 배치 시작 시점의 최고 입찰자 → 배치 내 누적으로 OUTBID 대상 도출
+        Long topBidderId = null;
+        BigDecimal topAmount = null;
+        var prevOpt = auctionBidRepository.findTopByAuctionIdOrderByAmountDescCreatedAtDesc(auctionId);
+        if (prevOpt.isPresent() && prevOpt.get().getMember() != null) {
+            topBidderId = prevOpt.get().getMember().getId();
+            topAmount = prevOpt.get().getAmount();
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
+        List<BidRow> rows = new ArrayList<>(fresh.size());
+        List<Long> outbidTargets = new ArrayList<>(fresh.size());
+        BigDecimal lastAccepted = null;
+        int acceptedCount = 0;
+        Set<Long> acceptedMemberIds = new HashSet<>();
+        for (ParsedBid p : fresh) {
+            if (!p.accept()) {
+                rows.add(new BidRow(auctionId, p.memberId(), p.amount(), AuctionBidStatus.REJECTED, p.eventId(),
+                        mapRejectReason(p.reason()), createdAt));
+                outbidTargets.add(null);
+                continue;
+            }
+            rows.add(new BidRow(auctionId, p.memberId(), p.amount(), AuctionBidStatus.VALID, p.eventId(), null,
+                    createdAt));
+            Long target = null;
+            if (topBidderId != null && !topBidderId.equals(p.memberId()) && topAmount != null
+                    && p.amount().compareTo(topAmount) > 0) {
+                target = topBidderId;
+            }
+            outbidTargets.add(target);
+            if (topAmount == null || p.amount().compareTo(topAmount) >= 0) {
+                topBidderId = p.memberId();
+                topAmount = p.amount();
+            }
+            lastAccepted = p.amount();
+            acceptedCount++;
+            acceptedMemberIds.add(p.memberId());
+        }
+
+        // 4) JDBC 일괄 삽입 + 현재가/입찰수 1회 갱신
+        auctionBidBatchRepository.insertAll(rows);
+        if (lastAccepted != null) {
+            auction.changeCurrentPrice(lastAccepted);
+            auction.increaseBidCount(acceptedCount);
+        }
+
+        // 5) 연장 1회 판정
+        final Instant endAtBefore = auction.getEndDatetime() != null
+                ? auction.getEndDatetime().atOffset(ZoneOffset.UTC).toInstant()
+                : null;
+        Instant extendedTo = null;
+        if (lastAccepted != null && extensionEnabled && auction.isExtensionFlag() && !auction.isEnd()
+                && endAtBefore != null) {
+            long remainingSec = ChronoUnit.SECONDS.between(Instant.now(), endAtBefore);
+            if (remainingSec <= extensionThresholdSeconds) {
+                extendedTo = endAtBefore.plusSeconds(extendBySeconds);
+                auction.setEndDatetime(extendedTo.atOffset(ZoneOffset.UTC).toLocalDateTime());
+            }
+        }
+
+        // 6) 닉네임 일괄 조회 + 알림은 트랜잭션 내 이벤트 단위 생성(푸시는 AFTER_COMMIT 리스너)
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Member m : memberRepository.findAllById(acceptedMemberIds)) {
+            nicknames.put(m.getId(), m.getNickname());
+        }
+        for (ParsedBid p : fresh) {
+            if (!p.accept())
+                continue;
+            try {
+                notificationCommandService.notifyBidAccepted(p.memberId(), auctionId, p.amount());
+            } catch (Exception notifyEx) {
+                log.warn("notifyBidAccepted (in-tx) failed auctionId={}, eventId={}", auctionId, p.eventId(),
+                        notifyEx);
+            }
+        }
+
+        // 7) 커밋 이후 이벤트 단위 부작용
+        final long nowSec = Instant.now().getEpochSecond();
+        final Instant extendedToFinal = extendedTo;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                String timeIso = Instant.ofEpochSecond(nowSec).toString();
+                for (int i = 0; i < fresh.size(); i++) {
+                    ParsedBid p = fresh.get(i);
+                    try {
+                        if (!p.accept()) {
+                            notificationCommandService.notifyBidRejected(p.memberId(), auctionId, p.amount(),
+                                    mapRejectReason(p.reason()));
+                            continue;
+                        }
+                        String bidPlain = p.amount().toPlainString();
+                        auctionCacheService.overwritePrice(auctionId, bidPlain);
+                        auctionLiveSseService.publishPriceUpdate(auctionId, bidPlain, null);
+                        auctionLiveSseService.publishBidAccepted(auctionId,
+                                nicknames.getOrDefault(p.memberId(), "member-" + p.memberId()), bidPlain, timeIso);
+                        Long target = outbidTargets.get(i);
+                        if (target != null) {
+                            notificationCommandService.notifyBidOutbid(target, auctionId, p.amount());
+                        }
+                    } catch (Exception sideEx) {
+                        log.warn("[afterCommit] batch side effect failed auctionId={}, eventId={}", auctionId,
+                                p.eventId(), sideEx);
+                    }
+                }
+                try {
+                    if (extendedToFinal != null) {
+                        long newEndSec = extendedToFinal.getEpochSecond();
+                        auctionCacheService.reopenUntil(auctionId, newEndSec);
+                        auctionLiveSseService.publishEndTsUpdate(auctionId, newEndSec);
+                        deadlineIndex.upsert(auctionId, extendedToFinal.toEpochMilli());
+                    } else if (endAtBefore != null) {
+                        deadlineIndex.upsert(auctionId, endAtBefore.toEpochMilli());
+                    }
+                } catch (Exception schedEx) {
+                    log.error("[afterCommit] Failed deadline scheduling update auctionId={}", auctionId, schedEx);
+                }
+            }
+        });
+        log.debug("Bid batch applied auctionId={}, events={}, fresh={}", auctionId, jsons.size(), fresh.size());
+        return true;
+    }
+
+    /**
+     * 배치 경로용 이벤트 파싱
+     * <P>
+     * 포맷 오류/필수 필드 누락이면 null (단건 경로에서 영구 실패로 분류).
+     * </P>
+     * 
+     * @PARAM json 이벤트 JSON
+     * @RETURN 파싱 결과 또는 null
+     */
+    private ParsedBid parse(String json) {
+        try {
+            BidEvent ev = BidEventCodec.decode(json, om);
+            return new ParsedBid(ev.auctionId(), ev.memberId(), ev.amountValue(), ev.eventId(), !ev.isReject(),
+                    ev.reason(), ev.buyNow());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record ParsedBid(Long auctionId, Long memberId, BigDecimal amount, String eventId, boolean accept,
+            String reason, boolean buyNow) {
+    }
+
     /**
      * FAILED 레코드 안전 기록 (절대 2차 예외 던지지 않음)
      * <P>
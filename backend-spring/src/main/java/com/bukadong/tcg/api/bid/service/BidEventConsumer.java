@@ -1,26 +1,47 @@
 package com.bukadong.tcg.api.bid.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.bukadong.tcg.api.bid.util.BidQueueKeyUtil;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import com.bukadong.tcg.global.cluster.ClusterMembership;
+
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 입찰 이벤트 컨슈머
  * <P>
  * Redis 큐 → DB 반영(행락)으로 최종 일관성 보장. 기존 구조를 유지하면서 폴링 드레인/재시도/사망 큐를 추가해 안정성을 높였다.
  * </P>
+ * <P>
+ * 큐에서 꺼낸 이벤트는 처리 중 리스트(:inflight)로 옮겨 두고 DB 반영이 끝난 뒤에만 지운다. 노드가 반영 도중 죽으면 다음
+ * 소비자가 처리 중 리스트를 큐 앞으로 되돌려 다시 반영한다(eventId 멱등).
+ * </P>
+ * <P>
+ * 폴링 모드도 큐마다 드레인 리스(auction:{id}:bidq:lease, 값=노드 ID)를 잡고 소비한다. 클러스터 구성이 바뀌어 담당 노드가
+ * 달라져도 이전 담당 노드가 반영을 끝내고 리스를 놓거나 리스가 만료되기 전에는 새 담당 노드가 처리 중 리스트를 되돌리거나
+ * 큐를 꺼내지 않으므로 중복/역순 반영이 생기지 않는다.
+ * </P>
  * 
  * @PARAM 없음
  * @RETURN 없음
@@ -34,34 +55,231 @@ public class BidEventConsumer {
     private final RedisTemplate<String, String> redisTemplate;
     private final BidEventApplyService bidEventApplyService;
     private final AuctionCacheService auctionCacheService;
-    private final ObjectMapper om;
-    private static final String RETRY_KEY_PREFIX = ":retry";
+    private final BidApplyLanes bidApplyLanes;
+    private final ClusterMembership clusterMembership;
+    private final ClusterJobLeases clusterJobLeases;
+    private final DefaultRedisScript<List> bidQueueTakeScript;
+    private final DefaultRedisScript<Long> bidQueueAckScript;
+    private final DefaultRedisScript<Long> bidQueueRequeueScript;
+    private final DefaultRedisScript<Long> clusterLeaseAcquireScript;
+    private final DefaultRedisScript<Long> clusterLeaseReleaseScript;
+    private static final String RETRY_KEY_PREFIX = BidQueueKeyUtil.RETRY_SUFFIX;
+
+    /** 소비 모드: poll(SCAN 폴링, 기본) | event(활성 큐 레지스트리 + BLPOP, {@link BidQueueEventConsumer}) */
+    @Value("${auction.bid.consumer.mode:poll}")
+    private String mode;
+
+    /** 같은 경매 이벤트를 한 트랜잭션으로 묶어 반영할 최대 건수(1 이하면 단건 처리) */
+    @Value("${auction.bid.apply.batch-size:50}")
+    private int applyBatchSize;
+
+    /** 큐 드레인 리스 길이(반영을 기다리는 동안 1/3마다 연장) */
+    @Value("${auction.bid.consumer.lease-ms:30000}")
+    private long leaseMs;
+
+    /**
+     * 종료 훅
+     * <P>
+     * Redis 연결이 닫히기 전에 레인을 정리해 미반영 이벤트를 큐로 되돌린다.
+     * </P>
+     */
+    @PreDestroy
+    public void stop() {
+        bidApplyLanes.shutdown();
+    }
 
     /**
      * 간단 폴링
      * <P>
      * - KEYS 대신 SCAN으로 큐 키를 탐색(대량 키 환경에서 안전)<br>
-     * - 각 큐에 대해 retry 큐 우선 소진 후, 메인 큐를 비워질 때까지 드레인 처리
+     * - 각 큐에 대해 retry 큐 우선 소진 후, 메인 큐를 비워질 때까지 드레인 처리<br>
+     * - 여러 노드가 같은 큐를 번갈아 꺼내지 않도록 경매 ID로 분할해 담당 노드만 드레인<br>
+     * - 담당이어도 큐 리스를 얻지 못하면(이전 담당 노드가 아직 반영 중) 이번 주기는 건너뜀<br>
+     * - 리스를 얻은 큐의 남은 처리 중 이벤트는 리스를 놓았거나 만료된 이전 소유자의 것이므로 큐로 되돌린 뒤 드레인<br>
+     * - 제출한 반영이 모두 끝날 때까지 리스를 연장하며 기다린 뒤 리스를 놓음
      * </P>
      */
     @Scheduled(fixedDelay = 200)
     public void poll() {
+        if (!"poll".equalsIgnoreCase(mode))
+            return;
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        List<String> leased = new ArrayList<>();
         try {
-            for (String q : scan("auction:*:bidq", 200)) {
+            Set<String> withInflight = new LinkedHashSet<>();
+            for (String inflight : scan("auction:*:bidq" + BidQueueKeyUtil.INFLIGHT_SUFFIX, 200)) {
+                withInflight.add(inflight.substring(0, inflight.length() - BidQueueKeyUtil.INFLIGHT_SUFFIX.length()));
+            }
+            Set<String> queues = new LinkedHashSet<>(withInflight);
+            queues.addAll(scan("auction:*:bidq", 200));
+            for (String q : queues) {
+                Long auctionId = BidQueueKeyUtil.auctionIdOf(q);
+                if (auctionId != null && !clusterMembership.owns(auctionId))
+                    continue;
+                if (!acquireQueueLease(q))
+                    continue;
+                leased.add(q);
+                if (withInflight.contains(q))
+                    recoverInflight(q);
                 // retry 큐 먼저 소진
-                drain(q + RETRY_KEY_PREFIX, 50);
+                for (String json : take(q + RETRY_KEY_PREFIX, q, 50)) {
+                    pending.add(dispatch(q, json));
+                }
 
-                // 메인 큐 드레인 (비어질 때까지 처리)
+                // 메인 큐 드레인 (비어질 때까지 처리, 배치 크기 단위로 꺼내 제출)
                 while (true) {
-                    String json = redisTemplate.opsForList().leftPop(q);
-                    if (json == null)
+                    List<String> batch = take(q, q, Math.max(1, applyBatchSize));
+                    if (batch.isEmpty())
                         break;
-                    handleOne(q, json);
+                    pending.add(dispatchBatch(q, batch));
+                    // 레인 역압으로 제출이 길어져도 리스가 만료되지 않도록 연장
+                    acquireQueueLease(q);
                 }
             }
+            clusterJobLeases.recordRun("bid-poll");
         } catch (Exception e) {
             log.error("Bid consumer loop error: {}", e.toString());
         }
+        // 종료로 반영이 중단되면 리스를 놓지 않는다(만료 전까지 다른 노드가 잡지 않음, 미반영분은 큐로 복귀됨)
+        if (!awaitApplied(pending, leased))
+            return;
+        for (String q : leased) {
+            releaseQueueLease(q);
+        }
+    }
+
+    /**
+     * 큐 드레인 리스 획득/연장(폴링 모드)
+     * <P>
+     * 비어 있거나 이 노드가 가진 리스만 잡는다. Redis 오류 시에는 중복 소비를 피하도록 잡지 못한 것으로 본다.
+     * </P>
+     *
+     * @PARAM queue 원본 큐 키
+     * @RETURN 이 노드가 리스를 가지면 true
+     */
+    private boolean acquireQueueLease(String queue) {
+        try {
+            Long r = redisTemplate.execute(clusterLeaseAcquireScript, List.of(BidQueueKeyUtil.leaseKey(queue)),
+                    clusterMembership.nodeId(), String.valueOf(leaseMs));
+            return r != null && r == 1L;
+        } catch (Exception e) {
+            log.warn("Bid queue lease failed, skipping. queue={}, err={}", queue, e.toString());
+            return false;
+        }
+    }
+
+    private void releaseQueueLease(String queue) {
+        try {
+            redisTemplate.execute(clusterLeaseReleaseScript, List.of(BidQueueKeyUtil.leaseKey(queue)),
+                    clusterMembership.nodeId());
+        } catch (Exception e) {
+            // 만료로 회복됨
+            log.warn("Bid queue lease release failed. queue={}, err={}", queue, e.toString());
+        }
+    }
+
+    /**
+     * 큐 앞부분을 처리 중 리스트로 이동
+     * <P>
+     * 꺼낸 이벤트는 반영이 끝나 {@link #ack}될 때까지 queue의 처리 중 리스트에 남는다.
+     * </P>
+     * 
+     * @PARAM source 꺼낼 큐 키(메인 또는 재시도 큐)
+     * @PARAM queue 원본 큐 키
+     * @PARAM count 최대 건수
+     * @RETURN 꺼낸 이벤트 페이로드(큐 순서)
+     */
+    @SuppressWarnings("unchecked")
+    List<String> take(String source, String queue, int count) {
+        List<String> items = redisTemplate.execute(bidQueueTakeScript,
+                Arrays.asList(source, BidQueueKeyUtil.inflightKey(queue)), String.valueOf(count));
+        return items == null ? Collections.emptyList() : items;
+    }
+
+    /**
+     * 처리 중 이벤트 복구
+     * <P>
+     * 이전 소유자가 반영 도중 중단되어 남긴 처리 중 리스트를 원래 순서대로 큐 앞에 되돌린다. 큐 드레인 리스를 새로 확보한
+     * 뒤(이전 소유자의 리스가 해제/만료된 뒤), 자신이 제출한 반영이 없을 때만 호출해야 한다.
+     * </P>
+     * 
+     * @PARAM queue 원본 큐 키
+     * @RETURN 없음
+     */
+    void recoverInflight(String queue) {
+        Long n = redisTemplate.execute(bidQueueRequeueScript, requeueKeys(queue));
+        if (n != null && n > 0) {
+            log.warn("Recovered in-flight bid events. queue={}, count={}", queue, n);
+        }
+    }
+
+    /**
+     * 메시지 1건 레인 배정
+     * <P>
+     * 큐 키의 auctionId로 순서 보장 레인에 제출한다(레인 비활성 시 즉시 처리).
+     * </P>
+     * 
+     * @PARAM queue 원본 큐 키
+     * @PARAM json 이벤트 페이로드
+     * @RETURN 반영이 끝나면 완료되는 Future
+     */
+    CompletableFuture<Void> dispatch(String queue, String json) {
+        List<String> items = List.of(json);
+        return bidApplyLanes.submit(BidQueueKeyUtil.auctionIdOf(queue), () -> {
+            handleOne(queue, json);
+            ack(queue, items);
+        }, () -> requeue(queue, items));
+    }
+
+    /**
+     * 같은 큐에서 꺼낸 메시지 묶음 레인 배정
+     * <P>
+     * 배치 크기 단위로 잘라 같은 레인에 순서대로 제출한다. 레인은 FIFO이므로 마지막 묶음의 완료가 전체 완료를 뜻한다.
+     * </P>
+     * 
+     * @PARAM queue 원본 큐 키
+     * @PARAM jsons 순서대로 꺼낸 이벤트 페이로드
+     * @RETURN 마지막 묶음 반영이 끝나면 완료되는 Future
+     */
+    CompletableFuture<Void> dispatchBatch(String queue, List<String> jsons) {
+        Long auctionId = BidQueueKeyUtil.auctionIdOf(queue);
+        int size = Math.max(1, applyBatchSize);
+        CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+        for (int from = 0; from < jsons.size(); from += size) {
+            List<String> chunk = List.copyOf(jsons.subList(from, Math.min(from + size, jsons.size())));
+            last = bidApplyLanes.submit(auctionId, () -> {
+                handleBatch(queue, auctionId, chunk);
+                ack(queue, chunk);
+            }, () -> requeue(queue, chunk));
+        }
+        return last;
+    }
+
+    /**
+     * 메시지 묶음 처리
+     * <P>
+     * 2건 이상이면 배치 반영을 먼저 시도하고, 배치에 맞지 않거나 실패하면(롤백됨) 단건 처리로 폴백해 기존 재시도/사망 큐 라우팅을
+     * 그대로 적용한다.
+     * </P>
+     * 
+     * @PARAM queue 원본 큐 키
+     * @PARAM auctionId 경매 ID
+     * @PARAM jsons 이벤트 페이로드 목록
+     * @RETURN 없음
+     */
+    void handleBatch(String queue, Long auctionId, List<String> jsons) {
+        if (jsons.size() > 1 && auctionId != null) {
+            try {
+                if (bidEventApplyService.applyBatch(auctionId, jsons))
+                    return;
+            } catch (Exception e) {
+                log.warn("Bid batch apply failed, falling back to single events. auctionId={}, size={}, err={}",
+                        auctionId, jsons.size(), e.toString());
+            }
+        }
+        for (String json : jsons) {
+            handleOne(queue, json);
+        }
     }
 
     /**
@@ -74,20 +292,23 @@ public class BidEventConsumer {
      * @PARAM json 이벤트 페이로드
      * @RETURN 없음
      */
-    private void handleOne(String queue, String json) {
+    void handleOne(String queue, String json) {
         try {
             bidEventApplyService.applyEvent(json);
         } catch (RetryableException re) {
             redisTemplate.opsForList().rightPush(queue + RETRY_KEY_PREFIX, json);
+            if ("event".equalsIgnoreCase(mode)) {
+                // 레인 비동기 처리 중 큐가 해제됐을 수 있으므로 재시도 큐를 가진 큐를 다시 활성 등록(sweep이 재알림)
+                redisTemplate.opsForSet().add(BidQueueKeyUtil.ACTIVE_SET, queue);
+            }
             log.warn("Retryable event pushed: {}", re.getMessage());
         } catch (Exception fatal) {
-            redisTemplate.opsForList().rightPush(queue + ":dead", json);
+            redisTemplate.opsForList().rightPush(queue + BidQueueKeyUtil.DEAD_SUFFIX, json);
             log.error("Dead-lettered event: {}", fatal.toString());
             // 보상: DB 반영 실패로 인한 Redis 가격과 DB 불일치 시 정합성 복구 시도
             try {
-                JsonNode n = om.readTree(json);
-                if (n != null && n.hasNonNull("auctionId")) {
-                    long aid = n.get("auctionId").asLong();
+                Long aid = BidQueueKeyUtil.auctionIdOf(queue);
+                if (aid != null) {
                     auctionCacheService.syncExactCurrentPrice(aid);
                 }
             } catch (Exception ignore) {
@@ -97,22 +318,75 @@ public class BidEventConsumer {
     }
 
     /**
-     * 재시도 큐 드레인
+     * 처리 중 이벤트 확인
+     * <P>
+     * 반영(재시도/사망 큐 라우팅 포함)이 끝난 이벤트를 처리 중 리스트에서 지운다. 실패하면 다음 복구 때 다시 반영되지만
+     * eventId 멱등으로 중복 반영되지 않는다.
+     * </P>
+     * 
+     * @PARAM queue 원본 큐 키
+     * @PARAM items 반영 완료 이벤트
+     * @RETURN 없음
+     */
+    private void ack(String queue, List<String> items) {
+        try {
+            redisTemplate.execute(bidQueueAckScript, List.of(BidQueueKeyUtil.inflightKey(queue)), items.toArray());
+        } catch (Exception e) {
+            log.warn("Bid in-flight ack failed. queue={}, size={}, err={}", queue, items.size(), e.toString());
+        }
+    }
+
+    /**
+     * 미반영 이벤트 큐 복귀
      * <P>
-     * limit 개수만큼 우선 처리.
+     * 종료로 레인에서 실행하지 못한 이벤트를 처리 중 리스트에서 빼 원래 순서대로 큐 앞에 되돌린다.
      * </P>
      * 
-     * @PARAM queue 재시도 큐 키
-     * @PARAM limit 최대 처리 개수
+     * @PARAM queue 원본 큐 키
+     * @PARAM items 되돌릴 이벤트(큐 순서)
      * @RETURN 없음
      */
-    private void drain(String queue, int limit) {
-        for (int i = 0; i < limit; i++) {
-            String json = redisTemplate.opsForList().leftPop(queue);
-            if (json == null)
-                break;
-            handleOne(queue.replace(RETRY_KEY_PREFIX, ""), json);
+    private void requeue(String queue, List<String> items) {
+        redisTemplate.execute(bidQueueRequeueScript, requeueKeys(queue), items.toArray());
+    }
+
+    private List<String> requeueKeys(String queue) {
+        String inflight = BidQueueKeyUtil.inflightKey(queue);
+        if ("event".equalsIgnoreCase(mode)) {
+            return Arrays.asList(queue, inflight, BidQueueKeyUtil.ACTIVE_SET, BidQueueKeyUtil.READY_LIST);
+        }
+        return Arrays.asList(queue, inflight);
+    }
+
+    /**
+     * 제출한 반영 완료 대기
+     * <P>
+     * 리스 유효 시간의 1/3마다 보유 리스를 연장하며 기다린다.
+     * </P>
+     *
+     * @PARAM pending 제출한 반영 Future
+     * @PARAM leased 이번 주기에 잡은 큐 키
+     * @RETURN 모두 반영되면 true, 종료/인터럽트로 중단되면 false
+     */
+    private boolean awaitApplied(List<CompletableFuture<Void>> pending, List<String> leased) {
+        long renewMs = Math.max(100, leaseMs / 3);
+        for (CompletableFuture<Void> f : pending) {
+            while (true) {
+                try {
+                    f.get(renewMs, TimeUnit.MILLISECONDS);
+                    break;
+                } catch (TimeoutException te) {
+                    leased.forEach(this::acquireQueueLease);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } catch (Exception e) {
+                    // 종료로 큐에 되돌려진 작업: 다음 소비자가 처리
+                    return false;
+                }
+            }
         }
+        return true;
     }
 
     /**
@@ -0,0 +1,228 @@
+package com.bukadong.tcg.api.bid.service;
+
+import com.bukadong.tcg.api.bid.util.BidQueueKeyUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 구동 입찰 큐 컨슈머
+ * <P>
+ * SCAN 폴링 대신 활성 큐 레지스트리(bidq:active)와 알림 리스트(bidq:ready)를 사용한다. Lua 적재 스크립트가 큐를 새로
+ * 활성화할 때만 알림을 넣고, 워커는 BLPOP으로 대기하다가 큐 리스를 잡은 뒤 LPOP count로 배치 드레인한다. 큐가 비면
+ * 레지스트리 해제와 리스 반납을 원자적으로 수행하므로 해제 직후 적재된 이벤트도 누락되지 않는다.
+ * </P>
+ * <P>
+ * 리스는 꺼낸 이벤트가 레인에서 모두 반영될 때까지 연장하며 유지한다. 반영 전에 리스를 놓으면 다른 노드가 같은 경매의 뒤
+ * 이벤트를 먼저 반영할 수 있기 때문이다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.bid.consumer.mode", havingValue = "event")
+public class BidQueueEventConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(BidQueueEventConsumer.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BidEventConsumer bidEventConsumer;
+    private final DefaultRedisScript<Long> bidQueueReleaseScript;
+
+    @Value("${auction.bid.consumer.workers:4}")
+    private int workers;
+
+    @Value("${auction.bid.consumer.block-timeout-ms:2000}")
+    private long blockTimeoutMs;
+
+    @Value("${auction.bid.consumer.batch-size:100}")
+    private int batchSize;
+
+    @Value("${auction.bid.consumer.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${auction.bid.consumer.retry-batch-size:50}")
+    private int retryBatchSize;
+
+    private ExecutorService pool;
+    private volatile boolean running;
+
+    /**
+     * 워커 기동
+     * <P>
+     * 설정된 수만큼 BLPOP 대기 워커를 띄운다.
+     * </P>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int n = Math.max(1, workers);
+        AtomicInteger seq = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "bidq-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+        for (int i = 0; i < n; i++) {
+            pool.execute(this::loop);
+        }
+        log.info("Bid queue event consumer started. workers={}, batchSize={}", n, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 활성 큐 재알림(안전망)
+     * <P>
+     * 워커 장애로 알림이 유실되었거나 재시도 큐만 남은 큐를 주기적으로 다시 알린다. 리스가 잡혀 있는 큐는 건너뛴다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${auction.bid.consumer.sweep-ms:1000}")
+    public void sweep() {
+        if (!running)
+            return;
+        try {
+            Set<String> active = redisTemplate.opsForSet().members(BidQueueKeyUtil.ACTIVE_SET);
+            if (active == null || active.isEmpty())
+                return;
+            for (String q : active) {
+                if (Boolean.FALSE.equals(redisTemplate.hasKey(BidQueueKeyUtil.leaseKey(q)))) {
+                    redisTemplate.opsForList().rightPush(BidQueueKeyUtil.READY_LIST, q);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Bid queue sweep error: {}", e.toString());
+        }
+    }
+
+    private void loop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // BLPOP: 새로 활성화된 큐 키가 들어올 때까지 대기
+                String q = redisTemplate.opsForList().leftPop(BidQueueKeyUtil.READY_LIST, blockTimeoutMs,
+                        TimeUnit.MILLISECONDS);
+                if (q != null) {
+                    drainQueue(q);
+                }
+            } catch (Exception e) {
+                if (!running)
+                    break;
+                log.error("Bid queue worker error: {}", e.toString());
+                sleepQuietly(200);
+            }
+        }
+    }
+
+    /**
+     * 큐 1개 드레인
+     * <P>
+     * 리스를 획득한 워커만 소비한다(경매 단위 FIFO). 이전 소유자가 남긴 처리 중 이벤트를 먼저 큐로 되돌리고, retry 큐를 일부
+     * 소진한 뒤 메인 큐를 배치로 비운다. 제출한 반영이 모두 끝날 때까지 리스를 연장하며 기다린 뒤 해제 스크립트를 호출하고,
+     * 잔여 이벤트가 보고되면 반복한다. 리스를 얻지 못하면 현재 소유 워커가 해제 시점에 잔여분을 확인하므로 그냥 반환한다.
+     * </P>
+     *
+     * @PARAM queue 입찰 큐 키
+     * @RETURN 없음
+     */
+    private void drainQueue(String queue) {
+        String leaseKey = BidQueueKeyUtil.leaseKey(queue);
+        String retryKey = queue + BidQueueKeyUtil.RETRY_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, lease)))
+            return;
+
+        bidEventConsumer.recoverInflight(queue);
+        List<String> releaseKeys = Arrays.asList(queue, retryKey, BidQueueKeyUtil.ACTIVE_SET, leaseKey);
+        while (true) {
+            CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+            for (String json : bidEventConsumer.take(retryKey, queue, retryBatchSize)) {
+                last = bidEventConsumer.dispatch(queue, json);
+            }
+
+            while (true) {
+                // 한 번의 왕복으로 여러 건을 처리 중 리스트로 옮기며 수신
+                List<String> batch = bidEventConsumer.take(queue, queue, batchSize);
+                if (batch.isEmpty())
+                    break;
+                last = bidEventConsumer.dispatchBatch(queue, batch);
+                redisTemplate.expire(leaseKey, lease);
+            }
+
+            // 종료로 반영이 중단되면 리스를 놓지 않는다(만료 전까지 다른 노드가 잡지 않음, 미반영분은 큐로 복귀됨)
+            if (!awaitApplied(last, leaseKey, lease))
+                return;
+
+            Long released = redisTemplate.execute(bidQueueReleaseScript, releaseKeys, token);
+            if (released != null && released == 1L)
+                return;
+        }
+    }
+
+    /**
+     * 레인 반영 완료 대기
+     * <P>
+     * 리스 유효 시간의 1/3마다 리스를 연장하며 기다린다. 레인은 FIFO이므로 마지막 제출의 완료가 곧 전체 완료다.
+     * </P>
+     *
+     * @PARAM last 마지막으로 제출한 반영 Future
+     * @PARAM leaseKey 드레인 리스 키
+     * @PARAM lease 리스 유효 시간
+     * @RETURN 모두 반영되면 true, 종료/인터럽트로 중단되면 false
+     */
+    private boolean awaitApplied(CompletableFuture<Void> last, String leaseKey, Duration lease) {
+        long renewMs = Math.max(100, lease.toMillis() / 3);
+        while (true) {
+            try {
+                last.get(renewMs, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException te) {
+                redisTemplate.expire(leaseKey, lease);
+            } catch (CancellationException | ExecutionException e) {
+                return false;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.bukadong.tcg.api.bid.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
+import com.bukadong.tcg.api.bid.config.RedisScriptRegistry;
+import com.bukadong.tcg.api.bid.service.dto.BidSubmission;
+import com.bukadong.tcg.api.bid.util.BidEventCodec;
+import com.bukadong.tcg.api.bid.util.BidQueueKeyUtil;
+
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +23,7 @@ import java.util.Map;
 /**
  * 큐 기반 입찰 프로듀서
  * <P>
- * Lua로 검증/현재가 갱신/이벤트 적재/멱등키를 원자 수행.
+ * Lua로 검증/현재가 갱신/이벤트 적재/멱등키를 원자 수행. 스크립트는 기동 시 선적재되어 EVALSHA로 전송된다.
  * </P>
  * 
  * @PARAM auctionId 경매 ID
@@ -32,9 +40,15 @@ public class BidQueueProducer {
     private static final String AUCTION_KEY_PREFIX = "auction:";
     private final RedisTemplate<String, String> redisTemplate;
     private final DefaultRedisScript<List> bidAtomicScript; // ⬅️ 빈 주입
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final AuctionSnapshotNearCache nearCache;
     @Value("${auction.bid.idempotency-ttl-seconds:1800}")
     private long idemTtlSeconds;
 
+    /** event 모드에서만 활성 큐 레지스트리를 갱신(poll 모드에서는 레지스트리가 소비되지 않으므로 생략) */
+    @Value("${auction.bid.consumer.mode:poll}")
+    private String consumerMode;
+
     /**
      * 입찰 원자 검증/적재
      * <P>
@@ -48,58 +62,92 @@ public class BidQueueProducer {
      * @RETURN Map(code, currentPriceAfter)
      */
     public Map<String, String> enqueue(Long auctionId, Long memberId, BigDecimal amount, String eventId) {
-        String auctionKey = AUCTION_KEY_PREFIX + auctionId;
-        String queueKey = AUCTION_KEY_PREFIX + auctionId + ":bidq";
-        String idemKey = "idem:" + eventId;
-
         long now = Instant.now().getEpochSecond();
-        String priceStr = amount.toPlainString();
-
-        String payloadOk = String.format(
-                "{\"event\":\"BID\",\"intended\":\"ACCEPT\",\"reason\":null,"
-                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
-                auctionId, memberId, priceStr, eventId, now);
-
-        // buy-now ACCEPT payload (Lua가 bid >= buy_now_price 시 이 페이로드를 push)
-        String payloadOkBuyNow = String.format("{\"event\":\"BID\",\"intended\":\"ACCEPT\",\"reason\":\"BUY_NOW\","
-                + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d,\"buyNow\":true}",
-                auctionId, memberId, priceStr, eventId, now);
+        List<String> keys = keys(auctionId, eventId);
+        String[] args = args(auctionId, memberId, amount, eventId, now);
 
-        String payloadMissing = String.format(
-                "{\"event\":\"BID\",\"intended\":\"REJECT\",\"reason\":\"MISSING\","
-                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
-                auctionId, memberId, priceStr, eventId, now);
-
-        String payloadNotRunning = String.format(
-                "{\"event\":\"BID\",\"intended\":\"REJECT\",\"reason\":\"NOT_RUNNING\","
-                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
-                auctionId, memberId, priceStr, eventId, now);
+        @SuppressWarnings("unchecked")
+        List<String> ret = redisTemplate.execute(bidAtomicScript, keys, (Object[]) args);
+        return settle(auctionId, toResult(ret));
+    }
 
-        String payloadLowPrice = String.format(
-                "{\"event\":\"BID\",\"intended\":\"REJECT\",\"reason\":\"LOW_PRICE\","
-                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
-                auctionId, memberId, priceStr, eventId, now);
+    /**
+     * 입찰 일괄 검증/적재 (파이프라인)
+     * <P>
+     * 여러 경매에 걸친 입찰을 한 번의 왕복으로 EVALSHA 전송한다(자동 입찰 엔진, 부하 테스트 드라이버 등). 각 입찰은 단건과 같은
+     * 원자 스크립트로 처리되며, 결과는 입력 순서대로 반환한다. 개별 실패는 code=ERROR.
+     * </P>
+     * 
+     * @PARAM bids 제출할 입찰 목록
+     * @RETURN 입찰별 Map(code, currentPriceAfter)
+     */
+    public List<Map<String, String>> enqueueMany(List<BidSubmission> bids) {
+        if (bids == null || bids.isEmpty())
+            return List.of();
+        long now = Instant.now().getEpochSecond();
+        int numKeys = keys(0L, "").size();
+        List<byte[][]> calls = new ArrayList<>(bids.size());
+        for (BidSubmission b : bids) {
+            List<String> keys = keys(b.auctionId(), b.eventId());
+            String[] args = args(b.auctionId(), b.memberId(), b.amount(), b.eventId(), now);
+            byte[][] keysAndArgs = new byte[keys.size() + args.length][];
+            int i = 0;
+            for (String k : keys) {
+                keysAndArgs[i++] = k.getBytes(StandardCharsets.UTF_8);
+            }
+            for (String a : args) {
+                keysAndArgs[i++] = a.getBytes(StandardCharsets.UTF_8);
+            }
+            calls.add(keysAndArgs);
+        }
 
-        String payloadSelfBid = String.format(
-                "{\"event\":\"BID\",\"intended\":\"REJECT\",\"reason\":\"SELF_BID\","
-                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
-                auctionId, memberId, priceStr, eventId, now);
+        List<Object> raw = redisScriptRegistry.evalShaPipelined(bidAtomicScript, ReturnType.MULTI, numKeys, calls);
+        List<Map<String, String>> out = new ArrayList<>(bids.size());
+        for (int i = 0; i < bids.size(); i++) {
+            Object r = (i < raw.size()) ? raw.get(i) : null;
+            if (r instanceof List<?> list) {
+                List<String> ret = new ArrayList<>(list.size());
+                for (Object o : list) {
+                    ret.add(o instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(o));
+                }
+                out.add(settle(bids.get(i).auctionId(), toResult(ret)));
+            } else {
+                out.add(toResult(null));
+            }
+        }
+        return out;
+    }
 
-        List<String> keys = Arrays.asList(auctionKey, queueKey, idemKey);
+    private List<String> keys(Long auctionId, String eventId) {
+        String auctionKey = AUCTION_KEY_PREFIX + auctionId;
+        String queueKey = BidQueueKeyUtil.queueKey(auctionId);
+        String idemKey = "idem:" + eventId;
+        // KEYS[4]/KEYS[5]: 활성 큐 레지스트리(이벤트 구동 컨슈머가 SCAN 없이 큐를 찾도록)
+        return "event".equalsIgnoreCase(consumerMode)
+                ? Arrays.asList(auctionKey, queueKey, idemKey, BidQueueKeyUtil.ACTIVE_SET, BidQueueKeyUtil.READY_LIST)
+                : Arrays.asList(auctionKey, queueKey, idemKey);
+    }
 
-        @SuppressWarnings("unchecked")
-        List<String> ret = redisTemplate.execute(bidAtomicScript, keys, priceStr, // ARGV[1]
+    private String[] args(Long auctionId, Long memberId, BigDecimal amount, String eventId, long now) {
+        String priceStr = amount.toPlainString();
+        // 결과별 페이로드를 미리 만들지 않고 공통 꼬리 하나만 전달(결과 필드는 Lua가 채움)
+        String eventBody = BidEventCodec.body(auctionId, memberId, priceStr, now, eventId);
+        return new String[] { priceStr, // ARGV[1]
                 String.valueOf(now), // ARGV[2]
                 String.valueOf(idemTtlSeconds), // ARGV[3]
-                payloadOk, // ARGV[4]
-                payloadMissing, // ARGV[5]
-                payloadNotRunning, // ARGV[6]
-                payloadLowPrice, // ARGV[7]
-                String.valueOf(memberId), // ARGV[8] bidderId (문자열로 전달!)
-                payloadSelfBid, // ARGV[9]
-                payloadOkBuyNow // ARGV[10]
-        );
+                String.valueOf(memberId), // ARGV[4] bidderId (문자열로 전달!)
+                eventBody // ARGV[5]
+        };
+    }
 
+    /** MISSING이면 해시가 사라진 것이므로 니어캐시 항목을 버려 다음 요청에서 다시 적재하게 한다 */
+    private Map<String, String> settle(Long auctionId, Map<String, String> result) {
+        if ("MISSING".equals(result.get("code")))
+            nearCache.drop(auctionId);
+        return result;
+    }
+
+    private Map<String, String> toResult(List<String> ret) {
         String code;
         String curAfter;
         if (ret == null || ret.isEmpty()) {
@@ -109,7 +157,6 @@ public class BidQueueProducer {
             code = String.valueOf(ret.get(0));
             curAfter = (ret.size() >= 2) ? String.valueOf(ret.get(1)) : "";
         }
-
         return Map.of("code", code, "currentPriceAfter", curAfter);
     }
 }
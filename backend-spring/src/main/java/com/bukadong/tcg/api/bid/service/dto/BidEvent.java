@@ -0,0 +1,31 @@
+package com.bukadong.tcg.api.bid.service.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 입찰 큐 이벤트
+ * <P>
+ * Redis 입찰 큐에 적재된 이벤트를 디코딩한 결과.
+ * </P>
+ * 
+ * @PARAM auctionId 경매 ID
+ * @PARAM memberId 입찰자 ID
+ * @PARAM amount 입찰가(문자열 원문)
+ * @PARAM eventId 멱등키(=requestId)
+ * @PARAM intended ACCEPT | REJECT
+ * @PARAM reason 거절/특수 사유(없으면 null)
+ * @PARAM buyNow 즉시구매 여부
+ * @PARAM ts 적재 시각(epoch 초)
+ * @RETURN 없음
+ */
+public record BidEvent(Long auctionId, Long memberId, String amount, String eventId, String intended, String reason,
+        boolean buyNow, long ts) {
+
+    public boolean isReject() {
+        return "REJECT".equalsIgnoreCase(intended);
+    }
+
+    public BigDecimal amountValue() {
+        return new BigDecimal(amount);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bukadong.tcg.api.bid.service.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 입찰 제출 단위
+ * <P>
+ * 일괄 제출(enqueueMany)에서 입찰 1건을 나타낸다.
+ * </P>
+ * 
+ * @PARAM auctionId 경매 ID
+ * @PARAM memberId 입찰자 ID
+ * @PARAM amount 입찰가
+ * @PARAM eventId 멱등키(=requestId)
+ * @RETURN 없음
+ */
+public record BidSubmission(Long auctionId, Long memberId, BigDecimal amount, String eventId) {
+}
@@ -6,7 +6,8 @@ import lombok.experimental.UtilityClass;
  * 입찰 원자 처리 Lua 스크립트
  * <P>
  * 경매 상태 검증 + 현재가 갱신 + 이벤트 적재 + 멱등키 설정을 원자적으로 수행한다.
- * 실패(LOW_PRICE/NOT_RUNNING/MISSING)도 거절 이벤트를 큐에 넣는다.
+ * 실패(LOW_PRICE/NOT_RUNNING/MISSING)도 거절 이벤트를 큐에 넣는다. 이벤트는 {@link BidEventCodec} v1 포맷으로, 결과
+ * 필드(intended/reason/buyNow)만 스크립트가 채우고 나머지는 프로듀서가 넘긴 공통 꼬리를 그대로 붙인다.
  * </P>
  *
  * @PARAM KEYS[1] auctionHashKey (e.g., "auction:{id}")
@@ -15,12 +16,10 @@ import lombok.experimental.UtilityClass;
  * @PARAM ARGV[1] amount (문자열 숫자)
  * @PARAM ARGV[2] nowEpochSec (정수)
  * @PARAM ARGV[3] idemTtlSec (정수; 권장 1800=30분)
- * @PARAM ARGV[4] payloadOk (성공 이벤트 JSON)
- * @PARAM ARGV[5] payloadMissing (거절: MISSING)
- * @PARAM ARGV[6] payloadNotRunning (거절: NOT_RUNNING)
- * @PARAM ARGV[7] payloadLowPrice (거절: LOW_PRICE)
- * @PARAM ARGV[8] bidderId (입찰자 ID, 정수형 문자열)
- * @PARAM ARGV[9] payloadSelfBid (거절: SELF_BID)
+ * @PARAM ARGV[4] bidderId (입찰자 ID, 정수형 문자열)
+ * @PARAM ARGV[5] eventBody (v1 이벤트 공통 꼬리; auctionId|memberId|amount|ts|eventId)
+ * @PARAM KEYS[4] activeQueueSetKey (선택; e.g., "bidq:active") 적재 시 큐 키를 활성 레지스트리에 등록
+ * @PARAM KEYS[5] readySignalKey (선택; e.g., "bidq:ready") 새로 활성화된 큐 키를 알림 리스트에 적재
  * @RETURN {code, currentPriceAfter} // code:
  *         OK|DUPLICATE|NOT_RUNNING|LOW_PRICE|MISSING
  */
@@ -28,8 +27,15 @@ import lombok.experimental.UtilityClass;
 public class AuctionBidLuaScripts {
 
     public static final String BID_ATOMIC =
-            // 멱등
-            "if redis.call('EXISTS', KEYS[3]) == 1 then "
+            // 큐 적재 + 활성 큐 레지스트리 등록(KEYS[4]/KEYS[5]가 주어진 경우에만)
+            "local function push(p) " + "  redis.call('RPUSH', KEYS[2], p) " + "  if KEYS[4] and KEYS[5] then "
+                    + "    if redis.call('SADD', KEYS[4], KEYS[2]) == 1 then redis.call('RPUSH', KEYS[5], KEYS[2]) end "
+                    + "  end " + "end "
+                    + "local function ev(intended, reason, bn) "
+                    + "  return '1|' .. intended .. '|' .. reason .. '|' .. bn .. '|' .. ARGV[5] " + "end "
+
+                    // 멱등
+                    + "if redis.call('EXISTS', KEYS[3]) == 1 then "
                     + "  return {'DUPLICATE', redis.call('HGET', KEYS[1], 'current_price') or ''} " + "end "
 
                     // 필드 일괄 조회(+ owner_id)
@@ -40,17 +46,17 @@ public class AuctionBidLuaScripts {
                     + "local bnStr    = vals[8] "
 
                     + "if (not curStr) or (not unitStr) or (startts==0) or (endts==0) or (not ownerStr) then "
-                    + "  redis.call('RPUSH', KEYS[2], ARGV[5]); return {'MISSING', curStr or ''} " + "end "
+                    + "  push(ev('REJECT','MISSING','0')); return {'MISSING', curStr or ''} " + "end "
 
                     // 시간 상태
                     + "local now = tonumber(ARGV[2] or '0') "
                     + "if (is_end=='1') or (now < startts) or (now > endts) then "
-                    + "  redis.call('RPUSH', KEYS[2], ARGV[6]); return {'NOT_RUNNING', curStr} " + "end "
+                    + "  push(ev('REJECT','NOT_RUNNING','0')); return {'NOT_RUNNING', curStr} " + "end "
 
                     // 본인 입찰 금지
-                    + "local ownerId  = tonumber(ownerStr or '0') " + "local bidderId = tonumber(ARGV[8] or '0') "
+                    + "local ownerId  = tonumber(ownerStr or '0') " + "local bidderId = tonumber(ARGV[4] or '0') "
                     + "if ownerId > 0 and bidderId > 0 and (ownerId == bidderId) then "
-                    + "  redis.call('RPUSH', KEYS[2], ARGV[9]); return {'SELF_BID', curStr} " + "end "
+                    + "  push(ev('REJECT','SELF_BID','0')); return {'SELF_BID', curStr} " + "end "
 
                     // 1e8 스케일 변환
                     + "local function toInt(s) " + "  if not s then return nil end "
@@ -63,7 +69,7 @@ public class AuctionBidLuaScripts {
 
                     + "local curI  = toInt(curStr) " + "local unitI = toInt(unitStr) " + "local bidI  = toInt(ARGV[1]) "
                     + "if (not curI) or (not unitI) or (not bidI) then "
-                    + "  redis.call('RPUSH', KEYS[2], ARGV[7]); return {'LOW_PRICE', curStr} " + "end "
+                    + "  push(ev('REJECT','LOW_PRICE','0')); return {'LOW_PRICE', curStr} " + "end "
 
                     // 즉시구매 처리: buy_now_flag==1이고, bid >= buy_now_price 이면 즉시 구매
                     + "local function isBuyNow() " + "  if (bnFlag == '1') and (bnStr ~= nil) and (bnStr ~= '') then "
@@ -73,16 +79,104 @@ public class AuctionBidLuaScripts {
 
                     + "local bnOk, bnPriceStr = isBuyNow() " + "if bnOk then "
                     + "  redis.call('HSET', KEYS[1], 'current_price', bnPriceStr) "
-                    + "  redis.call('HSET', KEYS[1], 'is_end', '1') " + "  redis.call('RPUSH', KEYS[2], ARGV[10]) "
+                    + "  redis.call('HSET', KEYS[1], 'is_end', '1') " + "  push(ev('ACCEPT','BUY_NOW','1')) "
                     + "  redis.call('SET', KEYS[3], '1', 'EX', tonumber(ARGV[3]) or 1800) "
                     + "  return {'OK', bnPriceStr} " + "end "
 
                     // 최소 증가
                     + "if bidI < (curI + unitI) then "
-                    + "  redis.call('RPUSH', KEYS[2], ARGV[7]); return {'LOW_PRICE', curStr} " + "end "
+                    + "  push(ev('REJECT','LOW_PRICE','0')); return {'LOW_PRICE', curStr} " + "end "
 
                     // 성공
                     + "redis.call('HSET', KEYS[1], 'current_price', ARGV[1]); "
-                    + "redis.call('RPUSH', KEYS[2], ARGV[4]); "
+                    + "push(ev('ACCEPT','','0')); "
                     + "redis.call('SET', KEYS[3], '1', 'EX', tonumber(ARGV[3]) or 1800); " + "return {'OK', ARGV[1]} ";
+
+    /**
+     * 활성 큐 해제 스크립트
+     * <P>
+     * 메인 큐가 비어 있으면 (재시도 큐도 비어 있을 때) 활성 레지스트리에서 제거하고, 보유 중인 드레인 리스를 해제한다. 적재
+     * 스크립트와 같은 원자 구간에서 판정하므로 해제 직후 들어온 이벤트는 다시 활성화 알림을 발생시킨다.
+     * </P>
+     *
+     * @PARAM KEYS[1] bidQueueKey
+     * @PARAM KEYS[2] retryQueueKey
+     * @PARAM KEYS[3] activeQueueSetKey
+     * @PARAM KEYS[4] drainLeaseKey
+     * @PARAM ARGV[1] leaseToken
+     * @RETURN 1(해제됨) | 0(메인 큐에 잔여 이벤트 있음)
+     */
+    public static final String RELEASE_IF_IDLE = "if redis.call('LLEN', KEYS[1]) > 0 then return 0 end "
+            + "if redis.call('LLEN', KEYS[2]) == 0 then redis.call('SREM', KEYS[3], KEYS[1]) end "
+            + "if redis.call('GET', KEYS[4]) == ARGV[1] then redis.call('DEL', KEYS[4]) end " + "return 1 ";
+
+    /**
+     * 처리 중 리스트로 배치 이동 스크립트
+     * <P>
+     * 큐 앞에서 최대 N건을 꺼내 처리 중 리스트(:inflight) 뒤에 옮긴다. 반영이 끝난 항목만 {@link #ACK_INFLIGHT}로 지우므로
+     * 노드가 반영 도중 죽어도 이벤트가 Redis에 남는다.
+     * </P>
+     *
+     * @PARAM KEYS[1] sourceQueueKey (메인 또는 재시도 큐)
+     * @PARAM KEYS[2] inflightKey
+     * @PARAM ARGV[1] count
+     * @RETURN 이동한 이벤트 목록(큐 순서)
+     */
+    public static final String TAKE_TO_INFLIGHT = "local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+            + "if #items == 0 then return items end " + "redis.call('LTRIM', KEYS[1], #items, -1) "
+            + "redis.call('RPUSH', KEYS[2], unpack(items)) " + "return items ";
+
+    /**
+     * 처리 중 리스트 확인(삭제) 스크립트
+     * <P>
+     * 반영이 끝난 이벤트를 처리 중 리스트에서 1건씩 제거한다.
+     * </P>
+     *
+     * @PARAM KEYS[1] inflightKey
+     * @PARAM ARGV 반영 완료 이벤트 목록
+     * @RETURN 제거 건수
+     */
+    public static final String ACK_INFLIGHT = "local n = 0 "
+            + "for i = 1, #ARGV do n = n + redis.call('LREM', KEYS[1], 1, ARGV[i]) end " + "return n ";
+
+    /**
+     * 처리 중 이벤트 큐 복귀 스크립트
+     * <P>
+     * 처리 중 리스트의 이벤트를 원래 순서대로 메인 큐 앞에 되돌린다. ARGV가 없으면 전부(이전 소유 노드 장애 복구), 있으면 해당
+     * 항목만(종료 시 미반영분) 옮긴다. KEYS[3]/KEYS[4]가 주어지면 활성 레지스트리에 다시 등록하고 알림을 넣는다.
+     * </P>
+     *
+     * @PARAM KEYS[1] bidQueueKey
+     * @PARAM KEYS[2] inflightKey
+     * @PARAM KEYS[3] activeQueueSetKey (선택)
+     * @PARAM KEYS[4] readySignalKey (선택)
+     * @PARAM ARGV 되돌릴 이벤트 목록(선택, 큐 순서)
+     * @RETURN 되돌린 건수
+     */
+    public static final String REQUEUE_INFLIGHT = "local items "
+            + "if #ARGV == 0 then items = redis.call('LRANGE', KEYS[2], 0, -1); redis.call('DEL', KEYS[2]) "
+            + "else items = {} "
+            + "  for i = 1, #ARGV do if redis.call('LREM', KEYS[2], 1, ARGV[i]) > 0 then items[#items + 1] = ARGV[i] end end "
+            + "end " + "if #items == 0 then return 0 end "
+            + "for i = #items, 1, -1 do redis.call('LPUSH', KEYS[1], items[i]) end " + "if KEYS[3] and KEYS[4] then "
+            + "  if redis.call('SADD', KEYS[3], KEYS[1]) == 1 then redis.call('RPUSH', KEYS[4], KEYS[1]) end "
+            + "end " + "return #items ";
+
+    /**
+     * 스냅샷 로드(불완전 시 채움) 스크립트
+     * <P>
+     * 한 번의 왕복으로 해시 필드를 읽고 필수 필드(start_ts/end_ts/current_price/bid_unit/owner_id/buy_now_flag)가 모두
+     * 있으면 그대로 반환한다. 불완전하면 ARGV의 field/value 쌍(DB 스냅샷)으로 채운 뒤 다시 읽어 반환하고, ARGV가 없으면
+     * 빈 배열을 반환해 호출자가 DB 스냅샷을 준비하도록 한다.
+     * </P>
+     *
+     * @PARAM KEYS[1] auctionHashKey (e.g., "auction:{id}")
+     * @PARAM ARGV field1, value1, field2, value2, ... (선택; 불완전 시 채울 값)
+     * @RETURN {is_end, start_ts, end_ts, current_price, bid_unit, owner_id, buy_now_flag, buy_now_price} | {}
+     */
+    public static final String ENSURE_LOADED = "local F = {'is_end','start_ts','end_ts','current_price','bid_unit','owner_id','buy_now_flag','buy_now_price'} "
+            + "local function complete(v) " + "  for i = 2, 7 do if not v[i] then return false end end "
+            + "  return true " + "end " + "local vals = redis.call('HMGET', KEYS[1], unpack(F)) "
+            + "if complete(vals) then return vals end " + "if #ARGV == 0 then return {} end "
+            + "redis.call('HSET', KEYS[1], unpack(ARGV)) " + "return redis.call('HMGET', KEYS[1], unpack(F)) ";
 }
@@ -0,0 +1,102 @@
+package com.bukadong.tcg.api.bid.util;
+
+import com.bukadong.tcg.api.bid.service.dto.BidEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 입찰 큐 이벤트 인코딩/디코딩
+ * <P>
+ * v1 고정 필드 포맷: {@code 1|intended|reason|buyNow|auctionId|memberId|amount|ts|eventId}. 공통 꼬리(auctionId 이후)는
+ * 프로듀서가 한 번만 만들고, 앞쪽 결과 필드는 Lua 스크립트가 채운다. eventId는 마지막 필드라 구분자를 포함해도 안전하다.
+ * 첫 글자가 '{'이면 기존 JSON 페이로드로 간주해 하위 호환 디코딩한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+public final class BidEventCodec {
+
+    public static final char VERSION_1 = '1';
+    private static final char SEP = '|';
+    private static final int V1_FIELDS = 9;
+
+    private BidEventCodec() {
+    }
+
+    /**
+     * v1 공통 꼬리 생성
+     * <P>
+     * 형식: auctionId|memberId|amount|ts|eventId (Lua가 앞에 버전/결과 필드를 붙인다)
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM memberId 입찰자 ID
+     * @PARAM amount 입찰가(plain string)
+     * @PARAM ts 적재 시각(epoch 초)
+     * @PARAM eventId 멱등키
+     * @RETURN 꼬리 문자열
+     */
+    public static String body(long auctionId, long memberId, String amount, long ts, String eventId) {
+        return new StringBuilder(48 + amount.length() + eventId.length()).append(auctionId).append(SEP)
+                .append(memberId).append(SEP).append(amount).append(SEP).append(ts).append(SEP).append(eventId)
+                .toString();
+    }
+
+    /**
+     * 이벤트 디코딩
+     * <P>
+     * 버전 문자로 포맷을 판별한다. 포맷 오류/필수 필드 누락은 IllegalArgumentException.
+     * </P>
+     * 
+     * @PARAM raw 큐 원문
+     * @PARAM om 레거시 JSON 디코딩용 ObjectMapper
+     * @RETURN BidEvent
+     */
+    public static BidEvent decode(String raw, ObjectMapper om) {
+        if (raw == null || raw.isEmpty())
+            throw new IllegalArgumentException("EMPTY_PAYLOAD");
+        char v = raw.charAt(0);
+        if (v == VERSION_1)
+            return decodeV1(raw);
+        if (v == '{')
+            return decodeJson(raw, om);
+        throw new IllegalArgumentException("UNKNOWN_VERSION:" + v);
+    }
+
+    private static BidEvent decodeV1(String raw) {
+        String[] f = new String[V1_FIELDS];
+        int start = 0;
+        for (int i = 0; i < V1_FIELDS - 1; i++) {
+            int idx = raw.indexOf(SEP, start);
+            if (idx < 0)
+                throw new IllegalArgumentException("BAD_PAYLOAD_FIELDS");
+            f[i] = raw.substring(start, idx);
+            start = idx + 1;
+        }
+        f[V1_FIELDS - 1] = raw.substring(start);
+        if (f[4].isEmpty() || f[5].isEmpty() || f[6].isEmpty() || f[8].isEmpty())
+            throw new IllegalArgumentException("BAD_PAYLOAD_FIELDS");
+        String reason = f[2].isEmpty() ? null : f[2];
+        return new BidEvent(Long.parseLong(f[4]), Long.parseLong(f[5]), f[6], f[8],
+                f[1].isEmpty() ? "ACCEPT" : f[1], reason, "1".equals(f[3]) || "BUY_NOW".equalsIgnoreCase(reason),
+                f[7].isEmpty() ? 0L : Long.parseLong(f[7]));
+    }
+
+    private static BidEvent decodeJson(String raw, ObjectMapper om) {
+        JsonNode n;
+        try {
+            n = om.readTree(raw);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("BAD_JSON", e);
+        }
+        if (n == null || !n.hasNonNull("auctionId") || !n.hasNonNull("memberId") || !n.hasNonNull("amount")
+                || !n.hasNonNull("eventId"))
+            throw new IllegalArgumentException("BAD_PAYLOAD_FIELDS");
+        String reason = n.hasNonNull("reason") ? n.get("reason").asText() : null;
+        boolean buyNow = (n.hasNonNull("buyNow") && n.get("buyNow").asBoolean()) || "BUY_NOW".equalsIgnoreCase(reason);
+        return new BidEvent(n.get("auctionId").asLong(), n.get("memberId").asLong(), n.get("amount").asText(),
+                n.get("eventId").asText(), n.hasNonNull("intended") ? n.get("intended").asText() : "ACCEPT", reason,
+                buyNow, n.hasNonNull("ts") ? n.get("ts").asLong() : 0L);
+    }
+}
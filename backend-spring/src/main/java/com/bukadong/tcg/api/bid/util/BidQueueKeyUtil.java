@@ -0,0 +1,88 @@
+package com.bukadong.tcg.api.bid.util;
+
+/**
+ * 입찰 큐 Redis 키 유틸
+ * <P>
+ * 경매별 입찰 큐와 이벤트 구동 컨슈머가 사용하는 활성 큐 레지스트리/알림 리스트 키를 담당한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+public final class BidQueueKeyUtil {
+
+    /** 이벤트가 남아 있는 큐 키 집합(SET) */
+    public static final String ACTIVE_SET = "bidq:active";
+
+    /** 새로 활성화된 큐 키 알림(LIST, 워커가 BLPOP) */
+    public static final String READY_LIST = "bidq:ready";
+
+    public static final String RETRY_SUFFIX = ":retry";
+    public static final String DEAD_SUFFIX = ":dead";
+    public static final String INFLIGHT_SUFFIX = ":inflight";
+    private static final String LEASE_SUFFIX = ":lease";
+
+    private BidQueueKeyUtil() {
+    }
+
+    /**
+     * 경매별 입찰 큐 키
+     * <P>
+     * 형식: auction:{auctionId}:bidq
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @RETURN Redis 키
+     */
+    public static String queueKey(long auctionId) {
+        return "auction:" + auctionId + ":bidq";
+    }
+
+    /**
+     * 큐 드레인 리스 키
+     * <P>
+     * 한 시점에 하나의 워커만 같은 큐를 소비하도록 보장(경매 단위 FIFO 유지).
+     * </P>
+     * 
+     * @PARAM queueKey 입찰 큐 키
+     * @RETURN Redis 키
+     */
+    public static String leaseKey(String queueKey) {
+        return queueKey + LEASE_SUFFIX;
+    }
+
+    /**
+     * 처리 중 이벤트 리스트 키
+     * <P>
+     * 큐에서 꺼냈지만 아직 DB 반영이 확인되지 않은 이벤트를 보관한다. 형식: auction:{auctionId}:bidq:inflight
+     * </P>
+     * 
+     * @PARAM queueKey 입찰 큐 키
+     * @RETURN Redis 키
+     */
+    public static String inflightKey(String queueKey) {
+        return queueKey + INFLIGHT_SUFFIX;
+    }
+
+    /**
+     * 큐 키에서 경매 ID 추출
+     * <P>
+     * 형식: auction:{auctionId}:bidq[:retry]. 형식이 맞지 않으면 null.
+     * </P>
+     * 
+     * @PARAM queueKey 입찰 큐 키
+     * @RETURN 경매 ID 또는 null
+     */
+    public static Long auctionIdOf(String queueKey) {
+        if (queueKey == null || !queueKey.startsWith("auction:"))
+            return null;
+        int end = queueKey.indexOf(':', "auction:".length());
+        if (end < 0)
+            return null;
+        try {
+            return Long.parseLong(queueKey.substring("auction:".length(), end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
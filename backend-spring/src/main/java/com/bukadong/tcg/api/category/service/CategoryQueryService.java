@@ -5,6 +5,7 @@ import com.bukadong.tcg.api.category.dto.response.CategoryMediumResponse;
 import com.bukadong.tcg.api.category.repository.CategoryMajorRepository;
 import com.bukadong.tcg.api.category.repository.CategoryMediumRepository;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.service.MediaUrlService;
 
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 카테고리 조회 서비스.
@@ -37,10 +39,11 @@ public class CategoryQueryService {
      * @return 대분류 목록
      */
     public List<CategoryMajorResponse> listMajors() {
-        return categoryMajorRepository.findAll(Sort.by(Sort.Direction.ASC, "name")).stream()
-                .map(m -> new CategoryMajorResponse(m.getId(), m.getName(), m.getDescription(), mediaUrlService
-                        .getPrimaryImageUrl(MediaType.CATEGORY_MAJOR, m.getId(), Duration.ofMinutes(5)).orElse(null)))
-                .toList();
+        var majors = categoryMajorRepository.findAll(Sort.by(Sort.Direction.ASC, "name"));
+        Map<Long, String> imageUrls = mediaUrlService.getPrimaryImageUrls(MediaType.CATEGORY_MAJOR,
+                majors.stream().map(m -> m.getId()).toList(), Duration.ofMinutes(5), MediaVariant.SMALL);
+        return majors.stream().map(m -> new CategoryMajorResponse(m.getId(), m.getName(), m.getDescription(),
+                imageUrls.get(m.getId()))).toList();
     }
 
     /**
@@ -50,10 +53,11 @@ public class CategoryQueryService {
      * @return 중분류 응답 DTO 목록
      */
     public List<CategoryMediumResponse> listMediumsByMajorId(Long majorId) {
-        return categoryMediumRepository.findByCategoryMajor_Id(majorId).stream().map(m -> new CategoryMediumResponse(
-                m.getId(), m.getName(), m.getDescription(), m.getCategoryMajor().getId(), // 트랜잭션 내 + EntityGraph로 안전
-                m.getCategoryMajor().getName(), mediaUrlService
-                        .getPrimaryImageUrl(MediaType.CATEGORY_MEDIUM, m.getId(), Duration.ofMinutes(5)).orElse(null)))
-                .toList();
+        var mediums = categoryMediumRepository.findByCategoryMajor_Id(majorId);
+        Map<Long, String> imageUrls = mediaUrlService.getPrimaryImageUrls(MediaType.CATEGORY_MEDIUM,
+                mediums.stream().map(m -> m.getId()).toList(), Duration.ofMinutes(5), MediaVariant.SMALL);
+        return mediums.stream().map(m -> new CategoryMediumResponse(m.getId(), m.getName(), m.getDescription(),
+                m.getCategoryMajor().getId(), // 트랜잭션 내 + EntityGraph로 안전
+                m.getCategoryMajor().getName(), imageUrls.get(m.getId()))).toList();
     }
 }
@@ -1,6 +1,7 @@
 package com.bukadong.tcg.api.delivery.scheduler;
 
 import com.bukadong.tcg.api.delivery.service.DeliveryService;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,12 +14,16 @@ public class DeliveryStatusScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(DeliveryStatusScheduler.class);
     private final DeliveryService deliveryService;
+    private final ClusterJobLeases clusterJobLeases;
 
     // 10초 주기 실행
     @Scheduled(cron = "*/10 * * * * *")
     public void advanceStatuses() {
+        if (!clusterJobLeases.tryLead("delivery-status"))
+            return;
         try {
             deliveryService.transitionStatuses();
+            clusterJobLeases.recordRun("delivery-status");
         } catch (Exception e) {
             log.warn("Failed to transition delivery statuses", e);
         }
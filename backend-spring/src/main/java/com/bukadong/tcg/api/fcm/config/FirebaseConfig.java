@@ -6,6 +6,7 @@ import com.google.firebase.FirebaseOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +22,7 @@ import java.util.Base64;
  * <p>
  * application.yml 의 fcm.file_path 로 주입된 서비스 계정 키(JSON) 파일을 이용해 FirebaseApp 단일
  * 인스턴스를 초기화한다. 로컬/서버 모두 동일하게 동작. 키 파일은 Git 에 커밋하지 말고 환경변수 또는 외부 경로 마운트로 주입.
+ * push.sender=stub 이면 자격 증명 없이 기동할 수 있도록 초기화하지 않는다.
  * </p>
  */
 @Configuration
@@ -39,6 +41,7 @@ public class FirebaseConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(prefix = "push", name = "sender", havingValue = "firebase", matchIfMissing = true)
     public FirebaseApp firebaseApp() throws IOException {
         if (!FirebaseApp.getApps().isEmpty()) {
             return FirebaseApp.getInstance();
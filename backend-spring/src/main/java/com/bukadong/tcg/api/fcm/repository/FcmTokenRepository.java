@@ -2,7 +2,12 @@ package com.bukadong.tcg.api.fcm.repository;
 
 import com.bukadong.tcg.api.fcm.entity.FcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +19,14 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     void deleteByToken(String token);
 
     void deleteByMember_Id(Long memberId);
+
+    /** (memberId, token) 일괄 조회 */
+    @Query("select t.member.id, t.token from FcmToken t where t.member.id in :memberIds")
+    List<Object[]> findTokenPairsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /** 무효 토큰 일괄 삭제(단일 DELETE) */
+    @Transactional
+    @Modifying
+    @Query("delete from FcmToken t where t.token in :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
 }
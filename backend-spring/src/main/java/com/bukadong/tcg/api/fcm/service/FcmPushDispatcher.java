@@ -0,0 +1,141 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import com.bukadong.tcg.api.fcm.service.FcmPushService.PushRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 푸시 디스패처
+ * <P>
+ * AFTER_COMMIT 리스너 스레드에서 FCM을 동기 호출하지 않도록 요청을 유한 큐에 넣고, 워커가 모아서(최대 batch-size 요청)
+ * {@link FcmPushService#deliver(List)}로 전송한다. 큐가 가득 차면 offer-timeout-ms만큼 기다린 뒤 버린다(알림 레코드와
+ * SSE는 이미 처리되었으므로 푸시만 유실). 종료 시 남은 요청을 비운 뒤 멈춘다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmPushDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(FcmPushDispatcher.class);
+
+    private final FcmPushService fcmPushService;
+
+    @Value("${push.dispatch.queue-capacity:20000}")
+    private int queueCapacity;
+
+    @Value("${push.dispatch.workers:2}")
+    private int workers;
+
+    /** 워커 1회 전송당 최대 요청 수 */
+    @Value("${push.dispatch.batch-size:500}")
+    private int batchSize;
+
+    @Value("${push.dispatch.offer-timeout-ms:20}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PushRequest> queue;
+    private ExecutorService pool;
+    private volatile boolean running;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        running = true;
+        AtomicInteger seq = new AtomicInteger();
+        int n = Math.max(1, workers);
+        pool = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "fcm-push-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < n; i++)
+            pool.submit(this::loop);
+        log.info("FCM push dispatcher started. workers={}, queueCapacity={}, batchSize={}", n, queueCapacity,
+                batchSize);
+    }
+
+    /**
+     * 푸시 요청 적재
+     *
+     * @PARAM request 푸시 요청
+     * @RETURN 적재되면 true(큐 포화로 버리면 false)
+     */
+    public boolean enqueue(PushRequest request) {
+        try {
+            if (queue.offer(request, offerTimeoutMs, TimeUnit.MILLISECONDS))
+                return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long d = dropped.incrementAndGet();
+        if (d == 1 || d % 1000 == 0)
+            log.warn("FCM push queue full, dropping. memberId={} droppedTotal={}", request.memberId(), d);
+        return false;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+
+    private void loop() {
+        List<PushRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PushRequest first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, Math.max(0, batchSize - 1));
+                delivered.addAndGet(fcmPushService.deliver(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("FCM push batch failed size={} err={}", batch.size(), e.toString());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS))
+                log.warn("FCM push dispatcher did not drain in time. remaining={}", queue.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,20 @@
 package com.bukadong.tcg.api.fcm.service;
 
-import com.bukadong.tcg.api.fcm.entity.FcmToken;
 import com.bukadong.tcg.api.fcm.repository.FcmTokenRepository;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.bukadong.tcg.api.fcm.service.FcmSender.Outcome;
+import com.bukadong.tcg.api.fcm.service.FcmSender.Outgoing;
 import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.MessagingErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -22,103 +23,112 @@ public class FcmPushService {
     private static final Logger log = LoggerFactory.getLogger(FcmPushService.class);
 
     private final FcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final FcmSender fcmSender;
     private final PushMessageFactory pushMessageFactory;
 
+    /**
+     * 회원 대상 푸시 요청
+     *
+     * @PARAM memberId 수신 회원
+     * @PARAM title 제목
+     * @PARAM body 본문
+     * @PARAM path 클릭 경로
+     * @PARAM extraData 추가 data(없으면 null)
+     */
+    public record PushRequest(Long memberId, String title, String body, String path, Map<String, String> extraData) {
+    }
+
     /**
      * 단일 회원에게 FCM 전송 (등록된 모든 기기)
      */
-    // 무효 토큰을 삭제할 수 있도록 readOnly 제거
-    @Transactional
     public int sendToMember(Long memberId, String title, String body) {
-        List<FcmToken> tokens = fcmTokenRepository.findByMember_Id(memberId);
-        int success = 0;
-        for (FcmToken t : tokens) {
-            try {
-                Message message = pushMessageFactory.build(t.getToken(), memberId, title, body, "/", null, null);
-                String id = FirebaseMessaging.getInstance().send(message);
-                log.debug("FCM sent: token={}, msgId={}", t.getToken(), id);
-                success++;
-            } catch (FirebaseMessagingException e) {
-                MessagingErrorCode code = e.getMessagingErrorCode();
-                if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT
-                        || code == MessagingErrorCode.SENDER_ID_MISMATCH) {
-                    // 더 이상 유효하지 않은 토큰 -> DB에서 제거
-                    try {
-                        fcmTokenRepository.deleteByToken(t.getToken());
-                        log.info("Removed invalid FCM token={} reason={}", t.getToken(), code);
-                    } catch (Exception repoEx) {
-                        log.warn("Failed to remove invalid FCM token={} reason={} err={}", t.getToken(), code,
-                                repoEx.getMessage());
-                    }
-                } else {
-                    log.warn("FCM send failed token={} code={} msg={}", t.getToken(), code, e.getMessage());
-                }
-            } catch (Exception e) {
-                log.warn("FCM send failed (unexpected) token={} msg={}", t.getToken(), e.getMessage());
-            }
-        }
-        return success;
+        return deliver(List.of(new PushRequest(memberId, title, body, "/", null)));
     }
 
     /**
      * Raw 토큰 단건 전송 (회원 연관 무시) - Swagger 테스트 용도
      */
-    @Transactional
     public boolean sendRawToken(String token, String title, String body) {
-        try {
-            Message message = pushMessageFactory.build(token, null, title, body, "/", null, null);
-            String id = FirebaseMessaging.getInstance().send(message);
-            log.debug("FCM raw sent: token={}, msgId={}", token, id);
-            return true;
-        } catch (FirebaseMessagingException e) {
-            var code = e.getMessagingErrorCode();
-            if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT
-                    || code == MessagingErrorCode.SENDER_ID_MISMATCH) {
-                // raw token 전송 테스트 중이면 repository 에 없을 수도 있으니 단순 로그
-                log.warn("FCM raw send failed invalid token={} code={} msg={}", token, code, e.getMessage());
-            } else {
-                log.warn("FCM raw send failed token={} code={} msg={}", token, code, e.getMessage());
-            }
-            return false;
-        } catch (Exception e) {
-            log.warn("FCM raw send failed (unexpected) token={} msg={}", token, e.getMessage());
-            return false;
+        Message message = pushMessageFactory.build(token, null, title, body, "/", null, null);
+        Outcome r = fcmSender.sendEach(List.of(new Outgoing(token, message))).get(0);
+        if (!r.success()) {
+            // raw token 전송 테스트 중이면 repository 에 없을 수도 있으니 단순 로그
+            log.warn("FCM raw send failed token={} code={}", token, r.errorCode());
         }
+        return r.success();
     }
 
     /**
      * (신규) 메타데이터/경로 포함 전송 - Notification 이벤트 연동용
      */
-    @Transactional
     public int sendToMemberWithMeta(Long memberId, String title, String body, String path,
             Map<String, String> extraData) {
-        List<FcmToken> tokens = fcmTokenRepository.findByMember_Id(memberId);
+        return deliver(List.of(new PushRequest(memberId, title, body, path, extraData)));
+    }
+
+    /**
+     * 푸시 요청 묶음 전송
+     * <P>
+     * 수신 회원 토큰을 캐시에서 한 번에 조회하고, 토큰별 메시지를 {@link FcmSender#MAX_BATCH}건 단위 sendEach로 보낸다.
+     * 무효 토큰은 묶음 끝에서 DELETE 1회로 정리하고 해당 회원 캐시를 무효화한다. 네트워크 전송 중 트랜잭션을 잡지 않는다.
+     * </P>
+     *
+     * @PARAM requests 푸시 요청
+     * @RETURN 성공 메시지 수
+     */
+    public int deliver(List<PushRequest> requests) {
+        if (requests.isEmpty())
+            return 0;
+        Set<Long> memberIds = new LinkedHashSet<>();
+        for (PushRequest r : requests)
+            if (r.memberId() != null)
+                memberIds.add(r.memberId());
+        Map<Long, List<String>> tokens = fcmTokenCache.tokensOf(memberIds);
+
+        List<Outgoing> outgoing = new ArrayList<>();
+        List<Long> owners = new ArrayList<>();
+        for (PushRequest r : requests) {
+            for (String token : tokens.getOrDefault(r.memberId(), List.of())) {
+                outgoing.add(new Outgoing(token, pushMessageFactory.build(token, r.memberId(), r.title(), r.body(),
+                        r.path(), r.extraData(), null)));
+                owners.add(r.memberId());
+            }
+        }
+
         int success = 0;
-        for (FcmToken t : tokens) {
-            try {
-                Message message = pushMessageFactory.build(t.getToken(), memberId, title, body, path, extraData, null);
-                String id = FirebaseMessaging.getInstance().send(message);
-                log.debug("FCM sent(meta): token={}, msgId={}", t.getToken(), id);
-                success++;
-            } catch (FirebaseMessagingException e) {
-                MessagingErrorCode code = e.getMessagingErrorCode();
-                if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT
-                        || code == MessagingErrorCode.SENDER_ID_MISMATCH) {
-                    try {
-                        fcmTokenRepository.deleteByToken(t.getToken());
-                        log.info("Removed invalid FCM token={} reason={}", t.getToken(), code);
-                    } catch (Exception repoEx) {
-                        log.warn("Failed to remove invalid FCM token={} reason={} err={}", t.getToken(), code,
-                                repoEx.getMessage());
-                    }
-                } else {
-                    log.warn("FCM send(meta) failed token={} code={} msg={}", t.getToken(), code, e.getMessage());
+        Set<String> invalid = new HashSet<>();
+        Set<Long> invalidOwners = new HashSet<>();
+        for (int from = 0; from < outgoing.size(); from += FcmSender.MAX_BATCH) {
+            int to = Math.min(from + FcmSender.MAX_BATCH, outgoing.size());
+            List<Outcome> results = fcmSender.sendEach(outgoing.subList(from, to));
+            for (int i = 0; i < results.size(); i++) {
+                Outcome r = results.get(i);
+                if (r.success()) {
+                    success++;
+                } else if (r.invalidToken()) {
+                    invalid.add(outgoing.get(from + i).token());
+                    invalidOwners.add(owners.get(from + i));
+                } else if (r.errorCode() != null) {
+                    log.warn("FCM send failed token={} code={}", outgoing.get(from + i).token(), r.errorCode());
                 }
-            } catch (Exception e) {
-                log.warn("FCM send(meta) failed (unexpected) token={} msg={}", t.getToken(), e.getMessage());
             }
         }
+        if (!invalid.isEmpty())
+            removeInvalid(invalid, invalidOwners);
+        log.debug("FCM delivered: requests={} messages={} success={} invalid={}", requests.size(), outgoing.size(),
+                success, invalid.size());
         return success;
     }
 
+    private void removeInvalid(Set<String> invalid, Set<Long> owners) {
+        try {
+            int removed = fcmTokenRepository.deleteAllByTokenIn(invalid);
+            log.info("Removed invalid FCM tokens count={} removed={}", invalid.size(), removed);
+        } catch (Exception repoEx) {
+            log.warn("Failed to remove invalid FCM tokens count={} err={}", invalid.size(), repoEx.getMessage());
+        } finally {
+            fcmTokenCache.invalidateAll(owners);
+        }
+    }
 }
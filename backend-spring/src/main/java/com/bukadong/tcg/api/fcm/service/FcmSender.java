@@ -0,0 +1,54 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+import java.util.List;
+
+/**
+ * FCM 전송 포트
+ * <P>
+ * 메시지 묶음(최대 {@link #MAX_BATCH}건)을 한 번의 호출로 보낸다. 운영은 FirebaseMessaging.sendEach, 부하 측정은
+ * 로컬 스텁(push.sender=stub)을 사용한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+public interface FcmSender {
+
+    /** sendEach 1회 호출당 최대 메시지 수(FCM 제한) */
+    int MAX_BATCH = 500;
+
+    /**
+     * 메시지 일괄 전송
+     *
+     * @PARAM batch 전송할 메시지(MAX_BATCH 이하)
+     * @RETURN 입력 순서와 같은 순서의 결과
+     */
+    List<Outcome> sendEach(List<Outgoing> batch);
+
+    /**
+     * 전송 단위(Message는 대상 토큰을 노출하지 않으므로 함께 보관)
+     *
+     * @PARAM token 대상 토큰
+     * @PARAM message 토큰이 지정된 메시지
+     */
+    record Outgoing(String token, Message message) {
+    }
+
+    /**
+     * 메시지별 전송 결과
+     *
+     * @PARAM success 성공 여부
+     * @PARAM errorCode 실패 코드(성공 또는 호출 전체 실패면 null)
+     */
+    record Outcome(boolean success, MessagingErrorCode errorCode) {
+
+        /** 토큰 자체가 무효라 삭제해야 하는 실패인지 */
+        public boolean invalidToken() {
+            return errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+                    || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH;
+        }
+    }
+}
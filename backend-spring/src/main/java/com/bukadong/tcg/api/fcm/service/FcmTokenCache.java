@@ -0,0 +1,128 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import com.bukadong.tcg.api.fcm.repository.FcmTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 → FCM 토큰 로컬 캐시
+ * <P>
+ * 푸시마다 findByMember_Id를 호출하던 조회를 노드 로컬 LRU(TTL)로 대체한다. 미스 회원은 IN 조회 1회로 한 번에 적재하고,
+ * 토큰이 없는 회원도 빈 목록으로 캐시한다. 이 노드의 등록/해제는 커밋 직후, 무효 토큰 삭제는 즉시 무효화하며, 다른 노드의 변경은 TTL
+ * 안에 반영된다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmTokenCache {
+
+    private final FcmTokenRepository fcmTokenRepository;
+
+    @Value("${push.cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${push.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Map<Long, Entry> entries;
+
+    private record Entry(List<String> tokens, long loadedAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > Math.max(1, maxSize);
+            }
+        };
+    }
+
+    /**
+     * 회원별 토큰 조회(미스분 DB 1회)
+     *
+     * @PARAM memberIds 회원 ID
+     * @RETURN 회원 ID → 토큰 목록(토큰 없으면 빈 목록)
+     */
+    public Map<Long, List<String>> tokensOf(Collection<Long> memberIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, List<String>> out = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        synchronized (entries) {
+            for (Long id : memberIds) {
+                Entry e = entries.get(id);
+                if (e != null && now - e.loadedAt() < ttlMs)
+                    out.put(id, e.tokens());
+                else if (!out.containsKey(id))
+                    misses.add(id);
+            }
+        }
+        if (misses.isEmpty())
+            return out;
+
+        Map<Long, List<String>> loaded = new HashMap<>();
+        for (Long id : misses)
+            loaded.put(id, new ArrayList<>(1));
+        for (Object[] row : fcmTokenRepository.findTokenPairsByMemberIds(misses)) {
+            loaded.get(((Number) row[0]).longValue()).add((String) row[1]);
+        }
+        synchronized (entries) {
+            loaded.forEach((id, tokens) -> entries.put(id, new Entry(List.copyOf(tokens), now)));
+        }
+        loaded.forEach((id, tokens) -> out.put(id, List.copyOf(tokens)));
+        return out;
+    }
+
+    /** 회원 토큰 무효화(등록/해제/삭제 후) */
+    public void invalidate(Long memberId) {
+        if (memberId == null)
+            return;
+        synchronized (entries) {
+            entries.remove(memberId);
+        }
+    }
+
+    public void invalidateAll(Collection<Long> memberIds) {
+        synchronized (entries) {
+            memberIds.forEach(entries::remove);
+        }
+    }
+
+    /**
+     * 토큰 변경 트랜잭션 커밋 후 무효화
+     * <P>
+     * 등록/해제 트랜잭션 안에서 지우면 커밋 전 동시 푸시가 이전 토큰 목록을 다시 캐시할 수 있으므로 커밋 시점에 지운다. 트랜잭션이
+     * 없으면 바로 지운다.
+     * </P>
+     *
+     * @PARAM memberId 회원 ID
+     * @RETURN 없음
+     */
+    public void invalidateAfterCommit(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(memberId);
+            }
+        });
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class FcmTokenService {
     private final FcmTokenRepository fcmTokenRepository;
     private final MemberRepository memberRepository;
+    private final FcmTokenCache fcmTokenCache;
 
     @Transactional
     public void register(Long memberId, String token) {
@@ -27,10 +28,12 @@ public class FcmTokenService {
                 return; // 이미 내 것 -> 종료
             }
             fcmTokenRepository.delete(existing); // 소유권 이전 위해 삭제
+            fcmTokenCache.invalidateAfterCommit(existing.getMember().getId());
         }
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Member not found: " + memberId));
         fcmTokenRepository.save(FcmToken.builder().member(member).token(token).build());
+        fcmTokenCache.invalidateAfterCommit(memberId);
     }
 
     /**
@@ -41,6 +44,7 @@ public class FcmTokenService {
         fcmTokenRepository.findByToken(token).ifPresent(existing -> {
             if (existing.getMember().getId().equals(memberId)) {
                 fcmTokenRepository.delete(existing);
+                fcmTokenCache.invalidateAfterCommit(memberId);
             }
         });
     }
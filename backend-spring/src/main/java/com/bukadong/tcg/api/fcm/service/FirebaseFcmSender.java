@@ -0,0 +1,53 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FirebaseMessaging 기반 전송기
+ * <P>
+ * 토큰마다 send를 호출하던 방식 대신 sendEach로 최대 500건을 한 번에 보낸다. 호출 전체가 실패하면 모든 메시지를 실패(코드
+ * 없음)로 반환해 토큰 삭제가 일어나지 않게 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "push", name = "sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmSender implements FcmSender {
+
+    private static final Logger log = LoggerFactory.getLogger(FirebaseFcmSender.class);
+
+    @Override
+    public List<Outcome> sendEach(List<Outgoing> batch) {
+        if (batch.isEmpty())
+            return List.of();
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (Outgoing o : batch)
+            messages.add(o.message());
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            List<Outcome> out = new ArrayList<>(messages.size());
+            for (SendResponse r : response.getResponses()) {
+                out.add(r.isSuccessful() ? new Outcome(true, null)
+                        : new Outcome(false, r.getException() == null ? null
+                                : r.getException().getMessagingErrorCode()));
+            }
+            return out;
+        } catch (Exception e) {
+            log.warn("FCM sendEach failed size={} msg={}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), new Outcome(false, null));
+        }
+    }
+}
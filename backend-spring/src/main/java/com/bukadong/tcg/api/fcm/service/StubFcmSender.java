@@ -0,0 +1,67 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 스텁 전송기(push.sender=stub)
+ * <P>
+ * Firebase 자격 증명 없이 푸시 파이프라인 처리량을 측정하기 위한 전송기. 호출마다 고정 지연(push.stub.latency-ms)을
+ * 흉내 내고, 토큰이 push.stub.invalid-prefix로 시작하면 UNREGISTERED로 응답해 무효 토큰 정리 경로도 태운다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "push", name = "sender", havingValue = "stub")
+public class StubFcmSender implements FcmSender {
+
+    private static final Logger log = LoggerFactory.getLogger(StubFcmSender.class);
+
+    @Value("${push.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${push.stub.invalid-prefix:invalid-}")
+    private String invalidPrefix;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    @Override
+    public List<Outcome> sendEach(List<Outgoing> batch) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Outcome> out = new ArrayList<>(batch.size());
+        for (Outgoing o : batch) {
+            boolean invalid = !invalidPrefix.isEmpty() && o.token().startsWith(invalidPrefix);
+            out.add(invalid ? new Outcome(false, MessagingErrorCode.UNREGISTERED) : new Outcome(true, null));
+        }
+        long c = calls.incrementAndGet();
+        long total = messages.addAndGet(batch.size());
+        if (c % 100 == 0)
+            log.info("[FCM stub] calls={} messages={}", c, total);
+        return out;
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long messages() {
+        return messages.get();
+    }
+}
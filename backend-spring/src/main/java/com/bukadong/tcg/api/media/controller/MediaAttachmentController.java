@@ -41,7 +41,7 @@ public class MediaAttachmentController {
     /**
      * (멀티파트) 파일 업로드 + 첨부 추가
      */
-    @Operation(summary = "파일 업로드 후 첨부 추가", description = "멀티파트 파일을 업로드하고 Media(type, ownerId)에 첨부합니다.")
+    @Operation(summary = "파일 업로드 후 첨부 추가", description = "멀티파트 파일을 업로드하고 Media(type, ownerId)에 첨부합니다. WebP 변환 대상(status=PROCESSING)은 key 없이 mediaId만 반환합니다.")
     @PostMapping(path = "/{type}/{ownerId}", consumes = MULTIPART_FORM_DATA_VALUE)
     public BaseResponse<MediaUploadResponse> addByMultipart(
             @Parameter(description = "MediaType", required = true) @PathVariable(name = "type") MediaType type,
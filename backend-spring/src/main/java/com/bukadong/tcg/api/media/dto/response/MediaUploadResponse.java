@@ -25,7 +25,7 @@ public class MediaUploadResponse {
     @AllArgsConstructor
     @Builder
     public static class Item {
-        @Schema(description = "S3 오브젝트 키")
+        @Schema(description = "S3 오브젝트 키(PROCESSING이면 null: 변환 후 원본이 삭제되므로 mediaId로 참조)", nullable = true)
         private String key;
         @Schema(description = "원본 파일명")
         private String originalFilename;
@@ -33,6 +33,10 @@ public class MediaUploadResponse {
         private String contentType;
         @Schema(description = "사이즈(byte)")
         private long size;
+        @Schema(description = "미디어 ID")
+        private Long mediaId;
+        @Schema(description = "처리 상태(PROCESSING이면 WebP 변환 중이며 변환본은 소유 엔터티 조회 응답에 반영)", example = "PROCESSING")
+        private String status;
     }
 
     @Schema(description = "업로드 결과 목록")
@@ -58,6 +58,15 @@ public class Media {
     @Column(name = "seq_no", nullable = false)
     private Integer seqNo;
 
+    /** 처리 상태 (null=READY, 상태 도입 이전 행) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private MediaStatus status;
+
+    /** 생성된 파생본 크기 목록 (예: "THUMB,SMALL", null=없음) */
+    @Column(name = "variants", length = 40)
+    private String variants;
+
     /** 저장 전 생성일시 자동 설정 */
     @PrePersist
     void prePersist() {
@@ -66,6 +75,16 @@ public class Media {
         }
     }
 
+    /**
+     * 요청 크기에 맞는 접근 key
+     *
+     * @PARAM variant 원하는 크기(null이면 원본)
+     * @RETURN 파생본 key, 없으면 원본 key
+     */
+    public String keyFor(MediaVariant variant) {
+        return MediaVariant.resolveKey(s3keyOrUrl, variants, variant);
+    }
+
     /**
      * 순번 설정
      * 
@@ -0,0 +1,8 @@
+package com.bukadong.tcg.api.media.entity;
+
+/** 미디어 처리 상태 (null은 상태 도입 이전 행으로 READY와 같다) */
+public enum MediaStatus {
+    PROCESSING, // 원본 저장 완료, WebP 변환 대기/진행 중(원본 키로 서빙)
+    READY, // 최종 키로 서빙 가능
+    CONVERT_FAILED // 변환 실패/생략, 원본 키로 서빙
+}
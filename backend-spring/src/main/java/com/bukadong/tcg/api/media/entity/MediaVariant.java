@@ -0,0 +1,84 @@
+package com.bukadong.tcg.api.media.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미지 파생본(썸네일) 크기
+ * <P>
+ * WebP 변환 시 원본보다 좁은 크기만 가로 기준으로 축소해 {base}_{name}.webp 키로 함께 저장하고, 만든 크기 목록을
+ * Media.variants 에 "THUMB,SMALL" 형태로 기록한다. 조회 시 요청 크기 이상인 가장 작은 파생본을 쓰고, 없으면 원본 키를
+ * 쓴다. 너비 오름차순으로 선언한다.
+ * </P>
+ */
+public enum MediaVariant {
+    THUMB(240), // 인기 카드/작은 타일
+    SMALL(480); // 경매/카테고리 목록 카드
+
+    private final int width;
+
+    MediaVariant(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    /**
+     * 파생본 키
+     *
+     * @PARAM baseKey 변환본(또는 원본) 키
+     * @RETURN {확장자 뺀 키}_{name}.webp
+     */
+    public String keyOf(String baseKey) {
+        int slash = baseKey.lastIndexOf('/');
+        int dot = baseKey.lastIndexOf('.');
+        String base = dot > slash ? baseKey.substring(0, dot) : baseKey;
+        return base + "_" + name().toLowerCase() + ".webp";
+    }
+
+    /**
+     * 요청 크기에 맞는 키 선택
+     *
+     * @PARAM key 원본 키
+     * @PARAM variants 기록된 파생본 목록(null이면 없음)
+     * @PARAM wanted 원하는 크기(null이면 원본)
+     * @RETURN 요청 크기 이상인 가장 작은 파생본 키, 없으면 원본 키
+     */
+    public static String resolveKey(String key, String variants, MediaVariant wanted) {
+        if (key == null || wanted == null || variants == null || variants.isBlank())
+            return key;
+        for (MediaVariant v : values()) {
+            if (v.width >= wanted.width && contains(variants, v))
+                return v.keyOf(key);
+        }
+        return key;
+    }
+
+    /**
+     * 기록된 파생본 키 전체(삭제용)
+     *
+     * @PARAM key 원본 키
+     * @PARAM variants 기록된 파생본 목록
+     * @RETURN 파생본 키 목록
+     */
+    public static List<String> keysOf(String key, String variants) {
+        List<String> keys = new ArrayList<>();
+        if (key == null || variants == null || variants.isBlank())
+            return keys;
+        for (MediaVariant v : values()) {
+            if (contains(variants, v))
+                keys.add(v.keyOf(key));
+        }
+        return keys;
+    }
+
+    private static boolean contains(String variants, MediaVariant v) {
+        for (String s : variants.split(",")) {
+            if (s.trim().equals(v.name()))
+                return true;
+        }
+        return false;
+    }
+}
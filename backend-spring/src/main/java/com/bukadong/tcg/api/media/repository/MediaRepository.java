@@ -1,11 +1,16 @@
 package com.bukadong.tcg.api.media.repository;
 
 import com.bukadong.tcg.api.media.entity.Media;
+import com.bukadong.tcg.api.media.entity.MediaStatus;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -50,4 +55,66 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
             """)
     List<Media> findCardThumbnails(@Param("type") MediaType type, @Param("ownerIds") Collection<Long> ownerIds);
 
+    /**
+     * 여러 소유주의 대표 미디어(최소 seqNo)를 한 번에 조회한다.
+     * 
+     * @PARAM type 미디어 타입
+     * @PARAM ownerIds 소유주 ID 목록
+     * @RETURN 소유주별 대표 Media 목록(미디어 없는 소유주는 제외)
+     */
+    @Query("""
+                select m
+                from Media m
+                where m.type = :type
+                  and m.ownerId in :ownerIds
+                  and m.seqNo = (select min(m2.seqNo) from Media m2
+                                 where m2.type = m.type and m2.ownerId = m.ownerId)
+            """)
+    List<Media> findPrimaryByTypeAndOwnerIds(@Param("type") MediaType type,
+            @Param("ownerIds") Collection<Long> ownerIds);
+
+    /**
+     * 변환 완료 반영(원본 키가 그대로일 때만)
+     * <P>
+     * 변환 중에 첨부가 삭제/교체됐으면 0을 반환하므로 호출자가 변환본을 정리한다.
+     * </P>
+     *
+     * @PARAM id 미디어 ID
+     * @PARAM originalKey 변환 전 키
+     * @PARAM newKey 변환본 키
+     * @PARAM mimeType 변환본 MIME 타입
+     * @PARAM status 처리 상태
+     * @PARAM variants 생성된 파생본 목록(null=없음)
+     * @RETURN 갱신 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update Media m
+                   set m.s3keyOrUrl = :newKey, m.mimeType = :mimeType, m.status = :status, m.variants = :variants
+                 where m.id = :id and m.s3keyOrUrl = :originalKey
+            """)
+    int swapKey(@Param("id") Long id, @Param("originalKey") String originalKey, @Param("newKey") String newKey,
+            @Param("mimeType") String mimeType, @Param("status") MediaStatus status,
+            @Param("variants") String variants);
+
+    /**
+     * 처리 상태에 오래 머문 미디어 조회
+     * <P>
+     * 변환 대기 중 노드가 죽거나 종료로 대기 작업이 버려져 PROCESSING으로 남은 행을 찾는다.
+     * </P>
+     *
+     * @PARAM status 처리 상태(PROCESSING)
+     * @PARAM before 이 시각 이전에 생성된 행만
+     * @PARAM pageable 최대 건수
+     * @RETURN 미디어 목록(오래된 순)
+     */
+    @Query("select m from Media m where m.status = :status and m.createdAt < :before order by m.id asc")
+    List<Media> findStale(@Param("status") MediaStatus status, @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Media m set m.status = :status where m.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") MediaStatus status);
 }
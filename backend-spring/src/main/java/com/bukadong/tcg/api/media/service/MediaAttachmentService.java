@@ -2,12 +2,13 @@ package com.bukadong.tcg.api.media.service;
 
 import com.bukadong.tcg.api.media.dto.response.MediaUploadResponse;
 import com.bukadong.tcg.api.media.entity.Media;
+import com.bukadong.tcg.api.media.entity.MediaStatus;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.guard.MediaUploadGuard;
 import com.bukadong.tcg.api.media.policy.MediaPermissionRegistry;
 import com.bukadong.tcg.api.media.repository.MediaRepository;
 import com.bukadong.tcg.api.member.entity.Member;
-import com.bukadong.tcg.global.common.dto.S3UploadResult;
 import com.bukadong.tcg.global.util.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 범용 미디어 첨부 서비스 (도메인 독립)
@@ -35,9 +38,14 @@ public class MediaAttachmentService {
     private final MediaRepository mediaRepository;
     private final S3Uploader s3Uploader;
     private final MediaUploadGuard uploadGuard;
+    private final MediaIngestService ingestService;
 
     /**
      * (멀티파트) 파일 업로드 + 첨부 추가
+     * <P>
+     * 변환 대상 이미지는 PROCESSING 상태로 원본 키가 먼저 저장되고, 커밋 후 WebP 변환본 키로 교체된다. 교체되면 원본은
+     * 삭제되므로 PROCESSING 항목의 응답에는 key를 싣지 않는다(mediaId로 참조).
+     * </P>
      * 
      * @param type
      * @param ownerId
@@ -56,19 +64,27 @@ public class MediaAttachmentService {
         List<Media> exist = mediaRepository.findByTypeAndOwnerIdOrderBySeqNoAsc(type, ownerId);
         int seq = exist.size() + 1;
 
-        List<MediaUploadResponse.Item> items = new ArrayList<>();
-        for (MultipartFile f : files) {
-            if (f == null || f.isEmpty())
-                continue;
+        List<MultipartFile> valid = files.stream().filter(f -> f != null && !f.isEmpty()).toList();
+        // 원본 동시 스트리밍 저장, WebP 변환은 커밋 후 CPU 풀에서 처리
+        List<MediaIngestService.StoredOriginal> stored = ingestService.storeOriginals(valid, dir);
 
-            S3UploadResult res = s3Uploader.upload(f, dir);
-            Media m = Media.builder().type(type).ownerId(ownerId).s3keyOrUrl(res.getKey()) // KEY 저장
-                    .mimeType(res.getContentType()).seqNo(seq++).build();
+        Map<Long, String> conversions = new LinkedHashMap<>();
+        List<MediaUploadResponse.Item> items = new ArrayList<>();
+        for (MediaIngestService.StoredOriginal res : stored) {
+            MediaStatus status = res.convert() ? MediaStatus.PROCESSING : MediaStatus.READY;
+            Media m = Media.builder().type(type).ownerId(ownerId).s3keyOrUrl(res.key()) // KEY 저장
+                    .mimeType(res.contentType()).seqNo(seq++).status(status).build();
             mediaRepository.save(m);
+            if (res.convert())
+                conversions.put(m.getId(), res.key());
 
-            items.add(MediaUploadResponse.Item.builder().key(res.getKey()).originalFilename(res.getOriginalFilename())
-                    .contentType(res.getContentType()).size(res.getSize()).build());
+            // 변환 후 사라질 원본 키는 돌려주지 않음
+            String key = res.convert() ? null : res.key();
+            items.add(MediaUploadResponse.Item.builder().key(key).originalFilename(res.originalFilename())
+                    .contentType(res.contentType()).size(res.size()).mediaId(m.getId()).status(status.name())
+                    .build());
         }
+        ingestService.afterCompletion(stored, conversions);
         return MediaUploadResponse.builder().items(items).build();
     }
 
@@ -117,6 +133,7 @@ public class MediaAttachmentService {
             return;
 
         tryDeleteS3Object(media.getS3keyOrUrl());
+        MediaVariant.keysOf(media.getS3keyOrUrl(), media.getVariants()).forEach(this::tryDeleteS3Object);
         mediaRepository.delete(media);
 
         resequence(type, ownerId);
@@ -149,6 +166,7 @@ public class MediaAttachmentService {
         // S3 삭제 (best-effort) - 기본(default) 키는 보호
         for (Media m : list) {
             tryDeleteS3Object(m.getS3keyOrUrl());
+            MediaVariant.keysOf(m.getS3keyOrUrl(), m.getVariants()).forEach(this::tryDeleteS3Object);
         }
 
         // DB 일괄 삭제
@@ -0,0 +1,396 @@
+package com.bukadong.tcg.api.media.service;
+
+import com.bukadong.tcg.api.media.entity.Media;
+import com.bukadong.tcg.api.media.entity.MediaStatus;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
+import com.bukadong.tcg.api.media.repository.MediaRepository;
+import com.bukadong.tcg.global.common.base.BaseResponseStatus;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import com.bukadong.tcg.global.common.exception.BaseException;
+import com.bukadong.tcg.global.util.S3Uploader;
+import com.sksamuel.scrimage.ImmutableImage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미디어 업로드 파이프라인
+ * <P>
+ * 요청 스레드는 원본을 IO 풀에서 동시에 스트리밍 저장하고 Media 행(PROCESSING)만 남긴다. WebP 변환은 커밋 후 고정 크기 CPU
+ * 풀이 저장소에서 원본을 다시 읽어 수행하고(한 번 디코딩해 목록용 파생본 {@link MediaVariant}도 함께 만든다), 원본 키가
+ * 그대로일 때만 변환본 키로 바꾼 뒤 원본을 지운다. 동시에 디코딩되는 이미지 수는 CPU 풀 크기로, 변환 대상은 파일 크기
+ * (max-convert-bytes)와 헤더에서 읽은 픽셀 수(max-convert-pixels)로 묶어 업로드당 힙 사용을 제한한다. 압축률이 높은 작은
+ * 파일도 디코딩하면 가로×세로×4바이트가 되므로 픽셀 수는 디코딩 전에 확인한다. 변환이 밀리거나 실패하면 원본 그대로 서빙한다(CONVERT_FAILED).
+ * </P>
+ * <P>
+ * 노드 장애나 종료로 대기 작업이 버려져 PROCESSING으로 남은 행은 주기 스윕이 변환을 다시 넣는다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class MediaIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIngestService.class);
+
+    private final S3Uploader s3Uploader;
+    private final MediaRepository mediaRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ClusterJobLeases clusterJobLeases;
+
+    /** 원본 저장 동시 실행 수(넘치면 요청 스레드가 직접 저장) */
+    @Value("${media.ingest.io-threads:8}")
+    private int ioThreads;
+
+    /** WebP 변환 스레드 수(0이면 코어 수의 절반) */
+    @Value("${media.ingest.convert-threads:0}")
+    private int convertThreads;
+
+    @Value("${media.ingest.convert-queue:256}")
+    private int convertQueue;
+
+    /** 이보다 큰 원본은 변환하지 않고 그대로 서빙 */
+    @Value("${media.ingest.max-convert-bytes:20971520}")
+    private long maxConvertBytes;
+
+    /** 가로×세로가 이보다 큰 원본은 디코딩하지 않고 그대로 서빙(헤더로 판정) */
+    @Value("${media.ingest.max-convert-pixels:25000000}")
+    private long maxConvertPixels;
+
+    @Value("${media.ingest.upload-timeout-ms:60000}")
+    private long uploadTimeoutMs;
+
+    /** 이 시간보다 오래 PROCESSING인 행을 스윕이 다시 변환 */
+    @Value("${media.ingest.stale-after-ms:600000}")
+    private long staleAfterMs;
+
+    @Value("${media.ingest.sweep-batch:100}")
+    private int sweepBatch;
+
+    private ThreadPoolExecutor ioPool;
+    private ThreadPoolExecutor convertPool;
+    private TransactionTemplate requiresNew;
+
+    // 이 노드에서 대기/실행 중인 변환(스윕 중복 제출 방지)
+    private final Set<Long> converting = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 저장된 원본
+     *
+     * @PARAM key 원본 키
+     * @PARAM originalFilename 원본 파일명
+     * @PARAM contentType MIME 타입
+     * @PARAM size 바이트 크기
+     * @PARAM convert WebP 변환 대상 여부
+     */
+    public record StoredOriginal(String key, String originalFilename, String contentType, long size,
+            boolean convert) {
+    }
+
+    @PostConstruct
+    void init() {
+        int io = Math.max(1, ioThreads);
+        ioPool = new ThreadPoolExecutor(io, io, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(io * 4),
+                daemonFactory("media-ingest-io"), new ThreadPoolExecutor.CallerRunsPolicy());
+        int cpu = convertThreads > 0 ? convertThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        convertPool = new ThreadPoolExecutor(cpu, cpu, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, convertQueue)), daemonFactory("media-ingest-webp"),
+                new ThreadPoolExecutor.AbortPolicy());
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        ioPool.shutdown();
+        convertPool.shutdown();
+        try {
+            if (!convertPool.awaitTermination(10, TimeUnit.SECONDS))
+                log.warn("WebP conversions still running at shutdown. queued={}", convertPool.getQueue().size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 원본 동시 저장
+     * <P>
+     * 하나라도 실패하면 이미 저장된(또는 나중에 끝나는) 원본을 지우고 업로드 실패로 응답한다.
+     * </P>
+     *
+     * @PARAM files 업로드 파일(빈 파일 제외된 목록)
+     * @PARAM dir 저장 디렉토리
+     * @RETURN 입력 순서대로 저장 결과
+     */
+    public List<StoredOriginal> storeOriginals(List<MultipartFile> files, String dir) {
+        List<CompletableFuture<StoredOriginal>> futures = new ArrayList<>(files.size());
+        for (MultipartFile f : files)
+            futures.add(CompletableFuture.supplyAsync(() -> storeOne(f, dir), ioPool));
+
+        long deadline = System.currentTimeMillis() + uploadTimeoutMs;
+        List<StoredOriginal> out = new ArrayList<>(files.size());
+        try {
+            for (CompletableFuture<StoredOriginal> future : futures)
+                out.add(future.get(Math.max(1L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+            return out;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[INGEST] Upload interrupted: dir={}", dir);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[INGEST] Upload failed: dir={} err={}", dir, e.toString());
+        }
+        for (CompletableFuture<StoredOriginal> future : futures)
+            future.thenAccept(stored -> s3Uploader.delete(stored.key()));
+        throw new BaseException(BaseResponseStatus.S3_FILE_UPLOAD_FAILED);
+    }
+
+    private StoredOriginal storeOne(MultipartFile f, String dir) {
+        String filename = f.getOriginalFilename();
+        String key = s3Uploader.newKey(dir, filename);
+        try (InputStream in = f.getInputStream()) {
+            s3Uploader.store(key, in, f.getSize(), f.getContentType());
+        } catch (IOException e) {
+            throw new IllegalStateException("store failed: " + filename, e);
+        }
+        boolean convert = s3Uploader.isConvertibleImage(f.getContentType()) && f.getSize() <= maxConvertBytes
+                && withinPixelLimit(f);
+        return new StoredOriginal(key, filename, f.getContentType(), f.getSize(), convert);
+    }
+
+    /**
+     * 픽셀 수 상한 확인
+     * <P>
+     * ImageReader로 헤더의 가로/세로만 읽고 픽셀은 디코딩하지 않는다. 판독할 수 없는 파일은 변환 대상에서 뺀다.
+     * </P>
+     *
+     * @PARAM f 업로드 파일
+     * @RETURN 가로×세로가 max-convert-pixels 이하면 true
+     */
+    private boolean withinPixelLimit(MultipartFile f) {
+        try (InputStream in = f.getInputStream(); ImageInputStream iis = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext())
+                return false;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels <= maxConvertPixels)
+                    return true;
+                log.info("[INGEST] Image too large to convert, serving original. file={} pixels={}",
+                        f.getOriginalFilename(), pixels);
+                return false;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("[INGEST] Image header unreadable, serving original. file={} err={}", f.getOriginalFilename(),
+                    e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * 트랜잭션 종료 후 후처리 등록
+     * <P>
+     * 커밋되면 변환 작업을 CPU 풀에 넣고, 롤백되면 저장한 원본을 지운다. 트랜잭션 밖이면 바로 변환을 넣는다.
+     * </P>
+     *
+     * @PARAM stored 이번 요청에서 저장한 원본 전체
+     * @PARAM conversions 미디어 ID → 변환할 원본 키
+     * @RETURN 없음
+     */
+    public void afterCompletion(List<StoredOriginal> stored, Map<Long, String> conversions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitAll(conversions);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submitAll(conversions);
+                } else {
+                    stored.forEach(s -> s3Uploader.delete(s.key()));
+                }
+            }
+        });
+    }
+
+    /**
+     * PROCESSING 잔류 행 재변환
+     * <P>
+     * 변환 대기 중 노드가 죽거나 종료로 대기 작업이 버려진 행을 stale-after-ms 후에 다시 변환 큐에 넣는다. 클러스터에서는 리더
+     * 노드만 수행한다. 원본 키가 그대로일 때만 변환본으로 바뀌므로 중복 실행돼도 안전하다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${media.ingest.sweep-ms:60000}")
+    public void sweepStale() {
+        if (!clusterJobLeases.tryLead("media-ingest-sweep", 90_000L))
+            return;
+        try {
+            LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusNanos(staleAfterMs * 1_000_000L);
+            List<Media> stale = mediaRepository.findStale(MediaStatus.PROCESSING, before,
+                    PageRequest.of(0, Math.max(1, sweepBatch)));
+            int resubmitted = 0;
+            for (Media m : stale) {
+                if (converting.contains(m.getId()))
+                    continue;
+                submitConversion(m.getId(), m.getS3keyOrUrl());
+                resubmitted++;
+            }
+            if (resubmitted > 0)
+                log.info("[INGEST] Resubmitted stale conversions. count={}", resubmitted);
+            clusterJobLeases.recordRun("media-ingest-sweep");
+        } catch (Exception e) {
+            log.warn("[INGEST] Stale conversion sweep failed: {}", e.toString());
+        }
+    }
+
+    private void submitAll(Map<Long, String> conversions) {
+        // 한 건의 실패가 나머지 제출을 막지 않도록 건별로 처리
+        conversions.forEach((mediaId, key) -> {
+            try {
+                submitConversion(mediaId, key);
+            } catch (Exception e) {
+                log.error("[INGEST] Conversion submit failed. mediaId={} key={} err={}", mediaId, key, e.toString());
+            }
+        });
+    }
+
+    private void submitConversion(Long mediaId, String originalKey) {
+        if (!converting.add(mediaId))
+            return;
+        try {
+            convertPool.execute(() -> {
+                try {
+                    convert(mediaId, originalKey);
+                } finally {
+                    converting.remove(mediaId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            converting.remove(mediaId);
+            log.warn("[INGEST] WebP queue full, serving original. mediaId={} key={}", mediaId, originalKey);
+            markFailed(mediaId);
+        }
+    }
+
+    /**
+     * 변환 실패 표시
+     * <P>
+     * 커밋 후 콜백에서도 호출되므로 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션으로 쓴다.
+     * </P>
+     *
+     * @PARAM mediaId 미디어 ID
+     * @RETURN 없음
+     */
+    private void markFailed(Long mediaId) {
+        try {
+            requiresNew.executeWithoutResult(s -> mediaRepository.updateStatus(mediaId, MediaStatus.CONVERT_FAILED));
+        } catch (Exception e) {
+            // 스윕이 PROCESSING 잔류 행으로 다시 처리
+            log.warn("[INGEST] Status update failed. mediaId={} err={}", mediaId, e.toString());
+        }
+    }
+
+    private void convert(Long mediaId, String originalKey) {
+        long startMs = System.currentTimeMillis();
+        String webpKey = webpKeyOf(originalKey);
+        List<String> written = new ArrayList<>();
+        List<String> variants = new ArrayList<>();
+        try {
+            ImmutableImage image;
+            try (InputStream in = s3Uploader.open(originalKey)) {
+                image = ImmutableImage.loader().fromStream(in);
+            }
+            written.add(webpKey);
+            s3Uploader.storeWebp(image, webpKey);
+            // 원본보다 좁은 크기만 파생본 생성(확대 금지)
+            for (MediaVariant v : MediaVariant.values()) {
+                if (image.width <= v.width())
+                    continue;
+                String variantKey = v.keyOf(webpKey);
+                written.add(variantKey);
+                s3Uploader.storeWebp(image.scaleToWidth(v.width()), variantKey);
+                variants.add(v.name());
+            }
+        } catch (Exception e) {
+            log.warn("[INGEST] WebP conversion failed, serving original. mediaId={} key={} err={}", mediaId,
+                    originalKey, e.toString());
+            written.forEach(s3Uploader::delete);
+            markFailed(mediaId);
+            return;
+        }
+        int updated = mediaRepository.swapKey(mediaId, originalKey, webpKey, S3Uploader.WEBP_CONTENT_TYPE,
+                MediaStatus.READY, variants.isEmpty() ? null : String.join(",", variants));
+        if (updated == 0) {
+            // 변환 중 첨부가 삭제/교체됨: 변환본만 정리(원본은 삭제 경로에서 처리). 다른 노드의 재변환이 먼저 같은 키로
+            // 바꿔 둔 경우에는 그 파일이 서빙 중이므로 지우지 않는다
+            boolean servedByOther = mediaRepository.findById(mediaId)
+                    .map(m -> webpKey.equals(m.getS3keyOrUrl())).orElse(false);
+            if (!servedByOther)
+                written.forEach(s3Uploader::delete);
+            return;
+        }
+        s3Uploader.delete(originalKey);
+        if (log.isDebugEnabled())
+            log.debug("[INGEST] WebP ready: mediaId={} key={} variants={} tookMs={}", mediaId, webpKey, variants,
+                    System.currentTimeMillis() - startMs);
+    }
+
+    private static String webpKeyOf(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + ".webp";
+    }
+
+    private static ThreadFactory daemonFactory(String name) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -2,23 +2,36 @@ package com.bukadong.tcg.api.media.service;
 
 import com.bukadong.tcg.api.media.entity.Media;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.repository.MediaRepository;
 import com.bukadong.tcg.global.util.RedisUtils;
 import com.bukadong.tcg.global.util.S3Uploader;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 미디어 Presign 조회/캐싱 쿼리 서비스
  * <P>
- * DB 조회 및 S3 Presign URL 생성, Redis 캐시를 담당한다. 읽기 트랜잭션 전용.
+ * DB 조회 및 S3 Presign URL 생성, 2단계 캐시(노드 로컬 LRU → Redis)를 담당한다. 읽기 트랜잭션 전용.
+ * </P>
+ * <P>
+ * 캐시 값에는 URL의 만료 시각을 함께 저장("{expiresAtMillis}|{url}")하고, 꺼낼 때 남은 유효기간이 요청 유효기간의
+ * min-valid-ratio 미만이면 쓰지 않고 다시 발급한다. 그래서 어느 캐시 계층에서 나온 URL이든 호출자는 요청한 유효기간의 그 비율
+ * 이상을 보장받는다.
  * </P>
  * 
  * @PARAM 없음
@@ -31,11 +44,46 @@ public class MediaPresignQueryService {
     private static final Logger log = LoggerFactory.getLogger(MediaPresignQueryService.class);
 
     private static final String PRESIGN_CACHE_PREFIX = "MEDIA:PRESIGN:";
+    private static final char EXPIRY_SEPARATOR = '|';
 
     private final MediaRepository mediaRepository;
     private final S3Uploader s3Uploader;
     private final RedisUtils redisUtils;
 
+    /** 노드 로컬 캐시 항목 상한 */
+    @Value("${media.presign.local-cache.max-size:10000}")
+    private int localMaxSize;
+
+    /** 노드 로컬 캐시 최대 보관 시간 */
+    @Value("${media.presign.local-cache.ttl-ms:30000}")
+    private long localTtlMs;
+
+    /** 캐시된 URL을 돌려주기 위한 최소 남은 유효기간(요청 유효기간 대비 비율) */
+    @Value("${media.presign.min-valid-ratio:0.5}")
+    private double minValidRatio;
+
+    private Map<String, LocalEntry> localCache;
+
+    /**
+     * 로컬 항목
+     *
+     * @PARAM url presign URL
+     * @PARAM urlExpiresAt URL 만료 epochMillis
+     * @PARAM expiresAt 로컬 보관 만료 epochMillis
+     */
+    private record LocalEntry(String url, long urlExpiresAt, long expiresAt) {
+    }
+
+    @PostConstruct
+    void initLocalCache() {
+        localCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > Math.max(1, localMaxSize);
+            }
+        };
+    }
+
     /**
      * (type, ownerId)의 IMAGE Presign URL 목록 반환 (seq_no ASC)
      * <P>
@@ -59,8 +107,8 @@ public class MediaPresignQueryService {
                     mediaList.size(), keys.size(), effectiveTtl.toSeconds());
         }
 
-        List<String> urls = keys.stream().map(k -> presignWithCache(k, effectiveTtl)).filter(StringUtils::hasText)
-                .toList();
+        Map<String, String> presigned = presignAll(keys, effectiveTtl);
+        List<String> urls = keys.stream().map(presigned::get).filter(StringUtils::hasText).toList();
 
         if (log.isDebugEnabled()) {
             log.debug("[MediaPresign] └─완료: type={} ownerId={} 반환URL수={} TTL(초)={}", type, ownerId, urls.size(),
@@ -69,6 +117,52 @@ public class MediaPresignQueryService {
         return urls;
     }
 
+    /**
+     * 여러 소유주의 대표 이미지 Presign URL 일괄 반환
+     * <P>
+     * 대표 미디어 DB 조회 1회 + {@link #presignAll(Collection, Duration)} 1회로 처리한다.
+     * </P>
+     * 
+     * @PARAM type 미디어 타입
+     * @PARAM ownerIds 소유주 ID 목록
+     * @PARAM ttl presign 유효기간 (null이면 5분)
+     * @RETURN ownerId → presign URL(이미지 없는 소유주는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getPrimaryImageUrls(MediaType type, Collection<Long> ownerIds, Duration ttl) {
+        return getPrimaryImageUrls(type, ownerIds, ttl, null);
+    }
+
+    /**
+     * 여러 소유주의 대표 이미지 Presign URL 일괄 반환(크기 지정)
+     * <P>
+     * 목록 타일처럼 작게 그리는 화면은 파생본(썸네일)을 내려 전송량/디코딩 비용을 줄인다. 파생본이 없는 미디어는 원본을 쓴다.
+     * </P>
+     * 
+     * @PARAM type 미디어 타입
+     * @PARAM ownerIds 소유주 ID 목록
+     * @PARAM ttl presign 유효기간 (null이면 5분)
+     * @PARAM variant 원하는 크기(null이면 원본)
+     * @RETURN ownerId → presign URL(이미지 없는 소유주는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getPrimaryImageUrls(MediaType type, Collection<Long> ownerIds, Duration ttl,
+            MediaVariant variant) {
+        if (ownerIds.isEmpty())
+            return Map.of();
+        Map<Long, String> keyByOwner = new LinkedHashMap<>();
+        for (Media m : mediaRepository.findPrimaryByTypeAndOwnerIds(type, ownerIds))
+            keyByOwner.putIfAbsent(m.getOwnerId(), m.keyFor(variant));
+        Map<String, String> presigned = presignAll(keyByOwner.values(), ttl);
+        Map<Long, String> out = new LinkedHashMap<>();
+        keyByOwner.forEach((ownerId, key) -> {
+            String url = presigned.get(key);
+            if (StringUtils.hasText(url))
+                out.put(ownerId, url);
+        });
+        return out;
+    }
+
     /**
      * S3 key(또는 URL) 단건 Presign URL 발급
      * <P>
@@ -85,6 +179,102 @@ public class MediaPresignQueryService {
         return presignWithCache(s3keyOrUrl, effectiveTtl);
     }
 
+    /**
+     * 여러 S3 key(또는 URL) Presign URL 일괄 발급
+     * <P>
+     * 로컬 캐시 → Redis MGET 1회(미스분) → 로컬 presign → 파이프라인 SET 1회 순서로 처리해 목록 화면의 키별 Redis 왕복을
+     * 없앤다. http(s) 입력은 그대로, 빈 키와 presign 실패 키는 결과에서 제외한다. 두 캐시 모두 저장된 URL 만료 시각으로 남은
+     * 유효기간을 확인해, 요청 유효기간 × min-valid-ratio 미만이면 다시 발급한다.
+     * </P>
+     * 
+     * @PARAM keys S3 key 또는 URL 목록(중복 허용)
+     * @PARAM ttl presign 유효기간 (null이면 5분)
+     * @RETURN 입력 key → presign URL
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> presignAll(Collection<String> keys, Duration ttl) {
+        Duration effectiveTtl = (ttl == null ? Duration.ofMinutes(5) : ttl);
+        long ttlSec = Math.max(0, effectiveTtl.toSeconds());
+        long now = System.currentTimeMillis();
+        long required = requiredValidityMs(effectiveTtl);
+        Map<String, String> out = new LinkedHashMap<>();
+        Map<String, String> misses = new LinkedHashMap<>(); // cacheKey → key
+
+        for (String key : keys) {
+            if (!StringUtils.hasText(key) || out.containsKey(key))
+                continue;
+            String lower = key.toLowerCase();
+            if (lower.startsWith("http://") || lower.startsWith("https://")) {
+                out.put(key, key);
+                continue;
+            }
+            String cacheKey = PRESIGN_CACHE_PREFIX + ttlSec + ":" + key;
+            String local = localGet(cacheKey, now, required);
+            if (local != null)
+                out.put(key, local);
+            else
+                misses.put(cacheKey, key);
+        }
+        int localHits = out.size();
+        if (misses.isEmpty())
+            return out;
+
+        // Redis MGET 1회
+        List<String> cacheKeys = new ArrayList<>(misses.keySet());
+        List<Object> cached;
+        try {
+            cached = redisUtils.getValues(cacheKeys);
+        } catch (Exception e) {
+            log.warn("[MediaPresign] MGET 실패, presign으로 대체: count={} err={}", cacheKeys.size(), e.toString());
+            cached = Collections.nCopies(cacheKeys.size(), null);
+        }
+
+        // 새로 발급한 URL의 만료 시각(발급 직전 시각 기준이라 실제보다 약간 이르게 잡힘)
+        long issuedExpiresAt = now + effectiveTtl.toMillis();
+        Map<String, String> toStore = new LinkedHashMap<>();
+        int redisHits = 0;
+        for (int i = 0; i < cacheKeys.size(); i++) {
+            String cacheKey = cacheKeys.get(i);
+            String key = misses.get(cacheKey);
+            String url = null;
+            long urlExpiresAt = 0L;
+            if (cached.get(i) instanceof String str) {
+                int sep = str.indexOf(EXPIRY_SEPARATOR);
+                urlExpiresAt = sep > 0 ? parseExpiry(str.substring(0, sep)) : 0L;
+                if (urlExpiresAt - now >= required) {
+                    url = str.substring(sep + 1);
+                    redisHits++;
+                }
+            }
+            if (!StringUtils.hasText(url)) {
+                url = s3Uploader.getPresignedGetUrl(key, effectiveTtl);
+                if (!StringUtils.hasText(url)) {
+                    log.warn("[MediaPresign] └─프리사인 실패: key={} TTL(초)={}", key, ttlSec);
+                    continue;
+                }
+                urlExpiresAt = issuedExpiresAt;
+                toStore.put(cacheKey, urlExpiresAt + String.valueOf(EXPIRY_SEPARATOR) + url);
+            }
+            localPut(cacheKey, url, urlExpiresAt, now, required);
+            out.put(key, url);
+        }
+
+        // 파이프라인 SET 1회: 남은 유효기간이 기준 미만이 되는 시점에 만료(이후엔 어차피 재발급)
+        long storeMs = effectiveTtl.toMillis() - required;
+        if (!toStore.isEmpty() && storeMs > 0) {
+            try {
+                redisUtils.setValues(toStore, Duration.ofMillis(storeMs));
+            } catch (Exception e) {
+                log.warn("[MediaPresign] 캐시 저장 실패: count={} err={}", toStore.size(), e.toString());
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[MediaPresign] 일괄: 요청={} 로컬HIT={} RedisHIT={} presign={} TTL(초)={}", keys.size(),
+                    localHits, redisHits, toStore.size(), ttlSec);
+        }
+        return out;
+    }
+
     // 내부 헬퍼
     private String presignWithCache(String urlOrKey, Duration ttl) {
         if (!StringUtils.hasText(urlOrKey)) {
@@ -92,37 +282,44 @@ public class MediaPresignQueryService {
                 log.debug("[MediaPresign] └─건너뜀: 빈 키");
             return null;
         }
-        String lower = urlOrKey.toLowerCase();
-        if (lower.startsWith("http://") || lower.startsWith("https://")) {
-            if (log.isDebugEnabled())
-                log.debug("[MediaPresign] └─URL 입력: 그대로 사용 key={}", urlOrKey);
-            return urlOrKey;
-        }
+        return presignAll(List.of(urlOrKey), ttl).get(urlOrKey);
+    }
 
-        long ttlSec = Math.max(0, ttl.toSeconds());
-        String cacheKey = PRESIGN_CACHE_PREFIX + ttlSec + ":" + urlOrKey;
+    /** 캐시된 URL을 돌려주기 위한 최소 남은 유효기간 */
+    private long requiredValidityMs(Duration ttl) {
+        double ratio = Math.min(1.0, Math.max(0.0, minValidRatio));
+        return (long) (ttl.toMillis() * ratio);
+    }
 
-        var cached = redisUtils.getValue(cacheKey, String.class);
-        if (cached.isPresent()) {
-            if (log.isDebugEnabled())
-                log.debug("[MediaPresign] └─HIT: key={} TTL(초)={} cacheKey={}", urlOrKey, ttlSec, cacheKey);
-            return cached.get();
+    private static long parseExpiry(String v) {
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            return 0L; // 만료 시각 없는 이전 형식 → 재발급
         }
-        if (log.isDebugEnabled())
-            log.debug("[MediaPresign] └─MISS: key={} TTL(초)={} cacheKey={}", urlOrKey, ttlSec, cacheKey);
+    }
 
-        String presigned = s3Uploader.getPresignedGetUrl(urlOrKey, ttl);
-        if (!StringUtils.hasText(presigned)) {
-            log.warn("[MediaPresign] └─프리사인 실패: key={} TTL(초)={}", urlOrKey, ttlSec);
-            return null;
+    private String localGet(String cacheKey, long now, long required) {
+        synchronized (localCache) {
+            LocalEntry e = localCache.get(cacheKey);
+            if (e == null)
+                return null;
+            if (e.expiresAt() <= now || e.urlExpiresAt() - now < required) {
+                localCache.remove(cacheKey);
+                return null;
+            }
+            return e.url();
         }
+    }
 
-        Duration cacheTtl = ttlSec > 5 ? ttl.minusSeconds(5) : ttl;
-        redisUtils.setValue(cacheKey, presigned, cacheTtl);
-        if (log.isDebugEnabled()) {
-            log.debug("[MediaPresign] └─SET: key={} TTL(초)={} cacheTTL(초)={} cacheKey={}", urlOrKey, ttlSec,
-                    cacheTtl.toSeconds(), cacheKey);
+    private void localPut(String cacheKey, String url, long urlExpiresAt, long now, long required) {
+        if (localTtlMs <= 0)
+            return;
+        long expiresAt = Math.min(now + localTtlMs, urlExpiresAt - required);
+        if (expiresAt <= now)
+            return;
+        synchronized (localCache) {
+            localCache.put(cacheKey, new LocalEntry(url, urlExpiresAt, expiresAt));
         }
-        return presigned;
     }
 }
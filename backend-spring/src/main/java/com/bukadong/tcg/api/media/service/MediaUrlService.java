@@ -1,12 +1,15 @@
 package com.bukadong.tcg.api.media.service;
 
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -62,4 +65,41 @@ public class MediaUrlService {
     public String getPresignedUrl(String s3keyOrUrl, Duration ttl) {
         return presignQueryService.getPresignedUrl(s3keyOrUrl, ttl);
     }
+
+    /**
+     * 여러 소유주의 대표 이미지 presign URL 일괄 반환(목록 화면용)
+     * 
+     * @PARAM type 미디어 타입
+     * @PARAM ownerIds 소유주 ID 목록
+     * @PARAM ttl presign 유효기간
+     * @RETURN ownerId → presign URL(없으면 키 없음)
+     */
+    public Map<Long, String> getPrimaryImageUrls(MediaType type, Collection<Long> ownerIds, Duration ttl) {
+        return presignQueryService.getPrimaryImageUrls(type, ownerIds, ttl);
+    }
+
+    /**
+     * 여러 소유주의 대표 이미지 presign URL 일괄 반환(크기 지정)
+     * 
+     * @PARAM type 미디어 타입
+     * @PARAM ownerIds 소유주 ID 목록
+     * @PARAM ttl presign 유효기간
+     * @PARAM variant 원하는 크기(파생본 없으면 원본)
+     * @RETURN ownerId → presign URL(없으면 키 없음)
+     */
+    public Map<Long, String> getPrimaryImageUrls(MediaType type, Collection<Long> ownerIds, Duration ttl,
+            MediaVariant variant) {
+        return presignQueryService.getPrimaryImageUrls(type, ownerIds, ttl, variant);
+    }
+
+    /**
+     * 여러 key 일괄 presign 위임
+     * 
+     * @PARAM keys S3 key 또는 URL 목록
+     * @PARAM ttl presign 유효기간
+     * @RETURN key → presign URL
+     */
+    public Map<String, String> presignAll(Collection<String> keys, Duration ttl) {
+        return presignQueryService.presignAll(keys, ttl);
+    }
 }
@@ -22,6 +22,7 @@ import com.bukadong.tcg.api.notification.entity.NotificationType;
 import com.bukadong.tcg.api.notification.entity.NotificationTypeCode;
 import com.bukadong.tcg.api.notification.repository.NotificationSettingRepository;
 import com.bukadong.tcg.api.notification.repository.NotificationTypeRepository;
+import com.bukadong.tcg.api.notification.service.NotificationPushSettingCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,6 +36,7 @@ public class MyProfileService {
     private final MediaDirResolver mediaDirResolver;
     private final NotificationTypeRepository notificationTypeRepository;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationPushSettingCache notificationPushSettingCache;
 
     @Transactional(readOnly = true)
     public MyProfileResponse loadProfile(Member me) {
@@ -57,6 +59,7 @@ public class MyProfileService {
             return;
         }
         upsertNotificationSettings(me, incoming);
+        notificationPushSettingCache.invalidateAfterCommit(me.getId());
     }
 
     private Map<String, Integer> buildNotificationSettingMap(Member me) {
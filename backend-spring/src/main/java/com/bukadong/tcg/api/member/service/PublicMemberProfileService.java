@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
@@ -16,6 +17,7 @@ import com.bukadong.tcg.api.bid.repository.AuctionBidRepository;
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
 import com.bukadong.tcg.api.auction.repository.AuctionReviewRepository;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.service.MediaUrlService;
 import com.bukadong.tcg.api.member.dto.response.PublicMemberProfileResponse;
 import com.bukadong.tcg.api.member.entity.Member;
@@ -50,8 +52,10 @@ public class PublicMemberProfileService {
                 .findByMember_IdOrderByIdDesc(memberId, PageRequest.of(0, 10))
                 .getContent();
 
+        Map<Long, String> imageUrls = mediaUrlService.getPrimaryImageUrls(MediaType.AUCTION_ITEM,
+                auctions.stream().map(Auction::getId).toList(), Duration.ofMinutes(5), MediaVariant.SMALL);
         List<PublicMemberProfileResponse.SellAuctionRow> sellRows = auctions.stream()
-                .map(this::mapAuctionToRow)
+                .map(a -> mapAuctionToRow(a, imageUrls.get(a.getId())))
                 .collect(Collectors.toList());
 
         List<AuctionReview> reviews = auctionReviewRepository.findByAuctionMemberId(memberId);
@@ -71,7 +75,7 @@ public class PublicMemberProfileService {
                 .build();
     }
 
-    private PublicMemberProfileResponse.SellAuctionRow mapAuctionToRow(Auction a) {
+    private PublicMemberProfileResponse.SellAuctionRow mapAuctionToRow(Auction a, String imgUrl) {
         long remaining = 0L;
         if (!a.isEnd() && a.getEndDatetime() != null) {
             long nowEpoch = Instant.now().getEpochSecond();
@@ -79,9 +83,6 @@ public class PublicMemberProfileService {
             remaining = Math.max(0, endEpoch - nowEpoch);
         }
         long bidCount = auctionBidRepository.countByAuction_Id(a.getId());
-        String imgUrl = mediaUrlService
-                .getPrimaryImageUrl(MediaType.AUCTION_ITEM, a.getId(), Duration.ofMinutes(5))
-                .orElse(null);
 
         return PublicMemberProfileResponse.SellAuctionRow.builder()
                 .id(a.getId())
@@ -20,8 +20,11 @@ import lombok.Builder;
  * @RETURN 없음
  */
 @Entity
-@Table(name = "notification", indexes = { @Index(name = "idx_notification_member", columnList = "member_id"),
-        @Index(name = "idx_notification_created", columnList = "created_at") })
+@Table(name = "notification", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_dedup", columnNames = { "dedup_key" }) }, indexes = {
+                @Index(name = "idx_notification_member", columnList = "member_id"),
+                @Index(name = "idx_notification_created", columnList = "created_at"),
+                @Index(name = "idx_notification_member_type_cause", columnList = "member_id, notification_type_id, cause_id") })
 @Getter
 @NoArgsConstructor
 public class Notification extends BaseEntity {
@@ -56,6 +59,15 @@ public class Notification extends BaseEntity {
     @Column(name = "target_url", length = 255, nullable = false)
     private String targetUrl;
 
+    /**
+     * 팬아웃 중복 방지 키(일괄 적재 행만 설정, 단건 생성은 null)
+     * <P>
+     * 같은 회원/타입/원인이 반복될 수 있는 타입(입찰 결과 등)이 있어 복합 유니크 대신 별도 키를 둔다.
+     * </P>
+     */
+    @Column(name = "dedup_key", length = 64)
+    private String dedupKey;
+
     /** 읽음 여부 */
     @Column(name = "is_read", nullable = false)
     private boolean read;
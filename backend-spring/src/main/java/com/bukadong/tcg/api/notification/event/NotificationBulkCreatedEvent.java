@@ -0,0 +1,16 @@
+package com.bukadong.tcg.api.notification.event;
+
+import com.bukadong.tcg.api.notification.entity.NotificationTypeCode;
+
+import java.util.List;
+
+/**
+ * 알림 일괄 생성 이벤트
+ * <p>
+ * 같은 내용의 알림을 여러 회원에게 한 번에 적재한 뒤 발행된다(위시 알림 팬아웃). AFTER_COMMIT 리스너가 설정 조회/수신자 조회를
+ * 묶음 단위로 수행해 푸시/SSE를 보낸다. notificationIds와 memberIds는 같은 순서로 대응한다.
+ * </p>
+ */
+public record NotificationBulkCreatedEvent(NotificationTypeCode typeCode, Long causeId, String title, String message,
+        String targetUrl, List<Long> notificationIds, List<Long> memberIds) {
+}
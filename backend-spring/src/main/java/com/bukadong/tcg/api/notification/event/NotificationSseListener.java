@@ -11,8 +11,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
 /**
- * NotificationCreatedEvent 를 수신하여 SSE 알림을 전송하는 리스너
+ * NotificationCreatedEvent / NotificationBulkCreatedEvent 를 수신하여 SSE 알림을 전송하는 리스너
  */
 @Component
 @RequiredArgsConstructor
@@ -44,4 +46,23 @@ public class NotificationSseListener {
                     event.notificationId(), event.memberId(), ex.getMessage());
         }
     }
+
+    /**
+     * 일괄 생성 알림 SSE(수신자 UUID는 한 번에 조회, 페이로드는 공유)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBulkCreated(NotificationBulkCreatedEvent event) {
+        if (event.memberIds() == null || event.memberIds().isEmpty())
+            return;
+        try {
+            List<Member> members = memberRepository.findAllById(event.memberIds());
+            NotificationEvent payload = NotificationEvent.builder()
+                    .type(event.typeCode() == null ? "SYSTEM" : event.typeCode().name()).title(event.title())
+                    .message(event.message()).causeId(event.causeId()).build();
+            sseService.sendToUsers(members.stream().map(Member::getUuid).toList(), "notification", payload);
+        } catch (Exception ex) {
+            log.warn("NotificationSseListener failed to send bulk SSE: type={} causeId={} recipients={} err={}",
+                    event.typeCode(), event.causeId(), event.memberIds().size(), ex.getMessage());
+        }
+    }
 }
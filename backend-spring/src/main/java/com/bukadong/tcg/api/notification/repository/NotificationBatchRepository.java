@@ -0,0 +1,116 @@
+package com.bukadong.tcg.api.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 적재 JDBC 리포지토리
+ * <P>
+ * 위시 알림 팬아웃용. 미발송 위시 회원을 안티 조인으로 한 번에 찾고, dedup_key 유니크 키에 대한 INSERT IGNORE 배치로
+ * 적재한다(동시 실행/재시도에도 중복 없음). 현재 트랜잭션의 커넥션을 공유한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String UNNOTIFIED_WISHERS_SQL = """
+            SELECT w.member_id FROM wish_auction w
+             WHERE w.auction_id = ? AND w.wish_flag = 1 AND w.member_id > ?
+               AND NOT EXISTS (SELECT 1 FROM notification n
+                                WHERE n.member_id = w.member_id
+                                  AND n.notification_type_id = ?
+                                  AND n.cause_id = ?)
+             ORDER BY w.member_id
+             LIMIT ?
+            """;
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO notification "
+            + "(member_id, notification_type_id, cause_id, title, message, target_url, is_read, dedup_key, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private static final String INSERTED_IDS_SQL = "SELECT id, member_id FROM notification "
+            + "WHERE dedup_key IN (%s) AND created_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 알림을 받지 않은 위시 회원 조회(회원 ID 키셋)
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM typeId 알림 타입 ID
+     * @PARAM afterMemberId 이 회원 ID 초과부터(체크포인트)
+     * @PARAM limit 최대 건수
+     * @RETURN 회원 ID 목록(오름차순)
+     */
+    public List<Long> findUnnotifiedWishers(long auctionId, long typeId, long afterMemberId, int limit) {
+        return jdbcTemplate.query(UNNOTIFIED_WISHERS_SQL, (rs, i) -> rs.getLong(1), auctionId, afterMemberId, typeId,
+                auctionId, limit);
+    }
+
+    /**
+     * 알림 일괄 삽입(중복 키 무시)
+     * 
+     * @PARAM rows 삽입할 행
+     * @RETURN 없음
+     */
+    public void insertIgnoreAll(List<NotificationRow> rows) {
+        if (rows.isEmpty())
+            return;
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows, rows.size(), (ps, r) -> {
+            ps.setLong(1, r.memberId());
+            ps.setLong(2, r.typeId());
+            ps.setLong(3, r.causeId());
+            ps.setString(4, r.title());
+            ps.setString(5, r.message());
+            ps.setString(6, r.targetUrl());
+            ps.setString(7, r.dedupKey());
+            ps.setObject(8, r.createdAt());
+            ps.setObject(9, r.createdAt());
+        });
+    }
+
+    /**
+     * 이번 배치에서 실제 삽입된 알림 조회
+     * <P>
+     * 무시된 행(이미 존재)은 생성 시각이 달라 제외된다.
+     * </P>
+     * 
+     * @PARAM rows 삽입 시도한 행(같은 생성 시각)
+     * @RETURN 회원 ID → 알림 ID(회원 ID 순)
+     */
+    public Map<Long, Long> findInserted(List<NotificationRow> rows) {
+        if (rows.isEmpty())
+            return Map.of();
+        String sql = String.format(INSERTED_IDS_SQL, String.join(",", Collections.nCopies(rows.size(), "?")));
+        Object[] args = new Object[rows.size() + 1];
+        for (int i = 0; i < rows.size(); i++)
+            args[i] = rows.get(i).dedupKey();
+        args[rows.size()] = rows.get(0).createdAt();
+        Map<Long, Long> out = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            out.put(rs.getLong(2), rs.getLong(1));
+        }, args);
+        return out;
+    }
+
+    /** 위시 팬아웃 중복 방지 키 */
+    public static String dedupKey(long typeId, long causeId, long memberId) {
+        return "w:" + typeId + ":" + causeId + ":" + memberId;
+    }
+
+    /** 일괄 삽입용 알림 행 */
+    public record NotificationRow(long memberId, long typeId, long causeId, String title, String message,
+            String targetUrl, String dedupKey, LocalDateTime createdAt) {
+    }
+}
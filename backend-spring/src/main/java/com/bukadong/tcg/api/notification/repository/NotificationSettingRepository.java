@@ -1,9 +1,12 @@
 package com.bukadong.tcg.api.notification.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.bukadong.tcg.api.member.entity.Member;
 import com.bukadong.tcg.api.notification.entity.NotificationSetting;
@@ -13,4 +16,11 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
     List<NotificationSetting> findByMember(Member member);
 
     Optional<NotificationSetting> findByMemberAndNotificationType(Member member, NotificationType type);
+
+    /**
+     * 푸시를 끈 (회원 ID, 타입 코드) 일괄 조회(설정 행이 없으면 ON으로 간주)
+     */
+    @Query("select s.member.id, s.notificationType.code from NotificationSetting s "
+            + "where s.enabled = false and s.member.id in :memberIds")
+    List<Object[]> findDisabledTypesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -2,13 +2,15 @@ package com.bukadong.tcg.api.notification.service;
 
 import com.bukadong.tcg.api.notification.entity.NotificationType;
 import com.bukadong.tcg.api.notification.entity.NotificationTypeCode;
-import com.bukadong.tcg.api.notification.repository.NotificationRepository;
 import com.bukadong.tcg.api.notification.repository.NotificationTypeRepository;
-import com.bukadong.tcg.api.wish.repository.WishQueryPort;
+import com.bukadong.tcg.api.notification.service.NotificationFanoutService.ChunkResult;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -17,12 +19,14 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 경매 알림 스케줄러
  * <P>
- * - 위시 경매 시작/마감임박/마감 시 위시 유저에게 알림 발송 - 중복 방지를 위해
- * NotificationRepository.existsBy... 검사 - 운영에서는 배치 윈도우/락/오프셋 관리 권장
+ * - 위시 경매 시작/마감임박/마감 시 위시 유저에게 알림 발송 - 경매별 팬아웃은 {@link NotificationFanoutService}가 청크
+ * 단위(안티 조인 + INSERT IGNORE)로 처리 - 한 번에 끝나지 않은 팬아웃은 Redis 해시(NOTIFY:FANOUT:PENDING, field=
+ * {타입}:{경매ID}, value=마지막 회원 ID)에 체크포인트를 남기고 다음 실행에서 먼저 이어서 처리
  * </P>
  */
 @Component
@@ -32,22 +36,38 @@ public class AuctionNotificationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(AuctionNotificationScheduler.class);
 
+    /** 미완료 팬아웃 체크포인트 */
+    public static final String PENDING_HASH = "NOTIFY:FANOUT:PENDING";
+
     private final JdbcTemplate jdbcTemplate; // 경매 테이블 직접 조회용 (간단 쿼리)
-    private final WishQueryPort wishQueryPort;
-    private final NotificationCommandService notificationCommandService;
-    private final NotificationRepository notificationRepository;
+    private final NotificationFanoutService notificationFanoutService;
     private final NotificationTypeRepository notificationTypeRepository;
+    private final StringRedisTemplate redis;
+    private final ClusterJobLeases clusterJobLeases;
 
     private static final Duration WINDOW = Duration.ofMinutes(1); // 폴링 윈도우
     private static final Duration DUE_SOON_BEFORE = Duration.ofMinutes(30); // 마감 임박 기준(30분 전)
 
+    /** 청크당 수신자 수(트랜잭션 1개, INSERT 배치 1개) */
+    @Value("${auction.notify.fanout.chunk-size:500}")
+    private int chunkSize;
+
+    /** 실행당 최대 청크 수(초과분은 체크포인트 후 다음 실행) */
+    @Value("${auction.notify.fanout.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
     // ====== 매 분 실행 (운영 환경에 맞춰 조정) ======
     @Scheduled(cron = "0 * * * * *")
     public void run() {
+        // 노드마다 같은 윈도우를 조회하면 중복 발송되므로 리더 노드만 수행
+        if (!clusterJobLeases.tryLead("auction-notify"))
+            return;
         try {
-            notifyStarted();
-            notifyDueSoon();
-            notifyEnded();
+            int budget = resumePending(maxChunksPerRun);
+            budget = notifyStarted(budget);
+            budget = notifyDueSoon(budget);
+            notifyEnded(budget);
+            clusterJobLeases.recordRun("auction-notify");
         } catch (Exception e) {
             log.error("AuctionNotificationScheduler failed", e);
         }
@@ -56,7 +76,7 @@ public class AuctionNotificationScheduler {
     /**
      * 시작된 경매: start_datetime ∈ (now - WINDOW, now]
      */
-    private void notifyStarted() {
+    private int notifyStarted(int budget) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
         LocalDateTime from = now.minus(WINDOW);
         String sql = """
@@ -64,22 +84,13 @@ public class AuctionNotificationScheduler {
                      WHERE start_datetime > ? AND start_datetime <= ?
                 """;
         List<Long> auctionIds = jdbcTemplate.query(sql, (rs, i) -> rs.getLong(1), from, now);
-
-        NotificationType type = getType(NotificationTypeCode.WISH_AUCTION_STARTED);
-        for (Long auctionId : auctionIds) {
-            List<Long> memberIds = wishQueryPort.findMemberIdsWhoWishedAuction(auctionId);
-            for (Long mid : memberIds) {
-                if (notificationRepository.existsByMemberIdAndTypeAndCauseId(mid, type, auctionId))
-                    continue;
-                notificationCommandService.notifyWishAuctionStarted(mid, auctionId, java.util.Map.of());
-            }
-        }
+        return fanOutAll(NotificationTypeCode.WISH_AUCTION_STARTED, auctionIds, budget);
     }
 
     /**
      * 마감 임박: end_datetime - DUE_SOON_BEFORE ∈ (now - WINDOW, now]
      */
-    private void notifyDueSoon() {
+    private int notifyDueSoon(int budget) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
         LocalDateTime from = now.minus(WINDOW);
         String sql = """
@@ -89,22 +100,13 @@ public class AuctionNotificationScheduler {
                 """;
         int minutes = (int) DUE_SOON_BEFORE.toMinutes();
         List<Long> auctionIds = jdbcTemplate.query(sql, (rs, i) -> rs.getLong(1), minutes, from, minutes, now);
-
-        NotificationType type = getType(NotificationTypeCode.WISH_AUCTION_DUE_SOON);
-        for (Long auctionId : auctionIds) {
-            List<Long> memberIds = wishQueryPort.findMemberIdsWhoWishedAuction(auctionId);
-            for (Long mid : memberIds) {
-                if (notificationRepository.existsByMemberIdAndTypeAndCauseId(mid, type, auctionId))
-                    continue;
-                notificationCommandService.notifyWishAuctionDueSoon(mid, auctionId, java.util.Map.of());
-            }
-        }
+        return fanOutAll(NotificationTypeCode.WISH_AUCTION_DUE_SOON, auctionIds, budget);
     }
 
     /**
      * 마감됨: end_datetime ∈ (now - WINDOW, now]
      */
-    private void notifyEnded() {
+    private int notifyEnded(int budget) {
         LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
         LocalDateTime from = now.minus(WINDOW);
         String sql = """
@@ -112,16 +114,81 @@ public class AuctionNotificationScheduler {
                      WHERE end_datetime > ? AND end_datetime <= ?
                 """;
         List<Long> auctionIds = jdbcTemplate.query(sql, (rs, i) -> rs.getLong(1), from, now);
+        return fanOutAll(NotificationTypeCode.WISH_AUCTION_ENDED, auctionIds, budget);
+    }
+
+    /**
+     * 이전 실행에서 남은 팬아웃 이어서 처리
+     *
+     * @PARAM budget 남은 청크 수
+     * @RETURN 처리 후 남은 청크 수
+     */
+    private int resumePending(int budget) {
+        Map<Object, Object> pending = redis.opsForHash().entries(PENDING_HASH);
+        for (Map.Entry<Object, Object> e : pending.entrySet()) {
+            if (budget <= 0)
+                break;
+            String field = e.getKey().toString();
+            int sep = field.lastIndexOf(':');
+            try {
+                NotificationTypeCode code = NotificationTypeCode.valueOf(field.substring(0, sep));
+                long auctionId = Long.parseLong(field.substring(sep + 1));
+                long cursor = Long.parseLong(e.getValue().toString());
+                budget = fanOut(getType(code), auctionId, cursor, budget);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException bad) {
+                log.warn("Drop malformed fan-out checkpoint. field={} value={}", field, e.getValue());
+                redis.opsForHash().delete(PENDING_HASH, field);
+            }
+        }
+        return budget;
+    }
 
-        NotificationType type = getType(NotificationTypeCode.WISH_AUCTION_ENDED);
+    private int fanOutAll(NotificationTypeCode code, List<Long> auctionIds, int budget) {
+        if (auctionIds.isEmpty())
+            return budget;
+        NotificationType type = getType(code);
         for (Long auctionId : auctionIds) {
-            List<Long> memberIds = wishQueryPort.findMemberIdsWhoWishedAuction(auctionId);
-            for (Long mid : memberIds) {
-                if (notificationRepository.existsByMemberIdAndTypeAndCauseId(mid, type, auctionId))
-                    continue;
-                notificationCommandService.notifyWishAuctionEnded(mid, auctionId, java.util.Map.of());
+            if (budget <= 0) {
+                // 예산 소진: 처음부터 처리하도록 등록만 해 둔다(이미 진행 중이면 유지)
+                redis.opsForHash().putIfAbsent(PENDING_HASH, pendingField(code, auctionId), "0");
+                continue;
             }
+            budget = fanOut(type, auctionId, 0L, budget);
         }
+        return budget;
+    }
+
+    /**
+     * 경매 1건 팬아웃(청크 반복, 청크마다 체크포인트 갱신)
+     *
+     * @PARAM type 알림 타입
+     * @PARAM auctionId 경매 ID
+     * @PARAM cursor 시작 체크포인트(회원 ID)
+     * @PARAM budget 남은 청크 수
+     * @RETURN 처리 후 남은 청크 수
+     */
+    private int fanOut(NotificationType type, long auctionId, long cursor, int budget) {
+        String field = pendingField(type.getCode(), auctionId);
+        int inserted = 0;
+        while (budget > 0) {
+            ChunkResult r = notificationFanoutService.fanOutWishAuctionChunk(type, auctionId, cursor, chunkSize);
+            budget--;
+            inserted += r.inserted();
+            cursor = r.lastMemberId();
+            if (r.candidates() < chunkSize) {
+                redis.opsForHash().delete(PENDING_HASH, field);
+                log.debug("Wish fan-out done: type={} auctionId={} inserted={}", type.getCode(), auctionId, inserted);
+                return budget;
+            }
+            redis.opsForHash().put(PENDING_HASH, field, String.valueOf(cursor));
+        }
+        log.info("Wish fan-out paused (budget exhausted): type={} auctionId={} cursor={} inserted={}",
+                type.getCode(), auctionId, cursor, inserted);
+        return budget;
+    }
+
+    private static String pendingField(NotificationTypeCode code, long auctionId) {
+        return code.name() + ":" + auctionId;
     }
 
     private NotificationType getType(NotificationTypeCode code) {
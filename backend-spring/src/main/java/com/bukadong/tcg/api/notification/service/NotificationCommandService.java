@@ -108,9 +108,8 @@ public class NotificationCommandService {
      */
     @Transactional
     public Long notifyWishAuctionStarted(Long memberId, Long auctionId, Map<String, Object> extras) {
-        String title = "관심 경매가 시작되었습니다";
-        String message = "위시한 경매가 방금 시작되었어요.";
-        return create(memberId, NotificationTypeCode.WISH_AUCTION_STARTED, auctionId, title, message);
+        String[] t = wishAuctionTemplate(NotificationTypeCode.WISH_AUCTION_STARTED);
+        return create(memberId, NotificationTypeCode.WISH_AUCTION_STARTED, auctionId, t[0], t[1]);
     }
 
     /**
@@ -118,9 +117,8 @@ public class NotificationCommandService {
      */
     @Transactional
     public Long notifyWishAuctionDueSoon(Long memberId, Long auctionId, Map<String, Object> extras) {
-        String title = "관심 경매가 곧 마감됩니다";
-        String message = "마감 전에 확인해 보세요.";
-        return create(memberId, NotificationTypeCode.WISH_AUCTION_DUE_SOON, auctionId, title, message);
+        String[] t = wishAuctionTemplate(NotificationTypeCode.WISH_AUCTION_DUE_SOON);
+        return create(memberId, NotificationTypeCode.WISH_AUCTION_DUE_SOON, auctionId, t[0], t[1]);
     }
 
     /**
@@ -128,9 +126,8 @@ public class NotificationCommandService {
      */
     @Transactional
     public Long notifyWishAuctionEnded(Long memberId, Long auctionId, Map<String, Object> extras) {
-        String title = "관심 경매가 마감되었습니다";
-        String message = "결과를 확인해 보세요.";
-        return create(memberId, NotificationTypeCode.WISH_AUCTION_ENDED, auctionId, title, message);
+        String[] t = wishAuctionTemplate(NotificationTypeCode.WISH_AUCTION_ENDED);
+        return create(memberId, NotificationTypeCode.WISH_AUCTION_ENDED, auctionId, t[0], t[1]);
     }
 
     /**
@@ -224,6 +221,21 @@ public class NotificationCommandService {
 
     // ============================ 유틸 ============================
 
+    /**
+     * 위시 경매 알림 문구(단건 생성과 팬아웃이 공유)
+     * 
+     * @PARAM code WISH_AUCTION_STARTED | WISH_AUCTION_DUE_SOON | WISH_AUCTION_ENDED
+     * @RETURN {제목, 본문}
+     */
+    static String[] wishAuctionTemplate(NotificationTypeCode code) {
+        return switch (code) {
+        case WISH_AUCTION_STARTED -> new String[] { "관심 경매가 시작되었습니다", "위시한 경매가 방금 시작되었어요." };
+        case WISH_AUCTION_DUE_SOON -> new String[] { "관심 경매가 곧 마감됩니다", "마감 전에 확인해 보세요." };
+        case WISH_AUCTION_ENDED -> new String[] { "관심 경매가 마감되었습니다", "결과를 확인해 보세요." };
+        default -> throw new IllegalArgumentException("Not a wish auction type: " + code);
+        };
+    }
+
     private String buildTargetUrl(NotificationTypeCode typeCode, Long causeId) {
         return switch (typeCode) {
         case WISH_AUCTION_STARTED, WISH_AUCTION_DUE_SOON, WISH_AUCTION_ENDED, AUCTION_NEW_INQUIRY, AUCTION_WON, AUCTION_CLOSED_SELLER, AUCTION_CANCELED, DELIVERY_STARTED, DELIVERY_STATUS_CHANGED, DELIVERY_CONFIRM_REQUEST, DELIVERY_CONFIRMED_SELLER, BID_ACCEPTED, BID_REJECTED, BID_FAILED -> targetUrlBuilder
@@ -0,0 +1,90 @@
+package com.bukadong.tcg.api.notification.service;
+
+import com.bukadong.tcg.api.notification.entity.NotificationType;
+import com.bukadong.tcg.api.notification.event.NotificationBulkCreatedEvent;
+import com.bukadong.tcg.api.notification.repository.NotificationBatchRepository;
+import com.bukadong.tcg.api.notification.repository.NotificationBatchRepository.NotificationRow;
+import com.bukadong.tcg.api.notification.util.NotificationTargetUrlBuilder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위시 경매 알림 팬아웃 서비스
+ * <P>
+ * 회원마다 존재 확인 + 단건 저장 + 이벤트 발행을 반복하던 방식을 청크 단위 집합 연산으로 바꾼다. 청크 하나는 안티 조인 조회 1회,
+ * INSERT IGNORE 배치 1회, 삽입분 조회 1회, 일괄 생성 이벤트 1건으로 처리되며 한 트랜잭션이다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationFanoutService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFanoutService.class);
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationTargetUrlBuilder targetUrlBuilder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 청크 처리 결과
+     *
+     * @PARAM candidates 조회된 미발송 회원 수(청크 크기보다 작으면 완료)
+     * @PARAM inserted 실제 삽입 건수
+     * @PARAM lastMemberId 다음 청크 체크포인트
+     */
+    public record ChunkResult(int candidates, int inserted, long lastMemberId) {
+    }
+
+    /**
+     * 위시 경매 알림 1청크 팬아웃
+     * 
+     * @PARAM type 알림 타입(WISH_AUCTION_*)
+     * @PARAM auctionId 경매 ID
+     * @PARAM afterMemberId 체크포인트(이 회원 ID 초과부터)
+     * @PARAM chunkSize 청크 크기
+     * @RETURN 청크 처리 결과
+     */
+    @Transactional
+    public ChunkResult fanOutWishAuctionChunk(NotificationType type, long auctionId, long afterMemberId,
+            int chunkSize) {
+        List<Long> memberIds = notificationBatchRepository.findUnnotifiedWishers(auctionId, type.getId(),
+                afterMemberId, chunkSize);
+        if (memberIds.isEmpty()) {
+            return new ChunkResult(0, 0, afterMemberId);
+        }
+
+        String[] template = NotificationCommandService.wishAuctionTemplate(type.getCode());
+        String targetUrl = targetUrlBuilder.buildForAuction(auctionId);
+        // 삽입분 식별을 위해 청크 전체가 같은 생성 시각을 쓴다(DATETIME(6) 정밀도)
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        List<NotificationRow> rows = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            rows.add(new NotificationRow(memberId, type.getId(), auctionId, template[0], template[1], targetUrl,
+                    NotificationBatchRepository.dedupKey(type.getId(), auctionId, memberId), now));
+        }
+        notificationBatchRepository.insertIgnoreAll(rows);
+
+        Map<Long, Long> inserted = notificationBatchRepository.findInserted(rows);
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationBulkCreatedEvent(type.getCode(), auctionId, template[0],
+                    template[1], targetUrl, List.copyOf(inserted.values()), List.copyOf(inserted.keySet())));
+        }
+        log.debug("Wish fan-out chunk: type={} auctionId={} candidates={} inserted={}", type.getCode(), auctionId,
+                memberIds.size(), inserted.size());
+        return new ChunkResult(memberIds.size(), inserted.size(), memberIds.get(memberIds.size() - 1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.bukadong.tcg.api.notification.service;
+
+import com.bukadong.tcg.api.notification.entity.NotificationTypeCode;
+import com.bukadong.tcg.api.notification.repository.NotificationSettingRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 → 푸시 OFF 타입 로컬 캐시
+ * <P>
+ * 알림마다 타입/회원/설정을 각각 조회하던 푸시 여부 판단을 노드 로컬 LRU(TTL)로 대체한다. 미스 회원은 IN 조회 1회로
+ * 적재하며, 설정 행이 없거나 enabled=true면 ON이다. 이 노드의 설정 변경은 커밋 직후 무효화하고 다른 노드는 TTL 안에 반영된다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPushSettingCache {
+
+    private final NotificationSettingRepository notificationSettingRepository;
+
+    @Value("${push.cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${push.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Map<Long, Entry> entries;
+
+    private record Entry(Set<NotificationTypeCode> disabled, long loadedAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > Math.max(1, maxSize);
+            }
+        };
+    }
+
+    /**
+     * 해당 타입 푸시를 끈 회원 조회
+     *
+     * @PARAM code 알림 타입 코드
+     * @PARAM memberIds 회원 ID
+     * @RETURN OFF 회원 ID
+     */
+    public Set<Long> disabledAmong(NotificationTypeCode code, Collection<Long> memberIds) {
+        long now = System.currentTimeMillis();
+        Set<Long> out = new HashSet<>();
+        List<Long> misses = new ArrayList<>();
+        synchronized (entries) {
+            for (Long id : memberIds) {
+                Entry e = entries.get(id);
+                if (e == null || now - e.loadedAt() >= ttlMs)
+                    misses.add(id);
+                else if (e.disabled().contains(code))
+                    out.add(id);
+            }
+        }
+        if (misses.isEmpty())
+            return out;
+
+        Map<Long, Set<NotificationTypeCode>> loaded = new HashMap<>();
+        for (Long id : misses)
+            loaded.put(id, EnumSet.noneOf(NotificationTypeCode.class));
+        for (Object[] row : notificationSettingRepository.findDisabledTypesByMemberIds(misses)) {
+            loaded.get(((Number) row[0]).longValue()).add((NotificationTypeCode) row[1]);
+        }
+        synchronized (entries) {
+            loaded.forEach((id, disabled) -> entries.put(id, new Entry(disabled, now)));
+        }
+        loaded.forEach((id, disabled) -> {
+            if (disabled.contains(code))
+                out.add(id);
+        });
+        return out;
+    }
+
+    public boolean isDisabled(Long memberId, NotificationTypeCode code) {
+        return memberId != null && disabledAmong(code, List.of(memberId)).contains(memberId);
+    }
+
+    /** 회원 설정 무효화(설정 변경 후) */
+    public void invalidate(Long memberId) {
+        if (memberId == null)
+            return;
+        synchronized (entries) {
+            entries.remove(memberId);
+        }
+    }
+
+    /**
+     * 설정 변경 트랜잭션 커밋 후 무효화
+     * <P>
+     * 커밋 전에 지우면 그 사이 다른 요청이 변경 전 설정을 다시 적재해 TTL 동안 유지한다. 트랜잭션 밖이면 즉시 지운다.
+     * </P>
+     *
+     * @PARAM memberId 회원 ID
+     * @RETURN 없음
+     */
+    public void invalidateAfterCommit(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(memberId);
+            }
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.bukadong.tcg.api.notification.sse;
+
+import com.bukadong.tcg.global.cluster.ClusterMembership;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사용자 알림 SSE 노드 라우터
+ * <P>
+ * 사용자 연결이 있는 노드를 Redis 프레즌스(SSE:USER:{uuid}:NODES ZSET, member=nodeId, score=최근 갱신
+ * epochMillis)에 기록하고, 알림은 그 노드들의 전용 채널(sse:user:node:{nodeId})로만 보낸다. 전체 브로드캐스트가 아니므로
+ * 노드 간 트래픽은 연결된 수신자 수에 비례한다. 프레즌스는 연결/해제 시 즉시 반영하고 SSE 하트비트마다 갱신하며, ttl-ms 안에
+ * 갱신되지 않은 노드는 무시된다(노드 비정상 종료 대비).
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNotificationRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserNotificationRouter.class);
+
+    public static final String CHANNEL_PREFIX = "sse:user:node:";
+    private static final String PRESENCE_PREFIX = "SSE:USER:";
+    private static final String PRESENCE_SUFFIX = ":NODES";
+
+    private final StringRedisTemplate redis;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+    private final ClusterMembership membership;
+
+    @Value("${notification.sse.routing.enabled:true}")
+    private boolean enabled;
+
+    /** 프레즌스 유효 시간(SSE 하트비트 주기보다 충분히 길게) */
+    @Value("${notification.sse.routing.presence-ttl-ms:60000}")
+    private long presenceTtlMs;
+
+    private RedisMessageListenerContainer container;
+    private ExecutorService dispatcher;
+
+    /**
+     * 로컬 전송 핸들러(다른 노드에서 라우팅된 알림 수신 시)
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void deliver(String memberUuid, String event, Object payload);
+    }
+
+    /**
+     * 노드 간 라우팅 메시지
+     *
+     * @PARAM origin 발행 노드 ID
+     * @PARAM memberUuids 수신 노드에 연결된 대상 사용자
+     * @PARAM event SSE 이벤트 이름
+     * @PARAM payload 이벤트 데이터
+     */
+    record RoutedMessage(String origin, List<String> memberUuids, String event, Object payload) {
+    }
+
+    /**
+     * 이 노드 채널 구독 시작
+     *
+     * @PARAM handler 로컬 전송 핸들러
+     * @RETURN 없음
+     */
+    public synchronized void subscribe(Handler handler) {
+        if (!enabled || container != null)
+            return;
+        dispatcher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "user-sse-route");
+            t.setDaemon(true);
+            return t;
+        });
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                RoutedMessage m = objectMapper.readValue(message.getBody(), RoutedMessage.class);
+                for (String uuid : m.memberUuids())
+                    handler.deliver(uuid, m.event(), m.payload());
+            } catch (Exception e) {
+                log.warn("[SSE] bad routed user message: {}", e.toString());
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + membership.nodeId()));
+        container.afterPropertiesSet();
+        container.start();
+        log.info("[SSE] user notification routing subscribed. nodeId={}", membership.nodeId());
+    }
+
+    /** 연결 등록(해당 사용자의 첫 연결 시) */
+    public void markPresent(String memberUuid) {
+        if (enabled)
+            refresh(List.of(memberUuid));
+    }
+
+    /** 연결 해제(해당 사용자의 마지막 연결 종료 시) */
+    public void markAbsent(String memberUuid) {
+        if (!enabled)
+            return;
+        try {
+            redis.opsForZSet().remove(presenceKey(memberUuid), membership.nodeId());
+        } catch (Exception e) {
+            log.debug("[SSE] presence remove failed uuid={}: {}", memberUuid, e.toString());
+        }
+    }
+
+    /**
+     * 프레즌스 갱신(파이프라인 1회)
+     *
+     * @PARAM memberUuids 이 노드에 연결된 사용자
+     * @RETURN 없음
+     */
+    public void refresh(Collection<String> memberUuids) {
+        if (!enabled || memberUuids.isEmpty())
+            return;
+        long now = System.currentTimeMillis();
+        String nodeId = membership.nodeId();
+        Duration ttl = Duration.ofMillis(presenceTtlMs);
+        try {
+            redis.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String uuid : memberUuids) {
+                        String key = presenceKey(uuid);
+                        ops.opsForZSet().add(key, nodeId, now);
+                        ops.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now - presenceTtlMs);
+                        ops.expire(key, ttl);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[SSE] presence refresh failed count={}: {}", memberUuids.size(), e.toString());
+        }
+    }
+
+    /**
+     * 다른 노드에 연결된 사용자에게 라우팅
+     * <P>
+     * 대상 사용자 프레즌스를 파이프라인 1회로 조회해 노드별로 묶고, 노드당 메시지 1건을 발행한다. 이 노드는 호출자가 이미
+     * 로컬 전송했으므로 제외한다.
+     * </P>
+     *
+     * @PARAM memberUuids 대상 사용자
+     * @PARAM event SSE 이벤트 이름
+     * @PARAM payload 이벤트 데이터
+     * @RETURN 없음
+     */
+    public void route(List<String> memberUuids, String event, Object payload) {
+        if (!enabled || memberUuids.isEmpty())
+            return;
+        long now = System.currentTimeMillis();
+        String self = membership.nodeId();
+        try {
+            List<Object> results = redis.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (String uuid : memberUuids)
+                        ops.opsForZSet().rangeByScore(presenceKey(uuid), now - presenceTtlMs,
+                                Double.POSITIVE_INFINITY);
+                    return null;
+                }
+            });
+            Map<String, List<String>> byNode = new HashMap<>();
+            for (int i = 0; i < memberUuids.size(); i++) {
+                Object r = results.get(i);
+                if (!(r instanceof Set<?> nodes))
+                    continue;
+                for (Object node : nodes) {
+                    if (!self.equals(node))
+                        byNode.computeIfAbsent(node.toString(), k -> new ArrayList<>()).add(memberUuids.get(i));
+                }
+            }
+            for (Map.Entry<String, List<String>> e : byNode.entrySet()) {
+                String body = objectMapper.writeValueAsString(new RoutedMessage(self, e.getValue(), event, payload));
+                redis.convertAndSend(CHANNEL_PREFIX + e.getKey(), body);
+            }
+        } catch (Exception e) {
+            // 원격 노드 연결만 이번 알림을 놓침(알림 목록 조회로 회복)
+            log.warn("[SSE] user notification route failed count={} event={}: {}", memberUuids.size(), event,
+                    e.toString());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                log.debug("[SSE] user route container destroy error: {}", e.toString());
+            }
+            container = null;
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private static String presenceKey(String memberUuid) {
+        return PRESENCE_PREFIX + memberUuid + PRESENCE_SUFFIX;
+    }
+}
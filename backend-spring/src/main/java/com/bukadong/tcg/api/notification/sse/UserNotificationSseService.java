@@ -2,6 +2,9 @@ package com.bukadong.tcg.api.notification.sse;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,11 +18,16 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
 /**
  * 로그인 유저별 알림 전송을 위한 SSE 서비스. - 키는 memberUuid (String) - subscribe: 연결 및 초기 핑 전송
- * - sendToUser: 특정 유저에게 알림 전송
+ * - sendToUser: 특정 유저에게 알림 전송(로컬 연결 + 연결이 있는 다른 노드로 {@link UserNotificationRouter} 라우팅)
  */
 @Service
+@RequiredArgsConstructor
 public class UserNotificationSseService {
 
     private static final Logger log = LoggerFactory.getLogger(UserNotificationSseService.class);
@@ -28,16 +36,26 @@ public class UserNotificationSseService {
     private final Map<String, Set<SseEmitter>> perUserEmitters = new ConcurrentHashMap<>();
     private final Map<SseEmitter, Integer> failureCounts = new ConcurrentHashMap<>();
 
+    private final UserNotificationRouter router;
+
     @Value("${notification.sse.timeout-ms:600000}") // 기본 10분
     private long defaultTimeoutMs;
 
     @Value("${notification.sse.heartbeat-ms:20000}")
     private long heartbeatMs;
 
+    @PostConstruct
+    void init() {
+        router.subscribe(this::deliverLocal);
+    }
+
     public SseEmitter subscribe(String memberUuid) {
         SseEmitter emitter = new SseEmitter(defaultTimeoutMs);
         attachLifecycle(memberUuid, emitter);
-        perUserEmitters.computeIfAbsent(memberUuid, k -> new CopyOnWriteArraySet<>()).add(emitter);
+        Set<SseEmitter> set = perUserEmitters.computeIfAbsent(memberUuid, k -> new CopyOnWriteArraySet<>());
+        set.add(emitter);
+        if (set.size() == 1)
+            router.markPresent(memberUuid); // 이 노드의 첫 연결
 
         // 연결 직후 클라이언트가 구독 성공을 인지할 수 있도록 1회 ping
         sendEvent(emitter, "connected", Map.of("ts", Instant.now().toEpochMilli()));
@@ -45,6 +63,25 @@ public class UserNotificationSseService {
     }
 
     public void sendToUser(String memberUuid, String type, Object payload) {
+        deliverLocal(memberUuid, type, payload);
+        router.route(List.of(memberUuid), type, payload);
+    }
+
+    /**
+     * 여러 유저에게 같은 알림 전송(원격 노드 라우팅은 노드당 1건으로 묶음)
+     */
+    public void sendToUsers(Collection<String> memberUuids, String type, Object payload) {
+        List<String> targets = new ArrayList<>(memberUuids.size());
+        for (String uuid : memberUuids) {
+            if (uuid == null)
+                continue;
+            deliverLocal(uuid, type, payload);
+            targets.add(uuid);
+        }
+        router.route(targets, type, payload);
+    }
+
+    private void deliverLocal(String memberUuid, String type, Object payload) {
         Set<SseEmitter> set = perUserEmitters.get(memberUuid);
         if (set == null || set.isEmpty())
             return;
@@ -64,6 +101,14 @@ public class UserNotificationSseService {
             for (SseEmitter e : set)
                 sendEvent(e, "heartbeat", Map.of("ts", now));
         }
+        router.refresh(new ArrayList<>(perUserEmitters.keySet()));
+    }
+
+    /** 종료 시 이 노드 프레즌스 제거(TTL 만료 전 잘못된 라우팅 방지) */
+    @PreDestroy
+    void leave() {
+        for (String uuid : perUserEmitters.keySet())
+            router.markAbsent(uuid);
     }
 
     private void attachLifecycle(String memberUuid, SseEmitter emitter) {
@@ -85,8 +130,8 @@ public class UserNotificationSseService {
         Set<SseEmitter> set = perUserEmitters.get(memberUuid);
         if (set != null) {
             set.remove(emitter);
-            if (set.isEmpty())
-                perUserEmitters.remove(memberUuid);
+            if (set.isEmpty() && perUserEmitters.remove(memberUuid, set))
+                router.markAbsent(memberUuid);
         }
         failureCounts.remove(emitter);
     }
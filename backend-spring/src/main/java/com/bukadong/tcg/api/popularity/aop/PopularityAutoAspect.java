@@ -1,24 +1,37 @@
 package com.bukadong.tcg.api.popularity.aop;
 
 import com.bukadong.tcg.api.auction.repository.AuctionRepository;
+import com.bukadong.tcg.api.popularity.service.PopularityAuctionRefCache;
+import com.bukadong.tcg.api.popularity.service.PopularityIngestBuffer;
 import com.bukadong.tcg.api.popularity.service.PopularityService;
+import com.bukadong.tcg.global.security.dto.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
+import java.net.InetAddress;
 import java.util.Optional;
 
 /**
  * 인기 자동 카운팅 AOP(대분류 전용)
  * <P>
- * 주석으로 표시된 메서드가 성공하면 auctionId에서 categoryMajor.id를 찾아 카운팅한다.
+ * 주석으로 표시된 메서드가 성공하면 auctionId에서 categoryMajor.id를 찾아 카운팅한다. 기본(buffer.enabled)은 경매 매핑을
+ * 로컬 캐시에서 찾고 노드 로컬 버퍼에 누적만 하므로 요청 스레드에서 DB/Redis 왕복이 없다(주기 플러시로 반영).
+ * view.scoring=unique면 조회는 (경매, 분)별 고유 조회자(회원 UUID, 비로그인은 IP)의 첫 조회만 반영한다.
  * </P>
  * 
  * @RETURN 없음
@@ -31,6 +44,16 @@ public class PopularityAutoAspect {
 
     private final PopularityService popularityService;
     private final AuctionRepository auctionRepository;
+    private final PopularityAuctionRefCache auctionRefCache;
+    private final PopularityIngestBuffer ingestBuffer;
+
+    /** 쓰기 지연 버퍼 사용 여부(false면 요청 스레드에서 즉시 반영) */
+    @Value("${popularity.buffer.enabled:true}")
+    private boolean bufferEnabled;
+
+    /** 조회 점수 방식: weighted(조회마다) | unique(분 버킷별 고유 조회자) */
+    @Value("${popularity.view.scoring:weighted}")
+    private String viewScoring;
 
     /**
      * 조회 후킹
@@ -79,6 +102,23 @@ public class PopularityAutoAspect {
                 return;
             }
 
+            String viewerKey = (!isBid && "unique".equalsIgnoreCase(viewScoring)) ? resolveViewerKey() : null;
+
+            if (bufferEnabled) {
+                PopularityAuctionRefCache.AuctionRef ref = auctionRefCache.resolve(auctionId);
+                if (ref == null) {
+                    log.debug("[PopularityAOP] card/categoryMajor not found for auctionId={}", auctionId);
+                    return;
+                }
+                if (viewerKey != null) {
+                    ingestBuffer.addViewer(auctionId, ref.categoryMajorId(), ref.cardId(), viewerKey);
+                    return;
+                }
+                ingestBuffer.add(ref.categoryMajorId(), ref.cardId(),
+                        isBid ? popularityService.bidWeight() : popularityService.viewWeight());
+                return;
+            }
+
             Optional<Long> majorIdOpt = auctionRepository.findCategoryMajorIdByAuctionId(auctionId);
             if (majorIdOpt.isEmpty()) {
                 log.debug("[PopularityAOP] categoryMajorId not found for auctionId={}", auctionId);
@@ -88,6 +128,8 @@ public class PopularityAutoAspect {
             long categoryMajorId = majorIdOpt.get();
             if (isBid) {
                 popularityService.recordBid(categoryMajorId, auctionId);
+            } else if (viewerKey != null) {
+                popularityService.recordUniqueView(categoryMajorId, auctionId, viewerKey);
             } else {
                 popularityService.recordView(categoryMajorId, auctionId);
             }
@@ -97,6 +139,44 @@ public class PopularityAutoAspect {
         }
     }
 
+    /**
+     * 조회자 식별 키
+     * <P>
+     * 로그인 회원은 UUID, 비로그인은 클라이언트 IP로만 구분한다. User-Agent나 X-Forwarded-For 첫 값처럼 클라이언트가 요청마다
+     * 바꿀 수 있는 값은 섞지 않는다(바꿀 때마다 새 조회자로 집계됨). 원격 주소가 사설망/루프백(앞단 nginx)이면 nginx가
+     * $remote_addr로 덮어쓴 X-Real-IP를, 아니면 getRemoteAddr()를 쓴다.
+     * </P>
+     * 
+     * @RETURN 조회자 키 또는 null(요청 컨텍스트 없음)
+     */
+    private String resolveViewerKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user && user.getUuid() != null) {
+            return "u:" + user.getUuid();
+        }
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (!(attrs instanceof ServletRequestAttributes sra)) {
+            return null;
+        }
+        HttpServletRequest req = sra.getRequest();
+        String ip = req.getRemoteAddr();
+        String realIp = req.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank() && isProxyHop(ip)) {
+            ip = realIp.trim();
+        }
+        return "a:" + ip;
+    }
+
+    /** 원격 주소가 앞단 프록시가 있는 사설망/루프백인지(getRemoteAddr()는 IP 리터럴이므로 DNS 조회 없음) */
+    private static boolean isProxyHop(String remoteAddr) {
+        try {
+            InetAddress addr = InetAddress.getByName(remoteAddr);
+            return addr.isLoopbackAddress() || addr.isSiteLocalAddress();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * 메서드 인자에서 auctionId 추출 (명시적 지정 우선)
      * <P>
@@ -0,0 +1,43 @@
+package com.bukadong.tcg.api.popularity.scheduler;
+
+import com.bukadong.tcg.api.popularity.service.PopularityService;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 랭킹 60분 집계 롤링 스케줄러
+ * <P>
+ * 매 분 윈도우를 벗어난 분 버킷을 카테고리 집계에서 뺀다. 차감은 커서 비교로 멱등이지만 중복 왕복을 줄이기 위해 리더 노드만
+ * 수행한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularityWindowScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PopularityWindowScheduler.class);
+    private static final String JOB = "popularity-window-roll";
+
+    private final PopularityService popularityService;
+    private final ClusterJobLeases clusterJobLeases;
+
+    // 매 분 1초(분 경계 직후)
+    @Scheduled(cron = "${popularity.aggregate.roll-cron:1 * * * * *}")
+    public void roll() {
+        if (!clusterJobLeases.tryLead(JOB, 90_000L))
+            return;
+        try {
+            popularityService.rollAllWindows();
+            clusterJobLeases.recordRun(JOB);
+        } catch (Exception e) {
+            log.warn("Popularity window roll failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bukadong.tcg.api.popularity.service;
+
+import com.bukadong.tcg.api.auction.repository.AuctionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 → (카드, 대분류) 매핑 로컬 캐시
+ * <P>
+ * 인기 집계 시 매 요청 DB를 두 번 조회하던 매핑을 노드 로컬 LRU로 보관한다. 경매 생성 후 카드/대분류는 바뀌지 않으므로
+ * 무효화가 필요 없고, 용량 초과 시 가장 오래 사용하지 않은 항목부터 축출한다. 매핑이 없는 경매는 캐시하지 않는다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularityAuctionRefCache {
+
+    private final AuctionRepository auctionRepository;
+
+    @Value("${popularity.ref-cache.max-size:20000}")
+    private int maxSize;
+
+    private Map<Long, AuctionRef> entries;
+
+    /**
+     * 경매 인기 집계 참조
+     *
+     * @PARAM cardId 카드 ID
+     * @PARAM categoryMajorId 대분류 ID
+     */
+    public record AuctionRef(long cardId, long categoryMajorId) {
+    }
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AuctionRef> eldest) {
+                return size() > Math.max(1, maxSize);
+            }
+        };
+    }
+
+    /**
+     * 매핑 조회(미스 시 DB 1회)
+     *
+     * @PARAM auctionId 경매 ID
+     * @RETURN 매핑(카드/대분류가 없으면 null)
+     */
+    public AuctionRef resolve(long auctionId) {
+        synchronized (entries) {
+            AuctionRef hit = entries.get(auctionId);
+            if (hit != null)
+                return hit;
+        }
+        List<Object[]> rows = auctionRepository.findPopularityRefByAuctionId(auctionId);
+        if (rows.isEmpty() || rows.get(0)[0] == null || rows.get(0)[1] == null)
+            return null;
+        AuctionRef ref = new AuctionRef(((Number) rows.get(0)[0]).longValue(), ((Number) rows.get(0)[1]).longValue());
+        synchronized (entries) {
+            entries.put(auctionId, ref);
+        }
+        return ref;
+    }
+}
@@ -0,0 +1,200 @@
+package com.bukadong.tcg.api.popularity.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 인기 이벤트 쓰기 지연 버퍼(노드 로컬)
+ * <P>
+ * 요청 스레드는 (대분류, 카드, 분) 키의 카운터에 가중치를 더하기만 하고, 주기 작업이 누적분을 한 번의 파이프라인으로 분 버킷과
+ * 60분 집계에 반영한다. 키별 {@link DoubleAdder}로 경합을 분산하며, 분이 지난 키는 두 번 비워진 뒤(늦게 도착한 더하기까지
+ * 반영) 제거한다. 노드가 비정상 종료되면 마지막 플러시 이후 누적분은 유실된다(랭킹 용도이므로 허용).
+ * </P>
+ * <P>
+ * 고유 조회자 모드(popularity.view.scoring=unique)에서는 조회를 (경매, 분)별 조회자 집합으로 모아 로컬에서 먼저 중복을 없애고,
+ * 플러시 때 HyperLogLog로 처음 보는 조회자만 골라 조회 가중치를 반영한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularityIngestBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(PopularityIngestBuffer.class);
+
+    private final PopularityService popularityService;
+
+    private final Map<Key, DoubleAdder> counters = new ConcurrentHashMap<>();
+
+    private record Key(long categoryId, long cardId, long epochMinute) {
+    }
+
+    private record ViewerKey(long auctionId, long categoryId, long cardId, long epochMinute) {
+    }
+
+    /** 조회자 집합 상한(키당, 플러시 주기 내). 넘는 조회자는 버린다 */
+    @Value("${popularity.view.max-local-viewers:10000}")
+    private int maxLocalViewers;
+
+    private final Map<ViewerKey, Set<String>> viewers = new ConcurrentHashMap<>();
+
+    /**
+     * (경매, 분)별 조회자 묶음
+     *
+     * @PARAM auctionId 경매 ID
+     * @PARAM categoryId 대분류 ID
+     * @PARAM cardId 카드 ID
+     * @PARAM epochMinute UTC epoch 분
+     * @PARAM viewers 조회자 키 집합
+     */
+    public record ViewerBatch(long auctionId, long categoryId, long cardId, long epochMinute, Set<String> viewers) {
+    }
+
+    /**
+     * 누적 증가분
+     *
+     * @PARAM categoryId 대분류 ID
+     * @PARAM cardId 카드 ID
+     * @PARAM epochMinute 이벤트 발생 UTC epoch 분
+     * @PARAM weight 가중치 합
+     */
+    public record Delta(long categoryId, long cardId, long epochMinute, double weight) {
+    }
+
+    /**
+     * 이벤트 누적
+     *
+     * @PARAM categoryId 대분류 ID
+     * @PARAM cardId 카드 ID
+     * @PARAM weight 가중치
+     * @RETURN 없음
+     */
+    public void add(long categoryId, long cardId, double weight) {
+        long minute = Math.floorDiv(System.currentTimeMillis(), 60_000L);
+        counters.computeIfAbsent(new Key(categoryId, cardId, minute), k -> new DoubleAdder()).add(weight);
+    }
+
+    /**
+     * 조회자 누적(고유 조회자 모드)
+     * <P>
+     * compute로 추가하므로 플러시의 키 제거와 원자적으로 직렬화된다(누락 없음).
+     * </P>
+     *
+     * @PARAM auctionId 경매 ID
+     * @PARAM categoryId 대분류 ID
+     * @PARAM cardId 카드 ID
+     * @PARAM viewerKey 조회자 식별 키
+     * @RETURN 없음
+     */
+    public void addViewer(long auctionId, long categoryId, long cardId, String viewerKey) {
+        long minute = Math.floorDiv(System.currentTimeMillis(), 60_000L);
+        viewers.compute(new ViewerKey(auctionId, categoryId, cardId, minute), (k, set) -> {
+            Set<String> s = set != null ? set : new HashSet<>();
+            if (s.size() < maxLocalViewers)
+                s.add(viewerKey);
+            return s;
+        });
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 누적분 플러시
+     * <P>
+     * 반영에 실패하면 증가분을 카운터에 되돌려 다음 주기에 재시도한다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${popularity.buffer.flush-ms:1000}")
+    public void flush() {
+        flushViewers();
+        if (counters.isEmpty())
+            return;
+        long currentMinute = Math.floorDiv(System.currentTimeMillis(), 60_000L);
+        List<Delta> deltas = new ArrayList<>();
+        List<Map.Entry<Key, DoubleAdder>> drained = new ArrayList<>();
+        for (Map.Entry<Key, DoubleAdder> e : counters.entrySet()) {
+            Key k = e.getKey();
+            double sum = e.getValue().sumThenReset();
+            if (sum != 0) {
+                deltas.add(new Delta(k.categoryId(), k.cardId(), k.epochMinute(), sum));
+                drained.add(e);
+            } else if (k.epochMinute() < currentMinute - 1) {
+                // 분이 지난 뒤 한 주기 이상 비어 있던 키만 제거(진행 중인 더하기와 경합 방지)
+                counters.remove(k, e.getValue());
+            }
+        }
+        if (deltas.isEmpty())
+            return;
+        try {
+            popularityService.applyDeltas(deltas);
+        } catch (Exception ex) {
+            for (int i = 0; i < drained.size(); i++) {
+                counters.computeIfAbsent(drained.get(i).getKey(), k -> new DoubleAdder()).add(deltas.get(i).weight());
+            }
+            log.warn("Popularity buffer flush failed, will retry. keys={}, err={}", deltas.size(), ex.toString());
+        }
+    }
+
+    /**
+     * 조회자 플러시
+     * <P>
+     * 새 조회자 수 × 조회 가중치를 카운터로 옮겨 같은 주기의 버킷 반영에 합친다. 판정에 실패하면 조회자를 되돌린다.
+     * </P>
+     */
+    private void flushViewers() {
+        if (viewers.isEmpty())
+            return;
+        List<ViewerBatch> batches = new ArrayList<>();
+        for (ViewerKey k : List.copyOf(viewers.keySet())) {
+            Set<String> set = viewers.remove(k);
+            if (set != null && !set.isEmpty())
+                batches.add(new ViewerBatch(k.auctionId(), k.categoryId(), k.cardId(), k.epochMinute(), set));
+        }
+        if (batches.isEmpty())
+            return;
+        List<Integer> added;
+        try {
+            added = popularityService.countNewViewers(batches);
+        } catch (Exception ex) {
+            for (ViewerBatch b : batches) {
+                viewers.merge(new ViewerKey(b.auctionId(), b.categoryId(), b.cardId(), b.epochMinute()), b.viewers(),
+                        (a, c) -> {
+                            a.addAll(c);
+                            return a;
+                        });
+            }
+            log.warn("Popularity viewer flush failed, will retry. keys={}, err={}", batches.size(), ex.toString());
+            return;
+        }
+        double weight = popularityService.viewWeight();
+        for (int i = 0; i < batches.size() && i < added.size(); i++) {
+            ViewerBatch b = batches.get(i);
+            if (added.get(i) > 0) {
+                counters.computeIfAbsent(new Key(b.categoryId(), b.cardId(), b.epochMinute()), k -> new DoubleAdder())
+                        .add(added.get(i) * weight);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
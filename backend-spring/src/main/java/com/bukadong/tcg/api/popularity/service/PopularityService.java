@@ -8,14 +8,21 @@ import com.bukadong.tcg.api.popularity.dto.response.PopularCardDto;
 import com.bukadong.tcg.api.popularity.util.PopularityKeyUtil;
 import com.bukadong.tcg.api.media.entity.Media;
 import com.bukadong.tcg.api.media.entity.MediaType;
+import com.bukadong.tcg.api.media.entity.MediaVariant;
 import com.bukadong.tcg.api.media.repository.MediaRepository;
 import com.bukadong.tcg.api.media.service.MediaPresignQueryService;
 import com.bukadong.tcg.global.common.dto.PageResponse;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +35,8 @@ import java.util.stream.Collectors;
 /**
  * 인기 카드 서비스
  * <P>
- * 경매 이벤트를 카드 기준으로 집계하고, 최근 60분 합산 점수로 랭킹을 제공한다.
+ * 경매 이벤트를 카드 기준으로 집계하고, 최근 60분 합산 점수로 랭킹을 제공한다. 쓰기는 분 버킷과 카테고리별 60분 집계
+ * ZSET을 함께 증가시키고, 분 단위 롤링 작업이 윈도우를 벗어난 분 버킷을 집계에서 빼므로 조회는 집계 ZSET 범위 조회 한 번이다.
  * </P>
  * 
  * @PARAM 없음
@@ -43,6 +51,25 @@ public class PopularityService {
     private final CardRepository cardRepository;
     private final MediaRepository mediaRepository;
     private final MediaPresignQueryService mediaPresignQueryService;
+    private final DefaultRedisScript<Long> popularityRollOffScript;
+    private final DefaultRedisScript<Long> popularityRebuildScript;
+
+    private static final Logger log = LoggerFactory.getLogger(PopularityService.class);
+
+    /** 집계 윈도우(분) */
+    private static final int WINDOW_MINUTES = 60;
+
+    /** 차감으로 따라잡을 최대 분 수(넘으면 재구성) */
+    private static final int MAX_CATCH_UP_MINUTES = 5;
+
+    /** 분 버킷 최소 TTL(분): 차감되기 전에 만료되면 집계에 점수가 영구히 남으므로 윈도우 + 따라잡기 + 여유 2분 */
+    private static final long MIN_BUCKET_TTL_MINUTES = WINDOW_MINUTES + MAX_CATCH_UP_MINUTES + 2;
+
+    /** 고유 조회자 HyperLogLog TTL(분 버킷 + 지연 플러시 여유) */
+    private static final Duration VIEWER_HLL_TTL = Duration.ofMinutes(3);
+
+    /** 이 점수 이하 멤버는 집계에서 제거(부동소수 오차 흡수) */
+    private static final String ZERO_SCORE = "0.000001";
 
     /** 조회 가중치 (기본 1) */
     @Value("${popularity.weight.view}")
@@ -52,10 +79,19 @@ public class PopularityService {
     @Value("${popularity.weight.bid}")
     private double bidWeight;
 
-    /** 분 버킷 TTL (분) */
+    /** 분 버킷 TTL (분, {@link #MIN_BUCKET_TTL_MINUTES} 미만이면 올려서 사용) */
     @Value("${popularity.bucket.ttl-minutes}")
     private long bucketTtlMinutes;
 
+    @PostConstruct
+    void clampBucketTtl() {
+        if (bucketTtlMinutes < MIN_BUCKET_TTL_MINUTES) {
+            log.warn("popularity.bucket.ttl-minutes={} is shorter than the roll-off window, using {}",
+                    bucketTtlMinutes, MIN_BUCKET_TTL_MINUTES);
+            bucketTtlMinutes = MIN_BUCKET_TTL_MINUTES;
+        }
+    }
+
     /**
      * 조회 이벤트 기록
      * <P>
@@ -70,6 +106,72 @@ public class PopularityService {
         applyEventToMinuteBucket(categoryId, auctionId, viewWeight);
     }
 
+    /**
+     * 고유 조회자 기준 조회 이벤트 기록
+     * <P>
+     * (경매, 현재 분) HyperLogLog에 조회자를 추가하고, 처음 보는 조회자일 때만 조회 가중치를 반영한다(새로고침/재접속 중복
+     * 제외).
+     * </P>
+     * 
+     * @PARAM categoryId 카테고리 ID
+     * @PARAM auctionId 경매 ID
+     * @PARAM viewerKey 조회자 식별 키
+     * @RETURN 없음
+     */
+    public void recordUniqueView(long categoryId, long auctionId, String viewerKey) {
+        String hllKey = PopularityKeyUtil.viewerHllKey(auctionId, currentEpochMinute());
+        Long added = stringRedisTemplate.opsForHyperLogLog().add(hllKey, viewerKey);
+        stringRedisTemplate.expire(hllKey, VIEWER_HLL_TTL);
+        if (added != null && added > 0) {
+            applyEventToMinuteBucket(categoryId, auctionId, viewWeight);
+        }
+    }
+
+    /**
+     * 고유 조회자 일괄 판정
+     * <P>
+     * (경매, 분)별 조회자를 파이프라인 PFADD로 추가하고 새로 관측된 조회자 수를 돌려준다. HyperLogLog 키는 버킷당 최대
+     * 12KB이며 짧은 TTL로 정리된다.
+     * </P>
+     * 
+     * @PARAM batches (경매, 분)별 조회자 묶음
+     * @RETURN 같은 순서의 새 조회자 수
+     */
+    public List<Integer> countNewViewers(List<PopularityIngestBuffer.ViewerBatch> batches) {
+        if (batches.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (PopularityIngestBuffer.ViewerBatch b : batches) {
+                    String hllKey = PopularityKeyUtil.viewerHllKey(b.auctionId(), b.epochMinute());
+                    // 조회자별 결과(1=새 조회자)가 필요하므로 한 명씩 PFADD
+                    for (String viewer : b.viewers()) {
+                        ops.opsForHyperLogLog().add(hllKey, viewer);
+                    }
+                    ops.expire(hllKey, VIEWER_HLL_TTL);
+                }
+                return null;
+            }
+        });
+        List<Integer> out = new ArrayList<>(batches.size());
+        int idx = 0;
+        for (PopularityIngestBuffer.ViewerBatch b : batches) {
+            int added = 0;
+            for (int i = 0; i < b.viewers().size(); i++, idx++) {
+                if (idx < results.size() && results.get(idx) instanceof Number n && n.longValue() > 0) {
+                    added++;
+                }
+            }
+            idx++; // expire 결과
+            out.add(added);
+        }
+        return out;
+    }
+
     /**
      * 입찰 이벤트 기록
      * <P>
@@ -105,17 +207,15 @@ public class PopularityService {
         }
         long categoryMajorId = c.getCategoryMajor().getId();
 
-        // 분 버킷 키 계산(UTC) 후 cardId 멤버 점수 증가
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        String key = PopularityKeyUtil.minuteKey(categoryMajorId, now);
-        stringRedisTemplate.opsForZSet().incrementScore(key, String.valueOf(cardId), viewWeight);
-        stringRedisTemplate.expire(key, Duration.ofMinutes(bucketTtlMinutes));
+        // 분 버킷/집계의 cardId 멤버 점수 증가
+        incrementBuckets(categoryMajorId, cardId, viewWeight);
     }
 
     /**
      * 최근 1시간 인기 카드 조회
      * <P>
-     * 현재 분 포함 과거 59분까지의 분 버킷을 합산하여 랭킹을 계산한다.
+     * 카테고리 60분 집계 ZSET을 그대로 범위 조회한다. 롤링 커서 존재 여부, 전체 개수, 범위 조회를 파이프라인 한 번으로 보내고,
+     * 집계가 아직 없을 때만(배포 직후 등) 분 버킷으로 재구성한 뒤 한 번 더 읽는다.
      * </P>
      * 
      * @PARAM categoryId 카테고리 ID
@@ -125,88 +225,95 @@ public class PopularityService {
      */
     @Transactional(readOnly = true)
     public PageResponse<PopularCardDto> getTopCardsLastHour(long categoryId, int page, int size) {
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-
-        // 1) 최근 60분 키 생성
-        List<String> minuteKeys = new ArrayList<>(60);
-        for (int i = 0; i < 60; i++) {
-            minuteKeys.add(PopularityKeyUtil.minuteKey(categoryId, now.minusMinutes(i)));
+        long start = (long) page * size;
+        long end = start + size - 1;
+
+        // 1) 커서 확인 + 개수 + 상위 범위(점수 포함)를 한 번의 왕복으로 조회
+        List<Object> hour = readHourPage(categoryId, start, end);
+        if (!Boolean.TRUE.equals(hour.get(0))) {
+            rollWindow(categoryId, currentEpochMinute());
+            hour = readHourPage(categoryId, start, end);
         }
 
-        // 2) 존재하는 키만 추려서 합산 비용 절감
-        List<String> existing = minuteKeys.stream().filter(k -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(k)))
-                .toList();
-
-        if (existing.isEmpty()) {
+        long totalElements = hour.get(1) instanceof Number n ? n.longValue() : 0L;
+        if (totalElements == 0) {
             return new PageResponse<>(List.of(), page, size, 0, 0);
         }
+        int totalPages = size == 0 ? 0 : (int) Math.ceil((double) totalElements / size);
 
-        // 3) 임시 결과 키
-        String destKey = PopularityKeyUtil.tempKey(categoryId, UUID.randomUUID().toString());
-
-        try {
-            // 4) ZUNIONSTORE (고수준 API) — 가중치는 이벤트 시점에 반영했으므로 SUM만 필요
-            String first = existing.get(0);
-            List<String> others = (existing.size() > 1) ? existing.subList(1, existing.size()) : List.of();
-            stringRedisTemplate.opsForZSet().unionAndStore(first, others, destKey);
-
-            long totalElements = Optional.ofNullable(stringRedisTemplate.opsForZSet().zCard(destKey)).orElse(0L);
-            int totalPages = size == 0 ? 0 : (int) Math.ceil((double) totalElements / size);
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> range = (Set<ZSetOperations.TypedTuple<String>>) hour.get(2);
 
-            long start = (long) page * size;
-            long end = start + size - 1;
-
-            // 5) 상위 범위 조회 (점수 포함)
-            Set<ZSetOperations.TypedTuple<String>> range = stringRedisTemplate.opsForZSet()
-                    .reverseRangeWithScores(destKey, start, end);
+        if (range == null || range.isEmpty()) {
+            return new PageResponse<>(List.of(), page, size, totalElements, totalPages);
+        }
 
-            if (range == null || range.isEmpty()) {
-                return new PageResponse<>(List.of(), page, size, totalElements, totalPages);
+        // 2) 카드 ID 리스트 추출 (멤버는 cardId 문자열)
+        List<Long> cardIds = range.stream().map(ZSetOperations.TypedTuple::getValue).filter(Objects::nonNull)
+                .map(Long::valueOf).toList();
+
+        // 3) 카드 메타 로딩 (rarity 포함)
+        Map<Long, Card> cardMap = cardRepository.findAllById(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, c -> c));
+
+        // 3-1) 카드 대표 이미지(IMAGE, seqNo=1) 벌크 조회 → ownerId(=cardId) -> 썸네일 s3key 매핑(없으면 원본)
+        final Map<Long, String> imageKeyByCardId = cardIds.isEmpty() ? java.util.Collections.emptyMap()
+                : mediaRepository.findCardThumbnails(MediaType.CARD, cardIds).stream()
+                        .collect(Collectors.toMap(Media::getOwnerId, m -> m.keyFor(MediaVariant.THUMB),
+                                (a, b) -> a)); // 중복시 첫 값 유지
+
+        // 3-2) 대표 이미지 presign 일괄 처리(로컬 캐시 → MGET 1회 → 파이프라인 SET 1회)
+        final Map<String, String> presigned = mediaPresignQueryService.presignAll(imageKeyByCardId.values(),
+                java.time.Duration.ofMinutes(5));
+
+        // 4) DTO 매핑: name/rarity, 이미지는 Presigned URL로 변환
+        List<PopularCardDto> content = range.stream().map(t -> {
+            Long cardId = (t.getValue() != null) ? Long.valueOf(t.getValue()) : null;
+            Double scoreObj = t.getScore();
+            double score = (scoreObj != null) ? scoreObj.doubleValue() : 0.0;
+            Card card = (cardId != null) ? cardMap.get(cardId) : null;
+
+            String name = (card != null && card.getName() != null) ? card.getName() : null;
+            String rarity = Rarity.COMMON.name();
+            if (card != null && card.getRarity() != null) {
+                rarity = card.getRarity().name();
             }
-
-            // 6) 카드 ID 리스트 추출 (멤버는 cardId 문자열)
-            List<Long> cardIds = range.stream().map(ZSetOperations.TypedTuple::getValue).filter(Objects::nonNull)
-                    .map(Long::valueOf).toList();
-
-            // 7) 카드 메타 로딩 (rarity 포함)
-            Map<Long, Card> cardMap = cardRepository.findAllById(cardIds).stream()
-                    .collect(Collectors.toMap(Card::getId, c -> c));
-
-            // 7-1) 카드 대표 이미지(IMAGE, seqNo=1) 벌크 조회 → ownerId(=cardId) -> s3key 매핑
-            final Map<Long, String> imageKeyByCardId = cardIds.isEmpty() ? java.util.Collections.emptyMap()
-                    : mediaRepository.findCardThumbnails(MediaType.CARD, cardIds).stream()
-                            .collect(Collectors.toMap(Media::getOwnerId, Media::getS3keyOrUrl, (a, b) -> a)); // 중복시 첫 값
-                                                                                                              // 유지
-
-            // 8) DTO 매핑: name/rarity, 이미지는 Presigned URL로 변환
-            List<PopularCardDto> content = range.stream().map(t -> {
-                Long cardId = (t.getValue() != null) ? Long.valueOf(t.getValue()) : null;
-                Double scoreObj = t.getScore();
-                double score = (scoreObj != null) ? scoreObj.doubleValue() : 0.0;
-                Card card = (cardId != null) ? cardMap.get(cardId) : null;
-
-                String name = (card != null && card.getName() != null) ? card.getName() : null;
-                String rarity = Rarity.COMMON.name();
-                if (card != null && card.getRarity() != null) {
-                    rarity = card.getRarity().name();
-                }
-                String presignedUrl = null;
-                if (cardId != null) {
-                    String key = imageKeyByCardId.get(cardId);
-                    if (key != null) {
-                        presignedUrl = mediaPresignQueryService.getPresignedUrl(key, java.time.Duration.ofMinutes(5));
-                    }
+            String presignedUrl = null;
+            if (cardId != null) {
+                String key = imageKeyByCardId.get(cardId);
+                if (key != null) {
+                    presignedUrl = presigned.get(key);
                 }
+            }
 
-                return new PopularCardDto(cardId, name, rarity, score, presignedUrl);
-            }).toList();
+            return new PopularCardDto(cardId, name, rarity, score, presignedUrl);
+        }).toList();
 
-            return new PageResponse<>(content, page, size, totalElements, totalPages);
+        return new PageResponse<>(content, page, size, totalElements, totalPages);
+    }
 
-        } finally {
-            // 9) 임시 키 정리
-            stringRedisTemplate.delete(destKey);
-        }
+    /**
+     * 60분 집계 한 페이지 조회(파이프라인)
+     *
+     * @PARAM categoryId 카테고리 ID
+     * @PARAM start 시작 순위(0-base)
+     * @PARAM end 끝 순위(포함)
+     * @RETURN [커서 존재 여부(Boolean), 전체 개수(Long), 범위(Set&lt;TypedTuple&gt;)]
+     */
+    private List<Object> readHourPage(long categoryId, long start, long end) {
+        String hourKey = PopularityKeyUtil.hourKey(categoryId);
+        String cursorKey = PopularityKeyUtil.hourCursorKey(categoryId);
+        return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.hasKey(cursorKey);
+                ops.opsForZSet().zCard(hourKey);
+                ops.opsForZSet().reverseRangeWithScores(hourKey, start, end);
+                return null;
+            }
+        });
     }
 
     /**
@@ -227,13 +334,141 @@ public class PopularityService {
         }
         Long cardId = cardIdOpt.get();
 
-        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-        String key = PopularityKeyUtil.minuteKey(categoryId, now);
+        incrementBuckets(categoryId, cardId, weight);
+    }
+
+    public double viewWeight() {
+        return viewWeight;
+    }
+
+    public double bidWeight() {
+        return bidWeight;
+    }
+
+    private void incrementBuckets(long categoryId, long cardId, double weight) {
+        applyDeltas(List.of(new PopularityIngestBuffer.Delta(categoryId, cardId, currentEpochMinute(), weight)));
+    }
+
+    /**
+     * 분 버킷 + 60분 집계 일괄 증가(파이프라인 1회 왕복)
+     * <P>
+     * 분 버킷은 롤링 차감의 원본이므로 TTL(최근 60분 + 버퍼)을 유지하고, 카테고리를 롤링 대상 집합에 등록한다. 이미 윈도우를
+     * 벗어난 분의 증가분은 집계에서 다시 빠지지 않으므로 버린다.
+     * </P>
+     * 
+     * @PARAM deltas (대분류, 카드, 분)별 증가분
+     * @RETURN 없음
+     */
+    public void applyDeltas(Collection<PopularityIngestBuffer.Delta> deltas) {
+        long oldestMinute = currentEpochMinute() - WINDOW_MINUTES + 1;
+        List<PopularityIngestBuffer.Delta> live = deltas.stream().filter(d -> d.epochMinute() >= oldestMinute)
+                .toList();
+        if (live.isEmpty()) {
+            return;
+        }
+        Duration ttl = Duration.ofMinutes(bucketTtlMinutes);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                Set<String> minuteKeys = new HashSet<>();
+                Set<String> categories = new HashSet<>();
+                for (PopularityIngestBuffer.Delta d : live) {
+                    // 멤버는 "cardId" 문자열 그대로 사용 → 파싱 단순화
+                    String member = String.valueOf(d.cardId());
+                    String minuteKey = PopularityKeyUtil.minuteKey(d.categoryId(), d.epochMinute());
+                    ops.opsForZSet().incrementScore(minuteKey, member, d.weight());
+                    ops.opsForZSet().incrementScore(PopularityKeyUtil.hourKey(d.categoryId()), member, d.weight());
+                    minuteKeys.add(minuteKey);
+                    categories.add(String.valueOf(d.categoryId()));
+                }
+                // 중요 로직: TTL로 키 폭증 방지 (최근 60분 + 버퍼)
+                for (String key : minuteKeys) {
+                    ops.expire(key, ttl);
+                }
+                ops.opsForSet().add(PopularityKeyUtil.ACTIVE_CATEGORIES, categories.toArray(new String[0]));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 전체 카테고리 60분 집계 롤링(분 단위 작업)
+     * 
+     * @RETURN 없음
+     */
+    public void rollAllWindows() {
+        Set<String> categories = stringRedisTemplate.opsForSet().members(PopularityKeyUtil.ACTIVE_CATEGORIES);
+        if (categories == null || categories.isEmpty()) {
+            return;
+        }
+        long nowMinute = currentEpochMinute();
+        for (String c : categories) {
+            try {
+                rollWindow(Long.parseLong(c), nowMinute);
+            } catch (NumberFormatException e) {
+                stringRedisTemplate.opsForSet().remove(PopularityKeyUtil.ACTIVE_CATEGORIES, c);
+            } catch (Exception e) {
+                log.warn("Popularity window roll failed. categoryId={}, err={}", c, e.toString());
+            }
+        }
+    }
+
+    /**
+     * 카테고리 60분 집계 롤링
+     * <P>
+     * 커서 다음 분부터 (현재 분 - 60)까지의 분 버킷을 집계에서 뺀다. 커서가 없거나 너무 뒤처졌으면(분 버킷이 이미 만료됐을
+     * 수 있음) 윈도우 내 분 버킷 합집합으로 재구성한다.
+     * </P>
+     * 
+     * @PARAM categoryId 카테고리 ID
+     * @PARAM nowMinute 현재 UTC epoch 분
+     * @RETURN 없음
+     */
+    public void rollWindow(long categoryId, long nowMinute) {
+        String hourKey = PopularityKeyUtil.hourKey(categoryId);
+        String cursorKey = PopularityKeyUtil.hourCursorKey(categoryId);
+        long expiredThrough = nowMinute - WINDOW_MINUTES;
+        String cursorTtl = String.valueOf(Duration.ofMinutes(bucketTtlMinutes * 2).getSeconds());
+
+        String cursorRaw = stringRedisTemplate.opsForValue().get(cursorKey);
+        Long cursor = null;
+        if (cursorRaw != null) {
+            try {
+                cursor = Long.parseLong(cursorRaw);
+            } catch (NumberFormatException ignore) {
+                // 잘못된 커서는 재구성
+            }
+        }
+        if (cursor != null && cursor >= expiredThrough) {
+            return;
+        }
 
-        // 멤버는 "cardId" 문자열 그대로 사용 → 파싱 단순화
-        stringRedisTemplate.opsForZSet().incrementScore(key, cardId.toString(), weight);
+        if (cursor == null || expiredThrough - cursor > MAX_CATCH_UP_MINUTES) {
+            // 윈도우 + 다음 분(분 경계를 넘은 쓰기 보존)
+            List<String> keys = new ArrayList<>(WINDOW_MINUTES + 3);
+            keys.add(hourKey);
+            keys.add(cursorKey);
+            for (long m = expiredThrough + 1; m <= nowMinute + 1; m++) {
+                keys.add(PopularityKeyUtil.minuteKey(categoryId, m));
+            }
+            stringRedisTemplate.execute(popularityRebuildScript, keys, String.valueOf(expiredThrough), cursorTtl);
+            log.debug("Popularity window rebuilt. categoryId={}, cursor={}", categoryId, expiredThrough);
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(hourKey);
+        keys.add(cursorKey);
+        for (long m = cursor + 1; m <= expiredThrough; m++) {
+            keys.add(PopularityKeyUtil.minuteKey(categoryId, m));
+        }
+        stringRedisTemplate.execute(popularityRollOffScript, keys, cursorRaw, String.valueOf(expiredThrough),
+                ZERO_SCORE, cursorTtl);
+    }
 
-        // 중요 로직: TTL로 키 폭증 방지 (최근 60분 + 버퍼)
-        stringRedisTemplate.expire(key, Duration.ofMinutes(bucketTtlMinutes));
+    private static long currentEpochMinute() {
+        return Math.floorDiv(System.currentTimeMillis(), 60_000L);
     }
 }
@@ -17,6 +17,9 @@ import java.time.format.DateTimeFormatter;
 public final class PopularityKeyUtil {
     private static final DateTimeFormatter MIN_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
 
+    /** 집계 ZSET이 있는 카테고리 ID 집합 */
+    public static final String ACTIVE_CATEGORIES = "pop:cat:active";
+
     private PopularityKeyUtil() {
     }
 
@@ -34,6 +37,58 @@ public final class PopularityKeyUtil {
         return "pop:cat:" + categoryId + ":min:" + when.atZone(ZoneOffset.UTC).format(MIN_FMT);
     }
 
+    /**
+     * 분 버킷 ZSET 키 생성(epoch 분 기준)
+     * 
+     * @PARAM categoryId 카테고리 ID
+     * @PARAM epochMinute UTC epoch 분
+     * @RETURN Redis 키
+     */
+    public static String minuteKey(long categoryId, long epochMinute) {
+        return minuteKey(categoryId, LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC));
+    }
+
+    /**
+     * 최근 60분 집계 ZSET 키 생성
+     * <P>
+     * 형식: pop:cat:{categoryId}:hour
+     * </P>
+     * 
+     * @PARAM categoryId 카테고리 ID
+     * @RETURN Redis 키
+     */
+    public static String hourKey(long categoryId) {
+        return "pop:cat:" + categoryId + ":hour";
+    }
+
+    /**
+     * 집계 커서 키 생성
+     * <P>
+     * 형식: pop:cat:{categoryId}:hour:cursor (값=집계에서 마지막으로 뺀 epoch 분)
+     * </P>
+     * 
+     * @PARAM categoryId 카테고리 ID
+     * @RETURN Redis 키
+     */
+    public static String hourCursorKey(long categoryId) {
+        return "pop:cat:" + categoryId + ":hour:cursor";
+    }
+
+    /**
+     * 경매/분 버킷별 고유 조회자 HyperLogLog 키 생성
+     * <P>
+     * 형식: pop:hll:auc:{auctionId}:min:{yyyyMMddHHmm}
+     * </P>
+     * 
+     * @PARAM auctionId 경매 ID
+     * @PARAM epochMinute UTC epoch 분
+     * @RETURN Redis 키
+     */
+    public static String viewerHllKey(long auctionId, long epochMinute) {
+        return "pop:hll:auc:" + auctionId + ":min:"
+                + LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC).format(MIN_FMT);
+    }
+
     /**
      * 임시 결과 키 생성
      * <P>
@@ -0,0 +1,48 @@
+package com.bukadong.tcg.api.popularity.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 인기 랭킹 1시간 집계 Lua 스크립트
+ * <P>
+ * 카테고리별 집계 ZSET(pop:cat:{id}:hour)은 쓰기 시 분 버킷과 함께 증가하고, 윈도우를 벗어난 분 버킷은 가중치 -1 합집합으로
+ * 뺀다. 커서(마지막으로 뺀 epoch 분)를 같은 스크립트에서 비교/갱신하므로 여러 노드가 동시에 돌려도 한 버킷은 한 번만 빠진다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@UtilityClass
+public class PopularityLuaScripts {
+
+    /**
+     * 만료 분 버킷 차감
+     *
+     * @PARAM KEYS[1] hourKey
+     * @PARAM KEYS[2] cursorKey
+     * @PARAM KEYS[3..] 차감할 분 버킷 키(오래된 순)
+     * @PARAM ARGV[1] 기대 커서(epoch 분)
+     * @PARAM ARGV[2] 새 커서(epoch 분)
+     * @PARAM ARGV[3] 제거 기준 점수(이하 멤버 삭제)
+     * @PARAM ARGV[4] 커서 TTL(초)
+     * @RETURN 1(차감) | 0(커서 불일치, 이미 처리됨)
+     */
+    public static final String ROLL_OFF = "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end "
+            + "for i = 3, #KEYS do "
+            + "  redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[i], 'WEIGHTS', 1, -1) " + "end "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) "
+            + "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4]) " + "return 1 ";
+
+    /**
+     * 집계 재구성(커서 없음/따라잡기 불가 시)
+     *
+     * @PARAM KEYS[1] hourKey
+     * @PARAM KEYS[2] cursorKey
+     * @PARAM KEYS[3..] 윈도우 내 분 버킷 키
+     * @PARAM ARGV[1] 새 커서(epoch 분)
+     * @PARAM ARGV[2] 커서 TTL(초)
+     * @RETURN 1
+     */
+    public static final String REBUILD = "redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 2, unpack(KEYS, 3)) "
+            + "redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2]) " + "return 1 ";
+}
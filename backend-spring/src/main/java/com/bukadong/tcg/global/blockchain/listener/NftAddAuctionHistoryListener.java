@@ -3,6 +3,7 @@ package com.bukadong.tcg.global.blockchain.listener;
 import com.bukadong.tcg.api.auction.service.AuctionResultService;
 import com.bukadong.tcg.global.blockchain.constants.BlockChainConstant;
 import com.bukadong.tcg.global.blockchain.contracts.AuctionEscrow;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -26,6 +27,11 @@ public class NftAddAuctionHistoryListener {
 
     private final Web3j web3j;
     private final AuctionResultService auctionResultService;
+    private final ClusterJobLeases clusterJobLeases;
+
+    /* 리더 노드만 스캔하며, 진행 블록은 리더 교체 시 이어받도록 Redis 체크포인트에 기록 */
+    private static final String JOB = "nft-auction-history-listener";
+    private static final long LEASE_MS = 180000L; // 실행 주기(1분)보다 길게 유지
 
     private BigInteger lastCheckedBlock = null;
 
@@ -34,8 +40,14 @@ public class NftAddAuctionHistoryListener {
      */
     @Scheduled(fixedRate = 60000)
     public void checkForReleaseEvents() {
+        if (!clusterJobLeases.tryLead(JOB, LEASE_MS))
+            return;
         try {
             BigInteger latestBlock = web3j.ethBlockNumber().send().getBlockNumber();
+            String checkpoint = clusterJobLeases.checkpoint(JOB);
+            if (checkpoint != null) {
+                lastCheckedBlock = new BigInteger(checkpoint);
+            }
 
             // 리스너 첫 실행 시, 마지막 확인 블록을 현재 블록 -1로 설정
             if (lastCheckedBlock == null) {
@@ -62,7 +74,9 @@ public class NftAddAuctionHistoryListener {
                 }
 
                 lastCheckedBlock = latestBlock;
+                clusterJobLeases.saveCheckpoint(JOB, latestBlock.toString());
             }
+            clusterJobLeases.recordRun(JOB);
 
         } catch (Exception e) {
             log.error("Error while checking for auction events.", e);
@@ -7,6 +7,7 @@ import com.bukadong.tcg.api.member.repository.MemberRepository;
 import com.bukadong.tcg.global.blockchain.constants.BlockChainConstant;
 import com.bukadong.tcg.global.blockchain.contracts.TakoCardNFT;
 import com.bukadong.tcg.global.properties.blockchain.BlockChainProperties;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -37,14 +38,25 @@ public class NftTransferEventListener {
     private final PhysicalCardRepository physicalCardRepository;
     private final MemberRepository memberRepository;
     private final PhysicalCardService physicalCardService;
+    private final ClusterJobLeases clusterJobLeases;
+
+    /* 리더 노드만 스캔하며, 진행 블록은 리더 교체 시 이어받도록 Redis 체크포인트에 기록 */
+    private static final String JOB = "nft-transfer-listener";
+    private static final long LEASE_MS = 45000L; // 실행 주기(15초)보다 길게 유지
 
     private BigInteger lastCheckedBlock = null;
 
     /* 15초마다 새로운 블록의 Transfer 이벤트를 확인 */
     @Scheduled(fixedRate = 15000)
     public void checkForTransferEvents() {
+        if (!clusterJobLeases.tryLead(JOB, LEASE_MS))
+            return;
         try {
             BigInteger latestBlock = web3j.ethBlockNumber().send().getBlockNumber();
+            String checkpoint = clusterJobLeases.checkpoint(JOB);
+            if (checkpoint != null) {
+                lastCheckedBlock = new BigInteger(checkpoint);
+            }
 
             if (lastCheckedBlock == null) {
                 lastCheckedBlock = latestBlock.subtract(BigInteger.ONE);
@@ -67,7 +79,9 @@ public class NftTransferEventListener {
                     currentFromBlock = currentToBlock.add(BigInteger.ONE);
                 }
                 lastCheckedBlock = latestBlock;
+                clusterJobLeases.saveCheckpoint(JOB, latestBlock.toString());
             }
+            clusterJobLeases.recordRun(JOB);
         } catch (IOException e) {
             log.error("Failed to check for new blocks or process events.", e);
         }
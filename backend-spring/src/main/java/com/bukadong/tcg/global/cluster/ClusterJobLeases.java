@@ -0,0 +1,215 @@
+package com.bukadong.tcg.global.cluster;
+
+import com.bukadong.tcg.global.cluster.dto.response.ClusterJobStatusResponse;
+import com.bukadong.tcg.global.cluster.dto.response.ClusterStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 리더 리스
+ * <P>
+ * 모든 노드가 같은 @Scheduled 작업을 돌리므로, 한 노드만 수행해야 하는 작업은 실행 전에 {@link #tryLead(String)}로 작업별
+ * 리더 키(CLUSTER:JOB:{job}:LEADER)를 획득/연장한다. 리더는 매 실행마다 리스를 연장하고, 리더가 죽으면 리스 만료 후 다음
+ * 노드가 넘겨받는다. 리스는 작업 주기보다 길어야 리더가 유지된다. Redis 오류 시에는 중복 실행을 피하도록 이번 실행을
+ * 건너뛴다. 실행 기록/체크포인트는 상태 조회와 리더 교체 시 이어받기에 사용한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterJobLeases {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterJobLeases.class);
+
+    private static final String LEADER_KEY_PREFIX = "CLUSTER:JOB:";
+    private static final String LEADER_KEY_SUFFIX = ":LEADER";
+    /** 등록된 작업 이름 */
+    public static final String JOBS_SET = "CLUSTER:JOBS";
+    /** 작업별 마지막 실행(field={job}:at, {job}:node) */
+    public static final String RUNS_HASH = "CLUSTER:JOB:RUNS";
+    /** 작업별 진행 체크포인트(field=job) */
+    public static final String CHECKPOINTS_HASH = "CLUSTER:JOB:CHECKPOINTS";
+
+    /** 같은 노드의 실행 기록 최소 간격(고빈도 작업의 Redis 쓰기 억제) */
+    private static final long RECORD_INTERVAL_MS = 1000L;
+
+    private final StringRedisTemplate redis;
+    private final ClusterMembership membership;
+    private final DefaultRedisScript<Long> clusterLeaseAcquireScript;
+    private final DefaultRedisScript<Long> clusterLeaseReleaseScript;
+
+    @Value("${cluster.job.lease-ms:30000}")
+    private long defaultLeaseMs;
+
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastRecorded = new ConcurrentHashMap<>();
+
+    public boolean tryLead(String job) {
+        return tryLead(job, defaultLeaseMs);
+    }
+
+    /**
+     * 작업 리더 획득/연장
+     *
+     * @PARAM job 작업 이름
+     * @PARAM leaseMs 리스 길이(작업 주기보다 길게)
+     * @RETURN 이 노드가 리더면 true(조정 비활성 시 항상 true)
+     */
+    public boolean tryLead(String job, long leaseMs) {
+        if (!membership.isEnabled())
+            return true;
+        try {
+            register(job);
+            Long r = redis.execute(clusterLeaseAcquireScript, List.of(leaderKey(job)), membership.nodeId(),
+                    String.valueOf(leaseMs));
+            boolean leader = r != null && r == 1L;
+            boolean changed = leader ? held.add(job) : held.remove(job);
+            if (changed)
+                log.info("Cluster job leadership {}. job={}, node={}", leader ? "acquired" : "lost", job,
+                        membership.nodeId());
+            return leader;
+        } catch (Exception e) {
+            held.remove(job);
+            log.warn("Cluster job lease failed, skipping run. job={}, err={}", job, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * 실행 완료 기록(상태 조회의 지연 계산용)
+     *
+     * @PARAM job 작업 이름
+     * @RETURN 없음
+     */
+    public void recordRun(String job) {
+        if (!membership.isEnabled())
+            return;
+        long now = System.currentTimeMillis();
+        Long prev = lastRecorded.get(job);
+        if (prev != null && now - prev < RECORD_INTERVAL_MS)
+            return;
+        lastRecorded.put(job, now);
+        try {
+            register(job);
+            redis.opsForHash().putAll(RUNS_HASH,
+                    Map.of(job + ":at", String.valueOf(now), job + ":node", membership.nodeId()));
+        } catch (Exception e) {
+            log.debug("Cluster job run record failed. job={}, err={}", job, e.toString());
+        }
+    }
+
+    /**
+     * 체크포인트 조회(리더 교체 시 이어받기)
+     *
+     * @PARAM job 작업 이름
+     * @RETURN 저장된 값(없거나 오류면 null)
+     */
+    public String checkpoint(String job) {
+        try {
+            Object v = redis.opsForHash().get(CHECKPOINTS_HASH, job);
+            return v == null ? null : v.toString();
+        } catch (Exception e) {
+            log.warn("Cluster job checkpoint read failed. job={}, err={}", job, e.toString());
+            return null;
+        }
+    }
+
+    public void saveCheckpoint(String job, String value) {
+        try {
+            redis.opsForHash().put(CHECKPOINTS_HASH, job, value);
+        } catch (Exception e) {
+            log.warn("Cluster job checkpoint write failed. job={}, err={}", job, e.toString());
+        }
+    }
+
+    /**
+     * 클러스터 상태 조회
+     *
+     * @RETURN 노드 목록과 작업별 리더/마지막 실행/지연
+     */
+    public ClusterStatusResponse status() {
+        long now = System.currentTimeMillis();
+        Set<String> jobs = new TreeSet<>(registered);
+        Map<Object, Object> runs = Map.of();
+        try {
+            Set<String> all = redis.opsForSet().members(JOBS_SET);
+            if (all != null)
+                jobs.addAll(all);
+            runs = redis.opsForHash().entries(RUNS_HASH);
+        } catch (Exception e) {
+            log.warn("Cluster status read failed: {}", e.toString());
+        }
+        List<ClusterJobStatusResponse> out = new ArrayList<>();
+        for (String job : jobs) {
+            String owner = null;
+            long ttl = -1L;
+            try {
+                owner = redis.opsForValue().get(leaderKey(job));
+                if (owner != null) {
+                    Long pttl = redis.getExpire(leaderKey(job), TimeUnit.MILLISECONDS);
+                    ttl = pttl == null ? -1L : pttl;
+                }
+            } catch (Exception e) {
+                log.debug("Cluster leader read failed. job={}, err={}", job, e.toString());
+            }
+            long lastRunAt = parseLong(runs.get(job + ":at"));
+            Object node = runs.get(job + ":node");
+            out.add(ClusterJobStatusResponse.builder().job(job).owner(owner).leaseTtlMs(ttl).lastRunAt(lastRunAt)
+                    .lastRunNode(node == null ? null : node.toString()).lagMs(lastRunAt > 0 ? now - lastRunAt : -1L)
+                    .build());
+        }
+        return ClusterStatusResponse.builder().nodeId(membership.nodeId()).enabled(membership.isEnabled())
+                .nodes(membership.liveNodes()).jobs(out).build();
+    }
+
+    /** 종료 시 보유 리스 반납(다음 노드가 리스 만료를 기다리지 않도록) */
+    @PreDestroy
+    public void releaseAll() {
+        for (String job : held) {
+            try {
+                redis.execute(clusterLeaseReleaseScript, List.of(leaderKey(job)), membership.nodeId());
+            } catch (Exception e) {
+                log.debug("Cluster job lease release failed. job={}, err={}", job, e.toString());
+            }
+        }
+        held.clear();
+    }
+
+    private void register(String job) {
+        if (!registered.contains(job)) {
+            redis.opsForSet().add(JOBS_SET, job);
+            registered.add(job);
+        }
+    }
+
+    private static String leaderKey(String job) {
+        return LEADER_KEY_PREFIX + job + LEADER_KEY_SUFFIX;
+    }
+
+    private static long parseLong(Object v) {
+        if (v == null)
+            return 0L;
+        try {
+            return Long.parseLong(v.toString());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
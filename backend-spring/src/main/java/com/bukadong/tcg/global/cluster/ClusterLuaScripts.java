@@ -0,0 +1,38 @@
+package com.bukadong.tcg.global.cluster;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 클러스터 작업 리스 Lua 스크립트
+ * <P>
+ * 작업별 리더 키(값=노드 ID, PX=리스)를 한 번의 왕복으로 획득/연장하고, 소유 노드만 해제할 수 있게 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@UtilityClass
+public class ClusterLuaScripts {
+
+    /**
+     * 리스 획득 또는 연장
+     *
+     * @PARAM KEYS[1] leaderKey
+     * @PARAM ARGV[1] nodeId
+     * @PARAM ARGV[2] leaseMillis
+     * @RETURN 1(리더) | 0(다른 노드 소유)
+     */
+    public static final String ACQUIRE_OR_RENEW = "local cur = redis.call('GET', KEYS[1]) "
+            + "if cur == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+            + "if not cur then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end " + "return 0 ";
+
+    /**
+     * 리스 해제(소유 노드만)
+     *
+     * @PARAM KEYS[1] leaderKey
+     * @PARAM ARGV[1] nodeId
+     * @RETURN 1(해제) | 0(미소유)
+     */
+    public static final String RELEASE = "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "redis.call('DEL', KEYS[1]) return 1 end " + "return 0 ";
+}
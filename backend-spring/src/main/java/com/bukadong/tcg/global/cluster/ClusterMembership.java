@@ -0,0 +1,151 @@
+package com.bukadong.tcg.global.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 클러스터 멤버십(하트비트) 및 작업 분할
+ * <P>
+ * 각 노드는 CLUSTER:NODES ZSET(score=최근 하트비트 epochMillis)에 주기적으로 자신을 기록하고, ttl-ms 안에 하트비트한
+ * 노드만 살아 있는 것으로 본다. {@link #owns(long)}는 살아 있는 노드 목록에 대한 랜데부 해시로 키의 담당 노드를 정하므로
+ * 노드가 늘거나 줄어도 해당 노드 몫의 키만 이동한다. 조정이 꺼져 있거나 목록을 아직 모르면 모든 키를 담당한다(단일 노드
+ * 동작).
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+public class ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    public static final String NODES_ZSET = "CLUSTER:NODES";
+
+    private final StringRedisTemplate redis;
+    private final String nodeId;
+
+    @Value("${cluster.coordination.enabled:true}")
+    private boolean enabled;
+
+    /** 이 시간 안에 하트비트가 없으면 이탈로 간주 */
+    @Value("${cluster.membership.ttl-ms:10000}")
+    private long ttlMs;
+
+    private volatile View view = new View(List.of(), new long[0]);
+
+    /** 살아 있는 노드 목록(정렬)과 노드별 해시 시드 */
+    private record View(List<String> nodes, long[] seeds) {
+    }
+
+    public ClusterMembership(StringRedisTemplate redis) {
+        this.redis = redis;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<String> liveNodes() {
+        return view.nodes();
+    }
+
+    /**
+     * 하트비트 및 멤버 목록 갱신
+     * <P>
+     * 자신을 기록하고 만료된 노드를 정리한 뒤 목록을 다시 읽는다. Redis 오류 시 직전 목록을 유지한다.
+     * </P>
+     */
+    @Scheduled(fixedDelayString = "${cluster.membership.heartbeat-ms:2000}")
+    public void heartbeat() {
+        if (!enabled)
+            return;
+        long now = System.currentTimeMillis();
+        try {
+            redis.opsForZSet().add(NODES_ZSET, nodeId, now);
+            redis.opsForZSet().removeRangeByScore(NODES_ZSET, Double.NEGATIVE_INFINITY, now - ttlMs);
+            Set<String> members = redis.opsForZSet().rangeByScore(NODES_ZSET, now - ttlMs, Double.POSITIVE_INFINITY);
+            List<String> nodes = new ArrayList<>(members == null ? Set.of() : members);
+            if (!nodes.contains(nodeId))
+                nodes.add(nodeId);
+            nodes.sort(null);
+            if (!nodes.equals(view.nodes()))
+                log.info("Cluster membership changed. self={}, nodes={}", nodeId, nodes);
+            long[] seeds = new long[nodes.size()];
+            for (int i = 0; i < seeds.length; i++)
+                seeds[i] = mix(nodes.get(i).hashCode());
+            view = new View(List.copyOf(nodes), seeds);
+        } catch (Exception e) {
+            log.warn("Cluster heartbeat failed: {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled)
+            return;
+        try {
+            redis.opsForZSet().remove(NODES_ZSET, nodeId);
+        } catch (Exception e) {
+            log.debug("Cluster leave failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 키 담당 여부(랜데부 해시)
+     *
+     * @PARAM key 분할 키(경매 ID 등)
+     * @RETURN 이 노드가 담당하면 true
+     */
+    public boolean owns(long key) {
+        if (!enabled)
+            return true;
+        View v = view;
+        if (v.nodes().size() <= 1)
+            return true;
+        int best = 0;
+        long bestScore = Long.MIN_VALUE;
+        for (int i = 0; i < v.seeds().length; i++) {
+            long score = mix(v.seeds()[i] ^ (key * 0x9E3779B97F4A7C15L));
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return nodeId.equals(v.nodes().get(best));
+    }
+
+    /** 64비트 혼합(MurmurHash3 fmix64) */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bukadong.tcg.global.cluster.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클러스터 작업 상태 응답
+ * <P>
+ * 작업별 리더(리스 소유 노드)와 마지막 실행 시각/지연을 반환한다. 분할 작업은 리더가 없다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 작업 상태 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClusterJobStatusResponse {
+
+    @Schema(description = "작업 이름", example = "delivery-status")
+    private String job;
+
+    @Schema(description = "리스 소유 노드(없으면 null)", example = "api-1-3f2a9c1d")
+    private String owner;
+
+    @Schema(description = "남은 리스 시간(ms), 리더 없으면 -1", example = "27500")
+    private long leaseTtlMs;
+
+    @Schema(description = "마지막 실행 완료 시각(epochMillis), 기록 없으면 0", example = "1760745600000")
+    private long lastRunAt;
+
+    @Schema(description = "마지막 실행 노드", example = "api-1-3f2a9c1d")
+    private String lastRunNode;
+
+    @Schema(description = "마지막 실행 이후 경과 시간(ms), 기록 없으면 -1", example = "1200")
+    private long lagMs;
+}
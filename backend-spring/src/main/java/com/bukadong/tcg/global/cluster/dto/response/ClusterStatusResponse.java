@@ -0,0 +1,37 @@
+package com.bukadong.tcg.global.cluster.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 클러스터 조정 상태 응답
+ * <P>
+ * 조회한 노드, 살아 있는 노드 목록, 작업별 상태를 반환한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 클러스터 상태 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClusterStatusResponse {
+
+    @Schema(description = "응답한 노드 ID", example = "api-1-3f2a9c1d")
+    private String nodeId;
+
+    @Schema(description = "조정 사용 여부(false면 모든 노드가 모든 작업 수행)", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "살아 있는 노드 목록")
+    private List<String> nodes;
+
+    @Schema(description = "작업별 상태")
+    private List<ClusterJobStatusResponse> jobs;
+}
@@ -0,0 +1,20 @@
+package com.bukadong.tcg.global.common.dto;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이지 응답 DTO.
+ *
+ * <p>다음 페이지는 {@code nextCursor}를 그대로 다시 보내 조회한다.
+ * 전체 개수는 짧게 캐시된 근사값이다.</p>
+ *
+ * @param <T> 콘텐츠 타입 (엔티티 또는 DTO)
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,            // 페이지 크기 (한 페이지당 데이터 수)
+        String nextCursor,   // 다음 페이지 커서 (없으면 null)
+        boolean hasNext,     // 다음 페이지 존재 여부
+        long totalElements   // 전체 데이터 개수(캐시된 근사값)
+) {
+}
@@ -0,0 +1,53 @@
+package com.bukadong.tcg.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 입찰수(bid_count) 백필
+ * <P>
+ * bid_count 컬럼 도입 이전 경매의 값을 auction_bid VALID 건수로 채운다. 잠금 시간을 줄이도록 id 구간 단위로 나눠
+ * 갱신한다. 입찰 반영 트랜잭션이 같은 행을 증가시키는 중에 돌리면 값이 어긋날 수 있으므로 배포 직후 한 노드에서 한 번만
+ * 실행한다. 활성화는 설정값 db.init.auction-bid-count=true 로 제어한다.
+ * </P>
+ * 
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "db.init.auction-bid-count", havingValue = "true")
+public class AuctionBidCountInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionBidCountInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${db.init.auction-bid-count-chunk:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM auction", Long.class);
+            long max = maxId == null ? 0L : maxId;
+            long step = Math.max(1, chunkSize);
+            long updated = 0L;
+            for (long from = 1; from <= max; from += step) {
+                updated += jdbcTemplate.update("UPDATE auction a SET a.bid_count = (SELECT COUNT(*) FROM auction_bid b "
+                        + "WHERE b.auction_id = a.id AND b.status = 'VALID') WHERE a.id BETWEEN ? AND ?", from,
+                        from + step - 1);
+            }
+            log.info("[AuctionBidCountInitializer] bid_count backfilled. rows={}, maxId={}", updated, max);
+        } catch (Exception e) {
+            log.warn("[AuctionBidCountInitializer] Failed to backfill bid_count: {}", e.getMessage());
+        }
+    }
+}
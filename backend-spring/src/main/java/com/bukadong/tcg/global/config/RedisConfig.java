@@ -11,6 +11,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -82,4 +83,19 @@ public class RedisConfig {
         return t;
     }
 
+    /**
+     * Pub/Sub 리스너 컨테이너
+     * <P>
+     * 노드 간 브로드캐스트(캐시 무효화 등)에 사용한다. 각 기능은 자신의 채널 리스너를 이 컨테이너에 등록한다.
+     * </P>
+     * 
+     * @RETURN RedisMessageListenerContainer
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer c = new RedisMessageListenerContainer();
+        c.setConnectionFactory(redisConnectionFactory);
+        return c;
+    }
+
 }
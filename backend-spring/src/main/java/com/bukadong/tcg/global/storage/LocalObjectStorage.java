@@ -0,0 +1,77 @@
+package com.bukadong.tcg.global.storage;
+
+import com.bukadong.tcg.api.media.config.MediaProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일시스템 오브젝트 저장소
+ * <P>
+ * S3 대신 media.local.base-dir 아래에 키 경로 그대로 저장한다. 업로드 파이프라인을 S3 없이 측정/개발할 때 사용하며, URL은
+ * media.local.public-base-url 기준으로 만든다. 임시 파일에 쓴 뒤 원자적 이동으로 노출해 쓰는 중인 파일을 읽지 않게 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.ingest.storage", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final MediaProperties mediaProperties;
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return Files.isDirectory(baseDir()) || baseDir().toFile().mkdirs();
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        String base = mediaProperties.getLocal().getPublicBaseUrl();
+        return (base.endsWith("/") ? base : base + "/") + key;
+    }
+
+    private Path baseDir() {
+        return Path.of(mediaProperties.getLocal().getBaseDir()).toAbsolutePath().normalize();
+    }
+
+    /** 키가 base-dir 밖으로 벗어나지 않도록 정규화 후 검사 */
+    private Path resolve(String key) throws IOException {
+        Path base = baseDir();
+        Path p = base.resolve(key).normalize();
+        if (!p.startsWith(base))
+            throw new IOException("Invalid storage key: " + key);
+        return p;
+    }
+}
@@ -0,0 +1,51 @@
+package com.bukadong.tcg.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 오브젝트 저장소 포트
+ * <P>
+ * 업로드/변환 파이프라인이 바이트 배열 대신 스트림으로 저장소와 주고받도록 한다. 운영은 S3, 로컬 벤치마크/개발은 파일시스템
+ * 구현을 media.ingest.storage 로 선택한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+public interface ObjectStorage {
+
+    /**
+     * 스트림 저장(호출자가 스트림을 닫는다)
+     *
+     * @PARAM key 오브젝트 키
+     * @PARAM in 원본 스트림
+     * @PARAM size 바이트 크기(모르면 -1)
+     * @PARAM contentType MIME 타입
+     * @RETURN 없음
+     */
+    void put(String key, InputStream in, long size, String contentType) throws IOException;
+
+    /**
+     * 스트림 읽기(호출자가 닫는다)
+     *
+     * @PARAM key 오브젝트 키
+     * @RETURN 오브젝트 스트림
+     */
+    InputStream open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /** 연결 확인 */
+    boolean healthCheck();
+
+    /**
+     * 서명 없이 바로 접근 가능한 URL(로컬 저장소 등)
+     *
+     * @PARAM key 오브젝트 키
+     * @RETURN URL, presign이 필요하면 null
+     */
+    default String publicUrl(String key) {
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bukadong.tcg.global.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 오브젝트 저장소
+ * <P>
+ * 파트 크기 이하의 파일은 스트림 그대로 putObject 하고, 그보다 크면 멀티파트 업로드로 파트 버퍼 하나를 재사용하며 올린다.
+ * 업로드 한 건이 잡는 힙은 파트 크기로 제한된다. 실패 시 멀티파트 업로드를 중단해 미완료 파트가 남지 않게 한다.
+ * </P>
+ *
+ * @PARAM 없음
+ * @RETURN 없음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.ingest.storage", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(S3ObjectStorage.class);
+
+    /** S3 멀티파트 최소 파트 크기 */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${media.ingest.part-size-bytes:8388608}")
+    private int partSizeBytes;
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        int partSize = Math.max(MIN_PART_SIZE, partSizeBytes);
+        if (size >= 0 && size <= partSize) {
+            PutObjectRequest req = PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType)
+                    .contentLength(size).build();
+            s3Client.putObject(req, RequestBody.fromInputStream(in, size));
+            return;
+        }
+        putMultipart(key, in, contentType, partSize);
+    }
+
+    private void putMultipart(String key, InputStream in, String contentType, int partSize) throws IOException {
+        String uploadId = s3Client
+                .createMultipartUpload(b -> b.bucket(bucket).key(key).contentType(contentType)).uploadId();
+        try {
+            byte[] buffer = new byte[partSize];
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            while (true) {
+                int n = in.readNBytes(buffer, 0, partSize);
+                if (n == 0 && !parts.isEmpty())
+                    break;
+                final int current = partNumber++;
+                UploadPartResponse res = s3Client.uploadPart(
+                        b -> b.bucket(bucket).key(key).uploadId(uploadId).partNumber(current).contentLength((long) n),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, n), n));
+                parts.add(CompletedPart.builder().partNumber(current).eTag(res.eTag()).build());
+                if (n < partSize)
+                    break;
+            }
+            s3Client.completeMultipartUpload(
+                    b -> b.bucket(bucket).key(key).uploadId(uploadId).multipartUpload(m -> m.parts(parts)));
+            if (log.isDebugEnabled())
+                log.debug("[S3] Multipart upload complete: key={} parts={}", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (Exception abortError) {
+                log.warn("[S3] Multipart abort failed: key={} err={}", key, abortError.toString());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(b -> b.bucket(bucket).key(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(b -> b.bucket(bucket).key(key));
+    }
+
+    @Override
+    public boolean healthCheck() {
+        try {
+            s3Client.listObjectsV2(b -> b.bucket(bucket).maxKeys(1));
+            return true;
+        } catch (Exception e) {
+            log.error("S3 연결 확인 실패", e);
+            return false;
+        }
+    }
+}
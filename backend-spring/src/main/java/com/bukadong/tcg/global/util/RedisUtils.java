@@ -1,11 +1,17 @@
 package com.bukadong.tcg.global.util;
 
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -69,4 +75,27 @@ public class RedisUtils {
             return Optional.empty();
         }
     }
+
+    /** MGET 1회(없는 키는 null, 입력 순서 유지) */
+    public List<Object> getValues(Collection<String> keys) {
+        if (keys.isEmpty())
+            return List.of();
+        List<Object> found = values.multiGet(keys);
+        return found == null ? Collections.nCopies(keys.size(), null) : found;
+    }
+
+    /** 같은 TTL의 SET 여러 건을 파이프라인 1회로 전송 */
+    public void setValues(Map<String, ?> entries, Duration duration) {
+        if (entries.isEmpty())
+            return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                entries.forEach((k, v) -> ops.opsForValue().set(k, v, duration));
+                return null;
+            }
+        });
+    }
 }
@@ -3,6 +3,7 @@ package com.bukadong.tcg.global.util;
 import com.bukadong.tcg.global.common.base.BaseResponseStatus;
 import com.bukadong.tcg.global.common.dto.S3UploadResult;
 import com.bukadong.tcg.global.common.exception.BaseException;
+import com.bukadong.tcg.global.storage.ObjectStorage;
 import com.sksamuel.scrimage.ImmutableImage;
 import com.sksamuel.scrimage.webp.WebpWriter;
 import lombok.RequiredArgsConstructor;
@@ -11,17 +12,16 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
@@ -33,7 +33,7 @@ public class S3Uploader {
 
     private static final Logger log = LoggerFactory.getLogger(S3Uploader.class);
 
-    private final S3Client s3Client;
+    private final ObjectStorage storage;
 
     private final S3Presigner s3Presigner;
 
@@ -41,12 +41,18 @@ public class S3Uploader {
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
+    public static final String WEBP_CONTENT_TYPE = "image/webp";
+
     // WebP로 변환할 이미지 콘텐츠 타입 목록
     private static final List<String> CONVERTIBLE_IMAGE_TYPES = Arrays.asList(MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE);
 
     /**
      * S3에 파일을 업로드하고, 키와 URL을 함께 반환
      * JPG, PNG 파일은 WebP로 변환하여 업로드
+     * <P>
+     * 원본은 스트림으로 읽고, 변환 결과는 임시 파일을 거쳐 스트림으로 올린다. 요청 스레드에서 변환까지 끝내는 동기 경로이며,
+     * 첨부 업로드는 {@code MediaIngestService}의 비동기 변환 파이프라인을 사용한다.
+     * </P>
      *
      * @PARAM multipartFile 업로드 파일
      * @PARAM dirName 디렉토리 명(예: "inquiries", "profiles")
@@ -57,74 +63,109 @@ public class S3Uploader {
             return null;
 
         String originalFileName = multipartFile.getOriginalFilename();
-        boolean isConvertibleImage = isConvertibleImage(multipartFile.getContentType());
-
-        byte[] processedBytes;
-        String processedContentType;
-        String uniqueFileKey;
+        if (log.isDebugEnabled()) {
+            log.debug("[S3] Preparing for upload: dirName={} originalFileName={} size={} contentType={}", dirName, originalFileName,
+                    multipartFile.getSize(), multipartFile.getContentType());
+        }
 
-        try {
-            processedBytes = multipartFile.getBytes();
-
-            if (isConvertibleImage) {
-                /* Webp 로 변환 */
-                log.debug("[S3-WEBP] Start WebP image conversion: originalFileName={}", originalFileName);
-                processedBytes = convertToWebInMemory(processedBytes);
-                processedContentType = "image/webp";
-
-                uniqueFileKey = dirName + "/" + UUID.randomUUID() + ".webp";
-                log.debug("[S3-WEBP] Image WebP conversion complete: newKey={}", uniqueFileKey);
-            } else { /* 원본 데이터 사용 */
-                processedContentType = multipartFile.getContentType();
-                String extension = "";
-                if (originalFileName != null && originalFileName.contains(".")) {
-                    extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-                }
-                uniqueFileKey = dirName + "/" + UUID.randomUUID() + extension;
+        if (!isConvertibleImage(multipartFile.getContentType())) { /* 원본 데이터 사용 */
+            String uniqueFileKey = newKey(dirName, originalFileName);
+            try (InputStream in = multipartFile.getInputStream()) {
+                store(uniqueFileKey, in, multipartFile.getSize(), multipartFile.getContentType());
+            } catch (IOException e) {
+                log.error("[S3] Upload failed: dirName={} originalFileName={} -> {}", dirName, originalFileName, e.getMessage(), e);
+                throw new BaseException(BaseResponseStatus.S3_FILE_UPLOAD_FAILED);
             }
+            return S3UploadResult.builder().key(uniqueFileKey).originalFilename(originalFileName)
+                    .contentType(multipartFile.getContentType()).size(multipartFile.getSize()).build();
+        }
+
+        /* Webp 로 변환 */
+        log.debug("[S3-WEBP] Start WebP image conversion: originalFileName={}", originalFileName);
+        String uniqueFileKey = dirName + "/" + UUID.randomUUID() + ".webp";
+        try (InputStream in = multipartFile.getInputStream()) {
+            long size = convertAndStore(in, uniqueFileKey);
+            log.debug("[S3-WEBP] Image WebP conversion complete: newKey={}", uniqueFileKey);
+            return S3UploadResult.builder().key(uniqueFileKey).originalFilename(originalFileName)
+                    .contentType(WEBP_CONTENT_TYPE).size(size).build();
         } catch (IOException e) {
-            log.error("[S3] File processing failed (getBytes): dirName={} originalFileName={} -> {}", dirName, originalFileName, e.getMessage(), e);
+            log.error("[S3] Upload failed: dirName={} originalFileName={} -> {}", dirName, originalFileName, e.getMessage(), e);
             throw new BaseException(BaseResponseStatus.S3_FILE_UPLOAD_FAILED);
         }
+    }
 
+    /**
+     * 스트림 그대로 저장(바이트 배열로 적재하지 않음)
+     *
+     * @PARAM key 오브젝트 키
+     * @PARAM in 원본 스트림(호출자가 닫음)
+     * @PARAM size 바이트 크기(모르면 -1)
+     * @PARAM contentType MIME 타입
+     * @RETURN 없음
+     */
+    public void store(String key, InputStream in, long size, String contentType) throws IOException {
+        storage.put(key, in, size, contentType);
         if (log.isDebugEnabled()) {
-            log.debug("[S3] Preparing for upload: dirName={} originalFileName={} size={} contentType={}", dirName, originalFileName,
-                    multipartFile.getSize(), multipartFile.getContentType());
+            log.debug("[S3] Upload complete: key={} size={}", key, size);
         }
+    }
+
+    /** 저장된 오브젝트 스트림(호출자가 닫음) */
+    public InputStream open(String key) throws IOException {
+        return storage.open(key);
+    }
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(uniqueFileKey)
-                .contentType(processedContentType)
-                .contentLength((long) processedBytes.length)
-                .build();
+    /**
+     * 이미지를 WebP로 변환해 저장
+     * <P>
+     * 디코딩된 이미지만 힙에 두고, 인코딩 결과는 임시 파일에 쓴 뒤 스트림으로 올린다.
+     * </P>
+     *
+     * @PARAM in 원본 이미지 스트림(호출자가 닫음)
+     * @PARAM webpKey 저장할 키
+     * @RETURN 저장된 WebP 크기
+     */
+    public long convertAndStore(InputStream in, String webpKey) throws IOException {
+        return storeWebp(ImmutableImage.loader().fromStream(in), webpKey);
+    }
 
-        /* S3 업로드 */
+    /**
+     * 디코딩된 이미지를 WebP로 인코딩해 저장(임시 파일 경유)
+     *
+     * @PARAM image 이미지
+     * @PARAM webpKey 저장할 키
+     * @RETURN 저장된 WebP 크기
+     */
+    public long storeWebp(ImmutableImage image, String webpKey) throws IOException {
+        Path tmp = Files.createTempFile("webp-", ".webp");
         try {
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(processedBytes));
-            if (log.isDebugEnabled()) {
-                log.debug("[S3] Upload complete: key={}", uniqueFileKey);
+            image.output(WebpWriter.DEFAULT, tmp);
+            long size = Files.size(tmp);
+            try (InputStream webp = Files.newInputStream(tmp)) {
+                store(webpKey, webp, size, WEBP_CONTENT_TYPE);
             }
-        } catch (Exception e) { // AWS SDK v2 Exception 처리
-            log.error("[S3] Upload failed: dirName={} originalFileName={} -> {}", dirName, originalFileName, e.getMessage(),
-                    e);
-            throw new BaseException(BaseResponseStatus.S3_FILE_UPLOAD_FAILED);
+            return size;
+        } finally {
+            Files.deleteIfExists(tmp);
         }
-
-        // key 포함 정보 반환 (url은 presign 으로 추후 요청시 별도 발급)
-        return S3UploadResult.builder()
-                .key(uniqueFileKey)
-                .originalFilename(originalFileName)
-                .contentType(processedContentType)
-                .size((long) processedBytes.length)
-                .build();
     }
 
-    private byte[] convertToWebInMemory(byte[] originalFileBytes) throws IOException {
-        return ImmutableImage.loader().fromBytes(originalFileBytes).bytes(WebpWriter.DEFAULT);
+    /**
+     * 원본 확장자를 유지한 고유 키 생성
+     *
+     * @PARAM dirName 디렉토리 명
+     * @PARAM originalFileName 원본 파일명
+     * @RETURN dirName/UUID.ext
+     */
+    public String newKey(String dirName, String originalFileName) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        return dirName + "/" + UUID.randomUUID() + extension;
     }
 
-    private boolean isConvertibleImage(String contentType) {
+    public boolean isConvertibleImage(String contentType) {
         if (!StringUtils.hasText(contentType)) {
             return false;
         }
@@ -146,8 +187,7 @@ public class S3Uploader {
         try {
             if (log.isDebugEnabled())
                 log.debug("[S3] 삭제 시도: key={}", fileKey);
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder().bucket(bucket).key(fileKey).build();
-            s3Client.deleteObject(deleteObjectRequest);
+            storage.delete(fileKey);
             if (log.isDebugEnabled())
                 log.debug("[S3] 삭제 완료: key={}", fileKey);
         } catch (Exception e) {
@@ -170,6 +210,9 @@ public class S3Uploader {
                 log.debug("[S3] Presign 건너뜀: 빈 key");
             return null;
         }
+        String direct = storage.publicUrl(fileKey);
+        if (direct != null)
+            return direct;
         Duration effective = (ttl == null ? Duration.ofMinutes(5) : ttl);
         if (log.isDebugEnabled()) {
             log.debug("[S3] Presign 생성: key={} ttlSec={}", fileKey, effective.toSeconds());
@@ -213,15 +256,10 @@ public class S3Uploader {
      * @RETURN true=정상 연결, false=실패
      */
     public boolean healthCheck() {
-        try {
-            s3Client.listObjectsV2(b -> b.bucket(bucket).maxKeys(1));
-            if (log.isDebugEnabled())
-                log.debug("[S3] 헬스체크 성공");
-            return true;
-        } catch (Exception e) {
-            log.error("S3 연결 확인 실패", e);
-            return false;
-        }
+        boolean ok = storage.healthCheck();
+        if (ok && log.isDebugEnabled())
+            log.debug("[S3] 헬스체크 성공");
+        return ok;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.bukadong.tcg.api.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bukadong.tcg.api.auction.dto.projection.AuctionListProjection;
+import com.bukadong.tcg.global.common.base.BaseResponseStatus;
+import com.bukadong.tcg.global.common.exception.BaseException;
+
+class AuctionSearchCursorTest {
+
+    private static AuctionListProjection row(long id, long bidCount, LocalDateTime end) {
+        return new AuctionListProjection(id, "A", "title", null, bidCount, end, null, null, null, null);
+    }
+
+    private static String raw(String s) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("마감시각 커서는 마이크로초까지 왕복한다")
+    void endTimeRoundTrip() {
+        LocalDateTime end = LocalDateTime.of(2025, 9, 1, 12, 30, 15, 123_456_000);
+        AuctionSearchCursor c = AuctionSearchCursor.of(AuctionSort.ENDTIME_ASC, row(42L, 0L, end));
+
+        AuctionSearchCursor decoded = AuctionSearchCursor.decode(c.encode(), AuctionSort.ENDTIME_ASC);
+        assertThat(decoded).isEqualTo(c);
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.valueAsDateTime()).isEqualTo(end);
+    }
+
+    @Test
+    @DisplayName("epoch 이전 시각도 내림 나눗셈으로 복원된다")
+    void valueAsDateTimeBeforeEpoch() {
+        LocalDateTime end = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000);
+        AuctionSearchCursor c = AuctionSearchCursor.of(AuctionSort.ENDTIME_DESC, row(1L, 0L, end));
+        assertThat(c.value()).isNegative();
+        assertThat(c.valueAsDateTime()).isEqualTo(end);
+    }
+
+    @Test
+    @DisplayName("입찰수 커서와 기본 정렬 커서가 왕복한다")
+    void bidCountAndDefaultRoundTrip() {
+        AuctionSearchCursor bid = AuctionSearchCursor.of(AuctionSort.BIDCOUNT_DESC, row(7L, 15L, null));
+        assertThat(AuctionSearchCursor.decode(bid.encode(), AuctionSort.BIDCOUNT_DESC))
+                .isEqualTo(new AuctionSearchCursor(AuctionSort.BIDCOUNT_DESC, 15L, 7L));
+
+        AuctionSearchCursor def = AuctionSearchCursor.of(null, row(9L, 3L, null));
+        assertThat(AuctionSearchCursor.decode(def.encode(), null)).isEqualTo(new AuctionSearchCursor(null, 0L, 9L));
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)")
+    void blankIsFirstPage() {
+        assertThat(AuctionSearchCursor.decode(null, AuctionSort.ENDTIME_ASC)).isNull();
+        assertThat(AuctionSearchCursor.decode("  ", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 커서는 INVALID_PARAMETER")
+    void rejectsSortMismatch() {
+        String endCursor = AuctionSearchCursor
+                .of(AuctionSort.ENDTIME_ASC, row(1L, 0L, LocalDateTime.of(2025, 1, 1, 0, 0))).encode();
+
+        assertThatThrownBy(() -> AuctionSearchCursor.decode(endCursor, AuctionSort.BIDCOUNT_DESC))
+                .isInstanceOf(BaseException.class).extracting("status").isEqualTo(BaseResponseStatus.INVALID_PARAMETER);
+        assertThatThrownBy(() -> AuctionSearchCursor.decode(endCursor, null)).isInstanceOf(BaseException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_PARAMETER")
+    void rejectsMalformed() {
+        for (String bad : new String[] { "%%%", raw("123:45"), raw("ENDTIME_ASC:x:1"), raw("ENDTIME_ASC:1:2:3") }) {
+            assertThatThrownBy(() -> AuctionSearchCursor.decode(bad, AuctionSort.ENDTIME_ASC))
+                    .isInstanceOf(BaseException.class).extracting("status")
+                    .isEqualTo(BaseResponseStatus.INVALID_PARAMETER);
+        }
+    }
+}
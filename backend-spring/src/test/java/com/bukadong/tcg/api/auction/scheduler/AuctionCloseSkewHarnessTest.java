@@ -0,0 +1,65 @@
+package com.bukadong.tcg.api.auction.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 마감 타이머 지연 분포 측정
+ * <P>
+ * 운영 기본값(tick 10ms, 512슬롯)으로 50,000개 경매 마감을 3초 구간에 흩어 등록하고, 실제 울린 시각과 마감 시각의 차이
+ * 분포(p50/p99/max)를 로그로 남긴다. 지연 상한은 실행 환경마다 달라 검증하지 않는다. ZSET 점유/DB 종료 비용은 포함하지 않는다(휠
+ * 자체의 정밀도). 기본 test에서는 제외되며 ./gradlew benchmark 로 실행한다. 동작 검증은 {@link HashedTimingWheelTest},
+ * {@link AuctionDeadlineWorkerTest}가 담당한다.
+ * </P>
+ */
+@Tag("benchmark")
+class AuctionCloseSkewHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionCloseSkewHarnessTest.class);
+
+    private static final int AUCTIONS = 50_000;
+    private static final long SPREAD_MS = 3_000;
+
+    @Test
+    @DisplayName("50k 마감의 타이머 지연 분포")
+    void closeSkewDistribution() throws InterruptedException {
+        long[] deadlines = new long[AUCTIONS];
+        AtomicLongArray fired = new AtomicLongArray(AUCTIONS);
+        CountDownLatch latch = new CountDownLatch(AUCTIONS);
+        HashedTimingWheel wheel = new HashedTimingWheel("skew-wheel", 10, 512, key -> {
+            fired.set((int) key, System.currentTimeMillis());
+            latch.countDown();
+        });
+        wheel.start();
+        try {
+            long base = System.currentTimeMillis() + 200;
+            for (int i = 0; i < AUCTIONS; i++) {
+                deadlines[i] = base + ThreadLocalRandom.current().nextLong(SPREAD_MS);
+                wheel.schedule(i, deadlines[i]);
+            }
+            assertThat(latch.await(SPREAD_MS + 10_000, TimeUnit.MILLISECONDS)).isTrue();
+        } finally {
+            wheel.stop();
+        }
+
+        long[] skew = new long[AUCTIONS];
+        for (int i = 0; i < AUCTIONS; i++) {
+            skew[i] = fired.get(i) - deadlines[i];
+        }
+        Arrays.sort(skew);
+        log.info("close skew ms (n={}): min={} p50={} p90={} p99={} max={}", AUCTIONS, skew[0],
+                skew[AUCTIONS / 2], skew[AUCTIONS * 9 / 10], skew[AUCTIONS * 99 / 100], skew[AUCTIONS - 1]);
+        assertThat(skew[0]).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.bukadong.tcg.api.auction.scheduler;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bukadong.tcg.api.auction.service.AuctionFinalizeService;
+import com.bukadong.tcg.api.auction.service.AuctionQueryService;
+import com.bukadong.tcg.api.auction.service.dto.FinalizeOutcome;
+import com.bukadong.tcg.api.auction.util.AuctionDeadlineIndex;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+
+class AuctionDeadlineWorkerTest {
+
+    private final AuctionFinalizeService finalizeService = mock(AuctionFinalizeService.class);
+    private final AuctionDeadlineIndex deadlineIndex = mock(AuctionDeadlineIndex.class);
+    private AuctionDeadlineWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AuctionDeadlineWorker(mock(AuctionQueryService.class), finalizeService, deadlineIndex,
+                mock(ClusterJobLeases.class));
+        ReflectionTestUtils.setField(worker, "source", "zset");
+        ReflectionTestUtils.setField(worker, "batchSize", 100);
+        ReflectionTestUtils.setField(worker, "parallelism", 1);
+        ReflectionTestUtils.setField(worker, "leaseMs", 30_000L);
+        ReflectionTestUtils.setField(worker, "maxTickMs", 3_000L);
+        ReflectionTestUtils.setField(worker, "bulkEnabled", false);
+    }
+
+    private void claim(Long... ids) {
+        when(deadlineIndex.claimDue(anyLong(), anyInt(), anyLong())).thenReturn(List.of(ids));
+    }
+
+    @Test
+    @DisplayName("종료된 경매만 ack한다")
+    void acksClosed() {
+        claim(1L);
+        when(finalizeService.finalizeIfDue(1L)).thenReturn(FinalizeOutcome.closed(1L));
+
+        worker.drainDue();
+
+        verify(deadlineIndex).ack(1L);
+    }
+
+    @Test
+    @DisplayName("미도래(마감 큐 시각이 DB보다 이름)면 ack하지 않고 DB 마감 시각으로 다시 넣는다")
+    void reschedulesNotDue() {
+        LocalDateTime end = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(5);
+        long endMillis = end.toInstant(ZoneOffset.UTC).toEpochMilli();
+        claim(2L);
+        when(finalizeService.finalizeIfDue(2L)).thenReturn(FinalizeOutcome.notDue(2L, end));
+
+        worker.drainDue();
+
+        verify(deadlineIndex).reschedule(2L, endMillis + 1);
+        verify(deadlineIndex, never()).ack(2L);
+    }
+
+    @Test
+    @DisplayName("재시도 대상과 예외는 ack하지 않아 리스 만료 후 다시 처리된다")
+    void leavesRetryAndFailuresClaimed() {
+        claim(3L, 4L);
+        when(finalizeService.finalizeIfDue(3L)).thenReturn(FinalizeOutcome.retry(3L));
+        when(finalizeService.finalizeIfDue(4L)).thenThrow(new IllegalStateException("boom"));
+
+        worker.drainDue();
+
+        verify(deadlineIndex, never()).ack(3L);
+        verify(deadlineIndex, never()).ack(4L);
+        verify(deadlineIndex, never()).reschedule(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("일괄 경로도 경매별 결과에 따라 ack/재예약/유지한다")
+    void batchSettlesPerAuction() {
+        ReflectionTestUtils.setField(worker, "bulkEnabled", true);
+        LocalDateTime end = LocalDateTime.now(ZoneOffset.UTC).plusSeconds(3);
+        long endMillis = end.toInstant(ZoneOffset.UTC).toEpochMilli();
+        claim(10L, 11L, 12L, 13L);
+        when(finalizeService.finalizeDueBatch(List.of(10L, 11L, 12L, 13L))).thenReturn(
+                List.of(FinalizeOutcome.closed(10L), FinalizeOutcome.alreadyEnded(11L),
+                        FinalizeOutcome.notDue(12L, end), FinalizeOutcome.retry(13L)));
+
+        worker.drainDue();
+
+        verify(deadlineIndex).ack(10L);
+        verify(deadlineIndex).ack(11L);
+        verify(deadlineIndex).reschedule(12L, endMillis + 1);
+        verify(deadlineIndex, never()).ack(12L);
+        verify(deadlineIndex, never()).ack(13L);
+        verify(finalizeService, never()).finalizeIfDue(anyLong());
+    }
+}
@@ -0,0 +1,106 @@
+package com.bukadong.tcg.api.auction.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private final Map<Long, Long> firedAt = new ConcurrentHashMap<>();
+    private final List<Long> fireOrder = new CopyOnWriteArrayList<>();
+    private HashedTimingWheel wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null)
+            wheel.stop();
+    }
+
+    private HashedTimingWheel start(long tickMs, int size, CountDownLatch latch) {
+        wheel = new HashedTimingWheel("test-wheel", tickMs, size, key -> {
+            firedAt.put(key, System.currentTimeMillis());
+            fireOrder.add(key);
+            latch.countDown();
+        });
+        wheel.start();
+        return wheel;
+    }
+
+    @Test
+    @DisplayName("마감 시각 이전에는 울리지 않는다")
+    void firesNotBeforeDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        start(10, 64, latch);
+        long deadline = System.currentTimeMillis() + 80;
+        wheel.schedule(1L, deadline);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(1L)).isGreaterThanOrEqualTo(deadline);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재등록하면 이전 타이머는 취소되고 새 마감에 한 번만 울린다")
+    void rescheduleReplacesPrevious() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        start(10, 64, latch);
+        long now = System.currentTimeMillis();
+        wheel.schedule(7L, now + 50);
+        wheel.schedule(7L, now + 200);
+        assertThat(wheel.isScheduled(7L, now + 200)).isTrue();
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(firedAt.get(7L)).isGreaterThanOrEqualTo(now + 200);
+        assertThat(fireOrder).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 울리지 않는다")
+    void cancelledNeverFires() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        start(10, 64, latch);
+        wheel.schedule(3L, System.currentTimeMillis() + 50);
+        wheel.cancel(3L);
+
+        assertThat(latch.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(fireOrder).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 tick에 바로 울린다")
+    void pastDeadlineFiresImmediately() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        start(10, 64, latch);
+        long scheduledAt = System.currentTimeMillis();
+        wheel.schedule(5L, scheduledAt - 1_000);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(5L) - scheduledAt).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 마감은 남은 바퀴 수만큼 기다린다")
+    void deadlineBeyondOneRevolution() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        // 4슬롯 x 10ms = 한 바퀴 40ms
+        start(10, 4, latch);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1L, now + 130);
+        wheel.schedule(2L, now + 30);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get(1L)).isGreaterThanOrEqualTo(now + 130);
+        assertThat(firedAt.get(2L)).isGreaterThanOrEqualTo(now + 30);
+        assertThat(fireOrder).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,133 @@
+package com.bukadong.tcg.api.auction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 팬아웃 측정
+ * <P>
+ * 10,000명의 구독자를 100개 경매에 나눠 붙이고, 경매마다 가격 50건을 연속 발행한 뒤 각 구독자가 최종가를 받기까지의 시간
+ * 분포와 발행 스레드 소요 시간을 로그로 남긴다. 구독자 중 10명은 send가 2초씩 막히는 느린 연결이며, 운영과 같은 송신 실행기 구성
+ * (상한 64, 유휴 회수)에서 나머지 구독자가 막히지 않는지 검증한다. 네트워크/서블릿 쓰기 비용은 포함하지 않는다.
+ * 기본 test에서는 제외되며 ./gradlew benchmark 로 실행한다. 병합/포화 동작 검증은 {@link SseOutboxTest}가 담당한다.
+ * </P>
+ */
+@Tag("benchmark")
+class SseFanoutHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SseFanoutHarnessTest.class);
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int AUCTIONS = 100;
+    private static final int ROUNDS = 50;
+    private static final int SLOW = 10;
+    private static final int SEND_THREADS = 64;
+
+    /** 최종 프레임 수신 시각을 기록하는 emitter */
+    private static final class TimedEmitter extends SseEmitter {
+        final Set<ResponseBodyEmitter.DataWithMediaType>[] finals;
+        final int auction;
+        final boolean slow;
+        final CountDownLatch done;
+        volatile long receivedAt;
+
+        TimedEmitter(Set<ResponseBodyEmitter.DataWithMediaType>[] finals, int auction, boolean slow,
+                CountDownLatch done) {
+            this.finals = finals;
+            this.auction = auction;
+            this.slow = slow;
+            this.done = done;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (slow) {
+                try {
+                    Thread.sleep(2_000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            if (items == finals[auction] && receivedAt == 0) {
+                receivedAt = System.nanoTime();
+                done.countDown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("10k 구독자 가격 팬아웃 지연 분포(느린 연결 포함)")
+    @SuppressWarnings("unchecked")
+    void fanoutTenThousandSubscribers() throws InterruptedException {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(SEND_THREADS, SEND_THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "sse-send-harness-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        Set<ResponseBodyEmitter.DataWithMediaType>[] finals = new Set[AUCTIONS];
+        SseOutbox.Frame[][] frames = new SseOutbox.Frame[AUCTIONS][ROUNDS];
+        for (int a = 0; a < AUCTIONS; a++) {
+            for (int r = 0; r < ROUNDS; r++) {
+                String json = "{\"auctionId\":" + a + ",\"currentPrice\":\"" + (1000 + r) + "\"}";
+                frames[a][r] = new SseOutbox.Frame("price", "price:" + a,
+                        SseEmitter.event().name("price").data(json).build());
+            }
+            finals[a] = frames[a][ROUNDS - 1].parts();
+        }
+
+        CountDownLatch done = new CountDownLatch(SUBSCRIBERS - SLOW);
+        TimedEmitter[] emitters = new TimedEmitter[SUBSCRIBERS];
+        SseOutbox[] outboxes = new SseOutbox[SUBSCRIBERS];
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            emitters[i] = new TimedEmitter(finals, i % AUCTIONS, i < SLOW, done);
+            outboxes[i] = new SseOutbox(emitters[i], 64, executor, (e, name, ex) -> {
+            });
+        }
+
+        long start = System.nanoTime();
+        for (int r = 0; r < ROUNDS; r++) {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                if (!outboxes[i].offer(frames[i % AUCTIONS][r]))
+                    rejected.incrementAndGet();
+            }
+        }
+        long publishedAt = System.nanoTime();
+        boolean allDelivered = done.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+
+        long[] lat = new long[SUBSCRIBERS - SLOW];
+        int n = 0;
+        for (int i = SLOW; i < SUBSCRIBERS; i++) {
+            lat[n++] = TimeUnit.NANOSECONDS.toMillis(emitters[i].receivedAt - start);
+        }
+        Arrays.sort(lat);
+        log.info("sse fanout (subscribers={}, frames={}): publish={}ms, final price ms p50={} p99={} max={}, rejected={}",
+                SUBSCRIBERS, SUBSCRIBERS * ROUNDS, TimeUnit.NANOSECONDS.toMillis(publishedAt - start),
+                lat[lat.length / 2], lat[lat.length * 99 / 100], lat[lat.length - 1], rejected.get());
+        assertThat(allDelivered).isTrue();
+        // 가격은 경매 단위로 병합되므로 느린 연결도 큐 포화로 끊기지 않는다
+        assertThat(rejected.get()).isZero();
+    }
+}
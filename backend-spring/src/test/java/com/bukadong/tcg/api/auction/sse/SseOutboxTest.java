@@ -0,0 +1,163 @@
+package com.bukadong.tcg.api.auction.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseOutboxTest {
+
+    /** 실행을 직접 돌릴 때까지 쌓아 두는 실행기(느린 송신 스레드 흉내) */
+    private static final class ManualExecutor implements Executor {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable r;
+            while ((r = tasks.poll()) != null) {
+                r.run();
+            }
+        }
+    }
+
+    /** 전송된 프레임을 기록하는 emitter */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<Set<ResponseBodyEmitter.DataWithMediaType>> sent = new ArrayList<>();
+        IOException failWith;
+        Runnable duringSend;
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (duringSend != null)
+                duringSend.run();
+            if (failWith != null)
+                throw failWith;
+            sent.add(items);
+        }
+    }
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final List<Exception> failures = new ArrayList<>();
+
+    private SseOutbox outbox(int capacity) {
+        return new SseOutbox(emitter, capacity, executor, (e, name, ex) -> failures.add(ex));
+    }
+
+    private static SseOutbox.Frame frame(String name, String key, String data) {
+        return new SseOutbox.Frame(name, key, SseEmitter.event().name(name).data(data).build());
+    }
+
+    @Test
+    @DisplayName("같은 병합 키의 대기 프레임은 최신값으로 교체된다")
+    void coalescesSameKey() {
+        SseOutbox box = outbox(4);
+        SseOutbox.Frame old = frame("price", "price:1", "100");
+        SseOutbox.Frame latest = frame("price", "price:1", "200");
+
+        assertThat(box.offer(old)).isTrue();
+        assertThat(box.offer(latest)).isTrue();
+        assertThat(box.pending()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(emitter.sent).containsExactly(latest.parts());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 다른 경매의 가격을 버리지 않고 느린 소비자로 처리한다")
+    void fullQueueRejectsInsteadOfDroppingOtherKeys() {
+        SseOutbox box = outbox(2);
+        SseOutbox.Frame p1 = frame("price", "price:1", "100");
+        SseOutbox.Frame p2 = frame("price", "price:2", "200");
+
+        assertThat(box.offer(p1)).isTrue();
+        assertThat(box.offer(p2)).isTrue();
+        assertThat(box.offer(frame("price", "price:3", "300"))).isFalse();
+        assertThat(box.offer(frame("bid", null, "x"))).isFalse();
+
+        executor.runAll();
+        assertThat(emitter.sent).containsExactly(p1.parts(), p2.parts());
+    }
+
+    @Test
+    @DisplayName("가득 찬 큐에서도 같은 키 프레임은 교체로 받아들인다")
+    void fullQueueStillCoalesces() {
+        SseOutbox box = outbox(2);
+        SseOutbox.Frame bid = frame("bid", null, "b");
+        SseOutbox.Frame latest = frame("price", "price:1", "200");
+
+        box.offer(frame("price", "price:1", "100"));
+        box.offer(bid);
+        assertThat(box.offer(latest)).isTrue();
+
+        executor.runAll();
+        // 교체된 프레임은 뒤로 가므로 앞선 bid 다음에 최신 가격
+        assertThat(emitter.sent).containsExactly(bid.parts(), latest.parts());
+    }
+
+    @Test
+    @DisplayName("병합 키가 없는 프레임은 적재 순서대로 모두 전송된다")
+    void nonCoalescibleKeepsOrder() {
+        SseOutbox box = outbox(8);
+        SseOutbox.Frame a = frame("bid", null, "a");
+        SseOutbox.Frame b = frame("bid", null, "b");
+        SseOutbox.Frame c = frame("end", null, "c");
+        box.offer(a);
+        box.offer(b);
+        box.offer(c);
+
+        assertThat(executor.tasks).hasSize(1); // 드레인 작업은 emitter당 하나
+        executor.runAll();
+        assertThat(emitter.sent).containsExactly(a.parts(), b.parts(), c.parts());
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 콜백 후 더 이상 전송하지 않는다")
+    void sendFailureClosesOutbox() {
+        SseOutbox box = outbox(8);
+        emitter.failWith = new IOException("Broken pipe");
+        box.offer(frame("bid", null, "a"));
+        box.offer(frame("bid", null, "b"));
+
+        executor.runAll();
+        assertThat(failures).hasSize(1);
+        assertThat(box.pending()).isZero();
+        assertThat(box.offer(frame("bid", null, "c"))).isTrue(); // 닫힌 큐는 조용히 무시
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 중 멈춤으로 정리되면 send가 풀린 뒤 실패 콜백으로 마무리한다")
+    void stalledSendIsAbortedAfterItReturns() {
+        SseOutbox box = outbox(8);
+        long timeout = TimeUnit.MILLISECONDS.toNanos(5000);
+        emitter.duringSend = () -> {
+            // send 진행 중에는 멈춤으로 판정되고, 감시자가 정리한다
+            assertThat(box.isStalled(System.nanoTime() + timeout + 1, timeout)).isTrue();
+            box.abortStalled();
+        };
+        box.offer(frame("bid", null, "a"));
+        box.offer(frame("bid", null, "b"));
+
+        executor.runAll();
+        assertThat(emitter.sent).hasSize(1);
+        assertThat(failures).singleElement().isInstanceOf(TimeoutException.class);
+        assertThat(box.isStalled(System.nanoTime() + timeout + 1, timeout)).isFalse();
+    }
+}
@@ -0,0 +1,239 @@
+package com.bukadong.tcg.api.bid.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.bukadong.tcg.api.bid.config.RedisScriptRegistry;
+import com.bukadong.tcg.api.bid.config.RedisScriptsConfig;
+import com.bukadong.tcg.api.bid.util.BidEventCodec;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import com.bukadong.tcg.global.cluster.ClusterMembership;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 입찰 컨슈머 모드별 반영 지연 측정
+ * <P>
+ * Testcontainers Redis에 실제 Lua 스크립트로 입찰을 적재하고, poll 모드(200ms 주기 SCAN 폴링)와 event 모드(활성 큐
+ * 레지스트리 + BLPOP 워커)가 각각 같은 부하를 반영할 때 적재부터 반영 호출까지의 지연(p50/p99)을 로그로 남긴다. DB 반영은
+ * 건당 고정 비용을 주는 목으로 대체하므로 큐 전달 지연의 상대 비교용이다. 모든 이벤트가 정확히 한 번 반영되는지만 검증한다.
+ * Docker가 없으면 건너뛰며, 기본 test에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ * </P>
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class BidConsumerLatencyHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BidConsumerLatencyHarnessTest.class);
+
+    private static final int AUCTIONS = 20;
+    private static final int BIDS_PER_AUCTION = 100;
+    private static final long SEND_INTERVAL_MICROS = 2_000;
+    private static final long APPLY_COST_MS = 2;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private final RedisScriptsConfig scripts = new RedisScriptsConfig();
+    private final ObjectMapper om = new ObjectMapper();
+
+    private final Map<String, Long> enqueuedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> appliedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private CountDownLatch applied;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void reset() {
+        redis.execute((RedisCallback<Void>) c -> {
+            c.serverCommands().flushAll();
+            return null;
+        });
+        enqueuedAt.clear();
+        appliedAt.clear();
+        duplicates.set(0);
+        applied = new CountDownLatch(AUCTIONS * BIDS_PER_AUCTION);
+    }
+
+    @Test
+    @DisplayName("poll 모드와 event 모드의 적재→반영 지연")
+    void comparePollAndEventModes() throws Exception {
+        long[] poll = run("poll");
+        reset();
+        long[] event = run("event");
+
+        log.info("bid consumer latency ({} auctions x {} bids, 1 bid/{}us, apply {}ms): poll p50={}ms p99={}ms,"
+                + " event p50={}ms p99={}ms", AUCTIONS, BIDS_PER_AUCTION, SEND_INTERVAL_MICROS, APPLY_COST_MS,
+                percentile(poll, 50), percentile(poll, 99), percentile(event, 50), percentile(event, 99));
+    }
+
+    private long[] run(String mode) throws Exception {
+        seedAuctions();
+        BidApplyLanes lanes = new BidApplyLanes();
+        ReflectionTestUtils.setField(lanes, "laneCount", 4);
+        ReflectionTestUtils.setField(lanes, "laneCapacity", 1000);
+        ReflectionTestUtils.setField(lanes, "shutdownWaitMs", 5000L);
+        lanes.init();
+
+        BidEventConsumer consumer = new BidEventConsumer(redis, recordingApplyService(),
+                mock(AuctionCacheService.class), lanes, new ClusterMembership(redis), mock(ClusterJobLeases.class),
+                scripts.bidQueueTakeScript(), scripts.bidQueueAckScript(), scripts.bidQueueRequeueScript(),
+                scripts.clusterLeaseAcquireScript(), scripts.clusterLeaseReleaseScript());
+        ReflectionTestUtils.setField(consumer, "mode", mode);
+        ReflectionTestUtils.setField(consumer, "applyBatchSize", 50);
+        ReflectionTestUtils.setField(consumer, "leaseMs", 30_000L);
+
+        BidQueueProducer producer = new BidQueueProducer(redis, scripts.bidAtomicScript(),
+                new RedisScriptRegistry(redis, List.of()), mock(AuctionSnapshotNearCache.class));
+        ReflectionTestUtils.setField(producer, "idemTtlSeconds", 1800L);
+        ReflectionTestUtils.setField(producer, "consumerMode", mode);
+
+        BidQueueEventConsumer eventConsumer = null;
+        Thread poller = null;
+        if ("event".equals(mode)) {
+            eventConsumer = new BidQueueEventConsumer(redis, consumer, scripts.bidQueueReleaseScript());
+            ReflectionTestUtils.setField(eventConsumer, "workers", 4);
+            ReflectionTestUtils.setField(eventConsumer, "blockTimeoutMs", 500L);
+            ReflectionTestUtils.setField(eventConsumer, "batchSize", 100);
+            ReflectionTestUtils.setField(eventConsumer, "leaseMs", 30_000L);
+            ReflectionTestUtils.setField(eventConsumer, "retryBatchSize", 50);
+            eventConsumer.start();
+        } else {
+            // @Scheduled(fixedDelay = 200)과 같은 주기
+            poller = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    consumer.poll();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "bid-poll-harness");
+            poller.setDaemon(true);
+            poller.start();
+        }
+
+        try {
+            for (int i = 0; i < BIDS_PER_AUCTION; i++) {
+                for (int a = 1; a <= AUCTIONS; a++) {
+                    String eventId = mode + "-" + a + "-" + i;
+                    enqueuedAt.put(eventId, System.nanoTime());
+                    Map<String, String> r = producer.enqueue((long) a, 1L, BigDecimal.valueOf(1001L + i), eventId);
+                    assertThat(r.get("code")).isEqualTo("OK");
+                    TimeUnit.MICROSECONDS.sleep(SEND_INTERVAL_MICROS);
+                }
+            }
+            assertThat(applied.await(60, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            if (eventConsumer != null)
+                eventConsumer.stop();
+            if (poller != null) {
+                poller.interrupt();
+                poller.join(5_000);
+            }
+            consumer.stop();
+        }
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(appliedAt.keySet()).isEqualTo(enqueuedAt.keySet());
+        long[] latencies = new long[enqueuedAt.size()];
+        int i = 0;
+        for (Map.Entry<String, Long> e : enqueuedAt.entrySet()) {
+            latencies[i++] = appliedAt.get(e.getKey()) - e.getValue();
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /** 진행 중 경매 해시(입찰 스크립트가 읽는 필드만) */
+    private void seedAuctions() {
+        long now = Instant.now().getEpochSecond();
+        for (int a = 1; a <= AUCTIONS; a++) {
+            redis.opsForHash().putAll("auction:" + a,
+                    Map.of("is_end", "0", "start_ts", String.valueOf(now - 60), "end_ts", String.valueOf(now + 3600),
+                            "current_price", "1000", "bid_unit", "1", "owner_id", "999999", "buy_now_flag", "0"));
+        }
+    }
+
+    /** 반영 시각을 이벤트별로 기록하는 반영 서비스 목 */
+    @SuppressWarnings("unchecked")
+    private BidEventApplyService recordingApplyService() {
+        BidEventApplyService svc = mock(BidEventApplyService.class);
+        doAnswer(inv -> {
+            Thread.sleep(APPLY_COST_MS);
+            record(inv.getArgument(0));
+            return null;
+        }).when(svc).applyEvent(anyString());
+        doAnswer(inv -> {
+            Thread.sleep(APPLY_COST_MS);
+            for (String json : (List<String>) inv.getArgument(1)) {
+                record(json);
+            }
+            return true;
+        }).when(svc).applyBatch(anyLong(), anyList());
+        return svc;
+    }
+
+    private void record(String json) {
+        String eventId = BidEventCodec.decode(json, om).eventId();
+        if (appliedAt.putIfAbsent(eventId, System.nanoTime()) == null) {
+            applied.countDown();
+        } else {
+            duplicates.incrementAndGet();
+        }
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int idx = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p / 100.0) - 1);
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, idx)]);
+    }
+}
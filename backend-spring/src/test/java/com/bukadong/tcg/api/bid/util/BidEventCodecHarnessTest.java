@@ -0,0 +1,82 @@
+package com.bukadong.tcg.api.bid.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.bukadong.tcg.api.bid.service.dto.BidEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 입찰 이벤트 포맷 비교 측정
+ * <P>
+ * 같은 이벤트를 v1 고정 필드 포맷과 기존 JSON 포맷으로 각각 200,000번 만들고 디코딩한 평균 시간(ns/op)과 페이로드 크기를
+ * 로그로 남긴다. JMH 플러그인이 빌드에 없어 워밍업 후 단순 반복으로 잰 값이므로 두 포맷의 상대 비교용이다. 결과 일치만 검증한다.
+ * 기본 test에서는 제외되며 ./gradlew benchmark 로 실행한다. 포맷 동작 검증은 {@link BidEventCodecTest}가 담당한다.
+ * </P>
+ */
+@Tag("benchmark")
+class BidEventCodecHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BidEventCodecHarnessTest.class);
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    @Test
+    @DisplayName("v1 포맷과 JSON 포맷의 인코딩/디코딩 비용")
+    void compareFormats() {
+        long v1Sink = run(WARMUP, this::roundTripV1);
+        long jsonSink = run(WARMUP, this::roundTripJson);
+
+        long t0 = System.nanoTime();
+        v1Sink += run(ITERATIONS, this::roundTripV1);
+        long t1 = System.nanoTime();
+        jsonSink += run(ITERATIONS, this::roundTripJson);
+        long t2 = System.nanoTime();
+
+        String v1 = v1Payload(1);
+        String json = jsonPayload(1);
+        log.info("bid event codec (n={}): v1={}ns/op ({}B) json={}ns/op ({}B)", ITERATIONS,
+                (t1 - t0) / ITERATIONS, v1.length(), (t2 - t1) / ITERATIONS, json.length());
+        assertThat(BidEventCodec.decode(v1, om)).isEqualTo(BidEventCodec.decode(json, om));
+        assertThat(v1Sink).isEqualTo(jsonSink);
+    }
+
+    private long run(int n, java.util.function.IntToLongFunction op) {
+        long sink = 0;
+        for (int i = 0; i < n; i++) {
+            sink += op.applyAsLong(i);
+        }
+        return sink;
+    }
+
+    private long roundTripV1(int i) {
+        BidEvent e = BidEventCodec.decode(v1Payload(i), om);
+        return e.auctionId() + e.memberId();
+    }
+
+    private long roundTripJson(int i) {
+        BidEvent e = BidEventCodec.decode(jsonPayload(i), om);
+        return e.auctionId() + e.memberId();
+    }
+
+    private static String v1Payload(int i) {
+        return "1|ACCEPT||0|" + BidEventCodec.body(1000L + (i & 1023), 77L, "125000", 1_700_000_000L,
+                "9b2f6c1e-5d2a-4c1b-8e0f-" + i);
+    }
+
+    /** 변경 전 프로듀서가 String.format으로 만들던 JSON 페이로드 */
+    private static String jsonPayload(int i) {
+        return String.format(
+                "{\"event\":\"BID\",\"intended\":\"ACCEPT\",\"reason\":null,"
+                        + "\"auctionId\":%d,\"memberId\":%d,\"amount\":\"%s\",\"eventId\":\"%s\",\"ts\":%d}",
+                1000L + (i & 1023), 77L, "125000", "9b2f6c1e-5d2a-4c1b-8e0f-" + i, 1_700_000_000L);
+    }
+}
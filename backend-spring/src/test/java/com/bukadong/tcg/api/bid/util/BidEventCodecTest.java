@@ -0,0 +1,87 @@
+package com.bukadong.tcg.api.bid.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bukadong.tcg.api.bid.service.dto.BidEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BidEventCodecTest {
+
+    private final ObjectMapper om = new ObjectMapper();
+
+    /** 입찰 Lua의 ev(intended, reason, bn)와 같은 방식으로 앞 필드를 붙인다 */
+    private static String v1(String intended, String reason, String buyNow, String body) {
+        return "1|" + intended + "|" + reason + "|" + buyNow + "|" + body;
+    }
+
+    @Test
+    @DisplayName("v1 수락 이벤트를 디코딩한다")
+    void decodesAccepted() {
+        String body = BidEventCodec.body(10L, 20L, "15000.50", 1_700_000_000L, "req-1");
+        assertThat(body).isEqualTo("10|20|15000.50|1700000000|req-1");
+
+        BidEvent e = BidEventCodec.decode(v1("ACCEPT", "", "0", body), om);
+        assertThat(e).isEqualTo(new BidEvent(10L, 20L, "15000.50", "req-1", "ACCEPT", null, false, 1_700_000_000L));
+        assertThat(e.isReject()).isFalse();
+    }
+
+    @Test
+    @DisplayName("v1 거절 사유와 즉시구매 플래그를 읽는다")
+    void decodesRejectAndBuyNow() {
+        String body = BidEventCodec.body(1L, 2L, "100", 5L, "e");
+
+        BidEvent rejected = BidEventCodec.decode(v1("REJECT", "LOW_PRICE", "0", body), om);
+        assertThat(rejected.isReject()).isTrue();
+        assertThat(rejected.reason()).isEqualTo("LOW_PRICE");
+        assertThat(rejected.buyNow()).isFalse();
+
+        assertThat(BidEventCodec.decode(v1("ACCEPT", "", "1", body), om).buyNow()).isTrue();
+        assertThat(BidEventCodec.decode(v1("ACCEPT", "BUY_NOW", "0", body), om).buyNow()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 필드인 eventId는 구분자를 포함해도 그대로 복원된다")
+    void eventIdMayContainSeparator() {
+        String body = BidEventCodec.body(1L, 2L, "100", 5L, "a|b|c");
+        assertThat(BidEventCodec.decode(v1("ACCEPT", "", "0", body), om).eventId()).isEqualTo("a|b|c");
+    }
+
+    @Test
+    @DisplayName("빈 intended/ts는 기본값(ACCEPT, 0)")
+    void emptyIntendedAndTsDefault() {
+        BidEvent e = BidEventCodec.decode("1||||7|8|9||ev", om);
+        assertThat(e.intended()).isEqualTo("ACCEPT");
+        assertThat(e.ts()).isZero();
+    }
+
+    @Test
+    @DisplayName("기존 JSON 페이로드를 하위 호환으로 디코딩한다")
+    void decodesLegacyJson() {
+        String json = "{\"auctionId\":3,\"memberId\":4,\"amount\":\"900\",\"eventId\":\"old\",\"intended\":\"REJECT\","
+                + "\"reason\":\"BUY_NOW\",\"ts\":11}";
+        BidEvent e = BidEventCodec.decode(json, om);
+        assertThat(e).isEqualTo(new BidEvent(3L, 4L, "900", "old", "REJECT", "BUY_NOW", true, 11L));
+
+        BidEvent minimal = BidEventCodec.decode("{\"auctionId\":3,\"memberId\":4,\"amount\":\"1\",\"eventId\":\"x\"}",
+                om);
+        assertThat(minimal.intended()).isEqualTo("ACCEPT");
+        assertThat(minimal.reason()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 페이로드는 IllegalArgumentException")
+    void rejectsMalformed() {
+        assertThatThrownBy(() -> BidEventCodec.decode("", om)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("EMPTY_PAYLOAD");
+        assertThatThrownBy(() -> BidEventCodec.decode("2|x", om)).hasMessage("UNKNOWN_VERSION:2");
+        assertThatThrownBy(() -> BidEventCodec.decode("1|ACCEPT||0|1|2|3", om)).hasMessage("BAD_PAYLOAD_FIELDS");
+        assertThatThrownBy(() -> BidEventCodec.decode("1|ACCEPT||0||2|3|4|e", om)).hasMessage("BAD_PAYLOAD_FIELDS");
+        assertThatThrownBy(() -> BidEventCodec.decode("1|ACCEPT||0|1|2|3|4|", om)).hasMessage("BAD_PAYLOAD_FIELDS");
+        assertThatThrownBy(() -> BidEventCodec.decode("{\"auctionId\":1}", om)).hasMessage("BAD_PAYLOAD_FIELDS");
+        assertThatThrownBy(() -> BidEventCodec.decode("{bad", om)).hasMessage("BAD_JSON");
+    }
+}
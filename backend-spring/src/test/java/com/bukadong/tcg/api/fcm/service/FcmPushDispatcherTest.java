@@ -0,0 +1,92 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bukadong.tcg.api.fcm.service.FcmPushService.PushRequest;
+
+class FcmPushDispatcherTest {
+
+    private final FcmPushService service = mock(FcmPushService.class);
+    private final FcmPushDispatcher dispatcher = new FcmPushDispatcher(service);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    private void start(int capacity) {
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", capacity);
+        ReflectionTestUtils.setField(dispatcher, "workers", 1);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 500);
+        ReflectionTestUtils.setField(dispatcher, "offerTimeoutMs", 0L);
+        dispatcher.start();
+    }
+
+    @Test
+    @DisplayName("쌓인 요청은 워커가 최대 500건씩 묶어 전송한다")
+    void drainsInBatchesOf500() throws InterruptedException {
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        CountDownLatch firstCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(service.deliver(anyList())).thenAnswer(inv -> {
+            List<PushRequest> batch = inv.getArgument(0);
+            // 묶음 리스트는 전송 후 재사용되므로 크기만 기록
+            sizes.add(batch.size());
+            firstCall.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return batch.size();
+        });
+        start(5_000);
+
+        // 첫 전송이 막혀 있는 동안 1,200건이 쌓이게 한다
+        dispatcher.enqueue(request(0));
+        assertThat(firstCall.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long id = 1; id <= 1_200; id++)
+            assertThat(dispatcher.enqueue(request(id))).isTrue();
+        release.countDown();
+        dispatcher.stop();
+
+        assertThat(sizes).containsExactly(1, 500, 500, 200);
+        assertThat(dispatcher.delivered()).isEqualTo(1_201);
+        assertThat(dispatcher.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 버리고 유실 수를 센다")
+    void dropsWhenFull() throws InterruptedException {
+        CountDownLatch firstCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(service.deliver(anyList())).thenAnswer(inv -> {
+            firstCall.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+        start(2);
+
+        dispatcher.enqueue(request(0));
+        assertThat(firstCall.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.enqueue(request(1))).isTrue();
+        assertThat(dispatcher.enqueue(request(2))).isTrue();
+        assertThat(dispatcher.enqueue(request(3))).isFalse();
+        release.countDown();
+
+        assertThat(dispatcher.dropped()).isEqualTo(1);
+    }
+
+    private static PushRequest request(long memberId) {
+        return new PushRequest(memberId, "t", "b", "/", null);
+    }
+}
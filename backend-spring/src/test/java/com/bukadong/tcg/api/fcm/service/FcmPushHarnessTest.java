@@ -0,0 +1,102 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bukadong.tcg.api.fcm.repository.FcmTokenRepository;
+import com.bukadong.tcg.api.fcm.service.FcmPushService.PushRequest;
+
+/**
+ * 푸시 파이프라인 처리량 측정
+ * <P>
+ * 로컬 스텁 전송기(호출당 고정 지연)로 요청마다 동기 전송하던 방식과 디스패처의 sendEach 묶음 전송을 비교한다. 동기 방식은
+ * SERIAL건만 보내 건당 시간을 내고, 묶음 방식은 PUSHES건 전체의 소요 시간과 호출 수를 로그로 남긴다. 토큰 1%는 무효 토큰으로
+ * 응답해 정리 경로도 함께 탄다. Firebase 자격 증명과 DB 없이 돌도록 토큰 저장소는 목으로 대체한다. 기본 test에서는 제외되며 ./gradlew benchmark 로 실행한다. 묶음/무효 토큰 정리 동작 검증은
+ * {@link FcmPushServiceTest}, {@link FcmPushDispatcherTest}가 담당한다.
+ * </P>
+ */
+@Tag("benchmark")
+class FcmPushHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FcmPushHarnessTest.class);
+
+    private static final int PUSHES = 5_000;
+    private static final int SERIAL = 200;
+    private static final long LATENCY_MS = 5;
+
+    @Test
+    @DisplayName("요청별 동기 전송과 비동기 묶음 전송의 처리량")
+    void compareDispatch() throws Exception {
+        FcmTokenRepository repo = mock(FcmTokenRepository.class);
+        when(repo.findTokenPairsByMemberIds(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            List<Object[]> rows = new ArrayList<>(ids.size());
+            for (Long id : ids)
+                rows.add(new Object[] { id, (id % 100 == 0 ? "invalid-" : "token-") + id });
+            return rows;
+        });
+
+        FcmTokenCache cache = new FcmTokenCache(repo);
+        ReflectionTestUtils.setField(cache, "maxSize", 50_000);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        cache.init();
+
+        StubFcmSender sender = new StubFcmSender();
+        ReflectionTestUtils.setField(sender, "latencyMs", LATENCY_MS);
+        ReflectionTestUtils.setField(sender, "invalidPrefix", "invalid-");
+
+        FcmPushService service = new FcmPushService(repo, cache, sender, mock(PushMessageFactory.class));
+
+        // 기존 방식: 알림 리스너 스레드에서 회원마다 동기 전송
+        long s0 = System.nanoTime();
+        for (long id = 1; id <= SERIAL; id++)
+            service.sendToMember(id, "t", "b");
+        long serialNanos = System.nanoTime() - s0;
+        long serialCalls = sender.calls();
+
+        FcmPushDispatcher dispatcher = new FcmPushDispatcher(service);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 20_000);
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 500);
+        ReflectionTestUtils.setField(dispatcher, "offerTimeoutMs", 20L);
+        dispatcher.start();
+
+        long baseMessages = sender.messages();
+        long t0 = System.nanoTime();
+        for (long id = 1; id <= PUSHES; id++)
+            dispatcher.enqueue(new PushRequest(id, "t", "b", "/", null));
+        long enqueueNanos = System.nanoTime() - t0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (sender.messages() - baseMessages < PUSHES && System.nanoTime() < deadline)
+            Thread.sleep(5);
+        long batchedNanos = System.nanoTime() - t0;
+        dispatcher.stop();
+
+        log.info("fcm push (stub latency={}ms): serial={}us/push ({} calls for {}) batched={}ms total for {}"
+                + " ({} calls, enqueue {}ns/push) delivered={} dropped={}", LATENCY_MS, serialNanos / 1_000 / SERIAL,
+                serialCalls, SERIAL, TimeUnit.NANOSECONDS.toMillis(batchedNanos), PUSHES, sender.calls() - serialCalls,
+                enqueueNanos / PUSHES, dispatcher.delivered(), dispatcher.dropped());
+
+        assertThat(dispatcher.dropped()).isZero();
+        assertThat(sender.messages() - baseMessages).isEqualTo(PUSHES);
+        assertThat(dispatcher.delivered()).isEqualTo(PUSHES - PUSHES / 100);
+        assertThat(sender.calls() - serialCalls).isLessThan(PUSHES / 10);
+        verify(repo, atLeastOnce()).deleteAllByTokenIn(anyCollection());
+    }
+}
@@ -0,0 +1,107 @@
+package com.bukadong.tcg.api.fcm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.bukadong.tcg.api.fcm.repository.FcmTokenRepository;
+import com.bukadong.tcg.api.fcm.service.FcmPushService.PushRequest;
+import com.bukadong.tcg.api.fcm.service.FcmSender.Outcome;
+import com.bukadong.tcg.api.fcm.service.FcmSender.Outgoing;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+class FcmPushServiceTest {
+
+    private final FcmTokenRepository repo = mock(FcmTokenRepository.class);
+    private final FcmTokenCache cache = mock(FcmTokenCache.class);
+    private final RecordingSender sender = new RecordingSender();
+    private final FcmPushService service = new FcmPushService(repo, cache, sender, mock(PushMessageFactory.class));
+
+    /** 호출별 묶음 크기를 기록하고, invalid- 토큰은 UNREGISTERED로 응답 */
+    private static final class RecordingSender implements FcmSender {
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public List<Outcome> sendEach(List<Outgoing> batch) {
+            batchSizes.add(batch.size());
+            List<Outcome> out = new ArrayList<>(batch.size());
+            for (Outgoing o : batch) {
+                out.add(o.token().startsWith("invalid-") ? new Outcome(false, MessagingErrorCode.UNREGISTERED)
+                        : new Outcome(true, null));
+            }
+            return out;
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 메시지는 sendEach 1회당 500건씩 나눠 보낸다")
+    void chunksBySendEachLimit() {
+        List<PushRequest> requests = requests(1_201);
+        when(cache.tokensOf(anyCollection())).thenAnswer(inv -> tokens(inv.getArgument(0), id -> "token-" + id));
+
+        int success = service.deliver(requests);
+
+        assertThat(sender.batchSizes).containsExactly(500, 500, 201);
+        assertThat(success).isEqualTo(1_201);
+        verify(repo, never()).deleteAllByTokenIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("무효 토큰은 여러 묶음에 걸쳐 있어도 DELETE 1회로 정리하고 소유 회원 캐시를 비운다")
+    void removesInvalidTokensOnce() {
+        List<PushRequest> requests = requests(1_000);
+        when(cache.tokensOf(anyCollection()))
+                .thenAnswer(inv -> tokens(inv.getArgument(0), id -> (id % 250 == 0 ? "invalid-" : "token-") + id));
+
+        int success = service.deliver(requests);
+
+        assertThat(sender.batchSizes).containsExactly(500, 500);
+        assertThat(success).isEqualTo(996);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(repo, times(1)).deleteAllByTokenIn(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder("invalid-250", "invalid-500", "invalid-750",
+                "invalid-1000");
+        verify(cache).invalidateAll(Set.of(250L, 500L, 750L, 1000L));
+    }
+
+    @Test
+    @DisplayName("토큰 정리 실패와 무관하게 캐시는 무효화한다")
+    void invalidatesCacheWhenDeleteFails() {
+        when(cache.tokensOf(anyCollection())).thenAnswer(inv -> tokens(inv.getArgument(0), id -> "invalid-" + id));
+        when(repo.deleteAllByTokenIn(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        assertThat(service.deliver(requests(3))).isZero();
+        verify(cache).invalidateAll(any());
+    }
+
+    private static List<PushRequest> requests(int n) {
+        List<PushRequest> out = new ArrayList<>(n);
+        for (long id = 1; id <= n; id++)
+            out.add(new PushRequest(id, "t", "b", "/", null));
+        return out;
+    }
+
+    private static Map<Long, List<String>> tokens(Collection<Long> ids, java.util.function.LongFunction<String> token) {
+        Map<Long, List<String>> out = new HashMap<>();
+        for (Long id : ids)
+            out.put(id, List.of(token.apply(id)));
+        return out;
+    }
+}
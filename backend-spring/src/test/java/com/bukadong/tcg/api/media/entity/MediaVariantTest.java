@@ -0,0 +1,53 @@
+package com.bukadong.tcg.api.media.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MediaVariantTest {
+
+    @Test
+    @DisplayName("파생본 키는 확장자를 떼고 _{name}.webp를 붙인다")
+    void keyOf() {
+        assertThat(MediaVariant.THUMB.keyOf("auction/1/a.webp")).isEqualTo("auction/1/a_thumb.webp");
+        assertThat(MediaVariant.SMALL.keyOf("auction/1/a.png")).isEqualTo("auction/1/a_small.webp");
+        // 디렉터리에만 점이 있으면 확장자로 보지 않음
+        assertThat(MediaVariant.THUMB.keyOf("v1.2/noext")).isEqualTo("v1.2/noext_thumb.webp");
+    }
+
+    @Test
+    @DisplayName("요청 크기 이상인 가장 작은 파생본을 고른다")
+    void resolvesSmallestSufficientVariant() {
+        String key = "card/7/x.webp";
+        assertThat(MediaVariant.resolveKey(key, "THUMB,SMALL", MediaVariant.THUMB)).isEqualTo("card/7/x_thumb.webp");
+        assertThat(MediaVariant.resolveKey(key, "THUMB,SMALL", MediaVariant.SMALL)).isEqualTo("card/7/x_small.webp");
+        // THUMB이 없으면 더 큰 SMALL로 대체
+        assertThat(MediaVariant.resolveKey(key, "SMALL", MediaVariant.THUMB)).isEqualTo("card/7/x_small.webp");
+        assertThat(MediaVariant.resolveKey(key, " THUMB , SMALL ", MediaVariant.SMALL))
+                .isEqualTo("card/7/x_small.webp");
+    }
+
+    @Test
+    @DisplayName("맞는 파생본이 없거나 요청이 없으면 원본 키")
+    void fallsBackToOriginal() {
+        String key = "card/7/x.webp";
+        // 원본보다 좁아 SMALL을 만들지 않은 경우 더 작은 THUMB으로 내려가지 않음
+        assertThat(MediaVariant.resolveKey(key, "THUMB", MediaVariant.SMALL)).isEqualTo(key);
+        assertThat(MediaVariant.resolveKey(key, null, MediaVariant.THUMB)).isEqualTo(key);
+        assertThat(MediaVariant.resolveKey(key, "", MediaVariant.THUMB)).isEqualTo(key);
+        assertThat(MediaVariant.resolveKey(key, "THUMB,SMALL", null)).isEqualTo(key);
+        assertThat(MediaVariant.resolveKey(null, "THUMB", MediaVariant.THUMB)).isNull();
+        assertThat(MediaVariant.resolveKey(key, "THUMBNAIL", MediaVariant.THUMB)).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("기록된 파생본 키만 삭제 대상으로 돌려준다")
+    void keysOf() {
+        assertThat(MediaVariant.keysOf("a/b.webp", "THUMB,SMALL")).containsExactly("a/b_thumb.webp",
+                "a/b_small.webp");
+        assertThat(MediaVariant.keysOf("a/b.webp", "SMALL")).containsExactly("a/b_small.webp");
+        assertThat(MediaVariant.keysOf("a/b.webp", null)).isEmpty();
+        assertThat(MediaVariant.keysOf(null, "THUMB")).isEmpty();
+    }
+}
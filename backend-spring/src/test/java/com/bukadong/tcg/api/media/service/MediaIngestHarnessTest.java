@@ -0,0 +1,148 @@
+package com.bukadong.tcg.api.media.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.bukadong.tcg.api.media.config.MediaProperties;
+import com.bukadong.tcg.api.media.entity.MediaStatus;
+import com.bukadong.tcg.api.media.repository.MediaRepository;
+import com.bukadong.tcg.global.cluster.ClusterJobLeases;
+import com.bukadong.tcg.global.storage.LocalObjectStorage;
+import com.bukadong.tcg.global.util.S3Uploader;
+
+/**
+ * 업로드 파이프라인 전/후 측정
+ * <P>
+ * 요청당 JPEG 10장을 로컬 파일시스템 저장소(media.ingest.storage=local과 같은 {@link LocalObjectStorage})에 올린다. 기존
+ * 방식({@link S3Uploader#upload}로 요청 스레드에서 한 장씩 WebP 변환 후 저장)과 새 파이프라인(원본 동시 저장 후 커밋 뒤
+ * CPU 풀 변환, 파생본 포함)의 요청 스레드 점유 시간과 변환 완료까지의 시간을 로그로 남긴다. WebP 변환은 운영과 같은 scrimage-webp
+ * 번들 cwebp를 쓰며, DB는 목으로 대체한다. 기본 test에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * </P>
+ */
+@Tag("benchmark")
+class MediaIngestHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIngestHarnessTest.class);
+
+    private static final int FILES = 10;
+    private static final int ROUNDS = 3;
+
+    @TempDir
+    Path baseDir;
+
+    @Test
+    @DisplayName("요청 스레드 변환과 비동기 변환 파이프라인의 업로드 지연")
+    void compareUploadPaths() throws Exception {
+        MediaProperties props = new MediaProperties();
+        props.getLocal().setBaseDir(baseDir.toString());
+        S3Uploader uploader = new S3Uploader(new LocalObjectStorage(props), null);
+        List<MultipartFile> files = jpegs(FILES, 2400, 1600);
+
+        MediaRepository repo = mock(MediaRepository.class);
+        MediaIngestService ingest = new MediaIngestService(uploader, repo, mock(PlatformTransactionManager.class),
+                mock(ClusterJobLeases.class));
+        ReflectionTestUtils.setField(ingest, "ioThreads", 8);
+        ReflectionTestUtils.setField(ingest, "convertThreads", 0);
+        ReflectionTestUtils.setField(ingest, "convertQueue", 256);
+        ReflectionTestUtils.setField(ingest, "maxConvertBytes", 20_971_520L);
+        ReflectionTestUtils.setField(ingest, "maxConvertPixels", 25_000_000L);
+        ReflectionTestUtils.setField(ingest, "uploadTimeoutMs", 60_000L);
+        ingest.init();
+
+        // 워밍업(JIT, cwebp 바이너리 추출)
+        uploader.upload(files.get(0), "bench/warmup");
+
+        long oldRequestNanos = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long t0 = System.nanoTime();
+            for (MultipartFile f : files)
+                uploader.upload(f, "bench/old");
+            oldRequestNanos += System.nanoTime() - t0;
+        }
+
+        long newRequestNanos = 0;
+        long newConvertedNanos = 0;
+        try {
+            for (int r = 0; r < ROUNDS; r++) {
+                CountDownLatch converted = new CountDownLatch(FILES);
+                when(repo.swapKey(anyLong(), anyString(), anyString(), eq(S3Uploader.WEBP_CONTENT_TYPE),
+                        eq(MediaStatus.READY), any())).thenAnswer(inv -> {
+                            converted.countDown();
+                            return 1;
+                        });
+                long t0 = System.nanoTime();
+                List<MediaIngestService.StoredOriginal> stored = ingest.storeOriginals(files, "bench/new");
+                Map<Long, String> conversions = new LinkedHashMap<>();
+                long id = r * 1_000L;
+                for (MediaIngestService.StoredOriginal s : stored) {
+                    id++;
+                    if (s.convert())
+                        conversions.put(id, s.key());
+                }
+                // 트랜잭션 밖이므로 바로 변환 제출
+                ingest.afterCompletion(stored, conversions);
+                newRequestNanos += System.nanoTime() - t0;
+                assertThat(conversions).hasSize(FILES);
+                assertThat(converted.await(120, TimeUnit.SECONDS)).isTrue();
+                newConvertedNanos += System.nanoTime() - t0;
+            }
+        } finally {
+            ingest.shutdown();
+        }
+
+        log.info("media upload ({} x {} jpeg, {} rounds): old request-thread={}ms/request,"
+                + " new request-thread={}ms/request, new webp ready={}ms/request", FILES, "2400x1600", ROUNDS,
+                TimeUnit.NANOSECONDS.toMillis(oldRequestNanos / ROUNDS),
+                TimeUnit.NANOSECONDS.toMillis(newRequestNanos / ROUNDS),
+                TimeUnit.NANOSECONDS.toMillis(newConvertedNanos / ROUNDS));
+    }
+
+    /** 압축이 잘 되지 않도록 잡음을 섞은 JPEG */
+    private static List<MultipartFile> jpegs(int n, int width, int height) throws IOException {
+        Random random = new Random(42);
+        List<MultipartFile> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int base = (x * 255 / width) << 16 | (y * 255 / height) << 8 | (i * 25);
+                    img.setRGB(x, y, base ^ (random.nextInt(32) * 0x010101));
+                }
+            }
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ImageIO.write(img, "jpg", bos);
+            out.add(new MockMultipartFile("files", "img" + i + ".jpg", "image/jpeg", bos.toByteArray()));
+        }
+        return out;
+    }
+}